@@ -0,0 +1,232 @@
+package com.commercetools.project.sync;
+
+import static java.lang.String.format;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+
+/**
+ * A sync module served by the {@link MockCtpApi}. It holds the generated resources of the source
+ * project and records, from the point of view of the API, how fast the module syncs them:
+ *
+ * <ul>
+ *   <li>the duration from the first request for a source page until the last resource is created in
+ *       the target project,
+ *   <li>the latency of every source page, i.e. the time from sending the page until the last of its
+ *       resources is created in the target project,
+ *   <li>the heap high-water mark while the module is running.
+ * </ul>
+ *
+ * <p>Only modules without references are supported, as the target project of the mock API is always
+ * empty, so every resource is created.
+ */
+final class BenchmarkModule {
+  private static final String TIMESTAMP = "2024-01-01T00:00:00.000Z";
+
+  private final SyncModuleOption syncModuleOption;
+  private final String endpoint;
+  private final String fixture;
+
+  private volatile List<Resource> resources = Collections.emptyList();
+  private final Map<String, Page> pagesByKey = new ConcurrentHashMap<>();
+  private final List<Long> pageLatenciesInNanos = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicInteger createdResources = new AtomicInteger();
+  private final AtomicLong firstRequestInNanos = new AtomicLong();
+  private final AtomicLong lastCreateInNanos = new AtomicLong();
+  private final AtomicLong heapHighWaterMarkInBytes = new AtomicLong();
+
+  private BenchmarkModule(
+      @Nonnull final SyncModuleOption syncModuleOption,
+      @Nonnull final String endpoint,
+      @Nonnull final String fixture) {
+    this.syncModuleOption = syncModuleOption;
+    this.endpoint = endpoint;
+    this.fixture = fixture;
+  }
+
+  /** @return new instances of all modules supported by the mock API. */
+  @Nonnull
+  static List<BenchmarkModule> supportedModules() {
+    return List.of(
+        new BenchmarkModule(SyncModuleOption.TYPE_SYNC, "types", "type-key-1.json"),
+        new BenchmarkModule(
+            SyncModuleOption.PRODUCT_TYPE_SYNC, "product-types", "product-type-key-1.json"),
+        new BenchmarkModule(SyncModuleOption.STATE_SYNC, "states", "state-1.json"),
+        new BenchmarkModule(
+            SyncModuleOption.TAX_CATEGORY_SYNC, "tax-categories", "tax-category-key-1.json"));
+  }
+
+  @Nonnull
+  String getSyncOptionValue() {
+    return syncModuleOption.getSyncOptionValue();
+  }
+
+  @Nonnull
+  String getEndpoint() {
+    return endpoint;
+  }
+
+  /**
+   * Generates the source resources of this module from its fixture, with ascending ids, so that the
+   * resources can be served in the order of their ids like the commercetools API does, and resets
+   * all recorded metrics.
+   *
+   * @param numberOfResources the number of resources in the source project.
+   * @param objectMapper the mapper used to read the fixture and write the resources.
+   */
+  void generateResources(final int numberOfResources, @Nonnull final ObjectMapper objectMapper) {
+    final ObjectNode template;
+    try (InputStream fixtureStream =
+        BenchmarkModule.class.getClassLoader().getResourceAsStream(fixture)) {
+      if (fixtureStream == null) {
+        throw new IllegalStateException(format("Fixture %s not found on the classpath.", fixture));
+      }
+      template = (ObjectNode) objectMapper.readTree(fixtureStream);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    final List<Resource> generatedResources = new ArrayList<>(numberOfResources);
+    for (int index = 0; index < numberOfResources; index++) {
+      final String id = format("%08x-0000-4000-8000-%012x", index, index);
+      final String key = format("%s-%d", getSyncOptionValue(), index);
+      final ObjectNode resource = template.deepCopy();
+      resource.put("id", id).put("key", key).put("version", 1);
+      resource.put("createdAt", TIMESTAMP).put("lastModifiedAt", TIMESTAMP);
+      try {
+        generatedResources.add(new Resource(id, key, objectMapper.writeValueAsBytes(resource)));
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+    resources = generatedResources;
+    pagesByKey.clear();
+    pageLatenciesInNanos.clear();
+    createdResources.set(0);
+    firstRequestInNanos.set(0);
+    lastCreateInNanos.set(0);
+    heapHighWaterMarkInBytes.set(0);
+  }
+
+  /** @return the source resources sorted by their ids. */
+  @Nonnull
+  List<Resource> getResources() {
+    return resources;
+  }
+
+  /**
+   * Records that the given page of source resources has been sent. A page which is sent again, e.g.
+   * after an injected server error, keeps the time of the first sending.
+   *
+   * @param page the resources of the page.
+   */
+  void onPageSent(@Nonnull final List<Resource> page) {
+    final long nowInNanos = System.nanoTime();
+    firstRequestInNanos.compareAndSet(0, nowInNanos);
+    if (page.isEmpty() || pagesByKey.containsKey(page.get(0).key)) {
+      return;
+    }
+    final Page sentPage = new Page(nowInNanos, page.size());
+    page.forEach(resource -> pagesByKey.putIfAbsent(resource.key, sentPage));
+  }
+
+  /**
+   * Records that the resource with the given key has been created in the target project.
+   *
+   * @param key the key of the created resource.
+   */
+  void onResourceCreated(@Nonnull final String key) {
+    final long nowInNanos = System.nanoTime();
+    createdResources.incrementAndGet();
+    lastCreateInNanos.accumulateAndGet(nowInNanos, Math::max);
+    final Page page = pagesByKey.remove(key);
+    if (page != null && page.pendingResources.decrementAndGet() == 0) {
+      pageLatenciesInNanos.add(nowInNanos - page.sentInNanos);
+    }
+  }
+
+  /**
+   * Updates the heap high-water mark of this module, if it is running.
+   *
+   * @param usedHeapInBytes the currently used heap.
+   */
+  void sampleHeap(final long usedHeapInBytes) {
+    if (firstRequestInNanos.get() != 0 && createdResources.get() < resources.size()) {
+      heapHighWaterMarkInBytes.accumulateAndGet(usedHeapInBytes, Math::max);
+    }
+  }
+
+  int getCreatedResources() {
+    return createdResources.get();
+  }
+
+  long getDurationInNanos() {
+    final long firstRequest = firstRequestInNanos.get();
+    return firstRequest == 0 ? 0 : Math.max(0, lastCreateInNanos.get() - firstRequest);
+  }
+
+  double getResourcesPerSecond() {
+    final long durationInNanos = getDurationInNanos();
+    return durationInNanos == 0 ? 0 : getCreatedResources() * 1e9 / durationInNanos;
+  }
+
+  int getCompletedPages() {
+    return pageLatenciesInNanos.size();
+  }
+
+  /**
+   * @param percentile the percentile between 0 and 100.
+   * @return the given percentile of the latencies of the completed pages, or 0 if no page has been
+   *     completed.
+   */
+  long getPageLatencyPercentileInNanos(final double percentile) {
+    final List<Long> latencies;
+    synchronized (pageLatenciesInNanos) {
+      latencies = new ArrayList<>(pageLatenciesInNanos);
+    }
+    if (latencies.isEmpty()) {
+      return 0;
+    }
+    Collections.sort(latencies);
+    final int rank = (int) Math.ceil(percentile / 100 * latencies.size());
+    return latencies.get(Math.max(0, rank - 1));
+  }
+
+  long getHeapHighWaterMarkInBytes() {
+    return heapHighWaterMarkInBytes.get();
+  }
+
+  /** A generated source resource, kept serialized to keep the serving cost of the mock API low. */
+  static final class Resource {
+    final String id;
+    final String key;
+    final byte[] json;
+
+    Resource(@Nonnull final String id, @Nonnull final String key, @Nonnull final byte[] json) {
+      this.id = id;
+      this.key = key;
+      this.json = json;
+    }
+  }
+
+  private static final class Page {
+    final long sentInNanos;
+    final AtomicInteger pendingResources;
+
+    Page(final long sentInNanos, final int pageSize) {
+      this.sentInNanos = sentInNanos;
+      this.pendingResources = new AtomicInteger(pageSize);
+    }
+  }
+}
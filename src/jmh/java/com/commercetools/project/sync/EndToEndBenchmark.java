@@ -0,0 +1,259 @@
+package com.commercetools.project.sync;
+
+import static java.lang.String.format;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+/**
+ * Runs a full sync of the given modules from the source to the target project of a {@link
+ * MockCtpApi} through the {@link CliRunner}, and reports per module the synced resources per
+ * second, the p50 and p99 page latency and the heap high-water mark.
+ *
+ * <p>Usage: {@code EndToEndBenchmark [benchmark options] [-- further sync options]}, e.g. {@code
+ * --resources 10000 --latency 20 -- --pagesInFlight 4}. The results are printed and, if the
+ * "resultsFile" option is given, written as JSON to compare them between releases.
+ */
+public final class EndToEndBenchmark {
+
+  private static final String RESOURCES_OPTION = "resources";
+  private static final String LATENCY_OPTION = "latency";
+  private static final String ERROR_RATE_OPTION = "errorRate";
+  private static final String MODULES_OPTION = "modules";
+  private static final String RESULTS_FILE_OPTION = "resultsFile";
+
+  private static final int DEFAULT_RESOURCES = 2000;
+  private static final long DEFAULT_LATENCY_IN_MILLIS = 20;
+  private static final long HEAP_SAMPLING_INTERVAL_IN_MILLIS = 10;
+
+  private final List<BenchmarkModule> modules;
+  private final int resourcesPerModule;
+  private final long latencyInMillis;
+  private final double errorRate;
+  private final List<String> syncArguments;
+  private long durationInNanos;
+
+  private EndToEndBenchmark(
+      @Nonnull final List<BenchmarkModule> modules,
+      final int resourcesPerModule,
+      final long latencyInMillis,
+      final double errorRate,
+      @Nonnull final List<String> syncArguments) {
+    this.modules = modules;
+    this.resourcesPerModule = resourcesPerModule;
+    this.latencyInMillis = latencyInMillis;
+    this.errorRate = errorRate;
+    this.syncArguments = syncArguments;
+  }
+
+  /**
+   * Benchmark entry point.
+   *
+   * @param args the benchmark options, optionally followed by "--" and further sync options.
+   * @throws Exception if the options are invalid or the mock API cannot be started.
+   */
+  public static void main(final String[] args) throws Exception {
+    final CommandLine commandLine = new DefaultParser().parse(buildOptions(), args);
+    final EndToEndBenchmark benchmark = of(commandLine);
+    benchmark.run();
+    benchmark.printResults(System.out);
+    if (commandLine.hasOption(RESULTS_FILE_OPTION)) {
+      benchmark.writeResults(Paths.get(commandLine.getOptionValue(RESULTS_FILE_OPTION)));
+    }
+  }
+
+  @Nonnull
+  private static Options buildOptions() {
+    final Options options = new Options();
+    options.addOption(
+        Option.builder()
+            .longOpt(RESOURCES_OPTION)
+            .hasArg()
+            .desc(format("Resources per module. Default: %d.", DEFAULT_RESOURCES))
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt(LATENCY_OPTION)
+            .hasArg()
+            .desc(
+                format(
+                    "Latency of every API request in milliseconds. Default: %d.",
+                    DEFAULT_LATENCY_IN_MILLIS))
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt(ERROR_RATE_OPTION)
+            .hasArg()
+            .desc("Probability between 0 and 1 that an API request fails with a 503. Default: 0.")
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt(MODULES_OPTION)
+            .hasArgs()
+            .desc("Modules to sync. Default: all modules supported by the mock API.")
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt(RESULTS_FILE_OPTION)
+            .hasArg()
+            .desc("JSON file to write the results to.")
+            .build());
+    return options;
+  }
+
+  @Nonnull
+  private static EndToEndBenchmark of(@Nonnull final CommandLine commandLine)
+      throws ParseException {
+    List<BenchmarkModule> modules = BenchmarkModule.supportedModules();
+    if (commandLine.hasOption(MODULES_OPTION)) {
+      final List<String> moduleNames = Arrays.asList(commandLine.getOptionValues(MODULES_OPTION));
+      modules =
+          modules.stream()
+              .filter(module -> moduleNames.contains(module.getSyncOptionValue()))
+              .collect(Collectors.toList());
+      if (modules.size() != moduleNames.size()) {
+        throw new ParseException(
+            format(
+                "Supported modules are %s.",
+                BenchmarkModule.supportedModules().stream()
+                    .map(BenchmarkModule::getSyncOptionValue)
+                    .collect(Collectors.joining(", "))));
+      }
+    }
+    return new EndToEndBenchmark(
+        modules,
+        Integer.parseInt(
+            commandLine.getOptionValue(RESOURCES_OPTION, String.valueOf(DEFAULT_RESOURCES))),
+        Long.parseLong(
+            commandLine.getOptionValue(LATENCY_OPTION, String.valueOf(DEFAULT_LATENCY_IN_MILLIS))),
+        Double.parseDouble(commandLine.getOptionValue(ERROR_RATE_OPTION, "0")),
+        commandLine.getArgList());
+  }
+
+  private void run() throws IOException {
+    final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+    modules.forEach(module -> module.generateResources(resourcesPerModule, objectMapper));
+
+    final List<String> arguments = new ArrayList<>();
+    arguments.add("-s");
+    modules.forEach(module -> arguments.add(module.getSyncOptionValue()));
+    arguments.add("-f");
+    arguments.addAll(syncArguments);
+
+    final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    final ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+    try (MockCtpApi mockCtpApi = MockCtpApi.start(modules, latencyInMillis, errorRate)) {
+      final ProjectApiRoot sourceClient = mockCtpApi.createClient(MockCtpApi.SOURCE_PROJECT_KEY);
+      final ProjectApiRoot targetClient = mockCtpApi.createClient(MockCtpApi.TARGET_PROJECT_KEY);
+      heapSampler.scheduleAtFixedRate(
+          () -> {
+            final long usedHeap = memoryMXBean.getHeapMemoryUsage().getUsed();
+            modules.forEach(module -> module.sampleHeap(usedHeap));
+          },
+          0,
+          HEAP_SAMPLING_INTERVAL_IN_MILLIS,
+          TimeUnit.MILLISECONDS);
+
+      final long startInNanos = System.nanoTime();
+      CliRunner.of()
+          .run(
+              arguments.toArray(new String[0]),
+              SyncerFactory.of(() -> sourceClient, () -> targetClient, Clock.systemDefaultZone()));
+      durationInNanos = System.nanoTime() - startInNanos;
+    } finally {
+      heapSampler.shutdownNow();
+    }
+  }
+
+  private void printResults(@Nonnull final PrintStream out) {
+    out.printf(
+        "Synced %d resources per module with %d ms latency and an error rate of %s in %d ms.%n",
+        resourcesPerModule,
+        latencyInMillis,
+        errorRate,
+        TimeUnit.NANOSECONDS.toMillis(durationInNanos));
+    out.printf(
+        "%-16s %10s %12s %14s %8s %12s %12s %14s%n",
+        "module",
+        "created",
+        "duration ms",
+        "resources/s",
+        "pages",
+        "p50 page ms",
+        "p99 page ms",
+        "heap peak MiB");
+    for (BenchmarkModule module : modules) {
+      out.printf(
+          "%-16s %10d %12d %14.1f %8d %12d %12d %14d%n",
+          module.getSyncOptionValue(),
+          module.getCreatedResources(),
+          TimeUnit.NANOSECONDS.toMillis(module.getDurationInNanos()),
+          module.getResourcesPerSecond(),
+          module.getCompletedPages(),
+          TimeUnit.NANOSECONDS.toMillis(module.getPageLatencyPercentileInNanos(50)),
+          TimeUnit.NANOSECONDS.toMillis(module.getPageLatencyPercentileInNanos(99)),
+          module.getHeapHighWaterMarkInBytes() / (1024 * 1024));
+    }
+  }
+
+  private void writeResults(@Nonnull final Path resultsFile) throws IOException {
+    final List<Map<String, Object>> moduleResults = new ArrayList<>();
+    for (BenchmarkModule module : modules) {
+      final Map<String, Object> moduleResult = new LinkedHashMap<>();
+      moduleResult.put("module", module.getSyncOptionValue());
+      moduleResult.put("createdResources", module.getCreatedResources());
+      moduleResult.put(
+          "durationInMillis", TimeUnit.NANOSECONDS.toMillis(module.getDurationInNanos()));
+      moduleResult.put("resourcesPerSecond", module.getResourcesPerSecond());
+      moduleResult.put("completedPages", module.getCompletedPages());
+      moduleResult.put(
+          "p50PageLatencyInMillis",
+          TimeUnit.NANOSECONDS.toMillis(module.getPageLatencyPercentileInNanos(50)));
+      moduleResult.put(
+          "p99PageLatencyInMillis",
+          TimeUnit.NANOSECONDS.toMillis(module.getPageLatencyPercentileInNanos(99)));
+      moduleResult.put("heapHighWaterMarkInBytes", module.getHeapHighWaterMarkInBytes());
+      moduleResults.add(moduleResult);
+    }
+
+    final Map<String, Object> results = new LinkedHashMap<>();
+    results.put("resourcesPerModule", resourcesPerModule);
+    results.put("latencyInMillis", latencyInMillis);
+    results.put("errorRate", errorRate);
+    results.put("syncArguments", syncArguments);
+    results.put("durationInMillis", TimeUnit.NANOSECONDS.toMillis(durationInNanos));
+    results.put("modules", moduleResults);
+
+    final Path resultsDirectory = resultsFile.toAbsolutePath().getParent();
+    if (resultsDirectory != null) {
+      Files.createDirectories(resultsDirectory);
+    }
+    JsonUtils.getConfiguredObjectMapper()
+        .writerWithDefaultPrettyPrinter()
+        .writeValue(resultsFile.toFile(), results);
+  }
+}
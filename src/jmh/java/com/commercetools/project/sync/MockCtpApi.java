@@ -0,0 +1,346 @@
+package com.commercetools.project.sync;
+
+import static java.lang.String.format;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.defaultconfig.ApiRootBuilder;
+import com.commercetools.http.okhttp4.CtOkHttp4Client;
+import com.commercetools.project.sync.BenchmarkModule.Resource;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A local HTTP stand-in for the commercetools API of the source and the target project of an
+ * end-to-end benchmark:
+ *
+ * <ul>
+ *   <li>the source project serves the generated resources of the {@link BenchmarkModule}s page by
+ *       page, sorted by id, and supports the id predicates used for paging and partitioning,
+ *   <li>the target project is always empty, so every synced resource is created, and every created
+ *       resource is recorded by its module,
+ *   <li>custom objects, e.g. the last sync timestamps, are created but never found,
+ *   <li>GraphQL queries, e.g. for resolving keys, always return an empty result.
+ * </ul>
+ *
+ * <p>Every request is answered after the configured latency and fails with a 503 with the
+ * configured probability, which the clients created by {@link #createClient(String)} retry like the
+ * clients of the application.
+ */
+final class MockCtpApi implements Closeable {
+
+  static final String SOURCE_PROJECT_KEY = "benchmark-source";
+  static final String TARGET_PROJECT_KEY = "benchmark-target";
+
+  private static final String CUSTOM_OBJECTS_ENDPOINT = "custom-objects";
+  private static final String GRAPHQL_ENDPOINT = "graphql";
+  private static final int DEFAULT_LIMIT = 20;
+  private static final Pattern ID_PREDICATE = Pattern.compile("id\\s*(>=|>|<)\\s*\"([^\"]*)\"");
+  private static final Pattern PREDICATE_VARIABLE = Pattern.compile(":(\\w+)");
+  private static final Pattern GRAPHQL_QUERY_FIELD = Pattern.compile("\\{\\s*(\\w+)\\s*\\(");
+
+  private final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+  private final Map<String, BenchmarkModule> modulesByEndpoint;
+  private final long latencyInMillis;
+  private final double errorRate;
+  private final HttpServer httpServer;
+  private final ExecutorService requestExecutor;
+
+  private MockCtpApi(
+      @Nonnull final List<BenchmarkModule> modules,
+      final long latencyInMillis,
+      final double errorRate)
+      throws IOException {
+    this.modulesByEndpoint =
+        modules.stream()
+            .collect(Collectors.toMap(BenchmarkModule::getEndpoint, Function.identity()));
+    this.latencyInMillis = latencyInMillis;
+    this.errorRate = errorRate;
+    this.requestExecutor =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "mock-ctp-api");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.httpServer.setExecutor(requestExecutor);
+    this.httpServer.createContext("/", this::handle);
+  }
+
+  /**
+   * Starts the mock API on a free local port.
+   *
+   * @param modules the modules to serve, with their resources already generated.
+   * @param latencyInMillis the time every request takes.
+   * @param errorRate the probability between 0 and 1 that a request fails with a 503.
+   * @return the started mock API, which has to be closed after the benchmark.
+   * @throws IOException if the server cannot be started.
+   */
+  @Nonnull
+  static MockCtpApi start(
+      @Nonnull final List<BenchmarkModule> modules,
+      final long latencyInMillis,
+      final double errorRate)
+      throws IOException {
+    final MockCtpApi mockCtpApi = new MockCtpApi(modules, latencyInMillis, errorRate);
+    mockCtpApi.httpServer.start();
+    return mockCtpApi;
+  }
+
+  /**
+   * Creates a client of the given project of the mock API. It uses the same HTTP client and the
+   * same retry settings as the clients of the application, but no authentication.
+   *
+   * @param projectKey {@link #SOURCE_PROJECT_KEY} or {@link #TARGET_PROJECT_KEY}.
+   * @return a new client, which is closed by the sync.
+   */
+  @Nonnull
+  ProjectApiRoot createClient(@Nonnull final String projectKey) {
+    final String baseUrl = format("http://localhost:%d/", httpServer.getAddress().getPort());
+    return ApiRootBuilder.of(new CtOkHttp4Client(200, 200))
+        .withApiBaseUrl(baseUrl)
+        .withRetryMiddleware(5, List.of(500, 502, 503, 504))
+        .build(projectKey);
+  }
+
+  private void handle(@Nonnull final HttpExchange exchange) throws IOException {
+    try {
+      Thread.sleep(latencyInMillis);
+      if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+        respondWithError(exchange, 503, "Injected server error.");
+        return;
+      }
+      route(exchange);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      respondWithError(exchange, 503, "Mock API is shutting down.");
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void route(@Nonnull final HttpExchange exchange) throws IOException {
+    // paths are "/{projectKey}/{endpoint}" or "/{projectKey}/{endpoint}/{further segments}"
+    final String[] pathSegments = exchange.getRequestURI().getRawPath().split("/");
+    if (pathSegments.length < 3) {
+      respondWithError(exchange, 404, "Unknown endpoint.");
+      return;
+    }
+    final String projectKey = pathSegments[1];
+    final String endpoint = pathSegments[2];
+    final boolean isResourcePath = pathSegments.length > 3;
+    final boolean isGet = "GET".equals(exchange.getRequestMethod());
+    final boolean isPost = "POST".equals(exchange.getRequestMethod());
+    final BenchmarkModule module = modulesByEndpoint.get(endpoint);
+
+    if (GRAPHQL_ENDPOINT.equals(endpoint) && isPost) {
+      respondToGraphQlQuery(exchange);
+    } else if (isGet
+        && !isResourcePath
+        && SOURCE_PROJECT_KEY.equals(projectKey)
+        && module != null) {
+      respondWithSourcePage(exchange, module);
+    } else if (isGet && !isResourcePath) {
+      respond(exchange, 200, pagedQueryResponse(0, 0, List.of()));
+    } else if (isPost
+        && !isResourcePath
+        && TARGET_PROJECT_KEY.equals(projectKey)
+        && (module != null || CUSTOM_OBJECTS_ENDPOINT.equals(endpoint))) {
+      respondWithCreatedResource(exchange, module);
+    } else {
+      respondWithError(exchange, 404, "The resource could not be found.");
+    }
+  }
+
+  private void respondWithSourcePage(
+      @Nonnull final HttpExchange exchange, @Nonnull final BenchmarkModule module)
+      throws IOException {
+    final Map<String, List<String>> queryParameters = parseQueryParameters(exchange);
+    final int limit = getIntParameter(queryParameters, "limit", DEFAULT_LIMIT);
+    final int offset = getIntParameter(queryParameters, "offset", 0);
+    final List<String> idPredicates = getIdPredicates(queryParameters);
+
+    final List<Resource> page =
+        module.getResources().stream()
+            .filter(resource -> matchesAll(resource.id, idPredicates))
+            .skip(offset)
+            .limit(limit)
+            .collect(Collectors.toList());
+
+    respond(exchange, 200, pagedQueryResponse(limit, offset, page));
+    module.onPageSent(page);
+  }
+
+  @Nonnull
+  private static List<String> getIdPredicates(
+      @Nonnull final Map<String, List<String>> queryParameters) {
+    final List<String> idPredicates = new ArrayList<>();
+    for (String where : queryParameters.getOrDefault("where", List.of())) {
+      final String resolvedWhere = resolvePredicateVariables(where, queryParameters);
+      final Matcher matcher = ID_PREDICATE.matcher(resolvedWhere);
+      while (matcher.find()) {
+        idPredicates.add(matcher.group(1) + matcher.group(2));
+      }
+    }
+    return idPredicates;
+  }
+
+  @Nonnull
+  private static String resolvePredicateVariables(
+      @Nonnull final String where, @Nonnull final Map<String, List<String>> queryParameters) {
+    final Matcher matcher = PREDICATE_VARIABLE.matcher(where);
+    final StringBuffer resolvedWhere = new StringBuffer();
+    while (matcher.find()) {
+      final List<String> values = queryParameters.get("var." + matcher.group(1));
+      final String replacement = values == null ? matcher.group() : "\"" + values.get(0) + "\"";
+      matcher.appendReplacement(resolvedWhere, Matcher.quoteReplacement(replacement));
+    }
+    matcher.appendTail(resolvedWhere);
+    return resolvedWhere.toString();
+  }
+
+  private static boolean matchesAll(
+      @Nonnull final String id, @Nonnull final List<String> idPredicates) {
+    for (String idPredicate : idPredicates) {
+      final boolean matches;
+      if (idPredicate.startsWith(">=")) {
+        matches = id.compareTo(idPredicate.substring(2)) >= 0;
+      } else if (idPredicate.startsWith(">")) {
+        matches = id.compareTo(idPredicate.substring(1)) > 0;
+      } else {
+        matches = id.compareTo(idPredicate.substring(1)) < 0;
+      }
+      if (!matches) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void respondWithCreatedResource(
+      @Nonnull final HttpExchange exchange, @Nullable final BenchmarkModule module)
+      throws IOException {
+    final ObjectNode resource =
+        (ObjectNode) objectMapper.readTree(exchange.getRequestBody().readAllBytes());
+    final String now = Instant.now().toString();
+    resource.put("id", UUID.randomUUID().toString()).put("version", 1);
+    resource.put("createdAt", now).put("lastModifiedAt", now);
+
+    respond(exchange, 201, objectMapper.writeValueAsBytes(resource));
+    final JsonNode key = resource.get("key");
+    if (module != null && key != null) {
+      module.onResourceCreated(key.asText());
+    }
+  }
+
+  private void respondToGraphQlQuery(@Nonnull final HttpExchange exchange) throws IOException {
+    final JsonNode request = objectMapper.readTree(exchange.getRequestBody().readAllBytes());
+    final Matcher matcher = GRAPHQL_QUERY_FIELD.matcher(request.path("query").asText());
+    final ObjectNode response = objectMapper.createObjectNode();
+    final ObjectNode data = response.putObject("data");
+    if (matcher.find()) {
+      data.putObject(matcher.group(1)).putArray("results");
+    }
+    respond(exchange, 200, objectMapper.writeValueAsBytes(response));
+  }
+
+  @Nonnull
+  private static byte[] pagedQueryResponse(
+      final int limit, final int offset, @Nonnull final List<Resource> page) throws IOException {
+    final ByteArrayOutputStream response = new ByteArrayOutputStream();
+    final String pageHeader =
+        format(
+            "{\"limit\":%d,\"offset\":%d,\"count\":%d,\"results\":[", limit, offset, page.size());
+    response.write(pageHeader.getBytes(StandardCharsets.UTF_8));
+    for (int index = 0; index < page.size(); index++) {
+      if (index > 0) {
+        response.write(',');
+      }
+      response.write(page.get(index).json);
+    }
+    response.write("]}".getBytes(StandardCharsets.UTF_8));
+    return response.toByteArray();
+  }
+
+  private void respondWithError(
+      @Nonnull final HttpExchange exchange, final int statusCode, @Nonnull final String message)
+      throws IOException {
+    final ObjectNode error = objectMapper.createObjectNode();
+    error.put("statusCode", statusCode).put("message", message).putArray("errors");
+    respond(exchange, statusCode, objectMapper.writeValueAsBytes(error));
+  }
+
+  private static void respond(
+      @Nonnull final HttpExchange exchange, final int statusCode, @Nonnull final byte[] body)
+      throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(statusCode, body.length);
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      responseBody.write(body);
+    }
+  }
+
+  @Nonnull
+  private static Map<String, List<String>> parseQueryParameters(
+      @Nonnull final HttpExchange exchange) {
+    final Map<String, List<String>> queryParameters = new HashMap<>();
+    final String rawQuery = exchange.getRequestURI().getRawQuery();
+    if (rawQuery == null) {
+      return queryParameters;
+    }
+    for (String parameter : rawQuery.split("&")) {
+      final int separatorIndex = parameter.indexOf('=');
+      final String name = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+      final String value = separatorIndex < 0 ? "" : parameter.substring(separatorIndex + 1);
+      queryParameters
+          .computeIfAbsent(decode(name), ignored -> new ArrayList<>())
+          .add(decode(value));
+    }
+    return queryParameters;
+  }
+
+  @Nonnull
+  private static String decode(@Nonnull final String queryComponent) {
+    return URLDecoder.decode(queryComponent, StandardCharsets.UTF_8);
+  }
+
+  private static int getIntParameter(
+      @Nonnull final Map<String, List<String>> queryParameters,
+      @Nonnull final String name,
+      final int defaultValue) {
+    final List<String> values = queryParameters.get(name);
+    return values == null ? defaultValue : Integer.parseInt(values.get(0));
+  }
+
+  @Override
+  public void close() {
+    httpServer.stop(0);
+    requestExecutor.shutdownNow();
+  }
+}
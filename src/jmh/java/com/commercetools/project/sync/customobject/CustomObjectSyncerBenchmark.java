@@ -0,0 +1,102 @@
+package com.commercetools.project.sync.customobject;
+
+import static com.commercetools.project.sync.util.TestUtils.getMockedClock;
+import static com.commercetools.project.sync.util.TestUtils.readObjectFromResource;
+import static org.mockito.Mockito.mock;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.custom_object.CustomObject;
+import com.commercetools.api.models.custom_object.CustomObjectBuilder;
+import com.commercetools.api.models.custom_object.CustomObjectDraft;
+import com.commercetools.api.models.tax_category.TaxCategory;
+import com.commercetools.project.sync.model.SyncerConfiguration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the transformation of a page of custom objects to custom object drafts. The value of the
+ * custom objects is the tax category of the "tax-category-key-1.json" fixture, to have a nested
+ * value of a realistic size. The page is transformed on one thread, and in parallel chunks on a
+ * transform pool with one thread per processor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomObjectSyncerBenchmark {
+
+  @Param({"20", "500"})
+  private int pageSize;
+
+  private CustomObjectSyncer customObjectSyncer;
+  private SyncerConfiguration parallelConfiguration;
+  private CustomObjectSyncer parallelCustomObjectSyncer;
+  private List<CustomObject> page;
+
+  @Setup
+  public void setup() {
+    customObjectSyncer =
+        CustomObjectSyncer.of(
+            mock(ProjectApiRoot.class), mock(ProjectApiRoot.class), getMockedClock(), null, false);
+    parallelConfiguration =
+        SyncerConfiguration.builder()
+            .transformThreads(Runtime.getRuntime().availableProcessors())
+            .build();
+    parallelCustomObjectSyncer =
+        CustomObjectSyncer.of(
+            mock(ProjectApiRoot.class),
+            mock(ProjectApiRoot.class),
+            getMockedClock(),
+            null,
+            false,
+            parallelConfiguration);
+    final TaxCategory value = readObjectFromResource("tax-category-key-1.json", TaxCategory.class);
+    final ZonedDateTime now = ZonedDateTime.now();
+    page =
+        IntStream.range(0, pageSize)
+            .mapToObj(
+                index ->
+                    CustomObjectBuilder.of()
+                        .id("custom-object-id-" + index)
+                        .version(1L)
+                        .createdAt(now)
+                        .lastModifiedAt(now)
+                        .container("benchmark-container")
+                        .key("custom-object-" + index)
+                        .value(value)
+                        .build())
+            .collect(Collectors.toList());
+  }
+
+  @TearDown
+  public void tearDown() {
+    parallelConfiguration.getTransformPool().shutdown();
+  }
+
+  @Benchmark
+  public List<CustomObjectDraft> transform() {
+    return customObjectSyncer.transform(page).join();
+  }
+
+  @Benchmark
+  public List<CustomObjectDraft> transformInParallel() {
+    return parallelCustomObjectSyncer.transform(page).join();
+  }
+}
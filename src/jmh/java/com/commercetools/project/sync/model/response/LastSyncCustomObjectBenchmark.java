@@ -0,0 +1,60 @@
+package com.commercetools.project.sync.model.response;
+
+import com.commercetools.sync.products.helpers.ProductSyncStatistics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the serialization of a {@link LastSyncCustomObject} and its deserialization with the
+ * {@link com.commercetools.project.sync.BaseSyncStatisticsDeserializer}, the same way as the custom
+ * object service converts the value of a fetched custom object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LastSyncCustomObjectBenchmark {
+
+  private final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+
+  private LastSyncCustomObject<ProductSyncStatistics> lastSyncCustomObject;
+  private Map<?, ?> customObjectValue;
+
+  @Setup
+  public void setup() {
+    final ProductSyncStatistics productSyncStatistics = new ProductSyncStatistics();
+    productSyncStatistics.incrementCreated(100);
+    productSyncStatistics.incrementUpdated(50);
+    productSyncStatistics.incrementFailed(2);
+    productSyncStatistics.incrementProcessed(200);
+    lastSyncCustomObject =
+        LastSyncCustomObject.of(ZonedDateTime.now(), productSyncStatistics, 1000);
+    customObjectValue = objectMapper.convertValue(lastSyncCustomObject, Map.class);
+  }
+
+  @Benchmark
+  public String serialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(lastSyncCustomObject);
+  }
+
+  @Benchmark
+  public LastSyncCustomObject<?> deserialize() {
+    return objectMapper.convertValue(customObjectValue, LastSyncCustomObject.class);
+  }
+}
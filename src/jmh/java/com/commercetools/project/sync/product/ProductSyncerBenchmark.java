@@ -0,0 +1,111 @@
+package com.commercetools.project.sync.product;
+
+import static com.commercetools.project.sync.util.TestUtils.getMockedClock;
+import static com.commercetools.project.sync.util.TestUtils.mockResourceIdsGraphQlRequest;
+import static com.commercetools.project.sync.util.TestUtils.readObjectFromResource;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.product.Product;
+import com.commercetools.api.models.product.ProductDraft;
+import com.commercetools.api.models.product.ProductDraftBuilder;
+import com.commercetools.api.models.product.ProductMixin;
+import com.commercetools.api.models.product.ProductProjection;
+import com.commercetools.api.models.product.ProductProjectionType;
+import com.commercetools.api.models.product.ProductVariantDraft;
+import com.commercetools.api.models.product.ProductVariantDraftBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the removal of the discounted prices from a page of product drafts. The page is built
+ * from the draft of the "product-key-10.json" fixture, the only product fixture with a discounted
+ * price, which gets 4 additional variants with the same prices. With "withDiscountedPrices" set to
+ * false, the discounted prices are removed from the page upfront, which shows the cost of a page
+ * without any discounted price.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSyncerBenchmark {
+
+  private static final int ADDITIONAL_VARIANTS = 4;
+
+  @Param({"20", "500"})
+  private int pageSize;
+
+  @Param({"true", "false"})
+  private boolean withDiscountedPrices;
+
+  private List<ProductDraft> page;
+
+  @Setup
+  public void setup() {
+    final ProjectApiRoot sourceClient = mock(ProjectApiRoot.class);
+    mockResourceIdsGraphQlRequest(
+        sourceClient, "productTypes", "53c4a8b4-754f-4b95-b6f2-3e1e70e3d0d3", "prodType1");
+    final ProductProjection productProjection =
+        ProductMixin.toProjection(
+            readObjectFromResource("product-key-10.json", Product.class),
+            ProductProjectionType.STAGED);
+    final ProductDraft productDraft =
+        ProductSyncer.of(sourceClient, mock(ProjectApiRoot.class), getMockedClock(), null)
+            .transform(singletonList(productProjection))
+            .toCompletableFuture()
+            .join()
+            .get(0);
+
+    page =
+        IntStream.range(0, pageSize)
+            .mapToObj(index -> copyWithVariants(productDraft, "product-" + index))
+            .collect(Collectors.toList());
+    if (!withDiscountedPrices) {
+      page = ProductSyncer.removeDiscountedFromPrices(page);
+    }
+  }
+
+  private static ProductDraft copyWithVariants(
+      final ProductDraft productDraft, final String productKey) {
+    final ProductVariantDraft masterVariant = productDraft.getMasterVariant();
+    final List<ProductVariantDraft> variants = new ArrayList<>();
+    for (int variant = 1; variant <= ADDITIONAL_VARIANTS; variant++) {
+      variants.add(
+          ProductVariantDraftBuilder.of(masterVariant)
+              .key(productKey + "-variant-" + variant)
+              .sku(productKey + "-sku-" + variant)
+              .build());
+    }
+    return ProductDraftBuilder.of(productDraft)
+        .key(productKey)
+        .masterVariant(
+            ProductVariantDraftBuilder.of(masterVariant)
+                .key(productKey + "-master")
+                .sku(productKey + "-sku-0")
+                .build())
+        .variants(variants)
+        .build();
+  }
+
+  @Benchmark
+  public List<ProductDraft> removeDiscountedFromPrices() {
+    return ProductSyncer.removeDiscountedFromPrices(page);
+  }
+}
@@ -0,0 +1,204 @@
+package com.commercetools.project.sync.shoppinglist;
+
+import static com.commercetools.project.sync.util.TestUtils.getMockedClock;
+import static com.commercetools.project.sync.util.TestUtils.readObjectFromResource;
+import static org.mockito.Mockito.mock;
+
+import com.commercetools.api.client.ByProjectKeyShoppingListsGet;
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.product.Product;
+import com.commercetools.api.models.shopping_list.ShoppingList;
+import com.commercetools.api.models.shopping_list.ShoppingListPagedQueryResponse;
+import com.commercetools.project.sync.GraphQlProjection;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the REST query of shopping lists, which expands the variants of their line items in
+ * full, with the projected GraphQL query of {@link ShoppingListSyncer#getQueryProjection()}: it
+ * measures the parsing of the response of a page of shopping lists built from the
+ * "shopping-list.json" fixture, whose line items get the master variant of the
+ * "product-key-10.json" fixture and whose metadata is filled in like in a real response.
+ *
+ * <p>The "responseBytes" counter shows the parsed bytes per second; divided by the score of the
+ * benchmark, it is the size of the response of one page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShoppingListSyncerBenchmark {
+
+  private static final String TIMESTAMP = "2024-01-01T00:00:00.000Z";
+
+  @Param({"20", "500"})
+  private int pageSize;
+
+  private final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+  private GraphQlProjection<ByProjectKeyShoppingListsGet, ShoppingList> projection;
+  private byte[] restResponseBody;
+  private byte[] projectedResponseBody;
+
+  /** Counts the bytes of the parsed responses. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ResponseBytes {
+    public long responseBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      responseBytes = 0;
+    }
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    projection =
+        ShoppingListSyncer.of(
+                mock(ProjectApiRoot.class), mock(ProjectApiRoot.class), getMockedClock())
+            .getQueryProjection();
+    final JsonNode shoppingList =
+        objectMapper.valueToTree(readObjectFromResource("shopping-list.json", ShoppingList.class));
+    final JsonNode variant =
+        objectMapper.valueToTree(
+            readObjectFromResource("product-key-10.json", Product.class)
+                .getMasterData()
+                .getStaged()
+                .getMasterVariant());
+
+    final ObjectNode restResponse = objectMapper.createObjectNode();
+    final ArrayNode restResults = restResponse.putArray("results");
+    final ObjectNode projectedResponse = objectMapper.createObjectNode();
+    final ArrayNode projectedResults =
+        projectedResponse.putObject("data").putObject("shoppingLists").putArray("results");
+    for (int index = 0; index < pageSize; index++) {
+      final ObjectNode restShoppingList =
+          withMetadata(shoppingList.deepCopy(), "shopping-list-" + index);
+      restShoppingList.put("key", "shopping-list-key-" + index);
+      restShoppingList
+          .path("lineItems")
+          .forEach(lineItem -> ((ObjectNode) lineItem).set("variant", variant.deepCopy()));
+      restResults.add(restShoppingList);
+      projectedResults.add(toProjectedResult(restShoppingList));
+    }
+    restResponse.put("limit", pageSize).put("count", pageSize).put("offset", 0);
+    restResponseBody = objectMapper.writeValueAsBytes(restResponse);
+    projectedResponseBody = objectMapper.writeValueAsBytes(projectedResponse);
+  }
+
+  @Nonnull
+  private static ObjectNode withMetadata(
+      @Nonnull final ObjectNode restShoppingList, @Nonnull final String id) {
+    restShoppingList.put("id", id).put("version", 1);
+    restShoppingList.put("createdAt", TIMESTAMP).put("lastModifiedAt", TIMESTAMP);
+    for (String field : List.of("createdBy", "lastModifiedBy")) {
+      restShoppingList.putObject(field).put("isPlatformClient", true);
+    }
+    return restShoppingList;
+  }
+
+  /** Builds the result of the projected GraphQL query, as the API would return it. */
+  @Nonnull
+  private ObjectNode toProjectedResult(@Nonnull final JsonNode restShoppingList) {
+    final ObjectNode result = objectMapper.createObjectNode();
+    result.set("id", restShoppingList.get("id"));
+    result.set("key", restShoppingList.get("key"));
+    result.set("nameAllLocales", toLocalizedEntries(restShoppingList.get("name")));
+    result.set("descriptionAllLocales", toLocalizedEntries(restShoppingList.get("description")));
+    result.set("slugAllLocales", toLocalizedEntries(restShoppingList.get("slug")));
+    result.set("customerRef", restShoppingList.get("customer"));
+    final ArrayNode lineItems = result.putArray("lineItems");
+    for (JsonNode restLineItem : restShoppingList.path("lineItems")) {
+      final ObjectNode lineItem = lineItems.addObject();
+      for (String field : List.of("id", "productId", "variantId", "quantity", "addedAt")) {
+        lineItem.set(field, restLineItem.get(field));
+      }
+      lineItem.putObject("variant").set("sku", restLineItem.path("variant").get("sku"));
+      lineItem.set("custom", toCustomFields(restLineItem.get("custom")));
+    }
+    final ArrayNode textLineItems = result.putArray("textLineItems");
+    for (JsonNode restTextLineItem : restShoppingList.path("textLineItems")) {
+      final ObjectNode textLineItem = textLineItems.addObject();
+      for (String field : List.of("id", "quantity", "addedAt")) {
+        textLineItem.set(field, restTextLineItem.get(field));
+      }
+      textLineItem.set("nameAllLocales", toLocalizedEntries(restTextLineItem.get("name")));
+      textLineItem.set(
+          "descriptionAllLocales", toLocalizedEntries(restTextLineItem.get("description")));
+      textLineItem.set("custom", toCustomFields(restTextLineItem.get("custom")));
+    }
+    result.set("custom", toCustomFields(restShoppingList.get("custom")));
+    return result;
+  }
+
+  @Nullable
+  private JsonNode toLocalizedEntries(@Nullable final JsonNode localizedString) {
+    if (localizedString == null || localizedString.isNull()) {
+      return null;
+    }
+    final ArrayNode entries = objectMapper.createArrayNode();
+    localizedString
+        .fields()
+        .forEachRemaining(
+            entry ->
+                entries.addObject().put("locale", entry.getKey()).set("value", entry.getValue()));
+    return entries;
+  }
+
+  @Nullable
+  private JsonNode toCustomFields(@Nullable final JsonNode restCustomFields) {
+    if (restCustomFields == null || restCustomFields.isNull()) {
+      return null;
+    }
+    final ObjectNode customFields = objectMapper.createObjectNode();
+    customFields.set("typeRef", restCustomFields.get("type"));
+    final ArrayNode customFieldsRaw = customFields.putArray("customFieldsRaw");
+    restCustomFields
+        .path("fields")
+        .fields()
+        .forEachRemaining(
+            field ->
+                customFieldsRaw
+                    .addObject()
+                    .put("name", field.getKey())
+                    .set("value", field.getValue()));
+    return customFields;
+  }
+
+  @Benchmark
+  public List<ShoppingList> parseRestPage(final ResponseBytes counters) throws IOException {
+    counters.responseBytes += restResponseBody.length;
+    return objectMapper
+        .readValue(restResponseBody, ShoppingListPagedQueryResponse.class)
+        .getResults();
+  }
+
+  @Benchmark
+  public List<ShoppingList> parseProjectedPage(final ResponseBytes counters) throws IOException {
+    counters.responseBytes += projectedResponseBody.length;
+    return projection.parsePage(projectedResponseBody);
+  }
+}
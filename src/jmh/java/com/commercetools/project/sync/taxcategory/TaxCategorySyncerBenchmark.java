@@ -0,0 +1,58 @@
+package com.commercetools.project.sync.taxcategory;
+
+import static com.commercetools.project.sync.util.TestUtils.readObjectFromResource;
+
+import com.commercetools.api.models.tax_category.TaxCategory;
+import com.commercetools.api.models.tax_category.TaxCategoryBuilder;
+import com.commercetools.api.models.tax_category.TaxCategoryDraft;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the transformation of a page of tax categories, built from the "tax-category-key-1.json"
+ * fixture, to tax category drafts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaxCategorySyncerBenchmark {
+
+  @Param({"20", "500"})
+  private int pageSize;
+
+  private List<TaxCategory> page;
+
+  @Setup
+  public void setup() {
+    final TaxCategory taxCategory =
+        readObjectFromResource("tax-category-key-1.json", TaxCategory.class);
+    page =
+        IntStream.range(0, pageSize)
+            .mapToObj(
+                index -> TaxCategoryBuilder.of(taxCategory).key("tax-category-" + index).build())
+            .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<TaxCategoryDraft> convertTaxCategoryToTaxCategoryDraft() {
+    return page.stream()
+        .map(TaxCategorySyncer::convertTaxCategoryToTaxCategoryDraft)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,54 @@
+package com.commercetools.project.sync.type;
+
+import static com.commercetools.project.sync.util.TestUtils.readObjectFromResource;
+
+import com.commercetools.api.models.type.Type;
+import com.commercetools.api.models.type.TypeBuilder;
+import com.commercetools.api.models.type.TypeDraft;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the transformation of a page of types, built from the "type-key-1.json" fixture, to type
+ * drafts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeSyncerBenchmark {
+
+  @Param({"20", "500"})
+  private int pageSize;
+
+  private List<Type> page;
+
+  @Setup
+  public void setup() {
+    final Type type = readObjectFromResource("type-key-1.json", Type.class);
+    page =
+        IntStream.range(0, pageSize)
+            .mapToObj(index -> TypeBuilder.of(type).key("type-" + index).build())
+            .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<TypeDraft> typeToDraft() {
+    return page.stream().map(TypeSyncer::typeToDraft).collect(Collectors.toList());
+  }
+}
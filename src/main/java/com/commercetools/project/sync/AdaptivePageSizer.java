@@ -0,0 +1,90 @@
+package com.commercetools.project.sync;
+
+import com.commercetools.project.sync.model.PageSizeBounds;
+import java.time.Duration;
+import javax.annotation.Nonnull;
+
+/**
+ * Chooses the number of resources which are fetched with the next query of a sync module, within
+ * the configured {@link PageSizeBounds}. After every page, the page size is set to the number of
+ * resources which fit into the target time of a page, measured from the start of its fetch until it
+ * was consumed, i.e. transformed and synced or handed over to the pipeline. If the API reports the
+ * size of its responses, the page size is also kept below the number of resources which fit into
+ * the target size of a page, which limits the memory held by one page.
+ *
+ * <p>The page size changes by at most a factor of two per page, so one slow page, e.g. one which
+ * waited for a retried request, does not shrink the pages at once. It starts at the lower bound, so
+ * the first pages of large resources, e.g. products with many variants, stay small.
+ */
+final class AdaptivePageSizer {
+
+  /* The time from the start of the fetch of a page until it was consumed, which the page size aims
+   * at. Shorter pages mean more requests, longer pages hold more resources in memory.
+   */
+  static final Duration DEFAULT_TARGET_PAGE_DURATION = Duration.ofSeconds(5);
+  /* The size of the response of a page, which the page size stays below. */
+  static final long DEFAULT_MAX_PAGE_BYTES = 16L * 1024 * 1024;
+
+  private static final double MAX_CHANGE_RATIO = 2.0;
+
+  private final PageSizeBounds bounds;
+  private final long targetPageDurationInNanos;
+  private final long maxPageBytes;
+
+  private int pageSize;
+
+  AdaptivePageSizer(
+      @Nonnull final PageSizeBounds bounds,
+      @Nonnull final Duration targetPageDuration,
+      final long maxPageBytes) {
+    this.bounds = bounds;
+    this.targetPageDurationInNanos = targetPageDuration.toNanos();
+    this.maxPageBytes = maxPageBytes;
+    this.pageSize = bounds.getMin();
+  }
+
+  /**
+   * @param bounds the smallest and the largest page size.
+   * @return a page sizer which aims at the default target time and size of a page.
+   */
+  @Nonnull
+  static AdaptivePageSizer of(@Nonnull final PageSizeBounds bounds) {
+    return new AdaptivePageSizer(bounds, DEFAULT_TARGET_PAGE_DURATION, DEFAULT_MAX_PAGE_BYTES);
+  }
+
+  /** @return the number of resources to fetch with the next query. */
+  synchronized int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Adapts the page size to the given page, which was fetched and consumed.
+   *
+   * @param resources the number of resources of the page.
+   * @param responseBytes the size of the response of the page, or a negative number if the API did
+   *     not report it.
+   * @param fetchDurationInNanos the time from sending the query until the page arrived.
+   * @param consumeDurationInNanos the time from the arrival of the page until it was consumed.
+   */
+  synchronized void onPage(
+      final int resources,
+      final long responseBytes,
+      final long fetchDurationInNanos,
+      final long consumeDurationInNanos) {
+    if (bounds.isFixed() || resources == 0) {
+      return;
+    }
+    double nextPageSize = pageSize * MAX_CHANGE_RATIO;
+    final long pageDurationInNanos = fetchDurationInNanos + consumeDurationInNanos;
+    if (pageDurationInNanos > 0) {
+      final double resourcesInTargetDuration =
+          (double) resources * targetPageDurationInNanos / pageDurationInNanos;
+      nextPageSize = Math.min(nextPageSize, resourcesInTargetDuration);
+    }
+    if (responseBytes > 0) {
+      nextPageSize = Math.min(nextPageSize, (double) resources * maxPageBytes / responseBytes);
+    }
+    nextPageSize = Math.max(nextPageSize, pageSize / MAX_CHANGE_RATIO);
+    pageSize = (int) Math.max(bounds.getMin(), Math.min(bounds.getMax(), nextPageSize));
+  }
+}
@@ -6,12 +6,29 @@ import static com.commercetools.project.sync.util.SyncUtils.getApplicationVersio
 import static io.vrap.rmf.base.client.utils.CompletableFutureUtils.exceptionallyCompletedFuture;
 import static java.lang.String.format;
 
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.project.sync.delta.ChangeMessageSource;
+import com.commercetools.project.sync.delta.CtpChangeMessageSource;
 import com.commercetools.project.sync.exception.CliException;
+import com.commercetools.project.sync.executor.ModuleExecutors;
+import com.commercetools.project.sync.executor.TransformPool;
+import com.commercetools.project.sync.metrics.MetricsExporter;
+import com.commercetools.project.sync.model.PageSizeBounds;
 import com.commercetools.project.sync.model.ProductSyncCustomRequest;
+import com.commercetools.project.sync.model.SyncerConfiguration;
+import com.commercetools.project.sync.util.VirtualThreads;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -30,6 +47,31 @@ final class CliRunner {
   static final String HELP_OPTION_SHORT = "h";
   static final String VERSION_OPTION_SHORT = "v";
   static final String PRODUCT_QUERY_PARAMETERS_OPTION = "productQueryParameters";
+  static final String PAGES_IN_FLIGHT_OPTION_LONG = "pagesInFlight";
+  static final String PARTITIONS_OPTION_LONG = "partitions";
+  static final String MAX_CONCURRENT_MODULES_OPTION_LONG = "maxConcurrentModules";
+  static final String EXPORT_SNAPSHOT_OPTION_LONG = "exportSnapshot";
+  static final String IMPORT_SNAPSHOT_OPTION_LONG = "importSnapshot";
+  static final String REFERENCE_CACHE_SIZE_OPTION_LONG = "referenceCacheSize";
+  static final String REFERENCE_CACHE_EXPIRY_OPTION_LONG = "referenceCacheExpiryMinutes";
+  static final String WARM_UP_REFERENCE_CACHE_OPTION_LONG = "warmUpReferenceCache";
+  static final String REFERENCE_CACHE_DIRECTORY_OPTION_LONG = "referenceCacheDirectory";
+  static final String METRICS_PORT_OPTION_LONG = "metricsPort";
+  static final String METRICS_FILE_OPTION_LONG = "metricsFile";
+  static final String DELTA_SOURCE_OPTION_LONG = "deltaSource";
+  static final String DELTA_SLICE_MINUTES_OPTION_LONG = "deltaSliceMinutes";
+  static final String CHECKPOINT_PAGES_OPTION_LONG = "checkpointPages";
+  static final String RESUME_OPTION_LONG = "resume";
+  static final String FINGERPRINT_DIRECTORY_OPTION_LONG = "fingerprintDirectory";
+  static final String VIRTUAL_THREADS_OPTION_LONG = "virtualThreads";
+  static final String MODULE_THREADS_OPTION_LONG = "moduleThreads";
+  static final String MODULE_QUEUE_SIZE_OPTION_LONG = "moduleQueueSize";
+  static final String ADAPTIVE_PAGE_SIZE_OPTION_LONG = "adaptivePageSize";
+  static final String PRODUCT_MEMORY_BUDGET_OPTION_LONG = "productMemoryBudgetMb";
+  static final String PROJECTED_QUERIES_OPTION_LONG = "projectedQueries";
+  static final String TRANSFORM_THREADS_OPTION_LONG = "transformThreads";
+  static final String TRANSFORM_CHUNK_SIZE_OPTION_LONG = "transformChunkSize";
+  static final String COALESCE_SYNC_STATE_OPTION_LONG = "coalesceSyncState";
 
   static final String SYNC_MODULE_OPTION_LONG = "sync";
   static final String RUNNER_NAME_OPTION_LONG = "runnerName";
@@ -39,6 +81,8 @@ final class CliRunner {
   static final String SYNC_PROJECT_SYNC_CUSTOM_OBJECTS_OPTION_LONG = "syncProjectSyncCustomObjects";
 
   static final String SYNC_MODULE_OPTION_ALL = "all";
+  static final String DELTA_SOURCE_OPTION_LAST_MODIFIED_AT = "lastModifiedAt";
+  static final String DELTA_SOURCE_OPTION_MESSAGES = "messages";
 
   static final String SYNC_MODULE_OPTION_DESCRIPTION =
       format(
@@ -62,7 +106,142 @@ final class CliRunner {
           + "Example: {\"limit\": 100, \"where\": \"published=true\"} could be used to fetch only published "
           + "products to sync and limit max 100 elements in one page. This option must be added after `-s` option.";
 
+  static final String PAGES_IN_FLIGHT_OPTION_DESCRIPTION =
+      "Choose how many pages of source resources can be fetched and transformed while the previous pages are still "
+          + "being synced to the target project. Pages are still synced in order. This option must be added after "
+          + "`-s` option. (optional parameter) default: 1, i.e. every page is synced before the next one is fetched.";
+
+  static final String PARTITIONS_OPTION_DESCRIPTION =
+      "Choose into how many disjoint id ranges a full sync of each module is split. The ranges are fetched, "
+          + "transformed and synced in parallel and their statistics are merged at the end. It only applies to a full "
+          + "sync. The categories are never split, since a category is only linked to a parent synced in the same "
+          + "range. This option must be added after `-s` option. (optional parameter) default: 1.";
+
+  static final String MAX_CONCURRENT_MODULES_OPTION_DESCRIPTION =
+      "Choose how many sync modules can run at the same time. A module always starts as soon as the modules it "
+          + "depends on are synced, e.g. inventoryEntries only waits for types. This option must be added after `-s` "
+          + "option. (optional parameter) default: no limit.";
+
+  static final String EXPORT_SNAPSHOT_OPTION_DESCRIPTION =
+      "Instead of syncing, export the resources of the chosen modules from the source project into gzip compressed "
+          + "NDJSON files (e.g. products.ndjson.gz) in the given existing directory. This option must be added after "
+          + "`-s` option. (optional parameter)";
+  static final String IMPORT_SNAPSHOT_OPTION_DESCRIPTION =
+      "Instead of syncing from the source project, sync the chosen modules from the files in the given directory, "
+          + "which were written with --exportSnapshot, to the target project. This option must be added after `-s` "
+          + "option. (optional parameter)";
+
+  static final String REFERENCE_CACHE_SIZE_OPTION_DESCRIPTION =
+      "Choose how many id to key mappings of referenced resources are cached. The least recently used mappings are "
+          + "evicted first. This option must be added after `-s` option. (optional parameter) default: 100000.";
+  static final String REFERENCE_CACHE_EXPIRY_OPTION_DESCRIPTION =
+      "Choose after how many minutes a cached id to key mapping expires. This option must be added after `-s` "
+          + "option. (optional parameter) default: mappings do not expire.";
+  static final String WARM_UP_REFERENCE_CACHE_OPTION_DESCRIPTION =
+      "Before syncing products, fetch all categories, product types, types, states, tax categories and channels "
+          + "of the source project to fill the reference cache. This option must be added after `-s` option.";
+  static final String REFERENCE_CACHE_DIRECTORY_OPTION_DESCRIPTION =
+      "Choose an existing directory in which the reference cache is kept between runs, one file per source "
+          + "project. The resources changed since the last sync are removed from the cache before they are synced. "
+          + "This option must be added after `-s` option. (optional parameter) default: the cache starts empty.";
+  static final String METRICS_PORT_OPTION_DESCRIPTION =
+      "Choose a port on which the metrics of the running sync (e.g. fetched pages, created resources and the time "
+          + "spent in fetching, transforming and syncing per module) are served for Prometheus under /metrics. This "
+          + "option must be added after `-s` option. (optional parameter)";
+  static final String METRICS_FILE_OPTION_DESCRIPTION =
+      "Choose a file to which the metrics of the sync are written in the Prometheus text format at the end of the "
+          + "run. This option must be added after `-s` option. (optional parameter)";
+  static final String DELTA_SOURCE_OPTION_DESCRIPTION =
+      format(
+          "Choose how a delta sync finds the resources changed since the last sync: \"%s\" queries them by their "
+              + "last modification time, \"%s\" takes their ids from the change messages of the source project "
+              + "(products and customers only). This option must be added after `-s` "
+              + "option. (optional parameter) default: %s.",
+          DELTA_SOURCE_OPTION_LAST_MODIFIED_AT,
+          DELTA_SOURCE_OPTION_MESSAGES,
+          DELTA_SOURCE_OPTION_LAST_MODIFIED_AT);
+  static final String DELTA_SLICE_MINUTES_OPTION_DESCRIPTION =
+      "Choose into slices of how many minutes the time since the last sync is split in a delta sync. The slices are "
+          + "synced one after the other and the last sync timestamp is saved after every slice, so a failed sync "
+          + "resumes from the last completed slice. Cannot be combined with `--coalesceSyncState`. This option must "
+          + "be added after `-s` option. (optional parameter) default: the time since the last sync is synced at "
+          + "once.";
+  static final String CHECKPOINT_PAGES_OPTION_DESCRIPTION =
+      "Choose after how many synced pages a full sync saves its progress as a checkpoint, which can be resumed with "
+          + "`--resume` if the full sync fails. Cannot be combined with `--partitions`. This option must be added after "
+          + "`-s` option. (optional parameter) default: no checkpoints are saved.";
+  static final String RESUME_OPTION_DESCRIPTION =
+      format(
+          "Use this flag to resume a full sync from its last checkpoint, e.g. after it failed. Without a checkpoint, "
+              + "the full sync starts from the beginning. The resumed sync saves checkpoints every %d pages unless "
+              + "`--checkpointPages` is set. Cannot be combined with `--partitions`. This option must be added after "
+              + "`-s` and `-f` options. (optional parameter)",
+          SyncerConfiguration.DEFAULT_FULL_SYNC_CHECKPOINT_PAGES);
+  static final String FINGERPRINT_DIRECTORY_OPTION_DESCRIPTION =
+      "Choose an existing directory in which a content hash of every successfully synced product and inventory "
+          + "entry draft is kept between runs. A delta sync skips the drafts whose hash did not change since, before "
+          + "their target resources are fetched. A full sync syncs all drafts and refreshes the hashes. This option "
+          + "must be added after `-s` option. (optional parameter) default: no drafts are skipped.";
+  static final String VIRTUAL_THREADS_OPTION_DESCRIPTION =
+      "Use this flag to run every sync module and the pages of every query on their own virtual thread, with "
+          + "blocking calls instead of chained callbacks. Requires a Java 21 or newer runtime. The number of "
+          + "concurrent requests is still limited by the HTTP clients. This option must be added after `-s` option. "
+          + "(optional parameter)";
+  static final String MODULE_THREADS_OPTION_DESCRIPTION =
+      "Choose the number of threads of the executor of every sync module, on which the module transforms and syncs "
+          + "its pages, so a module with an expensive transformation cannot slow down the other modules. This option "
+          + "must be added after `-s` option. (optional parameter) default: the pages are transformed and synced on "
+          + "the threads of the HTTP clients.";
+  static final String MODULE_QUEUE_SIZE_OPTION_DESCRIPTION =
+      format(
+          "Choose the number of tasks which may wait for a thread of the executor of a sync module. If the queue is "
+              + "full, the task runs on the thread which fetches the pages, which slows down the module. Only used "
+              + "with `--moduleThreads`. This option must be added after `-s` option. (optional parameter) "
+              + "default: %d",
+          ModuleExecutors.DEFAULT_QUEUE_SIZE);
+  static final String ADAPTIVE_PAGE_SIZE_OPTION_DESCRIPTION =
+      format(
+          "Choose per sync module the bounds within which the number of resources fetched with one query adapts to "
+              + "the time it takes to fetch and sync a page and to the size of the responses, as a comma separated "
+              + "list of <module>=<min>-<max>, e.g. \"products=20-200,inventoryEntries=%d\". A single number fixes "
+              + "the page size, \"%s\" applies to all modules which are not listed. This option must be added after "
+              + "`-s` option. (optional parameter) default: %d for all modules.",
+          PageSizeBounds.MAX_PAGE_SIZE, SYNC_MODULE_OPTION_ALL, PageSizeBounds.MAX_PAGE_SIZE);
+  static final String PRODUCT_MEMORY_BUDGET_OPTION_DESCRIPTION =
+      "Choose the number of megabytes of product pages which the product syncs hold at the same time. The "
+          + "products of a page are parsed one after the other from the raw response and synced in small chunks, "
+          + "and the next page waits until enough pages were synced. This option must be added after `-s` "
+          + "option. (optional parameter) default: every page is deserialized at once and not limited.";
+  static final String PROJECTED_QUERIES_OPTION_DESCRIPTION =
+      format(
+          "Choose the sync modules which fetch their resources with a GraphQL query of only the fields needed "
+              + "for their drafts, as a comma separated list of modules or \"%s\". Modules without such a query, "
+              + "currently all except \"%s\" and \"%s\", fetch the full resources. The query of products also "
+              + "fetches the keys of their product type, tax category, state and categories. This option must be "
+              + "added after `-s` option. (optional parameter) default: all modules fetch the full resources.",
+          SYNC_MODULE_OPTION_ALL,
+          SyncModuleOption.PRODUCT_SYNC.getSyncOptionValue(),
+          SyncModuleOption.SHOPPING_LIST_SYNC.getSyncOptionValue());
+  static final String TRANSFORM_THREADS_OPTION_DESCRIPTION =
+      "Choose the number of threads of the pool on which the tax categories, types and custom objects split "
+          + "large pages into chunks which are transformed in parallel, keeping the order of the drafts. This "
+          + "option must be added after `-s` option. (optional parameter) default: every page is transformed "
+          + "on one thread.";
+  static final String TRANSFORM_CHUNK_SIZE_OPTION_DESCRIPTION =
+      format(
+          "Choose the number of resources up to which a page, or a chunk of it, is transformed on one thread. "
+              + "Only used with `--transformThreads`. This option must be added after `-s` option. (optional "
+              + "parameter) default: %d",
+          TransformPool.DEFAULT_CHUNK_SIZE);
+  static final String COALESCE_SYNC_STATE_OPTION_DESCRIPTION =
+      "Use this flag to take the current timestamp of a delta sync once per run instead of once per sync module, "
+          + "to fetch the last sync timestamps of all sync modules with one query and to write them with one "
+          + "request after all sync modules completed. If the run is aborted before, the next run syncs again "
+          + "from the previous last sync timestamps. Cannot be combined with `--deltaSliceMinutes`. This option "
+          + "must be added after `-s` option. (optional parameter)";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(CliRunner.class);
+  private static final long BYTES_PER_MEGABYTE = 1024L * 1024;
 
   @Nonnull
   public static CliRunner of() {
@@ -131,6 +310,174 @@ final class CliRunner {
             .hasArg()
             .build();
 
+    final Option pagesInFlightOption =
+        Option.builder()
+            .longOpt(PAGES_IN_FLIGHT_OPTION_LONG)
+            .desc(PAGES_IN_FLIGHT_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option partitionsOption =
+        Option.builder()
+            .longOpt(PARTITIONS_OPTION_LONG)
+            .desc(PARTITIONS_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option maxConcurrentModulesOption =
+        Option.builder()
+            .longOpt(MAX_CONCURRENT_MODULES_OPTION_LONG)
+            .desc(MAX_CONCURRENT_MODULES_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option exportSnapshotOption =
+        Option.builder()
+            .longOpt(EXPORT_SNAPSHOT_OPTION_LONG)
+            .desc(EXPORT_SNAPSHOT_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option importSnapshotOption =
+        Option.builder()
+            .longOpt(IMPORT_SNAPSHOT_OPTION_LONG)
+            .desc(IMPORT_SNAPSHOT_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option referenceCacheSizeOption =
+        Option.builder()
+            .longOpt(REFERENCE_CACHE_SIZE_OPTION_LONG)
+            .desc(REFERENCE_CACHE_SIZE_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option referenceCacheExpiryOption =
+        Option.builder()
+            .longOpt(REFERENCE_CACHE_EXPIRY_OPTION_LONG)
+            .desc(REFERENCE_CACHE_EXPIRY_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option warmUpReferenceCacheOption =
+        Option.builder()
+            .longOpt(WARM_UP_REFERENCE_CACHE_OPTION_LONG)
+            .desc(WARM_UP_REFERENCE_CACHE_OPTION_DESCRIPTION)
+            .build();
+
+    final Option referenceCacheDirectoryOption =
+        Option.builder()
+            .longOpt(REFERENCE_CACHE_DIRECTORY_OPTION_LONG)
+            .desc(REFERENCE_CACHE_DIRECTORY_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option metricsPortOption =
+        Option.builder()
+            .longOpt(METRICS_PORT_OPTION_LONG)
+            .desc(METRICS_PORT_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option metricsFileOption =
+        Option.builder()
+            .longOpt(METRICS_FILE_OPTION_LONG)
+            .desc(METRICS_FILE_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option deltaSourceOption =
+        Option.builder()
+            .longOpt(DELTA_SOURCE_OPTION_LONG)
+            .desc(DELTA_SOURCE_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option deltaSliceMinutesOption =
+        Option.builder()
+            .longOpt(DELTA_SLICE_MINUTES_OPTION_LONG)
+            .desc(DELTA_SLICE_MINUTES_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option checkpointPagesOption =
+        Option.builder()
+            .longOpt(CHECKPOINT_PAGES_OPTION_LONG)
+            .desc(CHECKPOINT_PAGES_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option resumeOption =
+        Option.builder().longOpt(RESUME_OPTION_LONG).desc(RESUME_OPTION_DESCRIPTION).build();
+
+    final Option fingerprintDirectoryOption =
+        Option.builder()
+            .longOpt(FINGERPRINT_DIRECTORY_OPTION_LONG)
+            .desc(FINGERPRINT_DIRECTORY_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option virtualThreadsOption =
+        Option.builder()
+            .longOpt(VIRTUAL_THREADS_OPTION_LONG)
+            .desc(VIRTUAL_THREADS_OPTION_DESCRIPTION)
+            .build();
+
+    final Option moduleThreadsOption =
+        Option.builder()
+            .longOpt(MODULE_THREADS_OPTION_LONG)
+            .desc(MODULE_THREADS_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option moduleQueueSizeOption =
+        Option.builder()
+            .longOpt(MODULE_QUEUE_SIZE_OPTION_LONG)
+            .desc(MODULE_QUEUE_SIZE_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option adaptivePageSizeOption =
+        Option.builder()
+            .longOpt(ADAPTIVE_PAGE_SIZE_OPTION_LONG)
+            .desc(ADAPTIVE_PAGE_SIZE_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option productMemoryBudgetOption =
+        Option.builder()
+            .longOpt(PRODUCT_MEMORY_BUDGET_OPTION_LONG)
+            .desc(PRODUCT_MEMORY_BUDGET_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option projectedQueriesOption =
+        Option.builder()
+            .longOpt(PROJECTED_QUERIES_OPTION_LONG)
+            .desc(PROJECTED_QUERIES_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option transformThreadsOption =
+        Option.builder()
+            .longOpt(TRANSFORM_THREADS_OPTION_LONG)
+            .desc(TRANSFORM_THREADS_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option transformChunkSizeOption =
+        Option.builder()
+            .longOpt(TRANSFORM_CHUNK_SIZE_OPTION_LONG)
+            .desc(TRANSFORM_CHUNK_SIZE_OPTION_DESCRIPTION)
+            .hasArg()
+            .build();
+
+    final Option coalesceSyncStateOption =
+        Option.builder()
+            .longOpt(COALESCE_SYNC_STATE_OPTION_LONG)
+            .desc(COALESCE_SYNC_STATE_OPTION_DESCRIPTION)
+            .build();
+
     final Option helpOption =
         Option.builder(HELP_OPTION_SHORT)
             .longOpt(HELP_OPTION_LONG)
@@ -156,6 +503,31 @@ final class CliRunner {
     options.addOption(versionOption);
     options.addOption(syncProjectSyncCustomObjectsOption);
     options.addOption(productQueryParametersOption);
+    options.addOption(pagesInFlightOption);
+    options.addOption(partitionsOption);
+    options.addOption(maxConcurrentModulesOption);
+    options.addOption(exportSnapshotOption);
+    options.addOption(importSnapshotOption);
+    options.addOption(referenceCacheSizeOption);
+    options.addOption(referenceCacheExpiryOption);
+    options.addOption(warmUpReferenceCacheOption);
+    options.addOption(referenceCacheDirectoryOption);
+    options.addOption(metricsPortOption);
+    options.addOption(metricsFileOption);
+    options.addOption(deltaSourceOption);
+    options.addOption(deltaSliceMinutesOption);
+    options.addOption(checkpointPagesOption);
+    options.addOption(resumeOption);
+    options.addOption(fingerprintDirectoryOption);
+    options.addOption(virtualThreadsOption);
+    options.addOption(moduleThreadsOption);
+    options.addOption(moduleQueueSizeOption);
+    options.addOption(adaptivePageSizeOption);
+    options.addOption(productMemoryBudgetOption);
+    options.addOption(projectedQueriesOption);
+    options.addOption(transformThreadsOption);
+    options.addOption(transformChunkSizeOption);
+    options.addOption(coalesceSyncStateOption);
 
     return options;
   }
@@ -224,22 +596,312 @@ final class CliRunner {
         commandLine.hasOption(PRODUCT_QUERY_PARAMETERS_OPTION);
 
     final ProductSyncCustomRequest productSyncCustomRequest;
+    final SyncerConfiguration syncerConfiguration;
     try {
       productSyncCustomRequest =
           isProductQueryParametersOptionPresent
               ? parseProductQueryParametersOption(
                   commandLine.getOptionValue(PRODUCT_QUERY_PARAMETERS_OPTION))
               : null;
+      syncerConfiguration = parseSyncerConfiguration(commandLine);
+    } catch (CliException e) {
+      return exceptionallyCompletedFuture(e);
+    }
+    syncerFactory.setSyncerConfiguration(syncerConfiguration);
+
+    final boolean isExportSnapshot = commandLine.hasOption(EXPORT_SNAPSHOT_OPTION_LONG);
+    final boolean isImportSnapshot = commandLine.hasOption(IMPORT_SNAPSHOT_OPTION_LONG);
+    if (isExportSnapshot && isImportSnapshot) {
+      return exceptionallyCompletedFuture(
+          new CliException(
+              format(
+                  "Please pass only one of the \"--%s\" and \"--%s\" options.",
+                  EXPORT_SNAPSHOT_OPTION_LONG, IMPORT_SNAPSHOT_OPTION_LONG)));
+    }
 
+    final MetricsExporter metricsExporter;
+    try {
+      metricsExporter = startMetricsExporter(commandLine);
     } catch (CliException e) {
       return exceptionallyCompletedFuture(e);
     }
-    return syncerFactory.sync(
-        syncOptionValues,
-        runnerNameValue,
-        isFullSync,
-        isSyncProjectSyncCustomObjects,
-        productSyncCustomRequest);
+
+    final CompletionStage<Void> syncStage;
+    if (isExportSnapshot) {
+      syncStage =
+          syncerFactory.exportSnapshot(
+              syncOptionValues,
+              Paths.get(commandLine.getOptionValue(EXPORT_SNAPSHOT_OPTION_LONG)),
+              isSyncProjectSyncCustomObjects,
+              productSyncCustomRequest);
+    } else if (isImportSnapshot) {
+      syncStage =
+          syncerFactory.importSnapshot(
+              syncOptionValues, Paths.get(commandLine.getOptionValue(IMPORT_SNAPSHOT_OPTION_LONG)));
+    } else {
+      syncStage =
+          syncerFactory.sync(
+              syncOptionValues,
+              runnerNameValue,
+              isFullSync,
+              isSyncProjectSyncCustomObjects,
+              productSyncCustomRequest);
+    }
+    if (metricsExporter == null) {
+      return syncStage;
+    }
+    return syncStage.whenComplete((ignoredResult, throwable) -> metricsExporter.stop());
+  }
+
+  @Nullable
+  private static MetricsExporter startMetricsExporter(@Nonnull final CommandLine commandLine) {
+    final boolean isMetricsPort = commandLine.hasOption(METRICS_PORT_OPTION_LONG);
+    final boolean isMetricsFile = commandLine.hasOption(METRICS_FILE_OPTION_LONG);
+    if (!isMetricsPort && !isMetricsFile) {
+      return null;
+    }
+    final Integer metricsPort =
+        isMetricsPort
+            ? parsePositiveIntOption(
+                METRICS_PORT_OPTION_LONG, commandLine.getOptionValue(METRICS_PORT_OPTION_LONG))
+            : null;
+    final Path metricsFile =
+        isMetricsFile ? Paths.get(commandLine.getOptionValue(METRICS_FILE_OPTION_LONG)) : null;
+    try {
+      return MetricsExporter.start(metricsPort, metricsFile);
+    } catch (IOException | IllegalArgumentException exception) {
+      final String failedExport =
+          metricsPort == null
+              ? format("write the metrics to the file %s", metricsFile)
+              : format("serve the metrics on port %d", metricsPort);
+      throw new CliException(format("Failed to %s: %s", failedExport, exception.getMessage()));
+    }
+  }
+
+  @Nonnull
+  private static SyncerConfiguration parseSyncerConfiguration(
+      @Nonnull final CommandLine commandLine) {
+    final SyncerConfiguration.Builder builder = SyncerConfiguration.builder();
+    try {
+      if (commandLine.hasOption(PAGES_IN_FLIGHT_OPTION_LONG)) {
+        final String pagesInFlight = commandLine.getOptionValue(PAGES_IN_FLIGHT_OPTION_LONG);
+        builder.maxPagesInFlight(
+            parsePositiveIntOption(PAGES_IN_FLIGHT_OPTION_LONG, pagesInFlight));
+      }
+      if (commandLine.hasOption(PARTITIONS_OPTION_LONG)) {
+        final String partitions = commandLine.getOptionValue(PARTITIONS_OPTION_LONG);
+        builder.partitions(parsePositiveIntOption(PARTITIONS_OPTION_LONG, partitions));
+      }
+      if (commandLine.hasOption(MAX_CONCURRENT_MODULES_OPTION_LONG)) {
+        final String maxConcurrentModules =
+            commandLine.getOptionValue(MAX_CONCURRENT_MODULES_OPTION_LONG);
+        builder.maxConcurrentModules(
+            parsePositiveIntOption(MAX_CONCURRENT_MODULES_OPTION_LONG, maxConcurrentModules));
+      }
+      if (commandLine.hasOption(REFERENCE_CACHE_SIZE_OPTION_LONG)) {
+        final String referenceCacheSize =
+            commandLine.getOptionValue(REFERENCE_CACHE_SIZE_OPTION_LONG);
+        builder.referenceCacheMaxEntries(
+            parsePositiveIntOption(REFERENCE_CACHE_SIZE_OPTION_LONG, referenceCacheSize));
+      }
+      if (commandLine.hasOption(REFERENCE_CACHE_EXPIRY_OPTION_LONG)) {
+        final String referenceCacheExpiry =
+            commandLine.getOptionValue(REFERENCE_CACHE_EXPIRY_OPTION_LONG);
+        builder.referenceCacheExpiry(
+            Duration.ofMinutes(
+                parsePositiveIntOption(REFERENCE_CACHE_EXPIRY_OPTION_LONG, referenceCacheExpiry)));
+      }
+      builder.warmUpReferenceCache(commandLine.hasOption(WARM_UP_REFERENCE_CACHE_OPTION_LONG));
+      if (commandLine.hasOption(REFERENCE_CACHE_DIRECTORY_OPTION_LONG)) {
+        builder.referenceCacheDirectory(
+            Paths.get(commandLine.getOptionValue(REFERENCE_CACHE_DIRECTORY_OPTION_LONG)));
+      }
+      if (commandLine.hasOption(DELTA_SOURCE_OPTION_LONG)) {
+        builder.changeMessageSourceFactory(
+            parseDeltaSourceOption(commandLine.getOptionValue(DELTA_SOURCE_OPTION_LONG)));
+      }
+      if (commandLine.hasOption(DELTA_SLICE_MINUTES_OPTION_LONG)) {
+        final String deltaSliceMinutes =
+            commandLine.getOptionValue(DELTA_SLICE_MINUTES_OPTION_LONG);
+        builder.deltaSliceDuration(
+            Duration.ofMinutes(
+                parsePositiveIntOption(DELTA_SLICE_MINUTES_OPTION_LONG, deltaSliceMinutes)));
+      }
+      if (commandLine.hasOption(CHECKPOINT_PAGES_OPTION_LONG)) {
+        final String checkpointPages = commandLine.getOptionValue(CHECKPOINT_PAGES_OPTION_LONG);
+        builder.fullSyncCheckpointPages(
+            parsePositiveIntOption(CHECKPOINT_PAGES_OPTION_LONG, checkpointPages));
+      }
+      if (commandLine.hasOption(RESUME_OPTION_LONG)) {
+        if (!commandLine.hasOption(FULL_SYNC_OPTION_SHORT)) {
+          throw new CliException(
+              format(
+                  "The \"--%s\" option can only be used with a full sync (\"-%s\" option).",
+                  RESUME_OPTION_LONG, FULL_SYNC_OPTION_SHORT));
+        }
+        builder.resumeFullSync(true);
+      }
+      if (commandLine.hasOption(FINGERPRINT_DIRECTORY_OPTION_LONG)) {
+        builder.fingerprintDirectory(
+            Paths.get(commandLine.getOptionValue(FINGERPRINT_DIRECTORY_OPTION_LONG)));
+      }
+      if (commandLine.hasOption(VIRTUAL_THREADS_OPTION_LONG)) {
+        if (!VirtualThreads.isSupported()) {
+          throw new CliException(
+              format(
+                  "The \"--%s\" option requires a Java 21 or newer runtime, but the current "
+                      + "runtime is Java %s.",
+                  VIRTUAL_THREADS_OPTION_LONG, Runtime.version()));
+        }
+        builder.executor(VirtualThreads.newVirtualThreadPerTaskExecutor());
+      }
+      if (commandLine.hasOption(MODULE_THREADS_OPTION_LONG)) {
+        final String moduleThreads = commandLine.getOptionValue(MODULE_THREADS_OPTION_LONG);
+        builder.moduleThreads(parsePositiveIntOption(MODULE_THREADS_OPTION_LONG, moduleThreads));
+      }
+      if (commandLine.hasOption(MODULE_QUEUE_SIZE_OPTION_LONG)) {
+        final String moduleQueueSize = commandLine.getOptionValue(MODULE_QUEUE_SIZE_OPTION_LONG);
+        builder.moduleQueueSize(
+            parsePositiveIntOption(MODULE_QUEUE_SIZE_OPTION_LONG, moduleQueueSize));
+      }
+      if (commandLine.hasOption(ADAPTIVE_PAGE_SIZE_OPTION_LONG)) {
+        parseAdaptivePageSizeOption(
+            builder, commandLine.getOptionValue(ADAPTIVE_PAGE_SIZE_OPTION_LONG));
+      }
+      if (commandLine.hasOption(PRODUCT_MEMORY_BUDGET_OPTION_LONG)) {
+        final String productMemoryBudget =
+            commandLine.getOptionValue(PRODUCT_MEMORY_BUDGET_OPTION_LONG);
+        builder.productMemoryBudgetBytes(
+            parsePositiveIntOption(PRODUCT_MEMORY_BUDGET_OPTION_LONG, productMemoryBudget)
+                * BYTES_PER_MEGABYTE);
+      }
+      if (commandLine.hasOption(PROJECTED_QUERIES_OPTION_LONG)) {
+        parseProjectedQueriesOption(
+            builder, commandLine.getOptionValue(PROJECTED_QUERIES_OPTION_LONG));
+      }
+      if (commandLine.hasOption(TRANSFORM_THREADS_OPTION_LONG)) {
+        final String transformThreads = commandLine.getOptionValue(TRANSFORM_THREADS_OPTION_LONG);
+        builder.transformThreads(
+            parsePositiveIntOption(TRANSFORM_THREADS_OPTION_LONG, transformThreads));
+      }
+      if (commandLine.hasOption(TRANSFORM_CHUNK_SIZE_OPTION_LONG)) {
+        final String transformChunkSize =
+            commandLine.getOptionValue(TRANSFORM_CHUNK_SIZE_OPTION_LONG);
+        builder.transformChunkSize(
+            parsePositiveIntOption(TRANSFORM_CHUNK_SIZE_OPTION_LONG, transformChunkSize));
+      }
+      builder.coalesceSyncState(commandLine.hasOption(COALESCE_SYNC_STATE_OPTION_LONG));
+      return builder.build();
+    } catch (CliException exception) {
+      throw exception;
+    } catch (IllegalArgumentException exception) {
+      throw new CliException(exception.getMessage());
+    }
+  }
+
+  @Nullable
+  private static Function<ProjectApiRoot, ChangeMessageSource> parseDeltaSourceOption(
+      @Nullable final String optionValue) {
+    if (DELTA_SOURCE_OPTION_MESSAGES.equals(optionValue)) {
+      return CtpChangeMessageSource::of;
+    }
+    if (DELTA_SOURCE_OPTION_LAST_MODIFIED_AT.equals(optionValue)) {
+      return null;
+    }
+    throw new CliException(
+        format(
+            "Illegal argument \"%s\" supplied to \"--%s\" option! Please pass \"%s\" or \"%s\".",
+            optionValue,
+            DELTA_SOURCE_OPTION_LONG,
+            DELTA_SOURCE_OPTION_LAST_MODIFIED_AT,
+            DELTA_SOURCE_OPTION_MESSAGES));
+  }
+
+  /**
+   * Parses the page size bounds of the modules from a comma separated list of entries like
+   * "products=20-200". The bounds of "all" apply to every module without an entry of its own.
+   */
+  private static void parseAdaptivePageSizeOption(
+      @Nonnull final SyncerConfiguration.Builder builder, @Nullable final String optionValue) {
+    final Map<SyncModuleOption, PageSizeBounds> boundsOfModules = new LinkedHashMap<>();
+    PageSizeBounds boundsOfAllModules = null;
+    for (String entry : (optionValue == null ? "" : optionValue).split(",", -1)) {
+      final String[] moduleAndBounds = entry.split("=", -1);
+      final String[] bounds =
+          moduleAndBounds.length == 2 ? moduleAndBounds[1].split("-", -1) : new String[0];
+      if (bounds.length < 1 || bounds.length > 2) {
+        throw new CliException(
+            format(
+                "Illegal argument \"%s\" supplied to \"--%s\" option! Please pass a comma "
+                    + "separated list of <module>=<min>-<max>, e.g. \"products=20-200\".",
+                optionValue, ADAPTIVE_PAGE_SIZE_OPTION_LONG));
+      }
+      final int min = parsePositiveIntOption(ADAPTIVE_PAGE_SIZE_OPTION_LONG, bounds[0]);
+      final int max =
+          parsePositiveIntOption(ADAPTIVE_PAGE_SIZE_OPTION_LONG, bounds[bounds.length - 1]);
+      final PageSizeBounds pageSizeBounds = PageSizeBounds.of(min, max);
+      final String module = moduleAndBounds[0].trim();
+      if (SYNC_MODULE_OPTION_ALL.equals(module)) {
+        boundsOfAllModules = pageSizeBounds;
+      } else {
+        try {
+          boundsOfModules.put(
+              SyncModuleOption.getSyncModuleOptionBySyncOptionValue(module), pageSizeBounds);
+        } catch (IllegalArgumentException exception) {
+          throw new CliException(
+              format(
+                  "Unknown module \"%s\" supplied to \"--%s\" option! %s",
+                  module, ADAPTIVE_PAGE_SIZE_OPTION_LONG, SYNC_MODULE_OPTION_DESCRIPTION));
+        }
+      }
+    }
+    for (SyncModuleOption syncModuleOption : SyncModuleOption.values()) {
+      final PageSizeBounds bounds =
+          boundsOfModules.getOrDefault(syncModuleOption, boundsOfAllModules);
+      if (bounds != null) {
+        builder.pageSizeBounds(syncModuleOption.getSyncModuleName(), bounds);
+      }
+    }
+  }
+
+  /** Parses the modules with projected queries from a comma separated list of modules or "all". */
+  private static void parseProjectedQueriesOption(
+      @Nonnull final SyncerConfiguration.Builder builder, @Nullable final String optionValue) {
+    for (String entry : (optionValue == null ? "" : optionValue).split(",", -1)) {
+      final String module = entry.trim();
+      if (SYNC_MODULE_OPTION_ALL.equals(module)) {
+        for (SyncModuleOption syncModuleOption : SyncModuleOption.values()) {
+          builder.projectedQuery(syncModuleOption.getSyncModuleName());
+        }
+      } else {
+        try {
+          builder.projectedQuery(
+              SyncModuleOption.getSyncModuleOptionBySyncOptionValue(module).getSyncModuleName());
+        } catch (IllegalArgumentException exception) {
+          throw new CliException(
+              format(
+                  "Unknown module \"%s\" supplied to \"--%s\" option! %s",
+                  module, PROJECTED_QUERIES_OPTION_LONG, SYNC_MODULE_OPTION_DESCRIPTION));
+        }
+      }
+    }
+  }
+
+  private static int parsePositiveIntOption(
+      @Nonnull final String optionName, @Nullable final String optionValue) {
+    int value;
+    try {
+      value = Integer.parseInt(optionValue == null ? "" : optionValue.trim());
+    } catch (NumberFormatException exception) {
+      value = 0;
+    }
+    if (value < 1) {
+      throw new CliException(
+          format(
+              "Illegal argument \"%s\" supplied to \"--%s\" option! Please pass a positive number.",
+              optionValue, optionName));
+    }
+    return value;
   }
 
   private static void printHelpToStdOut(@Nonnull final Options cliOptions) {
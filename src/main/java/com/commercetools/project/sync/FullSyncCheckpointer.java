@@ -0,0 +1,136 @@
+package com.commercetools.project.sync;
+
+import static java.lang.String.format;
+
+import com.commercetools.api.models.common.BaseResource;
+import com.commercetools.project.sync.model.response.FullSyncCheckpoint;
+import com.commercetools.project.sync.service.CustomObjectService;
+import com.commercetools.sync.commons.helpers.BaseSyncStatistics;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Persists the progress of a full sync as a {@link FullSyncCheckpoint} after every {@code
+ * checkpointPages} synced pages. The pages are fetched ordered by id and synced in the order they
+ * are fetched, so the id of the last resource of a synced page marks all resources up to it as
+ * done. With pipelined page processing, more pages are fetched than synced, so the last ids of the
+ * fetched pages wait in a queue until their pages are synced. A page which is synced in chunks,
+ * e.g. a streamed page, only counts as synced with its last chunk.
+ *
+ * <p>A checkpoint which cannot be saved is only logged, as it must not fail the sync; the next
+ * checkpoint is tried again after {@code checkpointPages} more pages.
+ */
+final class FullSyncCheckpointer {
+
+  private final CustomObjectService customObjectService;
+  private final String sourceProjectKey;
+  private final String syncModuleName;
+  private final String runnerName;
+  private final int checkpointPages;
+  private final BaseSyncStatistics<?> statistics;
+  private final Logger logger;
+  private final Queue<FetchedResources> fetchedResources = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger syncedPages = new AtomicInteger();
+
+  FullSyncCheckpointer(
+      @Nonnull final CustomObjectService customObjectService,
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName,
+      final int checkpointPages,
+      @Nonnull final BaseSyncStatistics<?> statistics,
+      @Nonnull final Logger logger) {
+    this.customObjectService = customObjectService;
+    this.sourceProjectKey = sourceProjectKey;
+    this.syncModuleName = syncModuleName;
+    this.runnerName = runnerName;
+    this.checkpointPages = checkpointPages;
+    this.statistics = statistics;
+    this.logger = logger;
+  }
+
+  /**
+   * Remembers the last id of the given page, which has just been fetched. Has to be called in the
+   * order the pages are fetched.
+   *
+   * @param page the fetched page.
+   */
+  void onPageFetched(@Nonnull final List<? extends BaseResource> page) {
+    onPageFetched(page, true);
+  }
+
+  /**
+   * Like {@link #onPageFetched(List)}, for the resources of a page which may be fetched in chunks.
+   * Has to be called for every chunk, in the order the chunks are fetched.
+   *
+   * @param resources the fetched resources of the page, or of the next chunk of the page.
+   * @param isEndOfPage whether the resources are the last ones of the page.
+   */
+  void onPageFetched(
+      @Nonnull final List<? extends BaseResource> resources, final boolean isEndOfPage) {
+    // an empty page has no id, but it still has to be counted when it is synced.
+    final String lastId = resources.isEmpty() ? "" : resources.get(resources.size() - 1).getId();
+    fetchedResources.add(new FetchedResources(lastId, isEndOfPage));
+  }
+
+  /**
+   * Counts the oldest fetched page, or chunk of a page, as synced and saves a checkpoint after
+   * every {@code checkpointPages} pages. Has to be called in the order the pages are synced, after
+   * the statistics contain the results of the page.
+   *
+   * @return a completion stage which completes after the checkpoint, if any, is saved or failed.
+   */
+  @Nonnull
+  CompletionStage<Void> onPageSynced() {
+    final FetchedResources syncedResources = fetchedResources.poll();
+    if (syncedResources != null && !syncedResources.isEndOfPage) {
+      return CompletableFuture.completedFuture(null);
+    }
+    final String lastSyncedId = syncedResources == null ? null : syncedResources.lastId;
+    if (syncedPages.incrementAndGet() % checkpointPages != 0
+        || lastSyncedId == null
+        || lastSyncedId.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return customObjectService
+        .createFullSyncCheckpoint(
+            sourceProjectKey,
+            syncModuleName,
+            runnerName,
+            FullSyncCheckpoint.of(lastSyncedId, statistics))
+        .handle(
+            (ignoredResponse, throwable) -> {
+              if (throwable != null) {
+                logger.warn(
+                    format(
+                        "Failed to save the checkpoint of %s after the resource with id '%s'.",
+                        syncModuleName, lastSyncedId),
+                    throwable);
+              } else if (logger.isDebugEnabled()) {
+                logger.debug(
+                    format(
+                        "Saved the checkpoint of %s after %d pages, the last synced resource has "
+                            + "the id '%s'.",
+                        syncModuleName, syncedPages.get(), lastSyncedId));
+              }
+              return null;
+            });
+  }
+
+  private static final class FetchedResources {
+    private final String lastId;
+    private final boolean isEndOfPage;
+
+    private FetchedResources(@Nonnull final String lastId, final boolean isEndOfPage) {
+      this.lastId = lastId;
+      this.isEndOfPage = isEndOfPage;
+    }
+  }
+}
@@ -0,0 +1,327 @@
+package com.commercetools.project.sync;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.graph_ql.GraphQLRequest;
+import com.commercetools.api.models.graph_ql.GraphQLRequestBuilder;
+import com.commercetools.api.models.graph_ql.GraphQLVariablesMapBuilder;
+import com.commercetools.sync.commons.utils.ReferenceIdToKeyCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+
+/**
+ * Describes how a syncer fetches the pages of the source project with a GraphQL query which selects
+ * only the fields needed to build the drafts of its resources, instead of the REST query of {@link
+ * Syncer#getQuery()}, which returns the full resources with all their expansions.
+ *
+ * <p>The GraphQL query is built from the parameters of the REST query of a page, i.e. its
+ * predicates, predicate variables, sort and limit, so partitions, checkpoints and delta syncs
+ * select the same resources. The results are rewritten to the representation of the REST API before
+ * they are deserialized, following the naming of the GraphQL schema of commercetools:
+ *
+ * <ul>
+ *   <li>{@code nameAllLocales: [{locale, value}]} becomes the localized string {@code name},
+ *   <li>{@code customerRef: {typeId, id}} becomes the reference {@code customer},
+ *   <li>{@code customFieldsRaw: [{name, value}]} becomes the custom fields {@code fields}, likewise
+ *       the lists of category order hints and search keywords become maps,
+ *   <li>{@code attributesRaw} becomes {@code attributes}.
+ * </ul>
+ *
+ * <p>Two kinds of aliases shape the results further: the fields of an object selected with an alias
+ * starting with {@code inlined}, e.g. {@code inlinedStaged: staged { ... }}, are merged into the
+ * resource, and the ids and keys of the referenced resources selected with an alias starting with
+ * {@code keysOf}, e.g. {@code keysOfState: state { id key }}, are not part of the resource but
+ * added to the reference cache, so the references can be resolved to keys without another request.
+ *
+ * <p>The fields which are not selected stay {@code null} in the deserialized resources.
+ *
+ * @param <PagedQueryT> the type of the REST query of the pages.
+ * @param <ResourceT> the type of the resources of the pages.
+ */
+public final class GraphQlProjection<PagedQueryT, ResourceT> {
+
+  /* The selection of the custom fields of a resource, in the representation of the REST API. */
+  public static final String CUSTOM_FIELDS_SELECTION =
+      "custom { typeRef { typeId id } customFieldsRaw { name value } }";
+
+  private static final String LOCALIZED_SUFFIX = "AllLocales";
+  private static final String REFERENCE_SUFFIX = "Ref";
+  private static final String KEYS_PREFIX = "keysOf";
+  private static final String INLINED_PREFIX = "inlined";
+  private static final EntryList LOCALIZED_ENTRIES = new EntryList("", "locale", "value");
+  private static final Map<String, EntryList> ENTRY_LISTS =
+      Map.of(
+          "customFieldsRaw", new EntryList("fields", "name", "value"),
+          "categoryOrderHints", new EntryList("categoryOrderHints", "categoryId", "orderHint"),
+          "searchKeywords", new EntryList("searchKeywords", "locale", "searchKeywords"));
+  private static final Map<String, String> RENAMED_FIELDS = Map.of("attributesRaw", "attributes");
+  private static final String PREDICATE_VARIABLE_PREFIX = "var.";
+  private static final Pattern PREDICATE_VARIABLE = Pattern.compile(":(\\w+)");
+
+  private final String queryField;
+  private final String resultSelection;
+  private final Class<ResourceT> resourceClass;
+  private final Function<PagedQueryT, List<? extends Entry<String, String>>> queryParameters;
+
+  private GraphQlProjection(
+      @Nonnull final String queryField,
+      @Nonnull final String resultSelection,
+      @Nonnull final Class<ResourceT> resourceClass,
+      @Nonnull final Function<PagedQueryT, List<? extends Entry<String, String>>> queryParameters) {
+    this.queryField = queryField;
+    this.resultSelection = resultSelection;
+    this.resourceClass = resourceClass;
+    this.queryParameters = queryParameters;
+  }
+
+  /**
+   * @param queryField the GraphQL field which queries the resources, e.g. "shoppingLists".
+   * @param resultSelection the fields selected from every resource, in GraphQL syntax.
+   * @param resourceClass the class of the resources of the pages.
+   * @param queryParameters returns the query parameters of the REST query of a page.
+   * @param <PagedQueryT> the type of the REST query of the pages.
+   * @param <ResourceT> the type of the resources of the pages.
+   * @return the projection of the pages.
+   */
+  @Nonnull
+  public static <PagedQueryT, ResourceT> GraphQlProjection<PagedQueryT, ResourceT> of(
+      @Nonnull final String queryField,
+      @Nonnull final String resultSelection,
+      @Nonnull final Class<ResourceT> resourceClass,
+      @Nonnull final Function<PagedQueryT, List<? extends Entry<String, String>>> queryParameters) {
+    return new GraphQlProjection<>(queryField, resultSelection, resourceClass, queryParameters);
+  }
+
+  /**
+   * Fetches the page of the given REST query with the GraphQL query of this projection and adds the
+   * keys of the referenced resources selected with the page to the given cache.
+   *
+   * @return the response with the resources of the page.
+   */
+  @Nonnull
+  public CompletionStage<ApiHttpResponse<List<ResourceT>>> fetchPage(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final PagedQueryT pageQuery,
+      @Nonnull final ReferenceIdToKeyCache referenceIdToKeyCache) {
+    return sourceClient
+        .graphql()
+        .post(toGraphQlRequest(pageQuery))
+        .send()
+        .thenApply(
+            response -> {
+              final Map<String, String> referencedKeys = new HashMap<>();
+              final List<ResourceT> page;
+              try {
+                page = parsePage(response.getBody(), referencedKeys);
+              } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+              }
+              referencedKeys.forEach(referenceIdToKeyCache::add);
+              return new ApiHttpResponse<>(response.getStatusCode(), response.getHeaders(), page);
+            });
+  }
+
+  @Nonnull
+  GraphQLRequest toGraphQlRequest(@Nonnull final PagedQueryT pageQuery) {
+    final List<String> predicates = new ArrayList<>();
+    final List<String> sort = new ArrayList<>();
+    final Map<String, String> predicateVariables = new HashMap<>();
+    final Map<String, Object> variables = new HashMap<>();
+    for (Entry<String, String> parameter : queryParameters.apply(pageQuery)) {
+      final String name = parameter.getKey();
+      if ("where".equals(name)) {
+        predicates.add(parameter.getValue());
+      } else if ("sort".equals(name)) {
+        sort.add(parameter.getValue());
+      } else if ("limit".equals(name)) {
+        variables.put("limit", Integer.parseInt(parameter.getValue()));
+      } else if (name.startsWith(PREDICATE_VARIABLE_PREFIX)) {
+        predicateVariables.put(
+            name.substring(PREDICATE_VARIABLE_PREFIX.length()), parameter.getValue());
+      }
+    }
+    if (!predicates.isEmpty()) {
+      variables.put(
+          "where",
+          predicates.stream()
+              .map(predicate -> "(" + bindVariables(predicate, predicateVariables) + ")")
+              .collect(joining(" and ")));
+    }
+    if (!sort.isEmpty()) {
+      variables.put("sort", sort);
+    }
+    final String query =
+        format(
+            "query ProjectedPage($where: String, $sort: [String!], $limit: Int) "
+                + "{ %s(where: $where, sort: $sort, limit: $limit) { results { %s } } }",
+            queryField, resultSelection);
+    return GraphQLRequestBuilder.of()
+        .query(query)
+        .variables(GraphQLVariablesMapBuilder.of().values(variables).build())
+        .build();
+  }
+
+  /**
+   * GraphQL has no predicate variables, so their values are written into the predicate as string
+   * literals, which is how the REST API compares them, e.g. with the bounds of a delta sync.
+   */
+  @Nonnull
+  private static String bindVariables(
+      @Nonnull final String predicate, @Nonnull final Map<String, String> predicateVariables) {
+    final Matcher matcher = PREDICATE_VARIABLE.matcher(predicate);
+    return matcher.replaceAll(
+        match -> {
+          final String value = predicateVariables.get(match.group(1));
+          return Matcher.quoteReplacement(
+              value == null ? match.group() : "\"" + value.replace("\"", "\\\"") + "\"");
+        });
+  }
+
+  /**
+   * @param responseBody the body of the response of the GraphQL query of a page.
+   * @return the resources of the page.
+   * @throws IOException if the body cannot be parsed.
+   * @throws IllegalStateException if the response reports errors of the query.
+   */
+  @Nonnull
+  public List<ResourceT> parsePage(@Nonnull final byte[] responseBody) throws IOException {
+    return parsePage(responseBody, new HashMap<>());
+  }
+
+  /**
+   * @param responseBody the body of the response of the GraphQL query of a page.
+   * @param referencedKeys the map to which the keys of the referenced resources selected with a
+   *     {@code keysOf} field are added by their ids.
+   * @return the resources of the page.
+   * @throws IOException if the body cannot be parsed.
+   * @throws IllegalStateException if the response reports errors of the query.
+   */
+  @Nonnull
+  public List<ResourceT> parsePage(
+      @Nonnull final byte[] responseBody, @Nonnull final Map<String, String> referencedKeys)
+      throws IOException {
+    final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+    final JsonNode response = objectMapper.readTree(responseBody);
+    final JsonNode errors = response.path("errors");
+    if (errors.size() > 0) {
+      throw new IllegalStateException(
+          format("The GraphQL query of %s failed with the errors: %s", queryField, errors));
+    }
+    final List<ResourceT> page = new ArrayList<>();
+    for (JsonNode result : response.path("data").path(queryField).path("results")) {
+      page.add(
+          objectMapper.treeToValue(toRestRepresentation(result, referencedKeys), resourceClass));
+    }
+    return page;
+  }
+
+  @Nonnull
+  private static JsonNode toRestRepresentation(
+      @Nonnull final JsonNode node, @Nonnull final Map<String, String> referencedKeys) {
+    if (node.isArray()) {
+      final ArrayNode restArray = JsonNodeFactory.instance.arrayNode(node.size());
+      node.forEach(element -> restArray.add(toRestRepresentation(element, referencedKeys)));
+      return restArray;
+    }
+    if (!node.isObject()) {
+      return node;
+    }
+    final ObjectNode restObject = JsonNodeFactory.instance.objectNode();
+    final Iterator<Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      final Entry<String, JsonNode> field = fields.next();
+      final String name = field.getKey();
+      final JsonNode value = field.getValue();
+      final EntryList entryList = ENTRY_LISTS.get(name);
+      if (name.startsWith(KEYS_PREFIX)) {
+        addReferencedKeys(value, referencedKeys);
+      } else if (name.startsWith(INLINED_PREFIX)) {
+        final JsonNode inlinedObject = toRestRepresentation(value, referencedKeys);
+        if (inlinedObject.isObject()) {
+          restObject.setAll((ObjectNode) inlinedObject);
+        }
+      } else if (entryList != null) {
+        restObject.set(entryList.restName, entryList.toMap(value, referencedKeys));
+      } else if (name.endsWith(LOCALIZED_SUFFIX)) {
+        restObject.set(
+            stripSuffix(name, LOCALIZED_SUFFIX), LOCALIZED_ENTRIES.toMap(value, referencedKeys));
+      } else if (name.endsWith(REFERENCE_SUFFIX)) {
+        restObject.set(
+            stripSuffix(name, REFERENCE_SUFFIX), toRestRepresentation(value, referencedKeys));
+      } else {
+        restObject.set(
+            RENAMED_FIELDS.getOrDefault(name, name), toRestRepresentation(value, referencedKeys));
+      }
+    }
+    return restObject;
+  }
+
+  private static void addReferencedKeys(
+      @Nonnull final JsonNode resources, @Nonnull final Map<String, String> referencedKeys) {
+    if (resources.isArray()) {
+      resources.forEach(resource -> addReferencedKeys(resource, referencedKeys));
+    } else if (resources.hasNonNull("id") && resources.hasNonNull("key")) {
+      referencedKeys.put(resources.get("id").asText(), resources.get("key").asText());
+    }
+  }
+
+  @Nonnull
+  private static String stripSuffix(@Nonnull final String name, @Nonnull final String suffix) {
+    return name.substring(0, name.length() - suffix.length());
+  }
+
+  /**
+   * A list of entries in GraphQL which is a map from the keys to the values of its entries in REST,
+   * e.g. the list of the locales and values of a localized string.
+   */
+  private static final class EntryList {
+    private final String restName;
+    private final String keyField;
+    private final String valueField;
+
+    private EntryList(
+        @Nonnull final String restName,
+        @Nonnull final String keyField,
+        @Nonnull final String valueField) {
+      this.restName = restName;
+      this.keyField = keyField;
+      this.valueField = valueField;
+    }
+
+    @Nonnull
+    private JsonNode toMap(
+        @Nonnull final JsonNode entries, @Nonnull final Map<String, String> referencedKeys) {
+      if (!entries.isArray()) {
+        return entries;
+      }
+      final ObjectNode map = JsonNodeFactory.instance.objectNode();
+      for (JsonNode entry : entries) {
+        final JsonNode value = entry.get(valueField);
+        map.set(
+            entry.path(keyField).asText(),
+            value == null ? null : toRestRepresentation(value, referencedKeys));
+      }
+      return map;
+    }
+  }
+}
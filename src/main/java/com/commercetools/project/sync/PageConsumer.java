@@ -0,0 +1,27 @@
+package com.commercetools.project.sync;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import javax.annotation.Nonnull;
+
+/**
+ * Consumes the fetched pages of a query. A page is passed as a whole, or in chunks if the pages are
+ * streamed, so a consumer which counts pages, e.g. the pages in flight or the pages between two
+ * checkpoints, counts a page with its last chunk. The consumer tells when it is done with the
+ * resources, so the memory they were parsed from, e.g. the response of a streamed page, is only
+ * released after the last chunk of the page was processed.
+ *
+ * @param <ResourceT> the type of the fetched resources.
+ */
+@FunctionalInterface
+interface PageConsumer<ResourceT> {
+
+  /**
+   * @param resources the resources of the page, or of the next chunk of the page.
+   * @param isEndOfPage whether the resources are the last ones of the page.
+   * @return a {@link CompletionStage} which completes once the resources were processed, e.g.
+   *     synced, or failed to.
+   */
+  @Nonnull
+  CompletionStage<?> accept(@Nonnull List<ResourceT> resources, boolean isEndOfPage);
+}
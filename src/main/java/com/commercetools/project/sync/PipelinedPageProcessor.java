@@ -0,0 +1,116 @@
+package com.commercetools.project.sync;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+/**
+ * Processes the pages of a source query as a pipeline: the transformation of a page starts as soon
+ * as it is submitted, while the syncs of the transformed pages are chained so that they are still
+ * executed one after the other and in the order of the pages. This way fetching the next page and
+ * transforming it overlaps with syncing the current one.
+ *
+ * <p>At most {@code maxPagesInFlight} pages can be submitted but not yet synced. Submitting another
+ * page blocks the caller (i.e. the thread fetching the pages) until one of them is synced, which
+ * gives the fetching side backpressure. A page which is submitted in chunks, e.g. a streamed page,
+ * counts as one page in flight from its first chunk until the sync of its last chunk.
+ *
+ * <p>Pages are expected to be submitted sequentially, as done by {@link
+ * com.commercetools.api.client.QueryUtils#queryAll}.
+ *
+ * @param <ResourceT> the type of the fetched resources.
+ * @param <ResourceDraftT> the type of the drafts which are synced.
+ * @param <SyncStatisticsT> the type of the result of syncing one page.
+ */
+final class PipelinedPageProcessor<ResourceT, ResourceDraftT, SyncStatisticsT> {
+
+  private final Semaphore pagesInFlight;
+  private final Function<List<ResourceT>, CompletionStage<List<ResourceDraftT>>> transformer;
+  private final Function<List<ResourceDraftT>, CompletionStage<SyncStatisticsT>> syncer;
+  private volatile CompletableFuture<SyncStatisticsT> syncChain =
+      CompletableFuture.completedFuture(null);
+  // whether the last submitted chunk did not end its page, so the page already counts as in flight.
+  private boolean isPageStarted;
+
+  PipelinedPageProcessor(
+      final int maxPagesInFlight,
+      @Nonnull final Function<List<ResourceT>, CompletionStage<List<ResourceDraftT>>> transformer,
+      @Nonnull final Function<List<ResourceDraftT>, CompletionStage<SyncStatisticsT>> syncer) {
+    this.pagesInFlight = new Semaphore(maxPagesInFlight);
+    this.transformer = transformer;
+    this.syncer = syncer;
+  }
+
+  /**
+   * Starts the transformation of the given page and chains its sync after the sync of the
+   * previously submitted page. Blocks if the maximum number of pages in flight is reached.
+   *
+   * @param page the page of resources fetched from the source project.
+   * @return {@code null}, the result is only used to match the page mapper signature of {@link
+   *     com.commercetools.api.client.QueryUtils#queryAll}.
+   * @throws CompletionException if a previously submitted page failed to sync or the thread was
+   *     interrupted while waiting, which stops fetching further pages.
+   */
+  Void submit(@Nonnull final List<ResourceT> page) {
+    submit(page, true);
+    return null;
+  }
+
+  /**
+   * Like {@link #submit(List)}, for the resources of a page which may be submitted in chunks. Only
+   * the first chunk of a page blocks if the maximum number of pages in flight is reached.
+   *
+   * @param resources the resources of the page, or of the next chunk of the page.
+   * @param isEndOfPage whether the resources are the last ones of the page.
+   * @return a {@link CompletionStage} which completes once the given resources and all resources
+   *     submitted before are synced, or completes exceptionally if one of them failed.
+   * @throws CompletionException if a previously submitted chunk failed to sync or the thread was
+   *     interrupted while waiting, which stops fetching further pages.
+   */
+  @Nonnull
+  CompletionStage<Void> submit(
+      @Nonnull final List<ResourceT> resources, final boolean isEndOfPage) {
+    if (!isPageStarted) {
+      try {
+        pagesInFlight.acquire();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new CompletionException(exception);
+      }
+    }
+
+    final CompletableFuture<SyncStatisticsT> previousSync = syncChain;
+    if (previousSync.isCompletedExceptionally()) {
+      isPageStarted = false;
+      pagesInFlight.release();
+      // rethrows the failure of the previous page and so stops fetching more pages.
+      previousSync.join();
+    }
+
+    final CompletableFuture<List<ResourceDraftT>> transformedResources =
+        transformer.apply(resources).toCompletableFuture();
+    final CompletableFuture<SyncStatisticsT> sync =
+        previousSync
+            .thenCombine(transformedResources, (ignoredResult, drafts) -> drafts)
+            .thenCompose(syncer);
+    isPageStarted = !isEndOfPage;
+    syncChain =
+        isEndOfPage
+            ? sync.whenComplete((ignoredResult, throwable) -> pagesInFlight.release())
+            : sync;
+    return syncChain.thenAccept(ignoredResult -> {});
+  }
+
+  /**
+   * @return a {@link CompletableFuture} which completes after all submitted pages are synced, or
+   *     completes exceptionally if one of them failed.
+   */
+  @Nonnull
+  CompletableFuture<Void> awaitCompletion() {
+    return syncChain.thenAccept(ignoredResult -> {});
+  }
+}
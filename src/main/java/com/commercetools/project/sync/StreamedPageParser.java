@@ -0,0 +1,87 @@
+package com.commercetools.project.sync;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.Closeable;
+import java.io.IOException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Parses the results of the response of a paged query one resource after the other, instead of
+ * deserializing the whole page at once. Only the raw bytes of the response and the resources which
+ * were parsed but not yet consumed are held in memory, which is much less than a whole page of
+ * deserialized resources, e.g. products with many variants.
+ *
+ * @param <ResourceT> the type of the resources of the page.
+ */
+final class StreamedPageParser<ResourceT> implements Closeable {
+
+  private static final String RESULTS_FIELD = "results";
+
+  private final JsonParser parser;
+  private final ObjectReader resourceReader;
+  private boolean inResults;
+
+  private StreamedPageParser(
+      @Nonnull final JsonParser parser, @Nonnull final ObjectReader resourceReader) {
+    this.parser = parser;
+    this.resourceReader = resourceReader;
+  }
+
+  /**
+   * @param responseBody the body of the response of a paged query.
+   * @param resourceClass the class of the resources of the page.
+   * @param <ResourceT> the type of the resources of the page.
+   * @return a parser positioned before the first resource of the page.
+   * @throws IOException if the body is no JSON object with an array of results.
+   */
+  @Nonnull
+  static <ResourceT> StreamedPageParser<ResourceT> of(
+      @Nonnull final byte[] responseBody, @Nonnull final Class<ResourceT> resourceClass)
+      throws IOException {
+    final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+    final StreamedPageParser<ResourceT> pageParser =
+        new StreamedPageParser<>(
+            objectMapper.getFactory().createParser(responseBody),
+            objectMapper.readerFor(resourceClass));
+    pageParser.skipToResults();
+    return pageParser;
+  }
+
+  private void skipToResults() throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("The response of the paged query is no JSON object.");
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      final JsonToken valueToken = parser.nextToken();
+      if (RESULTS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+        inResults = true;
+        return;
+      }
+      parser.skipChildren();
+    }
+  }
+
+  /**
+   * @return the next resource of the page, or {@code null} if all resources were parsed.
+   * @throws IOException if the next resource cannot be parsed.
+   */
+  @Nullable
+  ResourceT next() throws IOException {
+    if (!inResults || parser.nextToken() != JsonToken.START_OBJECT) {
+      inResults = false;
+      return null;
+    }
+    return resourceReader.readValue(parser);
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+}
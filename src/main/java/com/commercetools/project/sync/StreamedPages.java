@@ -0,0 +1,63 @@
+package com.commercetools.project.sync;
+
+import com.commercetools.project.sync.executor.ByteBudget;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+/**
+ * Describes how a syncer streams the pages of the source project instead of deserializing every
+ * page at once: it sends the query of a page for the raw response, acquires the size of the
+ * response from a {@link ByteBudget} shared with the other syncers of the same resources, and
+ * parses the resources of the page one after the other with a {@link StreamedPageParser}.
+ *
+ * @param <PagedQueryT> the type of the query of the pages.
+ * @param <ResourceT> the type of the resources of the pages.
+ */
+public final class StreamedPages<PagedQueryT, ResourceT> {
+
+  private final Class<ResourceT> resourceClass;
+  private final Function<PagedQueryT, CompletionStage<ApiHttpResponse<byte[]>>> rawPageSender;
+  private final ByteBudget budget;
+
+  private StreamedPages(
+      @Nonnull final Class<ResourceT> resourceClass,
+      @Nonnull final Function<PagedQueryT, CompletionStage<ApiHttpResponse<byte[]>>> rawPageSender,
+      @Nonnull final ByteBudget budget) {
+    this.resourceClass = resourceClass;
+    this.rawPageSender = rawPageSender;
+    this.budget = budget;
+  }
+
+  /**
+   * @param resourceClass the class of the resources of the pages.
+   * @param rawPageSender sends the query of a page and returns the response with the raw body.
+   * @param budget the budget of the bytes of the pages which are processed at the same time.
+   * @param <PagedQueryT> the type of the query of the pages.
+   * @param <ResourceT> the type of the resources of the pages.
+   * @return the description of the streamed pages.
+   */
+  @Nonnull
+  public static <PagedQueryT, ResourceT> StreamedPages<PagedQueryT, ResourceT> of(
+      @Nonnull final Class<ResourceT> resourceClass,
+      @Nonnull final Function<PagedQueryT, CompletionStage<ApiHttpResponse<byte[]>>> rawPageSender,
+      @Nonnull final ByteBudget budget) {
+    return new StreamedPages<>(resourceClass, rawPageSender, budget);
+  }
+
+  @Nonnull
+  Class<ResourceT> getResourceClass() {
+    return resourceClass;
+  }
+
+  @Nonnull
+  CompletionStage<ApiHttpResponse<byte[]>> sendRawPageQuery(@Nonnull final PagedQueryT pageQuery) {
+    return rawPageSender.apply(pageQuery);
+  }
+
+  @Nonnull
+  ByteBudget getBudget() {
+    return budget;
+  }
+}
@@ -1,5 +1,16 @@
 package com.commercetools.project.sync;
 
+import com.commercetools.api.models.cart_discount.CartDiscountDraft;
+import com.commercetools.api.models.category.CategoryDraft;
+import com.commercetools.api.models.custom_object.CustomObjectDraft;
+import com.commercetools.api.models.customer.CustomerDraft;
+import com.commercetools.api.models.inventory.InventoryEntryDraft;
+import com.commercetools.api.models.product.ProductDraft;
+import com.commercetools.api.models.product_type.ProductTypeDraft;
+import com.commercetools.api.models.shopping_list.ShoppingListDraft;
+import com.commercetools.api.models.state.StateDraft;
+import com.commercetools.api.models.tax_category.TaxCategoryDraft;
+import com.commercetools.api.models.type.TypeDraft;
 import com.commercetools.project.sync.util.SyncUtils;
 import com.commercetools.sync.cartdiscounts.CartDiscountSync;
 import com.commercetools.sync.categories.CategorySync;
@@ -19,35 +30,52 @@ import java.util.List;
 import java.util.stream.Stream;
 
 public enum SyncModuleOption {
-  TYPE_SYNC("types", TypeSync.class, Collections.emptyList()),
-  PRODUCT_TYPE_SYNC("productTypes", ProductTypeSync.class, Collections.emptyList()),
-  CART_DISCOUNT_SYNC("cartDiscounts", CartDiscountSync.class, Collections.singletonList(TYPE_SYNC)),
-  CUSTOM_OBJECT_SYNC("customObjects", CustomObjectSync.class, Collections.emptyList()),
-  CATEGORY_SYNC("categories", CategorySync.class, Collections.singletonList(TYPE_SYNC)),
+  TYPE_SYNC("types", TypeSync.class, TypeDraft.class, Collections.emptyList()),
+  PRODUCT_TYPE_SYNC(
+      "productTypes", ProductTypeSync.class, ProductTypeDraft.class, Collections.emptyList()),
+  CART_DISCOUNT_SYNC(
+      "cartDiscounts",
+      CartDiscountSync.class,
+      CartDiscountDraft.class,
+      Collections.singletonList(TYPE_SYNC)),
+  CUSTOM_OBJECT_SYNC(
+      "customObjects", CustomObjectSync.class, CustomObjectDraft.class, Collections.emptyList()),
+  CATEGORY_SYNC(
+      "categories", CategorySync.class, CategoryDraft.class, Collections.singletonList(TYPE_SYNC)),
   INVENTORY_ENTRY_SYNC(
-      "inventoryEntries", InventorySync.class, Collections.singletonList(TYPE_SYNC)),
-  STATE_SYNC("states", StateSync.class, Collections.emptyList()),
-  TAX_CATEGORY_SYNC("taxCategories", TaxCategorySync.class, Collections.emptyList()),
-  CUSTOMER_SYNC("customers", CustomerSync.class, Collections.singletonList(TYPE_SYNC)),
+      "inventoryEntries",
+      InventorySync.class,
+      InventoryEntryDraft.class,
+      Collections.singletonList(TYPE_SYNC)),
+  STATE_SYNC("states", StateSync.class, StateDraft.class, Collections.emptyList()),
+  TAX_CATEGORY_SYNC(
+      "taxCategories", TaxCategorySync.class, TaxCategoryDraft.class, Collections.emptyList()),
+  CUSTOMER_SYNC(
+      "customers", CustomerSync.class, CustomerDraft.class, Collections.singletonList(TYPE_SYNC)),
   PRODUCT_SYNC(
       "products",
       ProductSync.class,
+      ProductDraft.class,
       Arrays.asList(TYPE_SYNC, PRODUCT_TYPE_SYNC, STATE_SYNC, CATEGORY_SYNC, TAX_CATEGORY_SYNC)),
   SHOPPING_LIST_SYNC(
       "shoppingLists",
       ShoppingListSync.class,
+      ShoppingListDraft.class,
       Arrays.asList(TYPE_SYNC, CUSTOMER_SYNC, PRODUCT_SYNC));
 
   public final String syncOptionValue;
   private final Class<? extends BaseSync> syncClass;
+  private final Class<?> draftClass;
   private final List<SyncModuleOption> essentialSyncOptions;
 
   SyncModuleOption(
       String syncOptionValue,
       Class<? extends BaseSync> syncClass,
+      Class<?> draftClass,
       List<SyncModuleOption> essentialSyncOptions) {
     this.syncOptionValue = syncOptionValue;
     this.syncClass = syncClass;
+    this.draftClass = draftClass;
     this.essentialSyncOptions = essentialSyncOptions;
   }
 
@@ -72,6 +100,14 @@ public enum SyncModuleOption {
         .orElseThrow(IllegalArgumentException::new);
   }
 
+  /**
+   * @return the class of the drafts which are synced by this module, e.g. used to read the drafts
+   *     of this module from a snapshot.
+   */
+  public Class<?> getDraftClass() {
+    return draftClass;
+  }
+
   public List<SyncModuleOption> getEssentialSyncOptions() {
     return essentialSyncOptions;
   }
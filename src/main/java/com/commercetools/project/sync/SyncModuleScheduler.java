@@ -0,0 +1,236 @@
+package com.commercetools.project.sync;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the sync modules of one run as a dependency graph built from {@link
+ * SyncModuleOption#getEssentialSyncOptions()}: every module is started as soon as all of its
+ * essential modules which are part of the same run have completed, instead of waiting for unrelated
+ * modules. For instance, with [types, categories, inventoryEntries, products] the inventory entries
+ * sync starts right after the types sync, without waiting for the categories sync.
+ *
+ * <p>At most {@code maxConcurrentModules} modules run at the same time, further modules which are
+ * ready to run wait in the order they were passed. If a module fails, the modules which depend on
+ * it (directly or transitively) are not run and complete with the same failure, while independent
+ * modules still run.
+ *
+ * <p>After the run, the critical path, i.e. the chain of dependent modules with the longest summed
+ * duration, is logged. It is the lower bound of the run duration with unlimited concurrency.
+ */
+final class SyncModuleScheduler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SyncModuleScheduler.class);
+
+  private final List<SyncModuleOption> syncModuleOptions;
+  private final int maxConcurrentModules;
+  private final Function<SyncModuleOption, CompletionStage<Void>> moduleRunner;
+
+  private final Map<SyncModuleOption, List<SyncModuleOption>> prerequisites =
+      new EnumMap<>(SyncModuleOption.class);
+  private final Map<SyncModuleOption, List<SyncModuleOption>> dependents =
+      new EnumMap<>(SyncModuleOption.class);
+  private final Map<SyncModuleOption, Integer> pendingPrerequisites =
+      new EnumMap<>(SyncModuleOption.class);
+  private final Map<SyncModuleOption, CompletableFuture<Void>> moduleCompletions =
+      new EnumMap<>(SyncModuleOption.class);
+  private final Map<SyncModuleOption, Long> moduleDurationsInNanos =
+      new EnumMap<>(SyncModuleOption.class);
+  private final Queue<SyncModuleOption> readyModules = new LinkedList<>();
+  private final List<SyncModuleOption> skippedModules = new ArrayList<>();
+  private int runningModules;
+
+  SyncModuleScheduler(
+      @Nonnull final List<SyncModuleOption> syncModuleOptions,
+      final int maxConcurrentModules,
+      @Nonnull final Function<SyncModuleOption, CompletionStage<Void>> moduleRunner) {
+    this.syncModuleOptions = new ArrayList<>(new LinkedHashSet<>(syncModuleOptions));
+    this.maxConcurrentModules = maxConcurrentModules;
+    this.moduleRunner = moduleRunner;
+
+    for (SyncModuleOption syncModuleOption : this.syncModuleOptions) {
+      final List<SyncModuleOption> modulePrerequisites =
+          syncModuleOption.getEssentialSyncOptions().stream()
+              .filter(this.syncModuleOptions::contains)
+              .collect(Collectors.toList());
+      prerequisites.put(syncModuleOption, modulePrerequisites);
+      pendingPrerequisites.put(syncModuleOption, modulePrerequisites.size());
+      moduleCompletions.put(syncModuleOption, new CompletableFuture<>());
+      dependents.put(syncModuleOption, new ArrayList<>());
+    }
+    prerequisites.forEach(
+        (syncModuleOption, modulePrerequisites) ->
+            modulePrerequisites.forEach(
+                prerequisite -> dependents.get(prerequisite).add(syncModuleOption)));
+  }
+
+  /**
+   * Starts all modules without pending prerequisites and schedules the others after them.
+   *
+   * @return a {@link CompletableFuture} which completes after all modules have completed, or
+   *     completes exceptionally if one of them failed.
+   */
+  @Nonnull
+  CompletableFuture<Void> run() {
+    final long runStartInNanos = System.nanoTime();
+    synchronized (this) {
+      syncModuleOptions.stream()
+          .filter(syncModuleOption -> pendingPrerequisites.get(syncModuleOption) == 0)
+          .forEach(readyModules::add);
+    }
+    startReadyModules();
+
+    return CompletableFuture.allOf(moduleCompletions.values().toArray(new CompletableFuture[0]))
+        .whenComplete(
+            (ignoredResult, throwable) -> logCriticalPath(System.nanoTime() - runStartInNanos));
+  }
+
+  private void startReadyModules() {
+    final List<SyncModuleOption> modulesToStart = new ArrayList<>();
+    synchronized (this) {
+      while (runningModules < maxConcurrentModules && !readyModules.isEmpty()) {
+        modulesToStart.add(readyModules.poll());
+        runningModules++;
+      }
+    }
+    modulesToStart.forEach(this::startModule);
+  }
+
+  private void startModule(@Nonnull final SyncModuleOption syncModuleOption) {
+    final long moduleStartInNanos = System.nanoTime();
+    CompletionStage<Void> moduleStage;
+    try {
+      moduleStage = moduleRunner.apply(syncModuleOption);
+    } catch (RuntimeException exception) {
+      final CompletableFuture<Void> failedModule = new CompletableFuture<>();
+      failedModule.completeExceptionally(exception);
+      moduleStage = failedModule;
+    }
+    moduleStage.whenComplete(
+        (ignoredResult, throwable) ->
+            onModuleCompleted(syncModuleOption, System.nanoTime() - moduleStartInNanos, throwable));
+  }
+
+  private void onModuleCompleted(
+      @Nonnull final SyncModuleOption syncModuleOption,
+      final long durationInNanos,
+      final Throwable throwable) {
+    final List<SyncModuleOption> modulesToSkip = new ArrayList<>();
+    synchronized (this) {
+      runningModules--;
+      moduleDurationsInNanos.put(syncModuleOption, durationInNanos);
+      if (throwable == null) {
+        for (SyncModuleOption dependent : dependents.get(syncModuleOption)) {
+          final int pending = pendingPrerequisites.merge(dependent, -1, Integer::sum);
+          if (pending == 0 && !skippedModules.contains(dependent)) {
+            readyModules.add(dependent);
+          }
+        }
+      } else {
+        collectDependents(syncModuleOption, modulesToSkip);
+        skippedModules.addAll(modulesToSkip);
+      }
+    }
+
+    if (throwable == null) {
+      moduleCompletions.get(syncModuleOption).complete(null);
+    } else {
+      moduleCompletions.get(syncModuleOption).completeExceptionally(throwable);
+      modulesToSkip.forEach(
+          skippedModule -> moduleCompletions.get(skippedModule).completeExceptionally(throwable));
+    }
+    startReadyModules();
+  }
+
+  private void collectDependents(
+      @Nonnull final SyncModuleOption syncModuleOption,
+      @Nonnull final List<SyncModuleOption> collectedDependents) {
+    for (SyncModuleOption dependent : dependents.get(syncModuleOption)) {
+      if (!collectedDependents.contains(dependent) && !skippedModules.contains(dependent)) {
+        collectedDependents.add(dependent);
+        collectDependents(dependent, collectedDependents);
+      }
+    }
+  }
+
+  /**
+   * @return the chain of dependent modules with the longest summed duration, starting with the
+   *     module without prerequisites. Only modules which have completed are considered.
+   */
+  @Nonnull
+  synchronized List<SyncModuleOption> getCriticalPath() {
+    final Map<SyncModuleOption, Long> pathDurations = new EnumMap<>(SyncModuleOption.class);
+    final Map<SyncModuleOption, SyncModuleOption> pathPredecessors =
+        new EnumMap<>(SyncModuleOption.class);
+    SyncModuleOption pathEnd = null;
+
+    // essential sync options are always declared before the options depending on them, so the
+    // declaration order of the enum is a topological order of the graph.
+    for (SyncModuleOption syncModuleOption : SyncModuleOption.values()) {
+      final Long moduleDuration = moduleDurationsInNanos.get(syncModuleOption);
+      if (moduleDuration == null) {
+        continue;
+      }
+      long longestPrerequisitePath = 0;
+      for (SyncModuleOption prerequisite : prerequisites.get(syncModuleOption)) {
+        final Long prerequisitePath = pathDurations.get(prerequisite);
+        if (prerequisitePath != null && prerequisitePath > longestPrerequisitePath) {
+          longestPrerequisitePath = prerequisitePath;
+          pathPredecessors.put(syncModuleOption, prerequisite);
+        }
+      }
+      pathDurations.put(syncModuleOption, longestPrerequisitePath + moduleDuration);
+      if (pathEnd == null || pathDurations.get(syncModuleOption) > pathDurations.get(pathEnd)) {
+        pathEnd = syncModuleOption;
+      }
+    }
+
+    final List<SyncModuleOption> criticalPath = new ArrayList<>();
+    for (SyncModuleOption module = pathEnd; module != null; module = pathPredecessors.get(module)) {
+      criticalPath.add(module);
+    }
+    Collections.reverse(criticalPath);
+    return criticalPath;
+  }
+
+  private void logCriticalPath(final long runDurationInNanos) {
+    final List<SyncModuleOption> criticalPath = getCriticalPath();
+    if (criticalPath.isEmpty()) {
+      return;
+    }
+    final List<String> pathEntries = new ArrayList<>();
+    long criticalPathDurationInNanos = 0;
+    synchronized (this) {
+      for (SyncModuleOption syncModuleOption : criticalPath) {
+        final long moduleDuration = moduleDurationsInNanos.get(syncModuleOption);
+        criticalPathDurationInNanos += moduleDuration;
+        pathEntries.add(
+            format(
+                "%s (%d ms)",
+                syncModuleOption.getSyncOptionValue(),
+                TimeUnit.NANOSECONDS.toMillis(moduleDuration)));
+      }
+    }
+    LOGGER.info(
+        format(
+            "Critical path of the sync run: %s. Critical path time: %d ms, total time: %d ms.",
+            String.join(" -> ", pathEntries),
+            TimeUnit.NANOSECONDS.toMillis(criticalPathDurationInNanos),
+            TimeUnit.NANOSECONDS.toMillis(runDurationInNanos)));
+  }
+}
@@ -3,31 +3,60 @@ package com.commercetools.project.sync;
 import static com.commercetools.api.client.QueryUtils.queryAll;
 import static com.commercetools.project.sync.util.SyncUtils.getSyncModuleName;
 import static java.lang.String.format;
+import static java.util.Collections.singletonList;
 
 import com.commercetools.api.client.PagedQueryResourceRequest;
 import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.api.models.DomainResource;
 import com.commercetools.api.models.ResourcePagedQueryResponse;
 import com.commercetools.api.models.ResourceUpdateAction;
+import com.commercetools.api.models.WithKey;
 import com.commercetools.api.models.category.Category;
 import com.commercetools.api.models.category.CategoryDraft;
 import com.commercetools.api.models.common.BaseResource;
 import com.commercetools.api.models.custom_object.CustomObject;
 import com.commercetools.api.models.product.ProductDraft;
 import com.commercetools.api.models.product.ProductProjection;
+import com.commercetools.project.sync.cache.DraftFingerprintStore;
+import com.commercetools.project.sync.cache.InstrumentedReferenceIdToKeyCache;
+import com.commercetools.project.sync.delta.ChangeMessageSource;
+import com.commercetools.project.sync.delta.ChangedResourceIds;
+import com.commercetools.project.sync.executor.ByteBudget;
+import com.commercetools.project.sync.executor.TransformPool;
+import com.commercetools.project.sync.metrics.SyncMetrics;
+import com.commercetools.project.sync.model.IdRangePartition;
+import com.commercetools.project.sync.model.PageSizeBounds;
+import com.commercetools.project.sync.model.SyncerConfiguration;
+import com.commercetools.project.sync.model.TimeSlice;
+import com.commercetools.project.sync.model.response.FullSyncCheckpoint;
 import com.commercetools.project.sync.model.response.LastSyncCustomObject;
 import com.commercetools.project.sync.service.CustomObjectService;
+import com.commercetools.project.sync.snapshot.SnapshotReader;
+import com.commercetools.project.sync.snapshot.SnapshotWriter;
 import com.commercetools.sync.commons.BaseSync;
 import com.commercetools.sync.commons.BaseSyncOptions;
 import com.commercetools.sync.commons.helpers.BaseSyncStatistics;
-import com.commercetools.sync.commons.utils.CaffeineReferenceIdToKeyCacheImpl;
-import com.commercetools.sync.commons.utils.ReferenceIdToKeyCache;
 import io.vrap.rmf.base.client.ApiHttpResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import net.logstash.logback.marker.Markers;
@@ -71,17 +100,70 @@ public abstract class Syncer<
     BaseSyncT extends
         BaseSync<ResourceT, ResourceDraftT, ResourceUpdateActionT, SyncStatisticsT, SyncOptionsT>> {
 
-  /* Using default Caffeine cache implementation from sync-java library for caching reference
-   * IdToKey values.
+  /* The number of resources fetched with one query from the source project, same as the default
+   * page size of QueryUtils.queryAll, unless the page size of the module adapts to its pages.
    */
-  protected static final ReferenceIdToKeyCache referenceIdToKeyCache =
-      new CaffeineReferenceIdToKeyCacheImpl();
+  private static final int FETCH_PAGE_SIZE = 500;
+
+  /* The number of drafts read from a snapshot and synced as one batch, same as the page size used
+   * for fetching the resources from the source project.
+   */
+  private static final int SNAPSHOT_PAGE_SIZE = FETCH_PAGE_SIZE;
+
+  /* The number of ids of changed resources which are fetched with one query in a delta sync based
+   * on change messages. The ids are part of the query string, so the URL stays below its limit.
+   */
+  private static final int CHANGED_IDS_BATCH_SIZE = 50;
+
+  private static final String CONTENT_LENGTH = "Content-Length";
+
+  /* The number of resources of a streamed page which are passed on together, see
+   * getStreamedPages(). The references of the resources of a chunk are resolved together,
+   * so a chunk of one resource would send a request per resource with a cold reference cache.
+   * The pages in flight and the pages between two checkpoints still count whole pages.
+   */
+  private static final int STREAMED_CHUNK_SIZE = 20;
 
   private final BaseSyncT sync;
   private final ProjectApiRoot sourceClient;
   private final ProjectApiRoot targetClient;
   private final CustomObjectService customObjectService;
   private final Clock clock;
+  private final SyncerConfiguration configuration;
+
+  /* Caches the keys of referenced resources for the transformation of the references to keys. It is
+   * taken from the configuration, so all the syncers of one run share it.
+   */
+  protected final InstrumentedReferenceIdToKeyCache referenceIdToKeyCache;
+
+  private final SyncMetrics metrics;
+
+  /* The executor of the module of this syncer, on which the pages are transformed and synced, or
+   * null if they are transformed and synced on the threads which complete their requests.
+   */
+  private final Executor moduleExecutor;
+
+  /* The pool on which large pages are transformed in parallel chunks by transformEach, or null if
+   * every page is transformed on one thread.
+   */
+  private final TransformPool transformPool;
+
+  /* The CPU time spent by transformEach in transforming the pages of this syncer. */
+  private final LongAdder transformCpuTimeInNanos = new LongAdder();
+
+  /* Chooses the size of every fetched page, or null if the pages have the default size. */
+  private final AdaptivePageSizer pageSizer;
+
+  /* The fingerprints of the synced drafts and whether unchanged drafts are skipped. They are only
+   * set by a run of sync(String, boolean), so partitioned syncs and snapshot imports never skip
+   * drafts.
+   */
+  private volatile DraftFingerprintStore draftFingerprintStore;
+  private volatile boolean skipUnchangedDrafts;
+  private final AtomicInteger unchangedDrafts = new AtomicInteger();
+
+  /* The syncers of the same module for further target projects, see fanOutTo(List). */
+  private final List<Syncer<?, ?, ?, ?, ?, ?, ?, ?, ?>> fanOutSyncers = new ArrayList<>();
 
   /**
    * Instantiates a {@link Syncer} which is used to sync resources from a source to a target
@@ -102,18 +184,64 @@ public abstract class Syncer<
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
       @Nonnull final Clock clock) {
+    this(
+        sync,
+        sourceClient,
+        targetClient,
+        customObjectService,
+        clock,
+        SyncerConfiguration.defaults());
+  }
+
+  /**
+   * Instantiates a {@link Syncer} which is used to sync resources from a source to a target
+   * commercetools project.
+   *
+   * @param sync The sync module that is used for syncing the resource drafts to the target project,
+   *     after being transformed from the resources fetched from the source project.
+   * @param sourceClient the client used for querying data from the source commercetools project.
+   * @param targetClient the client used for syncing the transformed drafts into the target
+   *     commercetools project.
+   * @param customObjectService service that is used for fetching and persisting the last sync
+   *     timestamp for delta syncing.
+   * @param clock the clock to record the time for calculating the sync duration.
+   * @param configuration the execution settings of the syncer, e.g. the number of pages in flight.
+   */
+  public Syncer(
+      @Nonnull final BaseSyncT sync,
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final CustomObjectService customObjectService,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
     this.sync = sync;
     this.sourceClient = sourceClient;
     this.targetClient = targetClient;
     this.customObjectService = customObjectService;
     this.clock = clock;
+    this.configuration = configuration;
+    this.referenceIdToKeyCache = configuration.getReferenceIdToKeyCache();
+    this.metrics = SyncMetrics.of(getSyncModuleName(sync.getClass()));
+    this.moduleExecutor =
+        configuration.getModuleExecutors() == null
+            ? null
+            : configuration.getModuleExecutors().get(getSyncModuleName(sync.getClass()));
+    this.transformPool = configuration.getTransformPool();
+    final PageSizeBounds pageSizeBounds =
+        configuration.getPageSizeBounds(getSyncModuleName(sync.getClass()));
+    this.pageSizer = pageSizeBounds == null ? null : AdaptivePageSizer.of(pageSizeBounds);
+    if (pageSizer != null) {
+      metrics.registerPageSize(pageSizer::getPageSize);
+    }
   }
 
   /**
    * Fetches the sourceClient's project resources of type {@code ResourceT} with all needed
    * references expanded and treats each page as a batch to the sync process. Then executes the sync
-   * process on every page sequentially. It then returns a completion stage containing a {@link
-   * Void} result after the execution of the sync process and logging the result.
+   * process on every page sequentially. If more than one page in flight is configured, fetching and
+   * transforming the next pages overlaps with syncing the current page. It then returns a
+   * completion stage containing a {@link Void} result after the execution of the sync process and
+   * logging the result.
    *
    * <p>Note: If {@param isFullSync} is {@code false}, i.e. a delta sync is required, the method
    * checks if there was a last sync time stamp persisted as a custom object in the target project
@@ -130,18 +258,18 @@ public abstract class Syncer<
 
     final String sourceProjectKey = sourceClient.getProjectKey();
     final String syncModuleName = getSyncModuleName(sync.getClass());
-    if (getLoggerInstance().isInfoEnabled()) {
-      final String targetProjectKey = targetClient.getProjectKey();
-      getLoggerInstance()
-          .info(
-              format(
-                  "Starting %s from CTP project with key '%s' to project with key '%s'",
-                  syncModuleName, sourceProjectKey, targetProjectKey));
+    logSyncStart(sourceProjectKey, syncModuleName);
+    loadDraftFingerprints(sourceProjectKey, syncModuleName, !isFullSync);
+    for (Syncer<?, ?, ?, ?, ?, ?, ?, ?, ?> fanOutSyncer : fanOutSyncers) {
+      fanOutSyncer.logSyncStart(sourceProjectKey, syncModuleName);
+      fanOutSyncer.loadDraftFingerprints(sourceProjectKey, syncModuleName, !isFullSync);
     }
 
     final CompletionStage<Void> syncStage;
-    if (isFullSync) {
-      syncStage = sync(getQuery()).thenAccept(result -> {});
+    if (isFullSync && configuration.isFullSyncCheckpointed()) {
+      syncStage = syncWithCheckpoints(sourceProjectKey, syncModuleName, runnerName);
+    } else if (isFullSync) {
+      syncStage = sync(singletonList(getQuery())).thenAccept(result -> {});
     } else {
       syncStage =
           customObjectService
@@ -152,15 +280,325 @@ public abstract class Syncer<
                           sourceProjectKey, syncModuleName, runnerName, currentCtpTimestamp));
     }
 
-    return syncStage.thenAccept(
-        ignoredResult -> {
-          if (getLoggerInstance().isInfoEnabled()) {
-            getLoggerInstance()
-                .info(
-                    Markers.append("statistics", sync.getStatistics()),
-                    sync.getStatistics().getReportMessage());
+    return syncStage
+        .whenComplete(
+            (ignoredResult, ignoredThrowable) -> {
+              saveDraftFingerprints();
+              fanOutSyncers.forEach(Syncer::saveDraftFingerprints);
+            })
+        .thenAccept(
+            ignoredResult -> {
+              logStatistics();
+              fanOutSyncers.forEach(Syncer::logStatistics);
+            });
+  }
+
+  /**
+   * Syncs the drafts of every page to the target projects of the given syncers as well, so the
+   * resources of the source project are fetched and transformed only once for all target projects.
+   * The drafts of a page are synced to all target projects at the same time, and the next page is
+   * only synced after all of them completed. Every target project keeps its own statistics, last
+   * sync custom object and draft fingerprints, and a delta sync syncs the resources changed since
+   * the oldest last sync of all target projects.
+   *
+   * <p>Note: The fan-out syncers must be built for the same sync module and source project as this
+   * syncer. Only {@link #sync(String, boolean)} fans out; partitioned syncs and snapshot imports
+   * only sync to the target project of this syncer.
+   *
+   * @param syncers the syncers of the same module for the further target projects.
+   */
+  public void fanOutTo(@Nonnull final List<? extends Syncer<?, ?, ?, ?, ?, ?, ?, ?, ?>> syncers) {
+    fanOutSyncers.addAll(syncers);
+  }
+
+  /**
+   * Loads the fingerprints of the drafts synced by the previous runs, if a fingerprint directory is
+   * configured and this module identifies its drafts, see {@link #getDraftIdentifier()}.
+   */
+  private void loadDraftFingerprints(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      final boolean skipUnchanged) {
+    final Path fingerprintDirectory = configuration.getFingerprintDirectory();
+    if (fingerprintDirectory == null || getDraftIdentifier() == null) {
+      return;
+    }
+    final DraftFingerprintStore fingerprintStore =
+        DraftFingerprintStore.of(
+            fingerprintDirectory, sourceProjectKey, targetClient.getProjectKey(), syncModuleName);
+    fingerprintStore.load();
+    skipUnchangedDrafts = skipUnchanged;
+    draftFingerprintStore = fingerprintStore;
+  }
+
+  /**
+   * Persists the fingerprints of the drafts synced so far, also after a failed sync, as only the
+   * fingerprints of successfully synced pages are kept. A failure to write them is only logged, as
+   * the next run then syncs all drafts again.
+   */
+  private void saveDraftFingerprints() {
+    final DraftFingerprintStore fingerprintStore = draftFingerprintStore;
+    if (fingerprintStore == null) {
+      return;
+    }
+    if (getLoggerInstance().isInfoEnabled()) {
+      getLoggerInstance()
+          .info(
+              format(
+                  "Skipped %d drafts of %s which did not change since their last sync.",
+                  unchangedDrafts.get(), getSyncModuleName(sync.getClass())));
+    }
+    try {
+      fingerprintStore.save();
+    } catch (IOException exception) {
+      getLoggerInstance()
+          .warn(
+              format(
+                  "Failed to write %s, the next run syncs all drafts.", fingerprintStore.getFile()),
+              exception);
+    }
+  }
+
+  /**
+   * Runs a full sync which saves its progress as a {@link FullSyncCheckpoint} every few pages, see
+   * {@link FullSyncCheckpointer}. If the sync is resumed and a checkpoint exists, only the
+   * resources after the last synced resource of the checkpoint are fetched, and the statistics
+   * continue from the counts of the checkpoint. The checkpoint is deleted after the full sync
+   * completed, so the next full sync starts from the beginning again.
+   */
+  @Nonnull
+  private CompletionStage<Void> syncWithCheckpoints(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName) {
+
+    final CompletionStage<Optional<FullSyncCheckpoint>> checkpointStage =
+        configuration.isResumeFullSync()
+            ? customObjectService.getFullSyncCheckpoint(
+                sourceProjectKey, syncModuleName, runnerName)
+            : CompletableFuture.completedFuture(Optional.empty());
+    return checkpointStage
+        .thenCompose(
+            checkpoint -> {
+              final FullSyncCheckpointer checkpointer =
+                  new FullSyncCheckpointer(
+                      customObjectService,
+                      sourceProjectKey,
+                      syncModuleName,
+                      runnerName,
+                      configuration.getFullSyncCheckpointPages(),
+                      sync.getStatistics(),
+                      getLoggerInstance());
+              return syncQuery(
+                  checkpoint.map(this::getQueryResumingFrom).orElseGet(this::getQuery),
+                  checkpointer);
+            })
+        .thenCompose(
+            ignoredResult ->
+                customObjectService.deleteFullSyncCheckpoint(
+                    sourceProjectKey, syncModuleName, runnerName));
+  }
+
+  @Nonnull
+  private PagedQueryT getQueryResumingFrom(@Nonnull final FullSyncCheckpoint checkpoint) {
+    if (getLoggerInstance().isInfoEnabled()) {
+      getLoggerInstance()
+          .info(
+              format(
+                  "Resuming %s after the resource with id '%s', %d resources were processed "
+                      + "before.",
+                  getSyncModuleName(sync.getClass()),
+                  checkpoint.getLastSyncedId(),
+                  checkpoint.getProcessed()));
+    }
+    checkpoint.addTo(sync.getStatistics());
+    // the resources are fetched ordered by id, so the ones after the checkpoint are left.
+    return (PagedQueryT) getQuery().addWhere(format("id > \"%s\"", checkpoint.getLastSyncedId()));
+  }
+
+  /**
+   * Runs a full sync which is split into disjoint id ranges (see {@link IdRangePartition}). This
+   * syncer syncs the first range and each of the given {@code partitionSyncers} syncs one of the
+   * remaining ranges, all of them in parallel, each with its own fetch, transform and sync
+   * pipeline. After all ranges are synced, the processed, created, updated and failed counts of the
+   * partition syncers are merged into the statistics of this syncer, which are then logged like the
+   * statistics of a non-partitioned full sync.
+   *
+   * <p>Note: The partition syncers must be built for the same sync module as this syncer. Module
+   * specific statistics are not merged. The categories must not be partitioned, as a CategorySync
+   * only links a category to a parent which it synced itself.
+   *
+   * @param partitionSyncers the syncers for all but the first id range.
+   * @return completion stage containing no result after the execution of the sync process and
+   *     logging the merged result.
+   */
+  @Nonnull
+  public CompletionStage<Void> syncPartitioned(
+      @Nonnull final List<? extends Syncer<?, ?, ?, ?, ?, ?, ?, ?, ?>> partitionSyncers) {
+
+    logSyncStart(sourceClient.getProjectKey(), getSyncModuleName(sync.getClass()));
+
+    final List<IdRangePartition> partitions = IdRangePartition.split(partitionSyncers.size() + 1);
+    final List<CompletableFuture<? extends BaseSyncStatistics<?>>> partitionStages =
+        new ArrayList<>();
+    partitionStages.add(syncPartition(partitions.get(0)).toCompletableFuture());
+    for (int index = 0; index < partitionSyncers.size(); index++) {
+      final Syncer<?, ?, ?, ?, ?, ?, ?, ?, ?> partitionSyncer = partitionSyncers.get(index);
+      partitionStages.add(
+          partitionSyncer.syncPartition(partitions.get(index + 1)).toCompletableFuture());
+    }
+
+    return CompletableFuture.allOf(partitionStages.toArray(new CompletableFuture[0]))
+        .thenAccept(
+            ignoredResult -> {
+              final SyncStatisticsT statistics = sync.getStatistics();
+              partitionStages.stream()
+                  .skip(1)
+                  .map(CompletableFuture::join)
+                  .forEach(partitionStatistics -> mergeStatistics(statistics, partitionStatistics));
+              logStatistics();
+            });
+  }
+
+  /**
+   * Syncs all resources in the given id range without logging the statistics, as part of a
+   * partitioned full sync.
+   *
+   * @param partition the id range of the resources to sync.
+   * @return completion stage containing the statistics of the sync of the given range.
+   */
+  @Nonnull
+  protected CompletionStage<SyncStatisticsT> syncPartition(
+      @Nonnull final IdRangePartition partition) {
+    final String partitionPredicate = partition.toQueryPredicate();
+    final PagedQueryT query =
+        partitionPredicate == null
+            ? getQuery()
+            : (PagedQueryT) getQuery().addWhere(partitionPredicate);
+    if (getLoggerInstance().isDebugEnabled()) {
+      getLoggerInstance()
+          .debug(
+              format("Syncing partition %s of %s", partition, getSyncModuleName(sync.getClass())));
+    }
+    return sync(singletonList(query)).thenApply(ignoredDuration -> sync.getStatistics());
+  }
+
+  /**
+   * Fetches all resources of the source project like a full sync, transforms them to drafts and
+   * writes the drafts to the given snapshot instead of syncing them. The drafts already reference
+   * other resources by key, so the snapshot can later be imported into any target project with
+   * {@link #importSnapshot(SnapshotReader)} without querying the source project again.
+   *
+   * <p>The pages are written in the order they are fetched; if more than one page in flight is
+   * configured, fetching and transforming the next pages overlaps with writing the current page.
+   *
+   * @param snapshotWriter the writer of the snapshot file of this module.
+   * @return completion stage containing no result after all drafts are written.
+   */
+  @Nonnull
+  public CompletionStage<Void> exportSnapshot(@Nonnull final SnapshotWriter snapshotWriter) {
+    final PipelinedPageProcessor<ResourceT, ResourceDraftT, Void> pageProcessor =
+        new PipelinedPageProcessor<>(
+            configuration.getMaxPagesInFlight(),
+            this::transform,
+            drafts -> {
+              snapshotWriter.write(drafts);
+              return CompletableFuture.completedFuture(null);
+            });
+    return fetchAll(getQuery(), pageProcessor::submit)
+        .thenCompose(ignoredResult -> pageProcessor.awaitCompletion())
+        .thenAccept(
+            ignoredResult -> {
+              if (getLoggerInstance().isInfoEnabled()) {
+                getLoggerInstance()
+                    .info(
+                        format(
+                            "Exported %d drafts of %s from CTP project with key '%s' to snapshot",
+                            snapshotWriter.getWrittenDrafts(),
+                            getSyncModuleName(sync.getClass()),
+                            sourceClient.getProjectKey()));
+              }
+            });
+  }
+
+  /**
+   * Reads the drafts of the given snapshot page by page and syncs them to the target project, like
+   * a full sync which doesn't query the source project. The file is read on a separate thread which
+   * waits while the configured number of pages in flight are not yet synced, so the memory used for
+   * the drafts is bounded no matter how big the snapshot is.
+   *
+   * @param snapshotReader the reader of the snapshot file of this module, which has to contain
+   *     drafts of the type synced by this syncer.
+   * @return completion stage containing no result after the execution of the sync process and
+   *     logging the result.
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  public CompletionStage<Void> importSnapshot(@Nonnull final SnapshotReader<?> snapshotReader) {
+    final String syncModuleName = getSyncModuleName(sync.getClass());
+    if (getLoggerInstance().isInfoEnabled()) {
+      getLoggerInstance()
+          .info(
+              format(
+                  "Starting %s from snapshot to project with key '%s'",
+                  syncModuleName, targetClient.getProjectKey()));
+    }
+
+    final PipelinedPageProcessor<ResourceDraftT, ResourceDraftT, SyncStatisticsT> pageProcessor =
+        new PipelinedPageProcessor<>(
+            configuration.getMaxPagesInFlight(), CompletableFuture::completedFuture, sync::sync);
+    final Runnable pageReader =
+        () -> {
+          List<ResourceDraftT> page =
+              (List<ResourceDraftT>) snapshotReader.readPage(SNAPSHOT_PAGE_SIZE);
+          while (!page.isEmpty()) {
+            pageProcessor.submit(page);
+            page = (List<ResourceDraftT>) snapshotReader.readPage(SNAPSHOT_PAGE_SIZE);
           }
-        });
+        };
+    return CompletableFuture.runAsync(
+            pageReader,
+            runnable -> new Thread(runnable, "snapshot-reader-" + syncModuleName).start())
+        .thenCompose(ignoredResult -> pageProcessor.awaitCompletion())
+        .thenAccept(ignoredResult -> logStatistics());
+  }
+
+  private static void mergeStatistics(
+      @Nonnull final BaseSyncStatistics<?> statistics,
+      @Nonnull final BaseSyncStatistics<?> partitionStatistics) {
+    statistics.incrementProcessed(partitionStatistics.getProcessed().get());
+    statistics.incrementCreated(partitionStatistics.getCreated().get());
+    statistics.incrementUpdated(partitionStatistics.getUpdated().get());
+    statistics.incrementFailed(partitionStatistics.getFailed().get());
+  }
+
+  private void logSyncStart(
+      @Nonnull final String sourceProjectKey, @Nonnull final String syncModuleName) {
+    if (getLoggerInstance().isInfoEnabled()) {
+      final String targetProjectKey = targetClient.getProjectKey();
+      getLoggerInstance()
+          .info(
+              format(
+                  "Starting %s from CTP project with key '%s' to project with key '%s'",
+                  syncModuleName, sourceProjectKey, targetProjectKey));
+    }
+  }
+
+  private void logStatistics() {
+    if (getLoggerInstance().isInfoEnabled()) {
+      getLoggerInstance()
+          .info(
+              Markers.append("statistics", sync.getStatistics())
+                  .and(Markers.append("targetProjectKey", targetClient.getProjectKey()))
+                  .and(
+                      Markers.append(
+                          "referenceCacheStatistics", referenceIdToKeyCache.getStatistics()))
+                  .and(
+                      Markers.append(
+                          "transformCpuTimeInMillis",
+                          TimeUnit.NANOSECONDS.toMillis(transformCpuTimeInNanos.sum()))),
+              sync.getStatistics().getReportMessage());
+    }
   }
 
   @Nonnull
@@ -170,39 +608,166 @@ public abstract class Syncer<
       @Nullable final String runnerName,
       @Nonnull final ZonedDateTime currentCtpTimestamp) {
 
-    return getQueryOfResourcesSinceLastSync(
-            sourceProjectKey, syncModuleName, runnerName, currentCtpTimestamp)
-        .thenCompose(this::sync)
+    return getOldestLastSyncTimestamp(sourceProjectKey, syncModuleName, runnerName)
         .thenCompose(
-            syncDurationInMillis ->
-                createNewLastSyncCustomObject(
-                    sourceProjectKey,
-                    syncModuleName,
-                    runnerName,
-                    currentCtpTimestamp,
-                    syncDurationInMillis))
-        .thenAccept(result -> {});
+            lastSyncTimestampOptional ->
+                lastSyncTimestampOptional
+                    .map(
+                        lastSyncTimestamp ->
+                            syncTimeSlices(
+                                sourceProjectKey,
+                                syncModuleName,
+                                runnerName,
+                                TimeSlice.split(
+                                    lastSyncTimestamp,
+                                    currentCtpTimestamp,
+                                    configuration.getDeltaSliceDuration())))
+                    // If there is no last sync custom object, use base query to get all resources
+                    .orElseGet(
+                        () ->
+                            sync(singletonList(getQuery()))
+                                .thenCompose(
+                                    syncDurationInMillis ->
+                                        createNewLastSyncCustomObjects(
+                                            sourceProjectKey,
+                                            syncModuleName,
+                                            runnerName,
+                                            currentCtpTimestamp,
+                                            syncDurationInMillis))));
   }
 
+  /**
+   * Returns the last sync timestamp of the target project of this syncer or, if the sync fans out
+   * to further target projects, the oldest last sync timestamp of all of them, so the resources
+   * changed since are synced to every target project. It is empty if one of the target projects was
+   * not synced before, then all resources are synced.
+   */
   @Nonnull
-  private CompletionStage<PagedQueryT> getQueryOfResourcesSinceLastSync(
+  private CompletionStage<Optional<ZonedDateTime>> getOldestLastSyncTimestamp(
       @Nonnull final String sourceProjectKey,
       @Nonnull final String syncModuleName,
-      @Nullable final String runnerName,
-      @Nonnull final ZonedDateTime currentSyncStartTimestamp) {
+      @Nullable final String runnerName) {
+    CompletionStage<Optional<ZonedDateTime>> lastSyncTimestampStage =
+        getLastSyncTimestamp(sourceProjectKey, syncModuleName, runnerName);
+    for (Syncer<?, ?, ?, ?, ?, ?, ?, ?, ?> fanOutSyncer : fanOutSyncers) {
+      lastSyncTimestampStage =
+          lastSyncTimestampStage.thenCombine(
+              fanOutSyncer.getLastSyncTimestamp(sourceProjectKey, syncModuleName, runnerName),
+              (lastSyncTimestamp, fanOutLastSyncTimestamp) ->
+                  lastSyncTimestamp.flatMap(
+                      timestamp ->
+                          fanOutLastSyncTimestamp.map(
+                              fanOutTimestamp ->
+                                  fanOutTimestamp.isBefore(timestamp)
+                                      ? fanOutTimestamp
+                                      : timestamp)));
+    }
+    return lastSyncTimestampStage;
+  }
 
+  @Nonnull
+  private CompletionStage<Optional<ZonedDateTime>> getLastSyncTimestamp(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName) {
     return customObjectService
         .getLastSyncCustomObject(sourceProjectKey, syncModuleName, runnerName)
         .thenApply(
             customObjectOptional ->
-                customObjectOptional
-                    .map(LastSyncCustomObject::getLastSyncTimestamp)
-                    .map(
-                        lastSyncTimestamp ->
-                            getQueryWithTimeBoundedPredicate(
-                                lastSyncTimestamp, currentSyncStartTimestamp))
-                    // If there is no last sync custom object, use base query to get all resources
-                    .orElseGet(this::getQuery));
+                customObjectOptional.map(LastSyncCustomObject::getLastSyncTimestamp));
+  }
+
+  /**
+   * Syncs the resources changed in the given time slices, one slice after the other. After every
+   * slice, the end of the slice is persisted as the last sync timestamp, so a sync which fails
+   * later resumes from the last completed slice instead of the start of the whole time window.
+   */
+  @Nonnull
+  private CompletionStage<Void> syncTimeSlices(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName,
+      @Nonnull final List<TimeSlice> timeSlices) {
+
+    final long timeBeforeSync = clock.millis();
+    CompletionStage<?> syncStage = CompletableFuture.completedFuture(null);
+    for (TimeSlice timeSlice : timeSlices) {
+      syncStage =
+          syncStage
+              .thenCompose(
+                  ignoredResult ->
+                      getQueriesOfResourcesChangedBetween(
+                          timeSlice.getLowerBound(), timeSlice.getUpperBound()))
+              .thenCompose(this::sync)
+              .thenCompose(
+                  ignoredResult -> {
+                    if (timeSlices.size() > 1 && getLoggerInstance().isInfoEnabled()) {
+                      getLoggerInstance()
+                          .info(
+                              format(
+                                  "Synced the %s resources modified in the time slice %s.",
+                                  syncModuleName, timeSlice));
+                    }
+                    return createNewLastSyncCustomObjects(
+                        sourceProjectKey,
+                        syncModuleName,
+                        runnerName,
+                        timeSlice.getUpperBound(),
+                        clock.millis() - timeBeforeSync);
+                  });
+    }
+    return syncStage.thenAccept(result -> {});
+  }
+
+  /**
+   * Builds the queries of the resources which changed in the given time window. If a change message
+   * source is configured and this module's resources send change messages, the changed resources
+   * are fetched by their ids in batches. Otherwise, or if the messages do not cover the time
+   * window, the resources are queried by their last modification time.
+   */
+  @Nonnull
+  private CompletionStage<List<PagedQueryT>> getQueriesOfResourcesChangedBetween(
+      @Nonnull final ZonedDateTime lowerBound, @Nonnull final ZonedDateTime upperBound) {
+    final Function<ProjectApiRoot, ChangeMessageSource> changeMessageSourceFactory =
+        configuration.getChangeMessageSourceFactory();
+    final String messageResourceTypeId = getMessageResourceTypeId();
+    if (changeMessageSourceFactory == null || messageResourceTypeId == null) {
+      return CompletableFuture.completedFuture(
+          singletonList(getQueryWithTimeBoundedPredicate(lowerBound, upperBound)));
+    }
+    return changeMessageSourceFactory
+        .apply(sourceClient)
+        .fetchChangedResourceIds(messageResourceTypeId, lowerBound, upperBound)
+        .thenApply(
+            changedResourceIds ->
+                changedResourceIds.isPresent()
+                    ? getQueriesOfChangedResources(changedResourceIds.get())
+                    : singletonList(getQueryWithTimeBoundedPredicate(lowerBound, upperBound)));
+  }
+
+  @Nonnull
+  private List<PagedQueryT> getQueriesOfChangedResources(
+      @Nonnull final ChangedResourceIds changedResourceIds) {
+    if (getLoggerInstance().isInfoEnabled()) {
+      getLoggerInstance()
+          .info(
+              format(
+                  "Found %d changed resources in the change messages since the last sync.",
+                  changedResourceIds.getChangedIds().size()));
+    }
+    if (!changedResourceIds.getDeletedIds().isEmpty()) {
+      // the sync modules only create and update resources, so deletions are only reported.
+      getLoggerInstance()
+          .warn(
+              Markers.append("deletedResourceIds", changedResourceIds.getDeletedIds()),
+              format(
+                  "%d resources were deleted in the source project since the last sync, they are "
+                      + "not deleted in the target project.",
+                  changedResourceIds.getDeletedIds().size()));
+    }
+    return changedResourceIds.toIdPredicates(CHANGED_IDS_BATCH_SIZE).stream()
+        .map(idPredicate -> (PagedQueryT) getQuery().addWhere(idPredicate))
+        .collect(Collectors.toList());
   }
 
   @Nonnull
@@ -215,16 +780,83 @@ public abstract class Syncer<
             .withPredicateVar("upper", upperBound);
   }
 
+  /**
+   * Syncs the resources of the given queries, one query after the other.
+   *
+   * @return a completion stage containing the duration of the sync in milliseconds.
+   */
   @Nonnull
-  private CompletionStage<Long> sync(@Nonnull final PagedQueryT queryResourcesSinceLastSync) {
+  private CompletionStage<Long> sync(@Nonnull final List<PagedQueryT> queriesOfResourcesToSync) {
 
     final long timeBeforeSync = clock.millis();
-    return queryAll(queryResourcesSinceLastSync, this::syncPage)
-        .thenApply(
-            ignoredResult -> {
-              final long timeAfterSync = clock.millis();
-              return timeAfterSync - timeBeforeSync;
-            });
+    CompletionStage<?> syncStage = CompletableFuture.completedFuture(null);
+    for (PagedQueryT query : queriesOfResourcesToSync) {
+      syncStage = syncStage.thenCompose(ignoredResult -> syncQuery(query));
+    }
+    return syncStage.thenApply(
+        ignoredResult -> {
+          final long timeAfterSync = clock.millis();
+          return timeAfterSync - timeBeforeSync;
+        });
+  }
+
+  @Nonnull
+  private CompletionStage<?> syncQuery(@Nonnull final PagedQueryT query) {
+    return syncQuery(query, null);
+  }
+
+  /**
+   * Syncs the resources of the given query page by page, and notifies the given checkpointer, if
+   * any, about every fetched and synced page.
+   */
+  @Nonnull
+  private CompletionStage<?> syncQuery(
+      @Nonnull final PagedQueryT query, @Nullable final FullSyncCheckpointer checkpointer) {
+    if (configuration.isPipelined()) {
+      return syncPipelined(query, checkpointer);
+    }
+    return fetchAll(
+        query,
+        recordingFetchTime(
+            (resources, isEndOfPage) -> {
+              syncPage(resources);
+              if (checkpointer != null) {
+                checkpointer.onPageFetched(resources, isEndOfPage);
+                checkpointer.onPageSynced().toCompletableFuture().join();
+              }
+              return CompletableFuture.completedFuture(null);
+            }));
+  }
+
+  /**
+   * Persists the last sync custom object of the target project of this syncer and of the target
+   * projects it fans out to, each one with the statistics of its own target project.
+   */
+  @Nonnull
+  private CompletableFuture<Void> createNewLastSyncCustomObjects(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName,
+      @Nonnull final ZonedDateTime newLastSyncTimestamp,
+      final long syncDurationInMillis) {
+    final List<CompletableFuture<?>> customObjectStages = new ArrayList<>();
+    customObjectStages.add(
+        createNewLastSyncCustomObject(
+            sourceProjectKey,
+            syncModuleName,
+            runnerName,
+            newLastSyncTimestamp,
+            syncDurationInMillis));
+    for (Syncer<?, ?, ?, ?, ?, ?, ?, ?, ?> fanOutSyncer : fanOutSyncers) {
+      customObjectStages.add(
+          fanOutSyncer.createNewLastSyncCustomObject(
+              sourceProjectKey,
+              syncModuleName,
+              runnerName,
+              newLastSyncTimestamp,
+              syncDurationInMillis));
+    }
+    return CompletableFuture.allOf(customObjectStages.toArray(new CompletableFuture[0]));
   }
 
   @Nonnull
@@ -258,7 +890,481 @@ public abstract class Syncer<
    */
   @Nonnull
   private SyncStatisticsT syncPage(@Nonnull final List<ResourceT> page) {
-    return transform(page).thenCompose(sync::sync).toCompletableFuture().join();
+    return cacheKeysAndTransform(page)
+        .thenCompose(this::syncAndRecord)
+        .toCompletableFuture()
+        .join();
+  }
+
+  /**
+   * Fetches the pages of the given query and passes them to a {@link PipelinedPageProcessor}, so
+   * that up to {@link SyncerConfiguration#getMaxPagesInFlight()} pages are fetched and transformed
+   * while the previous pages are still being synced. The pages are still synced in order, one after
+   * the other.
+   */
+  @Nonnull
+  private CompletionStage<Void> syncPipelined(
+      @Nonnull final PagedQueryT query, @Nullable final FullSyncCheckpointer checkpointer) {
+    final PipelinedPageProcessor<ResourceT, ResourceDraftT, SyncStatisticsT> pageProcessor =
+        new PipelinedPageProcessor<>(
+            configuration.getMaxPagesInFlight(),
+            this::cacheKeysAndTransform,
+            drafts -> syncAndCheckpoint(drafts, checkpointer));
+    return fetchAll(
+            query,
+            recordingFetchTime(
+                (resources, isEndOfPage) -> {
+                  if (checkpointer != null) {
+                    checkpointer.onPageFetched(resources, isEndOfPage);
+                  }
+                  return pageProcessor.submit(resources, isEndOfPage);
+                }))
+        .thenCompose(ignoredResult -> pageProcessor.awaitCompletion());
+  }
+
+  /**
+   * Fetches all pages of the given query and passes each page to the given consumer before the next
+   * page is fetched. Without a configured executor the pages are fetched asynchronously by {@link
+   * com.commercetools.api.client.QueryUtils#queryAll}. With an executor, e.g. one with a virtual
+   * thread per task, the pages are fetched by a blocking loop which runs as one task of the
+   * executor, so the blocking waits of the consumer for the sync of a page do not hold a thread of
+   * the HTTP client or the common pool. If the page size of the module adapts to its pages, every
+   * page is queried with the page size chosen after the previous page. If the query of the module
+   * is projected, every page is fetched with its GraphQL query, see {@link #getQueryProjection()}.
+   */
+  @Nonnull
+  private CompletionStage<Void> fetchAll(
+      @Nonnull final PagedQueryT query, @Nonnull final PageConsumer<ResourceT> pageConsumer) {
+    final StreamedPages<PagedQueryT, ResourceT> streamedPages = getStreamedPages();
+    if (streamedPages != null) {
+      final PagedQueryT sortedQuery = query.withSort("id asc").withWithTotal(false);
+      return fetchStreamedPages(streamedPages, sortedQuery, sortedQuery, 0, pageConsumer);
+    }
+    final Executor executor = configuration.getExecutor();
+    if (executor != null) {
+      return CompletableFuture.runAsync(() -> fetchAllBlocking(query, pageConsumer), executor);
+    }
+    if (pageSizer != null || getEnabledQueryProjection() != null) {
+      final PagedQueryT sortedQuery = query.withSort("id asc").withWithTotal(false);
+      return fetchPages(sortedQuery, sortedQuery, pageConsumer);
+    }
+    return queryAll(
+            query,
+            (List<ResourceT> page) -> {
+              pageConsumer.accept(page, true);
+              return null;
+            })
+        .thenAccept(ignoredResult -> {});
+  }
+
+  /**
+   * Fetches the pages of the given query one after the other, ordered by id like {@link
+   * com.commercetools.api.client.QueryUtils#queryAll}: every page after the first one queries the
+   * resources after the last id of the previous page, which stays fast for deep pages.
+   */
+  private void fetchAllBlocking(
+      @Nonnull final PagedQueryT query, @Nonnull final PageConsumer<ResourceT> pageConsumer) {
+    final PagedQueryT sortedQuery = query.withSort("id asc").withWithTotal(false);
+    PagedQueryT pageQuery = sortedQuery;
+    while (true) {
+      final int pageSize = getPageSize();
+      final long fetchStartInNanos = System.nanoTime();
+      final ApiHttpResponse<List<ResourceT>> response =
+          fetchPage(pageQuery.withLimit(pageSize)).toCompletableFuture().join();
+      final List<ResourceT> page = response.getBody();
+      if (page.isEmpty()) {
+        return;
+      }
+      consumePage(response, fetchStartInNanos, pageConsumer);
+      if (page.size() < pageSize) {
+        return;
+      }
+      pageQuery = getQueryOfNextPage(sortedQuery, page);
+    }
+  }
+
+  /**
+   * Fetches the pages of the given sorted query asynchronously like {@link #fetchAllBlocking}, from
+   * the page of the given page query on, for a module whose page size adapts to its pages.
+   */
+  @Nonnull
+  private CompletionStage<Void> fetchPages(
+      @Nonnull final PagedQueryT sortedQuery,
+      @Nonnull final PagedQueryT pageQuery,
+      @Nonnull final PageConsumer<ResourceT> pageConsumer) {
+    final int pageSize = getPageSize();
+    final long fetchStartInNanos = System.nanoTime();
+    return fetchPage(pageQuery.withLimit(pageSize))
+        .thenCompose(
+            response -> {
+              final List<ResourceT> page = response.getBody();
+              if (page.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+              }
+              consumePage(response, fetchStartInNanos, pageConsumer);
+              if (page.size() < pageSize) {
+                return CompletableFuture.completedFuture(null);
+              }
+              return fetchPages(sortedQuery, getQueryOfNextPage(sortedQuery, page), pageConsumer);
+            });
+  }
+
+  /**
+   * Fetches the pages of the given sorted query like {@link #fetchPages}, but parses every page one
+   * resource after the other and passes it to the consumer in chunks of {@link
+   * #STREAMED_CHUNK_SIZE} resources, so the resources of a chunk can be transformed and dropped
+   * before the resources of the next chunk are parsed. Before the query of a page is sent, the
+   * estimated size of its response, i.e. the size of the previous response, is reserved from the
+   * budget of streamed pages, so a response waiting to be parsed is counted as well. Once the
+   * response arrived, its actual size is acquired instead, and it is released after its last chunk
+   * was processed by the consumer, e.g. synced, so the budget bounds the pages which are parsed,
+   * transformed and synced at the same time. The first page reserves no bytes, as its size is
+   * unknown, but it still waits while the budget is used up.
+   */
+  @Nonnull
+  private CompletionStage<Void> fetchStreamedPages(
+      @Nonnull final StreamedPages<PagedQueryT, ResourceT> streamedPages,
+      @Nonnull final PagedQueryT sortedQuery,
+      @Nonnull final PagedQueryT pageQuery,
+      final long estimatedPageBytes,
+      @Nonnull final PageConsumer<ResourceT> pageConsumer) {
+    final int pageSize = getPageSize();
+    final ByteBudget budget = streamedPages.getBudget();
+    return budget
+        .acquire(estimatedPageBytes, getStreamedPageExecutor())
+        .thenCompose(
+            reservedBytes -> {
+              final long fetchStartInNanos = System.nanoTime();
+              return sendStreamedPageQuery(
+                      streamedPages, pageQuery.withLimit(pageSize), reservedBytes)
+                  .thenCompose(
+                      responseBody -> {
+                        final String lastId =
+                            consumeStreamedPage(
+                                streamedPages.getResourceClass(),
+                                responseBody,
+                                pageSize,
+                                fetchStartInNanos,
+                                pageConsumer,
+                                budget);
+                        return lastId == null
+                            ? CompletableFuture.<Void>completedFuture(null)
+                            : fetchStreamedPages(
+                                streamedPages,
+                                sortedQuery,
+                                (PagedQueryT) sortedQuery.addWhere(format("id > \"%s\"", lastId)),
+                                responseBody.length,
+                                pageConsumer);
+                      });
+            });
+  }
+
+  /**
+   * Sends the query of a streamed page whose estimated size was reserved from the budget before.
+   * Once the response arrived, the reserved bytes are adjusted to its actual size without waiting,
+   * as the response is already in memory. If the query fails, the reserved bytes are released.
+   *
+   * @return the raw body of the response.
+   */
+  @Nonnull
+  private CompletionStage<byte[]> sendStreamedPageQuery(
+      @Nonnull final StreamedPages<PagedQueryT, ResourceT> streamedPages,
+      @Nonnull final PagedQueryT pageQuery,
+      final long reservedBytes) {
+    final ByteBudget budget = streamedPages.getBudget();
+    return streamedPages
+        .sendRawPageQuery(pageQuery)
+        .whenComplete(
+            (ignoredResponse, throwable) -> {
+              if (throwable != null) {
+                budget.release(reservedBytes);
+              }
+            })
+        .thenApply(
+            response -> {
+              final byte[] responseBody = response.getBody();
+              budget.adjust(reservedBytes, responseBody.length);
+              return responseBody;
+            });
+  }
+
+  /**
+   * Returns the executor on which a streamed page continues after it waited for its bytes, instead
+   * of the thread of the syncer which released them. It is not the executor of the module, as the
+   * consumer of the page may block until the syncs of the previous pages completed on it.
+   */
+  @Nonnull
+  private Executor getStreamedPageExecutor() {
+    final Executor executor = configuration.getExecutor();
+    return executor == null ? ForkJoinPool.commonPool() : executor;
+  }
+
+  /**
+   * Parses the resources of the given response and passes them to the consumer in chunks. The size
+   * of the response is released from the given budget once the consumer processed the last chunk,
+   * or at once if the page has no resources or could not be consumed.
+   *
+   * @return the id of the last resource of the page, or {@code null} if the page was the last one.
+   */
+  @Nullable
+  private String consumeStreamedPage(
+      @Nonnull final Class<ResourceT> resourceClass,
+      @Nonnull final byte[] responseBody,
+      final int pageSize,
+      final long fetchStartInNanos,
+      @Nonnull final PageConsumer<ResourceT> pageConsumer,
+      @Nonnull final ByteBudget budget) {
+    final long consumeStartInNanos = System.nanoTime();
+    int resources = 0;
+    String lastId = null;
+    CompletionStage<?> pageProcessed = CompletableFuture.completedFuture(null);
+    try (StreamedPageParser<ResourceT> pageParser =
+        StreamedPageParser.of(responseBody, resourceClass)) {
+      List<ResourceT> chunk = new ArrayList<>(STREAMED_CHUNK_SIZE);
+      for (ResourceT resource = pageParser.next(); resource != null; resource = pageParser.next()) {
+        // a full chunk is passed on with the next resource, which shows it does not end the page.
+        if (chunk.size() == STREAMED_CHUNK_SIZE) {
+          pageConsumer.accept(chunk, false);
+          chunk = new ArrayList<>(STREAMED_CHUNK_SIZE);
+        }
+        chunk.add(resource);
+        resources++;
+        lastId = resource.getId();
+      }
+      if (!chunk.isEmpty()) {
+        pageProcessed = pageConsumer.accept(chunk, true);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    } finally {
+      pageProcessed.whenComplete((ignoredResult, throwable) -> budget.release(responseBody.length));
+    }
+    if (pageSizer != null) {
+      pageSizer.onPage(
+          resources,
+          responseBody.length,
+          consumeStartInNanos - fetchStartInNanos,
+          System.nanoTime() - consumeStartInNanos);
+    }
+    return resources < pageSize ? null : lastId;
+  }
+
+  /**
+   * Fetches the page of the given query, with the GraphQL query of the module if its query is
+   * projected. The keys of the referenced resources selected by the GraphQL query are added to the
+   * reference cache, so the transformation of the page does not query them again.
+   */
+  @Nonnull
+  private CompletionStage<ApiHttpResponse<List<ResourceT>>> fetchPage(
+      @Nonnull final PagedQueryT pageQuery) {
+    final GraphQlProjection<PagedQueryT, ResourceT> queryProjection = getEnabledQueryProjection();
+    if (queryProjection != null) {
+      return queryProjection.fetchPage(sourceClient, pageQuery, referenceIdToKeyCache);
+    }
+    return pageQuery
+        .execute()
+        .thenApply(
+            response ->
+                new ApiHttpResponse<>(
+                    response.getStatusCode(),
+                    response.getHeaders(),
+                    response.getBody().getResults()));
+  }
+
+  @Nullable
+  private GraphQlProjection<PagedQueryT, ResourceT> getEnabledQueryProjection() {
+    return configuration.isQueryProjected(getSyncModuleName(sync.getClass()))
+        ? getQueryProjection()
+        : null;
+  }
+
+  private int getPageSize() {
+    return pageSizer == null ? FETCH_PAGE_SIZE : pageSizer.getPageSize();
+  }
+
+  @Nonnull
+  private PagedQueryT getQueryOfNextPage(
+      @Nonnull final PagedQueryT sortedQuery, @Nonnull final List<ResourceT> page) {
+    final String lastId = page.get(page.size() - 1).getId();
+    return (PagedQueryT) sortedQuery.addWhere(format("id > \"%s\"", lastId));
+  }
+
+  /**
+   * Passes the page of the given response to the consumer and, if the page size of the module
+   * adapts to its pages, tells the page sizer how long the page took to fetch and to consume and
+   * how large its response was.
+   */
+  private void consumePage(
+      @Nonnull final ApiHttpResponse<List<ResourceT>> response,
+      final long fetchStartInNanos,
+      @Nonnull final PageConsumer<ResourceT> pageConsumer) {
+    final List<ResourceT> page = response.getBody();
+    final long consumeStartInNanos = System.nanoTime();
+    pageConsumer.accept(page, true);
+    if (pageSizer != null) {
+      pageSizer.onPage(
+          page.size(),
+          getContentLength(response),
+          consumeStartInNanos - fetchStartInNanos,
+          System.nanoTime() - consumeStartInNanos);
+    }
+  }
+
+  private static long getContentLength(@Nonnull final ApiHttpResponse<?> response) {
+    final String contentLength =
+        response.getHeaders() == null ? null : response.getHeaders().getFirst(CONTENT_LENGTH);
+    try {
+      return contentLength == null ? -1 : Long.parseLong(contentLength.trim());
+    } catch (NumberFormatException exception) {
+      return -1;
+    }
+  }
+
+  /**
+   * Caches the current keys of the resources of the given page before transforming them. They might
+   * differ from the keys cached in a previous run whose cache was persisted, e.g. if the resources
+   * were changed since the last sync. A resource without a key is removed from the reference cache,
+   * so the resources referencing it resolve it again.
+   */
+  @Nonnull
+  private CompletionStage<List<ResourceDraftT>> cacheKeysAndTransform(
+      @Nonnull final List<ResourceT> page) {
+    for (ResourceT resource : page) {
+      final String key = getReferenceKey(resource);
+      if (key == null) {
+        referenceIdToKeyCache.remove(resource.getId());
+      } else {
+        referenceIdToKeyCache.add(resource.getId(), key);
+      }
+    }
+    return metrics.recordTransform(() -> onModuleExecutor(() -> transform(page)));
+  }
+
+  /**
+   * Syncs the given drafts to the target project of this syncer and, at the same time, to the
+   * target projects it fans out to. The drafts are only read by the syncs, so all of them share the
+   * same drafts.
+   */
+  @Nonnull
+  private CompletionStage<SyncStatisticsT> syncAndRecord(
+      @Nonnull final List<ResourceDraftT> drafts) {
+    final CompletionStage<SyncStatisticsT> syncStage = syncAndRecordToTarget(drafts);
+    if (fanOutSyncers.isEmpty()) {
+      return syncStage;
+    }
+    final List<CompletableFuture<?>> targetStages = new ArrayList<>();
+    targetStages.add(syncStage.toCompletableFuture());
+    for (Syncer<?, ?, ?, ?, ?, ?, ?, ?, ?> fanOutSyncer : fanOutSyncers) {
+      targetStages.add(fanOutSyncer.syncFannedOutDrafts(drafts).toCompletableFuture());
+    }
+    return CompletableFuture.allOf(targetStages.toArray(new CompletableFuture[0]))
+        .thenCompose(ignoredResult -> syncStage);
+  }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private CompletionStage<SyncStatisticsT> syncFannedOutDrafts(@Nonnull final List<?> drafts) {
+    return syncAndRecordToTarget((List<ResourceDraftT>) drafts);
+  }
+
+  @Nonnull
+  private CompletionStage<SyncStatisticsT> syncAndRecordToTarget(
+      @Nonnull final List<ResourceDraftT> drafts) {
+    return onModuleExecutor(
+        () -> {
+          final DraftFingerprintStore fingerprintStore = draftFingerprintStore;
+          if (fingerprintStore == null) {
+            return metrics.recordSync(sync.getStatistics(), () -> sync.sync(drafts));
+          }
+          return syncChangedDrafts(drafts, fingerprintStore);
+        });
+  }
+
+  /**
+   * Starts the given stage on the executor of this module, if one is configured, so the work done
+   * before its first request, e.g. building the drafts or their fingerprints, does not run on an
+   * HTTP client thread or on a thread shared with other modules.
+   */
+  @Nonnull
+  private <ResultT> CompletionStage<ResultT> onModuleExecutor(
+      @Nonnull final Supplier<CompletionStage<ResultT>> stage) {
+    if (moduleExecutor == null) {
+      return stage.get();
+    }
+    return CompletableFuture.supplyAsync(stage, moduleExecutor).thenCompose(Function.identity());
+  }
+
+  /**
+   * Fingerprints the given drafts and, in a delta sync, drops the drafts which were synced
+   * successfully with the same fingerprint before, so their target resources are not fetched. The
+   * fingerprints of the synced drafts are only recorded if none of the drafts of the page failed,
+   * as the sync does not tell which of them failed.
+   */
+  @Nonnull
+  private CompletionStage<SyncStatisticsT> syncChangedDrafts(
+      @Nonnull final List<ResourceDraftT> drafts,
+      @Nonnull final DraftFingerprintStore fingerprintStore) {
+    final Function<ResourceDraftT, String> draftIdentifier = getDraftIdentifier();
+    final Map<String, String> fingerprints = new HashMap<>();
+    final List<ResourceDraftT> changedDrafts = new ArrayList<>();
+    for (ResourceDraftT draft : drafts) {
+      final String identifier = draftIdentifier == null ? null : draftIdentifier.apply(draft);
+      final String fingerprint =
+          identifier == null ? null : DraftFingerprintStore.fingerprint(draft);
+      if (fingerprint == null) {
+        changedDrafts.add(draft);
+      } else if (!skipUnchangedDrafts || !fingerprintStore.isUnchanged(identifier, fingerprint)) {
+        fingerprints.put(identifier, fingerprint);
+        changedDrafts.add(draft);
+      }
+    }
+    final int unchangedDraftsOfPage = drafts.size() - changedDrafts.size();
+    unchangedDrafts.addAndGet(unchangedDraftsOfPage);
+    metrics.recordUnchanged(unchangedDraftsOfPage);
+    if (changedDrafts.isEmpty()) {
+      return CompletableFuture.completedFuture(sync.getStatistics());
+    }
+
+    final int failedBefore = sync.getStatistics().getFailed().get();
+    return metrics
+        .recordSync(sync.getStatistics(), () -> sync.sync(changedDrafts))
+        .thenApply(
+            statistics -> {
+              if (sync.getStatistics().getFailed().get() == failedBefore) {
+                fingerprints.forEach(fingerprintStore::put);
+              }
+              return statistics;
+            });
+  }
+
+  @Nonnull
+  private CompletionStage<SyncStatisticsT> syncAndCheckpoint(
+      @Nonnull final List<ResourceDraftT> drafts,
+      @Nullable final FullSyncCheckpointer checkpointer) {
+    final CompletionStage<SyncStatisticsT> syncStage = syncAndRecord(drafts);
+    if (checkpointer == null) {
+      return syncStage;
+    }
+    return syncStage.thenCompose(
+        statistics -> checkpointer.onPageSynced().thenApply(ignoredResult -> statistics));
+  }
+
+  /**
+   * Wraps the consumer of the pages of one query, so that the fetch time of every page, or of every
+   * chunk of a streamed page, is recorded in the {@link SyncMetrics} of this module.
+   */
+  @Nonnull
+  private PageConsumer<ResourceT> recordingFetchTime(
+      @Nonnull final PageConsumer<ResourceT> pageConsumer) {
+    final SyncMetrics.FetchTimer fetchTimer = metrics.startFetchTimer();
+    return (resources, isEndOfPage) -> {
+      fetchTimer.onPageFetched(resources.size());
+      try {
+        return pageConsumer.accept(resources, isEndOfPage);
+      } finally {
+        fetchTimer.onPageConsumed();
+      }
+    };
   }
 
   /**
@@ -273,9 +1379,94 @@ public abstract class Syncer<
   protected abstract CompletionStage<List<ResourceDraftT>> transform(
       @Nonnull final List<ResourceT> page);
 
+  /**
+   * Transforms the given page by transforming every resource on its own with the given function,
+   * for the syncers whose drafts do not depend on each other. With a {@link TransformPool}
+   * configured, a page larger than its chunk size is split into chunks which are transformed in
+   * parallel on the pool, otherwise the page is transformed on the current thread. The drafts keep
+   * the order of their resources, and the CPU time spent is recorded for the module.
+   *
+   * @param page the page of resources to transform.
+   * @param toDraft transforms one resource to its draft; it must be safe to call in parallel.
+   * @return a {@link CompletionStage} containing the drafts, in the order of the page.
+   */
+  @Nonnull
+  protected CompletionStage<List<ResourceDraftT>> transformEach(
+      @Nonnull final List<ResourceT> page,
+      @Nonnull final Function<ResourceT, ResourceDraftT> toDraft) {
+    if (transformPool == null) {
+      return CompletableFuture.completedFuture(
+          TransformPool.transformSequentially(page, toDraft, this::recordTransformCpuTime));
+    }
+    return transformPool.transform(page, toDraft, this::recordTransformCpuTime);
+  }
+
+  private void recordTransformCpuTime(final long cpuTimeInNanos) {
+    transformCpuTimeInNanos.add(cpuTimeInNanos);
+    metrics.recordTransformCpuTime(cpuTimeInNanos);
+  }
+
   @Nonnull
   protected abstract PagedQueryT getQuery();
 
+  /**
+   * Describes how the pages of the source project are streamed, i.e. parsed one resource after the
+   * other within a budget of bytes, if they are. By default the pages are deserialized at once.
+   *
+   * @return the description of the streamed pages, or {@code null} if the pages are not streamed.
+   */
+  @Nullable
+  protected StreamedPages<PagedQueryT, ResourceT> getStreamedPages() {
+    return null;
+  }
+
+  /**
+   * Describes the GraphQL query which fetches only the fields of the resources needed to build
+   * their drafts. It is used instead of {@link #getQuery()} if the query of the module is projected
+   * in the {@link SyncerConfiguration}. By default the module has no projection.
+   *
+   * @return the projection of the query, or {@code null} if the module has no projection.
+   */
+  @Nullable
+  protected GraphQlProjection<PagedQueryT, ResourceT> getQueryProjection() {
+    return null;
+  }
+
+  /**
+   * Identifies the drafts of this module across runs, e.g. by their key, so the drafts which did
+   * not change since their last sync can be skipped, see {@link DraftFingerprintStore}. Returns
+   * {@code null} if the drafts of this module are always synced. The function may return {@code
+   * null} for a draft without an identifier, which is then always synced.
+   */
+  @Nullable
+  protected Function<ResourceDraftT, String> getDraftIdentifier() {
+    return null;
+  }
+
+  /**
+   * The type id of the resources of this module in their change messages, e.g. "product", or {@code
+   * null} if the resources send no change messages for some of the fields which are synced, e.g.
+   * the categories, whose name and description changes send none. Only modules which return a type
+   * id take the changed resources from the change messages in a delta sync, the others keep
+   * querying them by their last modification time.
+   */
+  @Nullable
+  protected String getMessageResourceTypeId() {
+    return null;
+  }
+
+  /**
+   * The key by which the resources of other modules reference the given resource, which is cached
+   * in the reference cache when the resource is fetched. By default it is the key of a resource
+   * with a key.
+   *
+   * @return the key of the resource, or {@code null} if it has none.
+   */
+  @Nullable
+  protected String getReferenceKey(@Nonnull final ResourceT resource) {
+    return resource instanceof WithKey ? ((WithKey) resource).getKey() : null;
+  }
+
   public BaseSyncT getSync() {
     return sync;
   }
@@ -287,4 +1478,9 @@ public abstract class Syncer<
   public ProjectApiRoot getSourceClient() {
     return sourceClient;
   }
+
+  @Nonnull
+  public SyncerConfiguration getConfiguration() {
+    return configuration;
+  }
 }
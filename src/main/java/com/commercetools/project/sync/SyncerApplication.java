@@ -2,8 +2,13 @@ package com.commercetools.project.sync;
 
 import static com.commercetools.project.sync.util.CtpClientUtils.CTP_SOURCE_CLIENT;
 import static com.commercetools.project.sync.util.CtpClientUtils.CTP_TARGET_CLIENT;
+import static com.commercetools.project.sync.util.CtpClientUtils.getCtpFanOutTargetClients;
 
+import com.commercetools.api.client.ProjectApiRoot;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
 public class SyncerApplication {
 
@@ -13,10 +18,13 @@ public class SyncerApplication {
    * @param args all args
    */
   public static void main(final String[] args) {
+    final List<Supplier<ProjectApiRoot>> targetClients = new ArrayList<>();
+    targetClients.add(() -> CTP_TARGET_CLIENT);
+    getCtpFanOutTargetClients()
+        .forEach(fanOutTargetClient -> targetClients.add(() -> fanOutTargetClient));
     CliRunner.of()
         .run(
             args,
-            SyncerFactory.of(
-                () -> CTP_SOURCE_CLIENT, () -> CTP_TARGET_CLIENT, Clock.systemDefaultZone()));
+            SyncerFactory.of(() -> CTP_SOURCE_CLIENT, targetClients, Clock.systemDefaultZone()));
   }
 }
@@ -6,6 +6,7 @@ import static com.commercetools.project.sync.CliRunner.SYNC_MODULE_OPTION_LONG;
 import static com.commercetools.project.sync.CliRunner.SYNC_MODULE_OPTION_SHORT;
 import static io.vrap.rmf.base.client.utils.CompletableFutureUtils.exceptionallyCompletedFuture;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.commercetools.api.client.PagedQueryResourceRequest;
@@ -13,48 +14,77 @@ import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.api.models.ResourcePagedQueryResponse;
 import com.commercetools.api.models.ResourceUpdateAction;
 import com.commercetools.api.models.common.BaseResource;
+import com.commercetools.project.sync.cache.InstrumentedReferenceIdToKeyCache;
+import com.commercetools.project.sync.cache.ReferenceIdToKeyCacheFile;
+import com.commercetools.project.sync.cache.ReferenceIdToKeyCacheWarmer;
 import com.commercetools.project.sync.cartdiscount.CartDiscountSyncer;
 import com.commercetools.project.sync.category.CategorySyncer;
 import com.commercetools.project.sync.customer.CustomerSyncer;
 import com.commercetools.project.sync.customobject.CustomObjectSyncer;
 import com.commercetools.project.sync.exception.CliException;
+import com.commercetools.project.sync.executor.ModuleExecutors;
+import com.commercetools.project.sync.executor.TransformPool;
 import com.commercetools.project.sync.inventoryentry.InventoryEntrySyncer;
 import com.commercetools.project.sync.model.ProductSyncCustomRequest;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.product.ProductSyncer;
 import com.commercetools.project.sync.producttype.ProductTypeSyncer;
+import com.commercetools.project.sync.service.CustomObjectService;
+import com.commercetools.project.sync.service.impl.CoalescedSyncStateService;
+import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.project.sync.shoppinglist.ShoppingListSyncer;
+import com.commercetools.project.sync.snapshot.SnapshotReader;
+import com.commercetools.project.sync.snapshot.SnapshotWriter;
 import com.commercetools.project.sync.state.StateSyncer;
 import com.commercetools.project.sync.taxcategory.TaxCategorySyncer;
 import com.commercetools.project.sync.type.TypeSyncer;
 import com.commercetools.sync.commons.BaseSync;
 import com.commercetools.sync.commons.BaseSyncOptions;
 import com.commercetools.sync.commons.helpers.BaseSyncStatistics;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class SyncerFactory {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SyncerFactory.class);
+
   private final Supplier<ProjectApiRoot> targetClientSupplier;
+  private final List<Supplier<ProjectApiRoot>> fanOutTargetClientSuppliers;
   private final Supplier<ProjectApiRoot> sourceClientSupplier;
   private final Clock clock;
   private final boolean shouldCloseClients;
+  private SyncerConfiguration syncerConfiguration = SyncerConfiguration.defaults();
+  private final Map<String, CoalescedSyncStateService> syncStateServices =
+      new ConcurrentHashMap<>();
 
   private SyncerFactory(
       @Nonnull final Supplier<ProjectApiRoot> sourceClient,
       @Nonnull final Supplier<ProjectApiRoot> targetClient,
+      @Nonnull final List<Supplier<ProjectApiRoot>> fanOutTargetClients,
       @Nonnull final Clock clock,
       final boolean closeClients) {
     this.targetClientSupplier = targetClient;
+    this.fanOutTargetClientSuppliers = fanOutTargetClients;
     this.sourceClientSupplier = sourceClient;
     this.clock = clock;
     this.shouldCloseClients = closeClients;
@@ -65,7 +95,7 @@ public final class SyncerFactory {
       @Nonnull final Supplier<ProjectApiRoot> sourceClient,
       @Nonnull final Supplier<ProjectApiRoot> targetClient,
       @Nonnull final Clock clock) {
-    return new SyncerFactory(sourceClient, targetClient, clock, true);
+    return new SyncerFactory(sourceClient, targetClient, emptyList(), clock, true);
   }
 
   @Nonnull
@@ -74,7 +104,49 @@ public final class SyncerFactory {
       @Nonnull final Supplier<ProjectApiRoot> targetClient,
       @Nonnull final Clock clock,
       final boolean closeClients) {
-    return new SyncerFactory(sourceClient, targetClient, clock, closeClients);
+    return new SyncerFactory(sourceClient, targetClient, emptyList(), clock, closeClients);
+  }
+
+  /**
+   * Creates a factory whose syncs fan out from one source project to several target projects: the
+   * resources of the source project are fetched and transformed once, and their drafts are synced
+   * to all target projects, see {@link Syncer#fanOutTo(List)}.
+   *
+   * @param sourceClient the client of the source project.
+   * @param targetClients the clients of the target projects, the first one is the main target
+   *     project which is also used for snapshot imports and partitioned syncs.
+   * @param clock the clock to record the time for calculating the sync duration.
+   * @return the factory of the syncers.
+   */
+  @Nonnull
+  public static SyncerFactory of(
+      @Nonnull final Supplier<ProjectApiRoot> sourceClient,
+      @Nonnull final List<Supplier<ProjectApiRoot>> targetClients,
+      @Nonnull final Clock clock) {
+    if (targetClients.isEmpty()) {
+      throw new IllegalArgumentException("at least one target client is required.");
+    }
+    return new SyncerFactory(
+        sourceClient,
+        targetClients.get(0),
+        new ArrayList<>(targetClients.subList(1, targetClients.size())),
+        clock,
+        true);
+  }
+
+  /**
+   * Sets the execution settings (e.g. the number of pages in flight) which are passed to every
+   * syncer built by this factory.
+   *
+   * @param syncerConfiguration the execution settings of the syncers.
+   */
+  void setSyncerConfiguration(@Nonnull final SyncerConfiguration syncerConfiguration) {
+    this.syncerConfiguration = syncerConfiguration;
+  }
+
+  @Nonnull
+  SyncerConfiguration getSyncerConfiguration() {
+    return syncerConfiguration;
   }
 
   @Nonnull
@@ -85,6 +157,105 @@ public final class SyncerFactory {
       final boolean isSyncProjectSyncCustomObjects,
       @Nullable final ProductSyncCustomRequest productSyncCustomRequest) {
 
+    return runWithPersistedReferenceCache(
+        () ->
+            runSyncModules(
+                syncOptionValues,
+                syncModuleOption ->
+                    runAfterReferenceCacheWarmUp(
+                        syncModuleOption,
+                        () ->
+                            runSyncModule(
+                                runnerNameOptionValue,
+                                isFullSync,
+                                isSyncProjectSyncCustomObjects,
+                                syncModuleOption,
+                                productSyncCustomRequest))));
+  }
+
+  /**
+   * Exports the resources of the given sync modules from the source project into a snapshot in the
+   * given directory, one gzip compressed NDJSON file per module (e.g. {@code products.ndjson.gz}).
+   * The files contain the transformed drafts, so they can be imported with {@link
+   * #importSnapshot(String[], Path)} into any target project without querying the source project
+   * again.
+   *
+   * @param syncOptionValues the sync modules to export.
+   * @param snapshotDirectory the existing directory to write the snapshot files to.
+   * @param isSyncProjectSyncCustomObjects whether to export the custom objects created by this
+   *     application as well.
+   * @param productSyncCustomRequest the custom query parameters of the products to export.
+   * @return a {@link CompletableFuture} which completes after all snapshot files are written.
+   */
+  @Nonnull
+  CompletableFuture<Void> exportSnapshot(
+      @Nonnull final String[] syncOptionValues,
+      @Nonnull final Path snapshotDirectory,
+      final boolean isSyncProjectSyncCustomObjects,
+      @Nullable final ProductSyncCustomRequest productSyncCustomRequest) {
+
+    return runWithPersistedReferenceCache(
+        () ->
+            runSyncModules(
+                syncOptionValues,
+                syncModuleOption -> {
+                  final SnapshotWriter snapshotWriter;
+                  try {
+                    snapshotWriter =
+                        SnapshotWriter.of(getSnapshotFile(snapshotDirectory, syncModuleOption));
+                  } catch (IOException exception) {
+                    return exceptionallyCompletedFuture(exception);
+                  }
+                  return runAfterReferenceCacheWarmUp(
+                          syncModuleOption,
+                          () ->
+                              buildSyncer(
+                                      syncModuleOption,
+                                      null,
+                                      isSyncProjectSyncCustomObjects,
+                                      productSyncCustomRequest)
+                                  .exportSnapshot(snapshotWriter))
+                      .whenComplete(
+                          (ignoredResult, throwable) -> closeSnapshotFile(snapshotWriter));
+                }));
+  }
+
+  /**
+   * Syncs the drafts of the given sync modules from a snapshot in the given directory, which was
+   * written by {@link #exportSnapshot(String[], Path, boolean, ProductSyncCustomRequest)}, to the
+   * target project. The source project is not queried.
+   *
+   * @param syncOptionValues the sync modules to import.
+   * @param snapshotDirectory the directory containing the snapshot files.
+   * @return a {@link CompletableFuture} which completes after all snapshot files are synced.
+   */
+  @Nonnull
+  CompletableFuture<Void> importSnapshot(
+      @Nonnull final String[] syncOptionValues, @Nonnull final Path snapshotDirectory) {
+
+    return runSyncModules(
+        syncOptionValues,
+        syncModuleOption -> {
+          final SnapshotReader<?> snapshotReader;
+          try {
+            snapshotReader =
+                SnapshotReader.of(
+                    getSnapshotFile(snapshotDirectory, syncModuleOption),
+                    syncModuleOption.getDraftClass());
+          } catch (IOException exception) {
+            return exceptionallyCompletedFuture(exception);
+          }
+          return buildSyncer(syncModuleOption, null, true, null)
+              .importSnapshot(snapshotReader)
+              .whenComplete((ignoredResult, throwable) -> closeSnapshotFile(snapshotReader));
+        });
+  }
+
+  @Nonnull
+  private CompletableFuture<Void> runSyncModules(
+      @Nonnull final String[] syncOptionValues,
+      @Nonnull final Function<SyncModuleOption, CompletionStage<Void>> syncModuleRunner) {
+
     final List<SyncModuleOption> syncModuleOptions;
     try {
       syncModuleOptions = validateAndCollectSyncOptionValues(syncOptionValues);
@@ -92,62 +263,247 @@ public final class SyncerFactory {
       return exceptionallyCompletedFuture(exception);
     }
 
-    final Collection<List<SyncModuleOption>> groupedSyncModuleOptions =
-        groupSyncModuleOptions(syncModuleOptions);
-    CompletableFuture<Void> stagedSyncersToRunSequentially =
-        CompletableFuture.completedFuture(null);
-
-    for (List<SyncModuleOption> syncOptions : groupedSyncModuleOptions) {
-      stagedSyncersToRunSequentially =
-          stagedSyncersToRunSequentially.thenCompose(
-              ignore ->
-                  chainSyncExecution(
-                      runnerNameOptionValue,
-                      isFullSync,
-                      isSyncProjectSyncCustomObjects,
-                      syncOptions,
-                      productSyncCustomRequest));
+    final SyncModuleScheduler syncModuleScheduler =
+        new SyncModuleScheduler(
+            syncModuleOptions,
+            syncerConfiguration.getMaxConcurrentModules(),
+            onExecutor(syncModuleRunner));
+
+    // the sync state kept by coalesced sync state services is written after all modules
+    // completed, also if some of them failed, as the state of the completed ones is still valid.
+    return syncModuleScheduler
+        .run()
+        .handle(
+            (syncResult, throwable) ->
+                flushSyncState()
+                    .handle(
+                        (flushResult, flushThrowable) -> {
+                          shutdownAfterRun();
+                          final Throwable runThrowable =
+                              throwable != null ? throwable : flushThrowable;
+                          if (runThrowable != null) {
+                            throw runThrowable instanceof CompletionException
+                                ? (CompletionException) runThrowable
+                                : new CompletionException(runThrowable);
+                          }
+                          return flushResult;
+                        }))
+        .thenCompose(Function.identity());
+  }
+
+  /**
+   * Returns the service with which a syncer reads and writes the state of its syncs in the given
+   * target project: the {@link CoalescedSyncStateService} of the target project shared by all the
+   * syncers of one run, if the sync state is coalesced, otherwise a service of its own.
+   *
+   * @param targetClient the client of the target project.
+   * @return the service of the sync state in the target project.
+   */
+  @Nonnull
+  private CustomObjectService getCustomObjectService(@Nonnull final ProjectApiRoot targetClient) {
+    if (!syncerConfiguration.isCoalesceSyncState()) {
+      return new CustomObjectServiceImpl(targetClient);
     }
+    return syncStateServices.computeIfAbsent(
+        targetClient.getProjectKey(), projectKey -> CoalescedSyncStateService.of(targetClient));
+  }
 
-    return stagedSyncersToRunSequentially.whenComplete(
-        (syncResult, throwable) -> {
-          if (shouldCloseClients) {
-            closeClients();
-          }
-        });
+  /**
+   * Writes the sync state kept by the coalesced sync state services of all target projects, see
+   * {@link CoalescedSyncStateService#flush()}. The services are removed, so a next run takes a new
+   * CTP timestamp.
+   *
+   * @return a {@link CompletableFuture} which completes after the state of all target projects is
+   *     written.
+   */
+  @Nonnull
+  private CompletableFuture<Void> flushSyncState() {
+    final List<CoalescedSyncStateService> services = new ArrayList<>(syncStateServices.values());
+    syncStateServices.clear();
+    return CompletableFuture.allOf(
+        services.stream().map(CoalescedSyncStateService::flush).toArray(CompletableFuture[]::new));
+  }
+
+  private void shutdownAfterRun() {
+    final ModuleExecutors moduleExecutors = syncerConfiguration.getModuleExecutors();
+    if (moduleExecutors != null) {
+      moduleExecutors.shutdown();
+    }
+    final TransformPool transformPool = syncerConfiguration.getTransformPool();
+    if (transformPool != null) {
+      transformPool.shutdown();
+    }
+    final Executor executor = syncerConfiguration.getExecutor();
+    if (executor instanceof ExecutorService) {
+      ((ExecutorService) executor).shutdown();
+    }
+    if (shouldCloseClients) {
+      closeClients();
+    }
+  }
+
+  /**
+   * Starts every sync module on the configured executor, if any, so each module runs on its own
+   * (virtual) thread instead of the thread which completed the modules it depends on.
+   */
+  @Nonnull
+  private Function<SyncModuleOption, CompletionStage<Void>> onExecutor(
+      @Nonnull final Function<SyncModuleOption, CompletionStage<Void>> syncModuleRunner) {
+    final Executor executor = syncerConfiguration.getExecutor();
+    if (executor == null) {
+      return syncModuleRunner;
+    }
+    return syncModuleOption ->
+        CompletableFuture.supplyAsync(() -> syncModuleRunner.apply(syncModuleOption), executor)
+            .thenCompose(Function.identity());
+  }
+
+  /**
+   * Runs the sync modules with the reference cache of the previous run of the same source project,
+   * if a reference cache directory is configured. The cache file is only read when the cache is
+   * first used, and it is replaced with the mappings of this run after all modules completed, also
+   * if some of them failed, as the mappings are still valid.
+   */
+  @Nonnull
+  private CompletableFuture<Void> runWithPersistedReferenceCache(
+      @Nonnull final Supplier<CompletableFuture<Void>> syncModulesRunner) {
+    final Path referenceCacheDirectory = syncerConfiguration.getReferenceCacheDirectory();
+    if (referenceCacheDirectory == null) {
+      return syncModulesRunner.get();
+    }
+    final InstrumentedReferenceIdToKeyCache referenceIdToKeyCache =
+        syncerConfiguration.getReferenceIdToKeyCache();
+    final ReferenceIdToKeyCacheFile referenceCacheFile =
+        ReferenceIdToKeyCacheFile.of(
+            referenceCacheDirectory, sourceClientSupplier.get().getProjectKey());
+    referenceIdToKeyCache.loadLazily(referenceCacheFile::read);
+    return syncModulesRunner
+        .get()
+        .whenComplete(
+            (ignoredResult, ignoredThrowable) ->
+                writeReferenceCacheFile(referenceCacheFile, referenceIdToKeyCache));
+  }
+
+  private static void writeReferenceCacheFile(
+      @Nonnull final ReferenceIdToKeyCacheFile referenceCacheFile,
+      @Nonnull final InstrumentedReferenceIdToKeyCache referenceIdToKeyCache) {
+    try {
+      referenceCacheFile.write(referenceIdToKeyCache.getMappings());
+    } catch (IOException exception) {
+      LOGGER.warn(
+          format(
+              "Failed to write %s, the next run resolves all references on demand.",
+              referenceCacheFile.getFile()),
+          exception);
+    }
+  }
+
+  /**
+   * Runs the given sync module. If the reference cache should be warmed up, the products module
+   * only starts after the keys of all resources which can be referenced by products are cached.
+   */
+  @Nonnull
+  private CompletionStage<Void> runAfterReferenceCacheWarmUp(
+      @Nonnull final SyncModuleOption syncModuleOption,
+      @Nonnull final Supplier<CompletionStage<Void>> syncModuleRunner) {
+    if (syncModuleOption != SyncModuleOption.PRODUCT_SYNC
+        || !syncerConfiguration.isWarmUpReferenceCache()) {
+      return syncModuleRunner.get();
+    }
+    return new ReferenceIdToKeyCacheWarmer(
+            sourceClientSupplier.get(), syncerConfiguration.getReferenceIdToKeyCache(), clock)
+        .warmUp()
+        .thenCompose(ignoredResult -> syncModuleRunner.get());
   }
 
   @Nonnull
-  private CompletableFuture<Void> chainSyncExecution(
+  private static Path getSnapshotFile(
+      @Nonnull final Path snapshotDirectory, @Nonnull final SyncModuleOption syncModuleOption) {
+    return snapshotDirectory.resolve(
+        syncModuleOption.getSyncOptionValue() + SnapshotWriter.FILE_EXTENSION);
+  }
+
+  private static void closeSnapshotFile(@Nonnull final Closeable snapshotFile) {
+    try {
+      snapshotFile.close();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  @Nonnull
+  private CompletableFuture<Void> runSyncModule(
       @Nullable final String runnerNameOptionValue,
       final boolean isFullSync,
       final boolean isSyncProjectSyncCustomObjects,
-      final List<SyncModuleOption> syncOptions,
+      @Nonnull final SyncModuleOption syncOptionValue,
       @Nullable final ProductSyncCustomRequest productSyncCustomRequest) {
-    final List<CompletableFuture<Void>> syncersToRunParallel = new ArrayList<>();
-
-    for (SyncModuleOption syncOptionValue : syncOptions) {
-      Syncer<
-              ? extends BaseResource,
-              ? extends ResourceUpdateAction<?>,
-              ?,
-              ?,
-              ? extends BaseSyncStatistics,
-              ? extends BaseSyncOptions<?, ?, ?>,
-              ? extends PagedQueryResourceRequest<?, ?, ?>,
-              ? extends ResourcePagedQueryResponse<?>,
-              ? extends BaseSync<?, ?, ?, ?, ?>>
-          syncer =
-              buildSyncer(
-                  syncOptionValue,
-                  runnerNameOptionValue,
-                  isSyncProjectSyncCustomObjects,
-                  productSyncCustomRequest);
-      syncersToRunParallel.add(
-          syncer.sync(runnerNameOptionValue, isFullSync).toCompletableFuture());
+    Syncer<
+            ? extends BaseResource,
+            ? extends ResourceUpdateAction<?>,
+            ?,
+            ?,
+            ? extends BaseSyncStatistics,
+            ? extends BaseSyncOptions<?, ?, ?>,
+            ? extends PagedQueryResourceRequest<?, ?, ?>,
+            ? extends ResourcePagedQueryResponse<?>,
+            ? extends BaseSync<?, ?, ?, ?, ?>>
+        syncer =
+            buildSyncer(
+                syncOptionValue,
+                runnerNameOptionValue,
+                isSyncProjectSyncCustomObjects,
+                productSyncCustomRequest);
+    if (isFullSync
+        && syncerConfiguration.isPartitioned()
+        && syncOptionValue == SyncModuleOption.CATEGORY_SYNC) {
+      // a CategorySync only links a category to a parent it synced itself, and the parent of a
+      // category can be in any id range, so the categories are not split into partitions.
+      LOGGER.info(
+          "CategorySync is not split into partitions, as the parents of the categories can be "
+              + "in any id range.");
+    } else if (isFullSync && syncerConfiguration.isPartitioned()) {
+      if (!fanOutTargetClientSuppliers.isEmpty()) {
+        return exceptionallyCompletedFuture(
+            new CliException(
+                "A full sync split into partitions cannot be fanned out to several target "
+                    + "projects."));
+      }
+      final List<
+              Syncer<
+                  ? extends BaseResource,
+                  ? extends ResourceUpdateAction<?>,
+                  ?,
+                  ?,
+                  ? extends BaseSyncStatistics,
+                  ? extends BaseSyncOptions<?, ?, ?>,
+                  ? extends PagedQueryResourceRequest<?, ?, ?>,
+                  ? extends ResourcePagedQueryResponse<?>,
+                  ? extends BaseSync<?, ?, ?, ?, ?>>>
+          partitionSyncers =
+              IntStream.range(1, syncerConfiguration.getPartitions())
+                  .mapToObj(
+                      partition ->
+                          buildSyncer(
+                              syncOptionValue,
+                              runnerNameOptionValue,
+                              isSyncProjectSyncCustomObjects,
+                              productSyncCustomRequest))
+                  .collect(Collectors.toList());
+      return syncer.syncPartitioned(partitionSyncers).toCompletableFuture();
     }
-
-    return CompletableFuture.allOf(syncersToRunParallel.toArray(new CompletableFuture[0]));
+    syncer.fanOutTo(
+        fanOutTargetClientSuppliers.stream()
+            .map(
+                fanOutTargetClient ->
+                    buildSyncer(
+                        syncOptionValue,
+                        runnerNameOptionValue,
+                        isSyncProjectSyncCustomObjects,
+                        productSyncCustomRequest,
+                        fanOutTargetClient.get()))
+            .collect(Collectors.toList()));
+    return syncer.sync(runnerNameOptionValue, isFullSync).toCompletableFuture();
   }
 
   @Nonnull
@@ -204,81 +560,10 @@ public final class SyncerFactory {
     }
   }
 
-  /**
-   * Algorithm to group SyncModuleOptions based on their EssentialSyncOptions count and run sync
-   * sequentially for each group in count order(Ascending). This grouping will help the program to
-   * run efficiently with proper order and better performance.
-   *
-   * <p>Example: When the given arguments for sync are [types,productTypes,products,shoppingLists].
-   * This will return as [types, productTypes] [products] [shoppingLists]
-   *
-   * <p>Order is important here to make sure the resources run after their EssentialSyncOptions sync
-   * is completed. In the above example, Products sync is run after the group [types, productTypes]
-   * which can be referenced in Products. ShoppingLists sync can have Product references, So it will
-   * run after Products sync.
-   *
-   * @param syncModuleOptions list of SyncModuleOption values passed as arguments.
-   * @return The Collection of SyncModuleOptions grouped accordingly with their essentialSyncOptions
-   *     count.
-   */
-  private static Collection<List<SyncModuleOption>> groupSyncModuleOptions(
-      List<SyncModuleOption> syncModuleOptions) {
-    Map<SyncModuleOption, Integer> syncModuleOptionWithEssentialSyncOptionsCount =
-        syncModuleOptions.stream()
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    syncModuleOption ->
-                        (syncModuleOption.getEssentialSyncOptions().isEmpty())
-                            ? 1
-                            : countEssentialSyncOptions(
-                                syncModuleOption.getEssentialSyncOptions(), syncModuleOptions)));
-
-    Map<Integer, List<SyncModuleOption>> groupedSyncModuleOptions = new TreeMap<>();
-
-    for (Map.Entry<SyncModuleOption, Integer> pivotEntry :
-        syncModuleOptionWithEssentialSyncOptionsCount.entrySet()) {
-      if (!groupedSyncModuleOptions.containsKey(pivotEntry.getValue())) {
-        List<SyncModuleOption> syncOptionsList = new ArrayList<>();
-
-        for (Map.Entry<SyncModuleOption, Integer> iteratingEntry :
-            syncModuleOptionWithEssentialSyncOptionsCount.entrySet()) {
-          if (pivotEntry.getValue().equals(iteratingEntry.getValue())) {
-            syncOptionsList.add(iteratingEntry.getKey());
-          }
-        }
-
-        groupedSyncModuleOptions.put(pivotEntry.getValue(), syncOptionsList);
-      }
-    }
-    return groupedSyncModuleOptions.values();
-  }
-
-  /**
-   * Recursive function to count the total number of references for a given resource and its
-   * references.
-   *
-   * @param essentialSyncOptions list of references of a given SyncModuleOption.
-   * @param syncModuleOptions list of SyncModuleOption values passed as arguments.
-   * @return The number of references to the passed essentialSyncOptions.
-   */
-  private static int countEssentialSyncOptions(
-      List<SyncModuleOption> essentialSyncOptions, List<SyncModuleOption> syncModuleOptions) {
-    if (null == essentialSyncOptions || essentialSyncOptions.isEmpty()) {
-      return 1;
-    }
-    int count = 1;
-    for (SyncModuleOption value : essentialSyncOptions) {
-      if (syncModuleOptions.contains(value)) {
-        count += countEssentialSyncOptions(value.getEssentialSyncOptions(), syncModuleOptions);
-      }
-    }
-    return count;
-  }
-
   private void closeClients() {
     sourceClientSupplier.get().close();
     targetClientSupplier.get().close();
+    fanOutTargetClientSuppliers.forEach(fanOutTargetClient -> fanOutTargetClient.get().close());
   }
 
   /**
@@ -302,6 +587,38 @@ public final class SyncerFactory {
           @Nonnull final String runnerNameOptionValue,
           final boolean syncProjectSyncCustomObjects,
           @Nullable final ProductSyncCustomRequest productSyncCustomRequest) {
+    return buildSyncer(
+        syncModuleOption,
+        runnerNameOptionValue,
+        syncProjectSyncCustomObjects,
+        productSyncCustomRequest,
+        targetClientSupplier.get());
+  }
+
+  /**
+   * Builds an instance of {@link Syncer} corresponding to the passed option value, which syncs to
+   * the given target project.
+   *
+   * @param syncModuleOption the string value passed to the sync option.
+   * @param targetClient the client of the target project.
+   * @return The instance of the syncer corresponding to the passed option value.
+   */
+  private Syncer<
+          ? extends BaseResource,
+          ? extends ResourceUpdateAction<?>,
+          ?,
+          ?,
+          ? extends BaseSyncStatistics,
+          ? extends BaseSyncOptions<?, ?, ?>,
+          ? extends PagedQueryResourceRequest<?, ?, ?>,
+          ? extends ResourcePagedQueryResponse<?>,
+          ? extends BaseSync<?, ?, ?, ?, ?>>
+      buildSyncer(
+          @Nonnull final SyncModuleOption syncModuleOption,
+          @Nonnull final String runnerNameOptionValue,
+          final boolean syncProjectSyncCustomObjects,
+          @Nullable final ProductSyncCustomRequest productSyncCustomRequest,
+          @Nonnull final ProjectApiRoot targetClient) {
 
     Syncer<
             ? extends BaseResource,
@@ -315,55 +632,110 @@ public final class SyncerFactory {
             ? extends BaseSync<?, ?, ?, ?, ?>>
         syncer = null;
 
+    final CustomObjectService customObjectService = getCustomObjectService(targetClient);
+
     switch (syncModuleOption) {
       case CART_DISCOUNT_SYNC:
         syncer =
-            CartDiscountSyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+            CartDiscountSyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
       case PRODUCT_TYPE_SYNC:
         syncer =
-            ProductTypeSyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+            ProductTypeSyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
       case CATEGORY_SYNC:
-        syncer = CategorySyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+        syncer =
+            CategorySyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
       case PRODUCT_SYNC:
         syncer =
             ProductSyncer.of(
                 sourceClientSupplier.get(),
-                targetClientSupplier.get(),
+                targetClient,
                 clock,
-                productSyncCustomRequest);
+                productSyncCustomRequest,
+                syncerConfiguration,
+                customObjectService);
         break;
       case INVENTORY_ENTRY_SYNC:
         syncer =
-            InventoryEntrySyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+            InventoryEntrySyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
       case TAX_CATEGORY_SYNC:
         syncer =
-            TaxCategorySyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+            TaxCategorySyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
       case TYPE_SYNC:
-        syncer = TypeSyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+        syncer =
+            TypeSyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
       case STATE_SYNC:
-        syncer = StateSyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+        syncer =
+            StateSyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
       case CUSTOM_OBJECT_SYNC:
         syncer =
             CustomObjectSyncer.of(
                 sourceClientSupplier.get(),
-                targetClientSupplier.get(),
+                targetClient,
                 clock,
                 runnerNameOptionValue,
-                syncProjectSyncCustomObjects);
+                syncProjectSyncCustomObjects,
+                syncerConfiguration,
+                customObjectService);
         break;
       case CUSTOMER_SYNC:
-        syncer = CustomerSyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+        syncer =
+            CustomerSyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
       case SHOPPING_LIST_SYNC:
         syncer =
-            ShoppingListSyncer.of(sourceClientSupplier.get(), targetClientSupplier.get(), clock);
+            ShoppingListSyncer.of(
+                sourceClientSupplier.get(),
+                targetClient,
+                clock,
+                syncerConfiguration,
+                customObjectService);
         break;
     }
     return syncer;
@@ -0,0 +1,68 @@
+package com.commercetools.project.sync.cache;
+
+import java.util.Objects;
+import javax.annotation.Nonnull;
+
+/**
+ * The key of a referenced resource and the time it was cached at. The time is persisted with the
+ * key, so a mapping loaded from the file of a previous run expires after the same time as if it was
+ * cached by the current run.
+ */
+public final class CachedReferenceKey {
+
+  private String key;
+  private long cachedAtMillis;
+
+  private CachedReferenceKey(@Nonnull final String key, final long cachedAtMillis) {
+    this.key = key;
+    this.cachedAtMillis = cachedAtMillis;
+  }
+
+  // Needed for the 'com.fasterxml.jackson' deserialization, when reading the cache file.
+  public CachedReferenceKey() {}
+
+  /**
+   * @param key the key of the referenced resource.
+   * @param cachedAtMillis the epoch milliseconds at which the key was cached.
+   * @return the cached key.
+   */
+  @Nonnull
+  public static CachedReferenceKey of(@Nonnull final String key, final long cachedAtMillis) {
+    return new CachedReferenceKey(key, cachedAtMillis);
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public long getCachedAtMillis() {
+    return cachedAtMillis;
+  }
+
+  // Setters are needed for the 'com.fasterxml.jackson' deserialization, when reading the cache
+  // file.
+  public void setKey(@Nonnull final String key) {
+    this.key = key;
+  }
+
+  public void setCachedAtMillis(final long cachedAtMillis) {
+    this.cachedAtMillis = cachedAtMillis;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CachedReferenceKey)) {
+      return false;
+    }
+    final CachedReferenceKey that = (CachedReferenceKey) o;
+    return cachedAtMillis == that.cachedAtMillis && Objects.equals(key, that.key);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(key, cachedAtMillis);
+  }
+}
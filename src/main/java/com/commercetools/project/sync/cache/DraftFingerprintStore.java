@@ -0,0 +1,181 @@
+package com.commercetools.project.sync.cache;
+
+import static java.lang.String.format;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a content hash (fingerprint) of every draft of one sync module which was synced
+ * successfully, so a delta sync can drop the drafts which did not change since then before the sync
+ * fetches their target resources. Resources are often touched in the source project without a
+ * change of the synced fields, and their drafts would only result in no update actions.
+ *
+ * <p>The fingerprints depend on the state of the target project, so they are persisted between runs
+ * per source project, target project and sync module, as a gzip compressed JSON object in a file of
+ * the given directory.
+ */
+public final class DraftFingerprintStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DraftFingerprintStore.class);
+
+  /** The extension of the fingerprint files. */
+  public static final String FILE_EXTENSION = ".fingerprints.json.gz";
+
+  private static final TypeReference<Map<String, String>> FINGERPRINTS_TYPE =
+      new TypeReference<Map<String, String>>() {};
+
+  /* Serializes the drafts with sorted properties and map entries, so equal drafts always result in
+   * the same bytes.
+   */
+  private static final ObjectMapper CANONICAL_MAPPER =
+      JsonUtils.getConfiguredObjectMapper()
+          .copy()
+          .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+          .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+          .disable(SerializationFeature.INDENT_OUTPUT);
+
+  private final Path file;
+  private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+  private DraftFingerprintStore(@Nonnull final Path file) {
+    this.file = file;
+  }
+
+  /**
+   * @param directory the directory of the fingerprint files.
+   * @param sourceProjectKey the key of the source project.
+   * @param targetProjectKey the key of the target project.
+   * @param syncModuleName the name of the sync module, e.g. "ProductSync".
+   * @return an empty store of the fingerprints of the given module, whose file does not need to
+   *     exist yet.
+   */
+  @Nonnull
+  public static DraftFingerprintStore of(
+      @Nonnull final Path directory,
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String targetProjectKey,
+      @Nonnull final String syncModuleName) {
+    return new DraftFingerprintStore(
+        directory.resolve(
+            format(
+                "%s.%s.%s%s", sourceProjectKey, targetProjectKey, syncModuleName, FILE_EXTENSION)));
+  }
+
+  /**
+   * Computes the fingerprint of the given draft, i.e. the SHA-256 hash of its canonical JSON.
+   *
+   * @param draft the draft to fingerprint.
+   * @return the fingerprint, or {@code null} if the draft cannot be serialized.
+   */
+  @Nullable
+  public static String fingerprint(@Nonnull final Object draft) {
+    try {
+      final byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(CANONICAL_MAPPER.writeValueAsBytes(draft));
+      return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    } catch (JsonProcessingException | NoSuchAlgorithmException exception) {
+      LOGGER.debug("Failed to fingerprint a draft, it is synced anyway.", exception);
+      return null;
+    }
+  }
+
+  @Nonnull
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * @param identifier the identifier of the draft, e.g. its key.
+   * @param fingerprint the fingerprint of the current draft.
+   * @return whether the draft was synced successfully with the same fingerprint before.
+   */
+  public boolean isUnchanged(@Nonnull final String identifier, @Nonnull final String fingerprint) {
+    return fingerprint.equals(fingerprints.get(identifier));
+  }
+
+  /**
+   * Records the fingerprint of a draft which was synced successfully.
+   *
+   * @param identifier the identifier of the draft, e.g. its key.
+   * @param fingerprint the fingerprint of the draft.
+   */
+  public void put(@Nonnull final String identifier, @Nonnull final String fingerprint) {
+    fingerprints.put(identifier, fingerprint);
+  }
+
+  public int size() {
+    return fingerprints.size();
+  }
+
+  /**
+   * Adds the fingerprints of the previous run. A missing or unreadable file only means that all
+   * drafts are synced, so it results in no fingerprints instead of an error.
+   */
+  public void load() {
+    try (InputStream inputStream =
+        new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      final Map<String, String> persistedFingerprints =
+          JsonUtils.getConfiguredObjectMapper().readValue(inputStream, FINGERPRINTS_TYPE);
+      fingerprints.putAll(persistedFingerprints);
+      if (LOGGER.isInfoEnabled()) {
+        LOGGER.info(
+            format("Loaded %d draft fingerprints from %s.", persistedFingerprints.size(), file));
+      }
+    } catch (NoSuchFileException exception) {
+      // the first run of the module, all drafts are synced.
+    } catch (IOException exception) {
+      LOGGER.warn(format("Failed to read %s, all drafts are synced.", file), exception);
+    }
+  }
+
+  /**
+   * Replaces the file with the fingerprints of this store. The fingerprints are written to a
+   * temporary file first, which is then moved over the file, so a run which fails while writing
+   * never leaves a truncated file behind. If writing fails, the file of the previous run is
+   * deleted, so the next run does not skip drafts based on outdated fingerprints.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  public void save() throws IOException {
+    final Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      try (OutputStream outputStream =
+          new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+        JsonUtils.getConfiguredObjectMapper()
+            .writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(outputStream, fingerprints);
+      }
+      Files.move(
+          temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException exception) {
+      Files.deleteIfExists(temporaryFile);
+      Files.deleteIfExists(file);
+      throw exception;
+    }
+  }
+}
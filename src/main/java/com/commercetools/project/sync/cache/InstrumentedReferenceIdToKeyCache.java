@@ -0,0 +1,206 @@
+package com.commercetools.project.sync.cache;
+
+import com.commercetools.sync.commons.utils.ReferenceIdToKeyCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReferenceIdToKeyCache} which is bounded to a maximum number of entries, optionally
+ * expires its entries, and counts its hits, misses and evictions.
+ *
+ * <p>The reference transformation of commercetools-sync-java calls {@link #containsKey(String)} to
+ * decide whether the key of a referenced resource has to be fetched, and {@link #get(String)} only
+ * afterwards to read a key it already knows about. So only {@link #containsKey(String)} is counted
+ * as a hit or a miss.
+ *
+ * <p>The cache can be pre-filled with the mappings of a previous run with {@link
+ * #loadLazily(Supplier)}. They are only loaded when the cache is first read, so a run which never
+ * resolves a reference does not pay for them. Every mapping keeps the time it was cached at, also
+ * across runs, so a loaded mapping expires as if the current run had cached it at that time.
+ */
+public final class InstrumentedReferenceIdToKeyCache implements ReferenceIdToKeyCache {
+
+  private final Cache<String, CachedReferenceKey> cache;
+  @Nullable private final Duration expiry;
+  private final Clock clock;
+  private volatile Supplier<Map<String, CachedReferenceKey>> pendingMappingsLoader;
+  private final Set<String> removedPendingIds = new HashSet<>();
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param maxEntries the maximum number of id to key mappings, the least recently used mappings
+   *     are evicted first.
+   * @param expiry the time after which a mapping expires once it was added, or {@code null} if
+   *     mappings do not expire.
+   */
+  public InstrumentedReferenceIdToKeyCache(final long maxEntries, @Nullable final Duration expiry) {
+    this(maxEntries, expiry, Clock.systemUTC());
+  }
+
+  InstrumentedReferenceIdToKeyCache(
+      final long maxEntries, @Nullable final Duration expiry, @Nonnull final Clock clock) {
+    this.expiry = expiry;
+    this.clock = clock;
+    final Caffeine<Object, Object> cacheBuilder =
+        Caffeine.newBuilder().maximumSize(maxEntries).executor(Runnable::run).recordStats();
+    if (expiry == null) {
+      this.cache = cacheBuilder.build();
+    } else {
+      this.cache = cacheBuilder.expireAfter(new ExpiryAfterCaching()).build();
+    }
+  }
+
+  @Override
+  public void add(@Nonnull final String key, @Nonnull final String value) {
+    cache.put(key, CachedReferenceKey.of(value, clock.millis()));
+  }
+
+  @Override
+  public void remove(@Nonnull final String key) {
+    if (pendingMappingsLoader != null) {
+      synchronized (this) {
+        if (pendingMappingsLoader != null) {
+          // the mapping is not loaded later, so removing it does not load the pending mappings.
+          removedPendingIds.add(key);
+        }
+      }
+    }
+    cache.invalidate(key);
+  }
+
+  @Override
+  public void addAll(@Nonnull final Map<String, String> idToKeyValues) {
+    final long cachedAtMillis = clock.millis();
+    idToKeyValues.forEach((id, key) -> cache.put(id, CachedReferenceKey.of(key, cachedAtMillis)));
+  }
+
+  @Override
+  public boolean containsKey(@Nonnull final String key) {
+    loadPendingMappings();
+    return cache.getIfPresent(key) != null;
+  }
+
+  @Override
+  public String get(@Nonnull final String key) {
+    loadPendingMappings();
+    final CachedReferenceKey cachedKey = cache.asMap().get(key);
+    return cachedKey == null ? null : cachedKey.getKey();
+  }
+
+  @Override
+  public synchronized void clearCache() {
+    pendingMappingsLoader = null;
+    removedPendingIds.clear();
+    cache.invalidateAll();
+  }
+
+  /**
+   * Registers mappings which are added to the cache right before it is read the first time. A
+   * mapping which was added to or removed from the cache in the meantime is not loaded, as the
+   * change is more recent, and a mapping which was cached longer ago than the expiry is dropped.
+   *
+   * @param mappingsLoader loads the mappings, e.g. from the file of a previous run.
+   */
+  public synchronized void loadLazily(
+      @Nonnull final Supplier<Map<String, CachedReferenceKey>> mappingsLoader) {
+    removedPendingIds.clear();
+    this.pendingMappingsLoader = mappingsLoader;
+  }
+
+  /**
+   * @return a copy of all the id to key mappings of the cache with the time they were cached at,
+   *     including the mappings which are not yet loaded.
+   */
+  @Nonnull
+  public Map<String, CachedReferenceKey> getMappings() {
+    loadPendingMappings();
+    return new HashMap<>(cache.asMap());
+  }
+
+  private void loadPendingMappings() {
+    if (pendingMappingsLoader == null) {
+      return;
+    }
+    synchronized (this) {
+      final Supplier<Map<String, CachedReferenceKey>> mappingsLoader = pendingMappingsLoader;
+      if (mappingsLoader != null) {
+        pendingMappingsLoader = null;
+        mappingsLoader
+            .get()
+            .forEach(
+                (id, cachedKey) -> {
+                  if (!removedPendingIds.contains(id) && getRemainingNanos(cachedKey) > 0) {
+                    cache.asMap().putIfAbsent(id, cachedKey);
+                  }
+                });
+        removedPendingIds.clear();
+      }
+    }
+  }
+
+  private long getRemainingNanos(@Nonnull final CachedReferenceKey cachedKey) {
+    if (expiry == null) {
+      return Long.MAX_VALUE;
+    }
+    final long ageInMillis = Math.max(0, clock.millis() - cachedKey.getCachedAtMillis());
+    return expiry.minusMillis(ageInMillis).toNanos();
+  }
+
+  /**
+   * @return the counters of the cache since it was created: "hits", "misses", "evictions" and the
+   *     current number of "entries".
+   */
+  @Nonnull
+  public Map<String, Long> getStatistics() {
+    final CacheStats cacheStats = cache.stats();
+    final Map<String, Long> statistics = new LinkedHashMap<>();
+    statistics.put("hits", cacheStats.hitCount());
+    statistics.put("misses", cacheStats.missCount());
+    statistics.put("evictions", cacheStats.evictionCount());
+    statistics.put("entries", cache.estimatedSize());
+    return statistics;
+  }
+
+  /* Expires a mapping after the expiry since it was cached, which may be in a previous run. */
+  private final class ExpiryAfterCaching implements Expiry<String, CachedReferenceKey> {
+
+    @Override
+    public long expireAfterCreate(
+        @Nonnull final String id,
+        @Nonnull final CachedReferenceKey cachedKey,
+        final long currentTime) {
+      return getRemainingNanos(cachedKey);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        @Nonnull final String id,
+        @Nonnull final CachedReferenceKey cachedKey,
+        final long currentTime,
+        final long currentDuration) {
+      return getRemainingNanos(cachedKey);
+    }
+
+    @Override
+    public long expireAfterRead(
+        @Nonnull final String id,
+        @Nonnull final CachedReferenceKey cachedKey,
+        final long currentTime,
+        final long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.commercetools.project.sync.cache;
+
+import static java.lang.String.format;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the reference id to key mappings of one source project between runs, as a gzip
+ * compressed JSON object in a file named after the source project key. Ids are unique per project,
+ * so the mappings of different source projects are kept in separate files of the same directory.
+ * Every mapping is persisted with the time it was cached at, so it expires across runs.
+ */
+public final class ReferenceIdToKeyCacheFile {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceIdToKeyCacheFile.class);
+
+  /** The extension of the cache files, the file of a source project is named after its key. */
+  public static final String FILE_EXTENSION = ".reference-cache.json.gz";
+
+  private static final TypeReference<Map<String, CachedReferenceKey>> MAPPINGS_TYPE =
+      new TypeReference<Map<String, CachedReferenceKey>>() {};
+
+  private final Path file;
+
+  private ReferenceIdToKeyCacheFile(@Nonnull final Path file) {
+    this.file = file;
+  }
+
+  /**
+   * @param directory the directory of the cache files.
+   * @param sourceProjectKey the key of the source project whose mappings are persisted.
+   * @return the cache file of the given source project, which does not need to exist yet.
+   */
+  @Nonnull
+  public static ReferenceIdToKeyCacheFile of(
+      @Nonnull final Path directory, @Nonnull final String sourceProjectKey) {
+    return new ReferenceIdToKeyCacheFile(directory.resolve(sourceProjectKey + FILE_EXTENSION));
+  }
+
+  @Nonnull
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Reads the mappings of the previous run. A missing or unreadable file, e.g. of a version which
+   * did not persist the times the mappings were cached at, only means that the references are
+   * resolved on demand, so it results in no mappings instead of an error.
+   *
+   * @return the persisted id to key mappings with the times they were cached at.
+   */
+  @Nonnull
+  public Map<String, CachedReferenceKey> read() {
+    try (InputStream inputStream =
+        new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      final Map<String, CachedReferenceKey> mappings =
+          JsonUtils.getConfiguredObjectMapper().readValue(inputStream, MAPPINGS_TYPE);
+      if (LOGGER.isInfoEnabled()) {
+        LOGGER.info(
+            format("Loaded %d reference id to key mappings from %s.", mappings.size(), file));
+      }
+      return mappings;
+    } catch (NoSuchFileException exception) {
+      return Collections.emptyMap();
+    } catch (IOException exception) {
+      LOGGER.warn(format("Failed to read %s, references are resolved on demand.", file), exception);
+      return Collections.emptyMap();
+    }
+  }
+
+  /**
+   * Replaces the file with the given mappings. The mappings are written to a temporary file first,
+   * which is then moved over the file, so a run which fails while writing never leaves a truncated
+   * file behind. If writing fails, the file of the previous run is deleted, as the mappings of the
+   * resources changed since then were only invalidated in memory.
+   *
+   * @param mappings the id to key mappings to persist, with the times they were cached at.
+   * @throws IOException if the file cannot be written.
+   */
+  public void write(@Nonnull final Map<String, CachedReferenceKey> mappings) throws IOException {
+    final Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      try (OutputStream outputStream =
+          new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+        JsonUtils.getConfiguredObjectMapper()
+            .writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(outputStream, mappings);
+      }
+      Files.move(
+          temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException exception) {
+      Files.deleteIfExists(temporaryFile);
+      Files.deleteIfExists(file);
+      throw exception;
+    }
+  }
+}
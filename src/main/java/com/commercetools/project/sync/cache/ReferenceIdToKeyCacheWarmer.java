@@ -0,0 +1,105 @@
+package com.commercetools.project.sync.cache;
+
+import static com.commercetools.api.client.QueryUtils.queryAll;
+import static java.lang.String.format;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.category.Category;
+import com.commercetools.api.models.channel.Channel;
+import com.commercetools.api.models.common.BaseResource;
+import com.commercetools.api.models.product_type.ProductType;
+import com.commercetools.api.models.state.State;
+import com.commercetools.api.models.tax_category.TaxCategory;
+import com.commercetools.api.models.type.Type;
+import com.commercetools.sync.commons.utils.ReferenceIdToKeyCache;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fills a {@link ReferenceIdToKeyCache} with the id to key mappings of all categories, product
+ * types, types, states, tax categories and channels of the source project, which are the resources
+ * referenced by products. The resources are fetched page by page with one query per resource type,
+ * instead of resolving the keys of the references of every product page with separate GraphQL
+ * requests.
+ */
+public final class ReferenceIdToKeyCacheWarmer {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceIdToKeyCacheWarmer.class);
+
+  private final ProjectApiRoot sourceClient;
+  private final ReferenceIdToKeyCache referenceIdToKeyCache;
+  private final Clock clock;
+  private final AtomicLong addedMappings = new AtomicLong();
+
+  public ReferenceIdToKeyCacheWarmer(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ReferenceIdToKeyCache referenceIdToKeyCache,
+      @Nonnull final Clock clock) {
+    this.sourceClient = sourceClient;
+    this.referenceIdToKeyCache = referenceIdToKeyCache;
+    this.clock = clock;
+  }
+
+  /**
+   * Fetches all referenceable resources of the source project and adds the id to key mappings of
+   * the ones with a key to the cache. A failure is only logged, as the references are still
+   * resolved without a warmed up cache.
+   *
+   * @return a {@link CompletableFuture} which completes after all resources are fetched.
+   */
+  @Nonnull
+  public CompletableFuture<Void> warmUp() {
+    final long startTimeInMillis = clock.millis();
+    return CompletableFuture.allOf(
+            queryAll(
+                    sourceClient.categories().get(),
+                    categories -> addMappings(categories, Category::getKey))
+                .toCompletableFuture(),
+            queryAll(
+                    sourceClient.productTypes().get(),
+                    productTypes -> addMappings(productTypes, ProductType::getKey))
+                .toCompletableFuture(),
+            queryAll(sourceClient.types().get(), types -> addMappings(types, Type::getKey))
+                .toCompletableFuture(),
+            queryAll(sourceClient.states().get(), states -> addMappings(states, State::getKey))
+                .toCompletableFuture(),
+            queryAll(
+                    sourceClient.taxCategories().get(),
+                    taxCategories -> addMappings(taxCategories, TaxCategory::getKey))
+                .toCompletableFuture(),
+            queryAll(
+                    sourceClient.channels().get(),
+                    channels -> addMappings(channels, Channel::getKey))
+                .toCompletableFuture())
+        .handle(
+            (ignoredResult, throwable) -> {
+              if (throwable != null) {
+                LOGGER.warn(
+                    "Failed to warm up the reference cache, references are resolved on demand.",
+                    throwable);
+              } else if (LOGGER.isInfoEnabled()) {
+                LOGGER.info(
+                    format(
+                        "Warmed up the reference cache with %d id to key mappings in %d ms.",
+                        addedMappings.get(), clock.millis() - startTimeInMillis));
+              }
+              return null;
+            });
+  }
+
+  private <ResourceT extends BaseResource> void addMappings(
+      @Nonnull final List<ResourceT> page, @Nonnull final Function<ResourceT, String> keyMapper) {
+    for (ResourceT resource : page) {
+      final String key = keyMapper.apply(resource);
+      if (key != null) {
+        referenceIdToKeyCache.add(resource.getId(), key);
+        addedMappings.incrementAndGet();
+      }
+    }
+  }
+}
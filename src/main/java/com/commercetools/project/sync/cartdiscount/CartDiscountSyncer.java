@@ -12,6 +12,7 @@ import com.commercetools.api.models.cart_discount.CartDiscountPagedQueryResponse
 import com.commercetools.api.models.cart_discount.CartDiscountUpdateAction;
 import com.commercetools.api.predicates.query.cart_discount.CartDiscountQueryBuilderDsl;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.cartdiscounts.CartDiscountSync;
@@ -49,8 +50,9 @@ public final class CartDiscountSyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
-      @Nonnull final Clock clock) {
-    super(cartDiscountSync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(cartDiscountSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -58,6 +60,30 @@ public final class CartDiscountSyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static CartDiscountSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static CartDiscountSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
 
     final QuadConsumer<
             SyncException,
@@ -79,10 +105,8 @@ public final class CartDiscountSyncer
 
     final CartDiscountSync cartDiscountSync = new CartDiscountSync(syncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
     return new CartDiscountSyncer(
-        cartDiscountSync, sourceClient, targetClient, customObjectService, clock);
+        cartDiscountSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Override
@@ -12,6 +12,7 @@ import com.commercetools.api.models.category.CategoryPagedQueryResponse;
 import com.commercetools.api.models.category.CategoryUpdateAction;
 import com.commercetools.api.predicates.query.category.CategoryQueryBuilderDsl;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.categories.CategorySync;
@@ -49,8 +50,9 @@ public final class CategorySyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
-      @Nonnull final Clock clock) {
-    super(categorySync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(categorySync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -58,6 +60,30 @@ public final class CategorySyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static CategorySyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static CategorySyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
     final QuadConsumer<
             SyncException, Optional<CategoryDraft>, Optional<Category>, List<CategoryUpdateAction>>
         logErrorCallback =
@@ -75,9 +101,8 @@ public final class CategorySyncer
 
     final CategorySync categorySync = new CategorySync(syncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
-    return new CategorySyncer(categorySync, sourceClient, targetClient, customObjectService, clock);
+    return new CategorySyncer(
+        categorySync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Override
@@ -0,0 +1,207 @@
+package com.commercetools.project.sync.client;
+
+import static com.commercetools.project.sync.util.SyncUtils.getCompletionExceptionCause;
+import static java.lang.String.format;
+
+import io.vrap.rmf.base.client.ApiHttpException;
+import io.vrap.rmf.base.client.ApiHttpRequest;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import io.vrap.rmf.base.client.http.Middleware;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Limits the number of requests of a client which are executed at the same time, and adapts the
+ * limit to the load of the API with additive increase and multiplicative decrease (AIMD): the limit
+ * grows by one per round trip while the API answers fast, and it is reduced by a fixed ratio as
+ * soon as the API answers with a 429 or 503. Besides, the limit is reduced in proportion to the
+ * latency gradient, i.e. the ratio of the long-term to the short-term average latency, when the
+ * recent responses are much slower than the long-term average. Since both are averages over all
+ * kinds of requests, a mix of fast and slow requests does not reduce the limit, only a rising
+ * latency does. Requests above the limit wait in a queue instead of being sent.
+ *
+ * <p>One limiter is added to the client of the target project, which is shared by all syncers, so
+ * the syncers of all modules which run at the same time share the same limit.
+ */
+public final class AdaptiveConcurrencyLimiter implements Middleware {
+
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+  public static final int DEFAULT_MIN_LIMIT = 1;
+
+  /* The ratio the limit is multiplied with when the API is overloaded. */
+  static final double BACKOFF_RATIO = 0.75;
+  /* How many times slower than the long-term average latency the short-term average may be before
+   * the limit is reduced. */
+  static final double LATENCY_TOLERANCE = 2.0;
+  /* The lowest latency gradient, so a single burst of slow responses at most halves the limit. */
+  static final double MIN_GRADIENT = 0.5;
+  /* The number of responses the short-term average latency is smoothed over. */
+  static final int SHORT_LATENCY_RESPONSES = 20;
+  /* The number of responses the long-term average latency is smoothed over. As the long-term
+   * average follows the short-term one slowly, the limiter adapts to a permanently slower API
+   * instead of shrinking forever.
+   */
+  static final int LONG_LATENCY_RESPONSES = 500;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final LongSupplier nanoTime;
+  private final Queue<Runnable> waitingRequests = new ArrayDeque<>();
+
+  private double limit;
+  private int inFlight;
+  private double shortLatencyInNanos;
+  private double longLatencyInNanos;
+  private long latencyResponses;
+  private long lastDecreaseInNanos;
+
+  AdaptiveConcurrencyLimiter(
+      final int initialLimit,
+      final int minLimit,
+      final int maxLimit,
+      @Nonnull final LongSupplier nanoTime) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          format("limits %s to %s must be positive and ascending.", minLimit, maxLimit));
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.nanoTime = nanoTime;
+    this.lastDecreaseInNanos = nanoTime.getAsLong();
+  }
+
+  /**
+   * @param maxLimit the highest limit, e.g. the maximum number of requests of the HTTP client.
+   * @return a limiter which starts at {@link #DEFAULT_INITIAL_LIMIT} concurrent requests.
+   */
+  @Nonnull
+  public static AdaptiveConcurrencyLimiter of(final int maxLimit) {
+    return new AdaptiveConcurrencyLimiter(
+        DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, maxLimit, System::nanoTime);
+  }
+
+  /** @return the current number of requests which are executed at the same time at most. */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /** @return the number of requests which are executed right now. */
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  /** @return the number of requests which wait for a free slot. */
+  public synchronized int getWaiting() {
+    return waitingRequests.size();
+  }
+
+  @Override
+  public CompletableFuture<ApiHttpResponse<byte[]>> invoke(
+      @Nonnull final ApiHttpRequest request,
+      @Nonnull final Function<ApiHttpRequest, CompletableFuture<ApiHttpResponse<byte[]>>> next) {
+    final CompletableFuture<ApiHttpResponse<byte[]>> result = new CompletableFuture<>();
+    synchronized (this) {
+      waitingRequests.add(() -> execute(request, next, result));
+    }
+    executeWaitingRequests();
+    return result;
+  }
+
+  private void executeWaitingRequests() {
+    while (true) {
+      final Runnable request;
+      synchronized (this) {
+        if (inFlight >= (int) limit || waitingRequests.isEmpty()) {
+          return;
+        }
+        inFlight++;
+        request = waitingRequests.poll();
+      }
+      request.run();
+    }
+  }
+
+  private void execute(
+      @Nonnull final ApiHttpRequest request,
+      @Nonnull final Function<ApiHttpRequest, CompletableFuture<ApiHttpResponse<byte[]>>> next,
+      @Nonnull final CompletableFuture<ApiHttpResponse<byte[]>> result) {
+    final long startInNanos = nanoTime.getAsLong();
+    CompletableFuture<ApiHttpResponse<byte[]>> response;
+    try {
+      response = next.apply(request);
+    } catch (RuntimeException exception) {
+      response = new CompletableFuture<>();
+      response.completeExceptionally(exception);
+    }
+    response.whenComplete(
+        (httpResponse, throwable) -> {
+          onResponse(startInNanos, isOverloaded(httpResponse, throwable));
+          if (throwable != null) {
+            result.completeExceptionally(throwable);
+          } else {
+            result.complete(httpResponse);
+          }
+          executeWaitingRequests();
+        });
+  }
+
+  private static boolean isOverloaded(
+      @Nullable final ApiHttpResponse<byte[]> httpResponse, @Nullable final Throwable throwable) {
+    final int statusCode;
+    if (httpResponse != null) {
+      statusCode = httpResponse.getStatusCode();
+    } else {
+      final Throwable cause = getCompletionExceptionCause(throwable);
+      statusCode =
+          cause instanceof ApiHttpException ? ((ApiHttpException) cause).getStatusCode() : 0;
+    }
+    return statusCode == 429 || statusCode == 503;
+  }
+
+  synchronized void onResponse(final long startInNanos, final boolean overloaded) {
+    final long latencyInNanos = nanoTime.getAsLong() - startInNanos;
+    final boolean limitReached = inFlight >= (int) limit;
+    inFlight--;
+
+    // the fast responses of an overloaded API would lower the average latency, so only the
+    // latency of the other responses is averaged.
+    final double gradient = overloaded ? BACKOFF_RATIO : updateLatencyGradient(latencyInNanos);
+    if (gradient < 1) {
+      // a burst of slow or failed responses of requests sent under the previous limit reduces the
+      // limit only once, requests sent after the last decrease reflect the reduced limit.
+      if (startInNanos >= lastDecreaseInNanos) {
+        limit = Math.max(minLimit, limit * gradient);
+        lastDecreaseInNanos = nanoTime.getAsLong();
+      }
+    } else if (limitReached) {
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+  }
+
+  /**
+   * Adds the given latency to the short-term and the long-term exponential moving average. Until
+   * enough responses arrived, both are the plain average of all responses so far, so the first
+   * responses of a mix of fast and slow requests do not reduce the limit.
+   *
+   * @return 1 if the short-term average latency is within {@link #LATENCY_TOLERANCE} times the
+   *     long-term one, otherwise the gradient by which the limit is reduced.
+   */
+  private double updateLatencyGradient(final long latencyInNanos) {
+    latencyResponses++;
+    shortLatencyInNanos +=
+        (latencyInNanos - shortLatencyInNanos) * smoothing(SHORT_LATENCY_RESPONSES);
+    longLatencyInNanos += (latencyInNanos - longLatencyInNanos) * smoothing(LONG_LATENCY_RESPONSES);
+    final double gradient = LATENCY_TOLERANCE * longLatencyInNanos / shortLatencyInNanos;
+    return gradient < 1 ? Math.max(MIN_GRADIENT, gradient) : 1;
+  }
+
+  private double smoothing(final int responses) {
+    return Math.max(1.0 / latencyResponses, 2.0 / (responses + 1));
+  }
+}
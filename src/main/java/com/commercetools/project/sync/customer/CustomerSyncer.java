@@ -6,12 +6,14 @@ import static com.commercetools.sync.customers.utils.CustomerTransformUtils.toCu
 
 import com.commercetools.api.client.ByProjectKeyCustomersGet;
 import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.common.ReferenceTypeId;
 import com.commercetools.api.models.customer.Customer;
 import com.commercetools.api.models.customer.CustomerDraft;
 import com.commercetools.api.models.customer.CustomerPagedQueryResponse;
 import com.commercetools.api.models.customer.CustomerUpdateAction;
 import com.commercetools.api.predicates.query.customer.CustomerQueryBuilderDsl;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.commons.exceptions.SyncException;
@@ -48,14 +50,39 @@ public final class CustomerSyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
-      @Nonnull final Clock clock) {
-    super(customerSync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(customerSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   public static CustomerSyncer of(
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static CustomerSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static CustomerSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
     final QuadConsumer<
             SyncException, Optional<CustomerDraft>, Optional<Customer>, List<CustomerUpdateAction>>
         logErrorCallback =
@@ -73,9 +100,8 @@ public final class CustomerSyncer
 
     final CustomerSync customerSync = new CustomerSync(customerSyncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
-    return new CustomerSyncer(customerSync, sourceClient, targetClient, customObjectService, clock);
+    return new CustomerSyncer(
+        customerSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -90,6 +116,12 @@ public final class CustomerSyncer
     return getSourceClient().customers().get();
   }
 
+  @Nonnull
+  @Override
+  protected String getMessageResourceTypeId() {
+    return ReferenceTypeId.CUSTOMER.getJsonName();
+  }
+
   @Nonnull
   @Override
   protected Logger getLoggerInstance() {
@@ -13,6 +13,7 @@ import com.commercetools.api.models.custom_object.CustomObjectPagedQueryResponse
 import com.commercetools.api.predicates.query.custom_object.CustomObjectQueryBuilderDsl;
 import com.commercetools.project.sync.SyncModuleOption;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.project.sync.util.SyncUtils;
@@ -70,6 +71,7 @@ public final class CustomObjectSyncer
    * @param runnerName name for the running sync instance. It is passed as a CLI param from user. It
    *     is used here to generate names of custom objects created by this application so we can
    *     exclude/include those custom objects as requested.
+   * @param configuration the execution settings of the syncer, e.g. the number of pages in flight.
    */
   private CustomObjectSyncer(
       @Nonnull CustomObjectSync sync,
@@ -78,8 +80,9 @@ public final class CustomObjectSyncer
       @Nonnull CustomObjectService customObjectService,
       @Nonnull Clock clock,
       @Nullable String runnerName,
-      boolean isSyncProjectSyncCustomObjects) {
-    super(sync, sourceClient, targetClient, customObjectService, clock);
+      boolean isSyncProjectSyncCustomObjects,
+      @Nonnull SyncerConfiguration configuration) {
+    super(sync, sourceClient, targetClient, customObjectService, clock, configuration);
     this.runnerName = runnerName;
     this.isSyncProjectSyncCustomObjects = isSyncProjectSyncCustomObjects;
   }
@@ -87,17 +90,15 @@ public final class CustomObjectSyncer
   @Nonnull
   @Override
   protected CompletableFuture<List<CustomObjectDraft>> transform(@Nonnull List<CustomObject> page) {
-    final List<CustomObjectDraft> collect =
-        page.stream()
-            .map(
-                customObject ->
-                    CustomObjectDraftBuilder.of()
-                        .container(customObject.getContainer())
-                        .key(customObject.getKey())
-                        .value(customObject.getValue())
-                        .build())
-            .collect(Collectors.toList());
-    return CompletableFuture.completedFuture(collect);
+    return transformEach(
+            page,
+            customObject ->
+                CustomObjectDraftBuilder.of()
+                    .container(customObject.getContainer())
+                    .key(customObject.getKey())
+                    .value(customObject.getValue())
+                    .build())
+        .toCompletableFuture();
   }
 
   @Nonnull
@@ -114,6 +115,16 @@ public final class CustomObjectSyncer
     }
   }
 
+  /**
+   * A custom object is referenced by its container and its key, see {@link
+   * CustomObjectCompositeIdentifier}.
+   */
+  @Nonnull
+  @Override
+  protected String getReferenceKey(@Nonnull final CustomObject customObject) {
+    return CustomObjectCompositeIdentifier.of(customObject).toString();
+  }
+
   @Nonnull
   @Override
   protected Logger getLoggerInstance() {
@@ -127,6 +138,42 @@ public final class CustomObjectSyncer
       @Nonnull final Clock clock,
       @Nullable final String runnerName,
       final boolean isSyncProjectSyncCustomObjects) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        runnerName,
+        isSyncProjectSyncCustomObjects,
+        SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static CustomObjectSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nullable final String runnerName,
+      final boolean isSyncProjectSyncCustomObjects,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        runnerName,
+        isSyncProjectSyncCustomObjects,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static CustomObjectSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nullable final String runnerName,
+      final boolean isSyncProjectSyncCustomObjects,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
     final QuadConsumer<
             SyncException,
             Optional<CustomObjectDraft>,
@@ -153,8 +200,6 @@ public final class CustomObjectSyncer
 
     final CustomObjectSync customObjectSyncer = new CustomObjectSync(syncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
     return new CustomObjectSyncer(
         customObjectSyncer,
         sourceClient,
@@ -162,7 +207,8 @@ public final class CustomObjectSyncer
         customObjectService,
         clock,
         runnerName,
-        isSyncProjectSyncCustomObjects);
+        isSyncProjectSyncCustomObjects,
+        configuration);
   }
 
   private static String getCustomObjectResourceIdentifier(
@@ -196,10 +242,21 @@ public final class CustomObjectSyncer
                       moduleName, this.runnerName);
                 })
             .collect(Collectors.toList());
+    final List<String> fullSyncCheckpointContainerNames =
+        Stream.of(SyncModuleOption.values())
+            .map(
+                syncModuleOption -> {
+                  final String moduleName = syncModuleOption.getSyncModuleName();
+                  return SyncUtils.buildFullSyncCheckpointContainerName(
+                      moduleName, this.runnerName);
+                })
+            .collect(Collectors.toList());
     final List<String> excludedContainerNames =
-        Stream.concat(
-                lastSyncTimestampContainerNames.stream(),
-                currentCtpTimestampContainerNames.stream())
+        Stream.of(
+                lastSyncTimestampContainerNames,
+                currentCtpTimestampContainerNames,
+                fullSyncCheckpointContainerNames)
+            .flatMap(List::stream)
             .collect(Collectors.toList());
     return excludedContainerNames;
   }
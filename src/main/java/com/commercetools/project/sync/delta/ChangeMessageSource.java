@@ -0,0 +1,31 @@
+package com.commercetools.project.sync.delta;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import javax.annotation.Nonnull;
+
+/**
+ * Provides the ids of the resources of the source project which changed in a time window, derived
+ * from the change messages of the project, as an alternative to querying every resource endpoint
+ * with a {@code lastModifiedAt} range predicate in a delta sync.
+ */
+public interface ChangeMessageSource {
+
+  /**
+   * Collects the ids of the resources of the given type which were changed or deleted in the given
+   * time window.
+   *
+   * @param resourceTypeId the type id of the resources, e.g. "product".
+   * @param lowerBound the start of the time window, inclusive.
+   * @param upperBound the end of the time window, inclusive.
+   * @return a completion stage containing the changed and deleted resource ids, or an empty
+   *     optional if the messages cannot cover the time window, e.g. because messages are disabled
+   *     in the project or the start of the window is older than the messages are kept.
+   */
+  @Nonnull
+  CompletionStage<Optional<ChangedResourceIds>> fetchChangedResourceIds(
+      @Nonnull String resourceTypeId,
+      @Nonnull ZonedDateTime lowerBound,
+      @Nonnull ZonedDateTime upperBound);
+}
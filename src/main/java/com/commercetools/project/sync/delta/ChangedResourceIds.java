@@ -0,0 +1,118 @@
+package com.commercetools.project.sync.delta;
+
+import static java.lang.String.format;
+
+import com.commercetools.api.models.message.Message;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * The ids of the resources of one type which were changed or deleted in a time window, collected
+ * from their change messages. A resource which was deleted in the window is only contained in the
+ * deleted ids, as it cannot be fetched from the source project anymore.
+ */
+public final class ChangedResourceIds {
+
+  /* The types of the messages which are sent when a resource is deleted. Messages of other types
+   * (e.g. ProductVariantDeleted) are changes of a resource which still exists.
+   */
+  private static final Set<String> DELETION_MESSAGE_TYPES =
+      new HashSet<>(
+          Arrays.asList(
+              "ProductDeleted",
+              "CategoryDeleted",
+              "CustomerDeleted",
+              "InventoryEntryDeleted",
+              "ShoppingListDeleted"));
+
+  private final Set<String> changedIds;
+  private final Set<String> deletedIds;
+
+  private ChangedResourceIds(
+      @Nonnull final Set<String> changedIds, @Nonnull final Set<String> deletedIds) {
+    this.changedIds = Collections.unmodifiableSet(changedIds);
+    this.deletedIds = Collections.unmodifiableSet(deletedIds);
+  }
+
+  @Nonnull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** The ids of the resources which were changed in the time window and still exist. */
+  @Nonnull
+  public Set<String> getChangedIds() {
+    return changedIds;
+  }
+
+  /** The ids of the resources which were deleted in the time window. */
+  @Nonnull
+  public Set<String> getDeletedIds() {
+    return deletedIds;
+  }
+
+  /**
+   * Splits the changed ids into query predicates of at most the given number of ids each, e.g.
+   * {@code id in ("a", "b")}, so the changed resources can be fetched in batches without exceeding
+   * the maximum length of a request URL.
+   *
+   * @param batchSize the maximum number of ids per predicate.
+   * @return the predicates which together match all changed resources.
+   */
+  @Nonnull
+  public List<String> toIdPredicates(final int batchSize) {
+    final List<String> ids = new ArrayList<>(changedIds);
+    final List<String> predicates = new ArrayList<>();
+    for (int start = 0; start < ids.size(); start += batchSize) {
+      predicates.add(
+          ids.subList(start, Math.min(start + batchSize, ids.size())).stream()
+              .map(id -> format("\"%s\"", id))
+              .collect(Collectors.joining(", ", "id in (", ")")));
+    }
+    return predicates;
+  }
+
+  public static final class Builder {
+    private final Set<String> changedIds = new LinkedHashSet<>();
+    private final Set<String> deletedIds = new LinkedHashSet<>();
+
+    private Builder() {}
+
+    /**
+     * Adds the resource of the given message as changed, or as deleted if it is a deletion message.
+     * A deleted resource stays deleted, regardless of the order of its messages.
+     *
+     * @param message a change message of a resource.
+     * @return this builder.
+     */
+    @Nonnull
+    public Builder add(@Nonnull final Message message) {
+      final String resourceId = message.getResource().getId();
+      if (DELETION_MESSAGE_TYPES.contains(message.getType())) {
+        changedIds.remove(resourceId);
+        deletedIds.add(resourceId);
+      } else if (!deletedIds.contains(resourceId)) {
+        changedIds.add(resourceId);
+      }
+      return this;
+    }
+
+    @Nonnull
+    public Builder addAll(@Nonnull final List<Message> messages) {
+      messages.forEach(this::add);
+      return this;
+    }
+
+    @Nonnull
+    public ChangedResourceIds build() {
+      return new ChangedResourceIds(changedIds, deletedIds);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.commercetools.project.sync.delta;
+
+import static com.commercetools.api.client.QueryUtils.queryAll;
+import static java.lang.String.format;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.message.Message;
+import com.commercetools.api.models.project.MessagesConfiguration;
+import com.commercetools.api.models.project.Project;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the changed resource ids from the Messages endpoint of the source project. The messages of
+ * a short time window are few compared to the resources of a large project, so collecting them is
+ * much cheaper than a {@code lastModifiedAt} range query on every resource endpoint.
+ */
+public final class CtpChangeMessageSource implements ChangeMessageSource {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CtpChangeMessageSource.class);
+
+  /* The number of days messages are kept, if the project does not configure it. */
+  static final int DEFAULT_DELETE_DAYS_AFTER_CREATION = 15;
+
+  private final ProjectApiRoot sourceClient;
+
+  private CtpChangeMessageSource(@Nonnull final ProjectApiRoot sourceClient) {
+    this.sourceClient = sourceClient;
+  }
+
+  @Nonnull
+  public static CtpChangeMessageSource of(@Nonnull final ProjectApiRoot sourceClient) {
+    return new CtpChangeMessageSource(sourceClient);
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<Optional<ChangedResourceIds>> fetchChangedResourceIds(
+      @Nonnull final String resourceTypeId,
+      @Nonnull final ZonedDateTime lowerBound,
+      @Nonnull final ZonedDateTime upperBound) {
+    return sourceClient
+        .get()
+        .execute()
+        .thenApply(ApiHttpResponse::getBody)
+        .thenCompose(
+            project -> {
+              if (!coversTimeWindow(project, lowerBound, upperBound)) {
+                return CompletableFuture.completedFuture(Optional.empty());
+              }
+              final ChangedResourceIds.Builder changedResourceIds = ChangedResourceIds.builder();
+              final Consumer<List<Message>> pageConsumer = changedResourceIds::addAll;
+              return queryAll(
+                      sourceClient
+                          .messages()
+                          .get()
+                          .withWhere(
+                              "resource(typeId = :typeId) and createdAt >= :lower"
+                                  + " and createdAt <= :upper")
+                          .withPredicateVar("typeId", resourceTypeId)
+                          .withPredicateVar("lower", lowerBound)
+                          .withPredicateVar("upper", upperBound),
+                      pageConsumer)
+                  .thenApply(ignoredResult -> Optional.of(changedResourceIds.build()));
+            });
+  }
+
+  private static boolean coversTimeWindow(
+      @Nonnull final Project project,
+      @Nonnull final ZonedDateTime lowerBound,
+      @Nonnull final ZonedDateTime upperBound) {
+    final MessagesConfiguration messagesConfiguration = project.getMessages();
+    if (messagesConfiguration == null || !Boolean.TRUE.equals(messagesConfiguration.getEnabled())) {
+      LOGGER.warn(
+          format(
+              "Messages are disabled in the project with key '%s', the changed resources are "
+                  + "queried by their last modification time instead.",
+              project.getKey()));
+      return false;
+    }
+    final int deleteDaysAfterCreation =
+        getDeleteDaysAfterCreation(messagesConfiguration.getDeleteDaysAfterCreation());
+    if (lowerBound.isBefore(upperBound.minusDays(deleteDaysAfterCreation))) {
+      LOGGER.warn(
+          format(
+              "The last sync at %s is older than the %d days messages are kept in the project with "
+                  + "key '%s', the changed resources are queried by their last modification time "
+                  + "instead.",
+              lowerBound, deleteDaysAfterCreation, project.getKey()));
+      return false;
+    }
+    return true;
+  }
+
+  private static int getDeleteDaysAfterCreation(@Nullable final Integer deleteDaysAfterCreation) {
+    return deleteDaysAfterCreation == null
+        ? DEFAULT_DELETE_DAYS_AFTER_CREATION
+        : deleteDaysAfterCreation;
+  }
+}
@@ -0,0 +1,135 @@
+package com.commercetools.project.sync.executor;
+
+import static java.lang.String.format;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import javax.annotation.Nonnull;
+
+/**
+ * Limits the number of bytes of data which the syncers of one run hold at the same time, e.g. the
+ * responses of the product pages which are being parsed, transformed and synced. A syncer acquires
+ * the size of its data before it processes the data and releases it afterwards; if the budget is
+ * used up, the returned stage completes once enough bytes were released by the other syncers.
+ * Waiting syncers are served in the order they asked, each one on its own executor, so it does not
+ * continue with its data on the thread of the syncer which released the bytes.
+ *
+ * <p>Data which is larger than the whole budget acquires the whole budget, so it is processed alone
+ * instead of waiting forever. If only an estimate of the size of the data can be acquired before it
+ * is loaded, e.g. the size of a response before the request is sent, the acquired bytes are
+ * adjusted to the actual size once it is known, which may overdraw the budget.
+ */
+public final class ByteBudget {
+
+  private final long maxBytes;
+  private final Queue<Request> waitingRequests = new ArrayDeque<>();
+
+  private long availableBytes;
+
+  private ByteBudget(final long maxBytes) {
+    this.maxBytes = maxBytes;
+    this.availableBytes = maxBytes;
+  }
+
+  /**
+   * @param maxBytes the number of bytes which may be acquired at the same time.
+   * @return a budget of which all bytes are available.
+   */
+  @Nonnull
+  public static ByteBudget of(final long maxBytes) {
+    if (maxBytes < 1) {
+      throw new IllegalArgumentException(format("byte budget %s cannot be less than 1.", maxBytes));
+    }
+    return new ByteBudget(maxBytes);
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public synchronized long getAvailableBytes() {
+    return availableBytes;
+  }
+
+  /**
+   * Acquires the given number of bytes, at most the whole budget.
+   *
+   * @param bytes the size of the data to process.
+   * @param executor the executor on which the returned stage completes if the bytes have to wait
+   *     for a release. If they are available at once, the stage is already completed.
+   * @return a stage which completes with the number of acquired bytes, which have to be released
+   *     with {@link #release(long)} after the data was processed.
+   */
+  @Nonnull
+  public CompletionStage<Long> acquire(final long bytes, @Nonnull final Executor executor) {
+    final Request request = new Request(Math.max(0, Math.min(bytes, maxBytes)), executor);
+    synchronized (this) {
+      waitingRequests.add(request);
+    }
+    // only the new request can be granted here, as no bytes became available.
+    grantWaitingRequests().forEach(Request::grant);
+    return request.granted;
+  }
+
+  /**
+   * Changes the number of bytes acquired before to the actual size of the data, e.g. if only an
+   * estimate of the size was acquired before the data was loaded. It never waits, as the data is
+   * already in memory: acquiring more bytes than available overdraws the budget, so the waiting
+   * requests are only granted after enough bytes were released.
+   *
+   * @param acquiredBytes the number of bytes acquired before.
+   * @param bytes the actual size of the data, which has to be released after it was processed.
+   */
+  public void adjust(final long acquiredBytes, final long bytes) {
+    synchronized (this) {
+      availableBytes = Math.min(maxBytes, availableBytes + acquiredBytes - Math.max(0, bytes));
+    }
+    grantWaitingRequests().forEach(Request::grantAsync);
+  }
+
+  /** @param bytes the number of bytes acquired before, which are available again. */
+  public void release(final long bytes) {
+    synchronized (this) {
+      availableBytes = Math.min(maxBytes, availableBytes + bytes);
+    }
+    grantWaitingRequests().forEach(Request::grantAsync);
+  }
+
+  @Nonnull
+  private List<Request> grantWaitingRequests() {
+    final List<Request> grantedRequests = new ArrayList<>();
+    synchronized (this) {
+      while (!waitingRequests.isEmpty() && waitingRequests.peek().bytes <= availableBytes) {
+        final Request request = waitingRequests.poll();
+        availableBytes -= request.bytes;
+        grantedRequests.add(request);
+      }
+    }
+    return grantedRequests;
+  }
+
+  private static final class Request {
+    private final long bytes;
+    private final Executor executor;
+    private final CompletableFuture<Long> granted = new CompletableFuture<>();
+
+    private Request(final long bytes, @Nonnull final Executor executor) {
+      this.bytes = bytes;
+      this.executor = executor;
+    }
+
+    private void grant() {
+      granted.complete(bytes);
+    }
+
+    // completed on the executor of the request, as the waiting syncer continues with its data.
+    private void grantAsync() {
+      granted.completeAsync(() -> bytes, executor);
+    }
+  }
+}
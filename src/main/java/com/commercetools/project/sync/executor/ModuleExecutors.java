@@ -0,0 +1,112 @@
+package com.commercetools.project.sync.executor;
+
+import com.commercetools.project.sync.metrics.SyncMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+
+/**
+ * Holds one bounded executor per sync module (e.g. "ProductSync"), on which the syncers of the
+ * module transform and sync their pages, so a module with an expensive transformation only uses the
+ * threads of its own executor and cannot delay the pages of other modules running at the same time.
+ * The syncers of the partitions of one module share the executor of the module.
+ *
+ * <p>Every executor has a fixed number of threads and a bounded queue of waiting tasks. A task
+ * which finds the queue full runs on the thread which submitted it, which slows down the fetching
+ * of further pages of the module, and is counted as a saturation in the {@link SyncMetrics}.
+ */
+public final class ModuleExecutors {
+
+  public static final int DEFAULT_QUEUE_SIZE = 100;
+
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final int threads;
+  private final int queueSize;
+  private final MeterRegistry registry;
+  private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+  ModuleExecutors(final int threads, final int queueSize, @Nonnull final MeterRegistry registry) {
+    this.threads = threads;
+    this.queueSize = queueSize;
+    this.registry = registry;
+  }
+
+  /**
+   * @param threads the number of threads of the executor of every module.
+   * @param queueSize the number of tasks which may wait for a thread of the executor of a module.
+   * @return the executors, whose meters are registered in the global registry.
+   */
+  @Nonnull
+  public static ModuleExecutors of(final int threads, final int queueSize) {
+    return new ModuleExecutors(threads, queueSize, Metrics.globalRegistry);
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  /**
+   * @param syncModuleName the name of the sync module, see {@link
+   *     com.commercetools.project.sync.util.SyncUtils#getSyncModuleName(Class)}.
+   * @return the executor of the given sync module, which is created on first use.
+   */
+  @Nonnull
+  public Executor get(@Nonnull final String syncModuleName) {
+    return executors.computeIfAbsent(syncModuleName, this::createExecutor);
+  }
+
+  @Nonnull
+  private ThreadPoolExecutor createExecutor(@Nonnull final String syncModuleName) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ThreadFactory threadFactory =
+        runnable -> {
+          final Thread thread =
+              new Thread(runnable, syncModuleName + "-worker-" + threadCount.incrementAndGet());
+          // the executors are not shut down when a run is aborted, so they must not keep it alive.
+          thread.setDaemon(true);
+          return thread;
+        };
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    final Counter saturations =
+        SyncMetrics.registerModuleExecutor(registry, syncModuleName, executor);
+    executor.setRejectedExecutionHandler(
+        (runnable, rejectingExecutor) -> {
+          if (!rejectingExecutor.isShutdown()) {
+            saturations.increment();
+          }
+          runnable.run();
+        });
+    return executor;
+  }
+
+  /**
+   * Shuts down the executors of all modules after the tasks submitted so far. A module which is
+   * synced again afterwards gets a new executor.
+   */
+  public void shutdown() {
+    executors.values().forEach(ThreadPoolExecutor::shutdown);
+    executors.clear();
+  }
+}
@@ -0,0 +1,224 @@
+package com.commercetools.project.sync.executor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import javax.annotation.Nonnull;
+
+/**
+ * A fork-join pool on which the syncers transform large pages of resources to drafts, if the
+ * transformation of every resource is independent of the others. A page larger than the chunk size
+ * is split in halves until every part has at most the chunk size, and the parts are transformed in
+ * parallel on the threads of the pool. Smaller pages are transformed on the calling thread, since
+ * forking them costs more than it saves. The drafts keep the order of their resources either way.
+ *
+ * <p>The pool is shared by all the syncers of one run, so its threads bound the CPU used for the
+ * transformations of all modules. The CPU time spent transforming a page is passed to the caller,
+ * which records it per sync module.
+ */
+public final class TransformPool {
+
+  public static final int DEFAULT_CHUNK_SIZE = 50;
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private final int threads;
+  private final int chunkSize;
+  private ForkJoinPool pool;
+
+  private TransformPool(final int threads, final int chunkSize) {
+    this.threads = threads;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @param threads the number of threads of the pool.
+   * @param chunkSize the number of resources up to which a page, or a part of it, is transformed on
+   *     one thread.
+   * @return the pool.
+   */
+  @Nonnull
+  public static TransformPool of(final int threads, final int chunkSize) {
+    return new TransformPool(threads, chunkSize);
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Transforms every resource of the given page with the given function, in parallel chunks if the
+   * page is larger than the chunk size.
+   *
+   * @param page the resources to transform.
+   * @param toDraft transforms one resource; it is called from several threads at the same time.
+   * @param cpuTimeRecorder receives the CPU time in nanoseconds spent by every chunk.
+   * @param <ResourceT> the type of the resources.
+   * @param <DraftT> the type of the drafts.
+   * @return the stage of the drafts, in the order of their resources.
+   */
+  @Nonnull
+  public <ResourceT, DraftT> CompletableFuture<List<DraftT>> transform(
+      @Nonnull final List<ResourceT> page,
+      @Nonnull final Function<ResourceT, DraftT> toDraft,
+      @Nonnull final LongConsumer cpuTimeRecorder) {
+    if (page.size() <= chunkSize) {
+      return CompletableFuture.completedFuture(
+          transformSequentially(page, toDraft, cpuTimeRecorder));
+    }
+    final Object[] drafts = new Object[page.size()];
+    return CompletableFuture.supplyAsync(
+        () -> {
+          new ChunkTransformation<>(page, toDraft, cpuTimeRecorder, drafts, chunkSize).invoke();
+          return toList(drafts);
+        },
+        getPool());
+  }
+
+  /**
+   * Transforms every resource of the given page with the given function on the calling thread.
+   *
+   * @param page the resources to transform.
+   * @param toDraft transforms one resource.
+   * @param cpuTimeRecorder receives the CPU time in nanoseconds spent on the page.
+   * @param <ResourceT> the type of the resources.
+   * @param <DraftT> the type of the drafts.
+   * @return the drafts, in the order of their resources.
+   */
+  @Nonnull
+  public static <ResourceT, DraftT> List<DraftT> transformSequentially(
+      @Nonnull final List<ResourceT> page,
+      @Nonnull final Function<ResourceT, DraftT> toDraft,
+      @Nonnull final LongConsumer cpuTimeRecorder) {
+    final long cpuTimeBefore = currentThreadCpuTime();
+    final List<DraftT> drafts = new ArrayList<>(page.size());
+    for (ResourceT resource : page) {
+      drafts.add(toDraft.apply(resource));
+    }
+    recordCpuTimeSince(cpuTimeBefore, cpuTimeRecorder);
+    return drafts;
+  }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static <DraftT> List<DraftT> toList(@Nonnull final Object[] drafts) {
+    return new ArrayList<>((List<DraftT>) Arrays.asList(drafts));
+  }
+
+  /* Returns -1 if the JVM does not measure the CPU time of threads. */
+  private static long currentThreadCpuTime() {
+    return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+        ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+        : -1;
+  }
+
+  private static void recordCpuTimeSince(
+      final long cpuTimeBefore, @Nonnull final LongConsumer cpuTimeRecorder) {
+    if (cpuTimeBefore >= 0) {
+      cpuTimeRecorder.accept(currentThreadCpuTime() - cpuTimeBefore);
+    }
+  }
+
+  /* The fork-join pool is created on first use, and again after a shutdown. */
+  @Nonnull
+  private synchronized ForkJoinPool getPool() {
+    if (pool == null) {
+      // the worker threads of a fork-join pool are daemon threads, so they never keep a run alive.
+      pool =
+          new ForkJoinPool(
+              threads,
+              forkJoinPool -> {
+                final ForkJoinWorkerThread thread =
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("transform-worker-" + thread.getPoolIndex());
+                return thread;
+              },
+              null,
+              false);
+    }
+    return pool;
+  }
+
+  /**
+   * Shuts down the pool after the transformations submitted so far. A page which is transformed
+   * afterwards starts a new pool.
+   */
+  public synchronized void shutdown() {
+    if (pool != null) {
+      pool.shutdown();
+      pool = null;
+    }
+  }
+
+  /**
+   * Transforms the resources of the range [from, to) of a page into the same range of the drafts,
+   * so the parts of a page need no merging and keep the order of the resources.
+   */
+  private static final class ChunkTransformation<ResourceT, DraftT> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<ResourceT> page;
+    private final transient Function<ResourceT, DraftT> toDraft;
+    private final transient LongConsumer cpuTimeRecorder;
+    private final transient Object[] drafts;
+    private final int chunkSize;
+    private final int from;
+    private final int to;
+
+    private ChunkTransformation(
+        @Nonnull final List<ResourceT> page,
+        @Nonnull final Function<ResourceT, DraftT> toDraft,
+        @Nonnull final LongConsumer cpuTimeRecorder,
+        @Nonnull final Object[] drafts,
+        final int chunkSize) {
+      this(page, toDraft, cpuTimeRecorder, drafts, chunkSize, 0, page.size());
+    }
+
+    private ChunkTransformation(
+        @Nonnull final List<ResourceT> page,
+        @Nonnull final Function<ResourceT, DraftT> toDraft,
+        @Nonnull final LongConsumer cpuTimeRecorder,
+        @Nonnull final Object[] drafts,
+        final int chunkSize,
+        final int from,
+        final int to) {
+      this.page = page;
+      this.toDraft = toDraft;
+      this.cpuTimeRecorder = cpuTimeRecorder;
+      this.drafts = drafts;
+      this.chunkSize = chunkSize;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= chunkSize) {
+        final long cpuTimeBefore = currentThreadCpuTime();
+        for (int index = from; index < to; index++) {
+          drafts[index] = toDraft.apply(page.get(index));
+        }
+        recordCpuTimeSince(cpuTimeBefore, cpuTimeRecorder);
+        return;
+      }
+      final int middle = (from + to) >>> 1;
+      invokeAll(
+          new ChunkTransformation<>(
+              page, toDraft, cpuTimeRecorder, drafts, chunkSize, from, middle),
+          new ChunkTransformation<>(page, toDraft, cpuTimeRecorder, drafts, chunkSize, middle, to));
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static com.commercetools.project.sync.util.SyncUtils.IDENTIFIER_NOT_PRESE
 import static com.commercetools.project.sync.util.SyncUtils.logErrorCallback;
 import static com.commercetools.project.sync.util.SyncUtils.logWarningCallback;
 import static com.commercetools.sync.inventories.utils.InventoryTransformUtils.toInventoryEntryDrafts;
+import static java.lang.String.format;
 
 import com.commercetools.api.client.ByProjectKeyInventoryGet;
 import com.commercetools.api.client.ProjectApiRoot;
@@ -13,6 +14,7 @@ import com.commercetools.api.models.inventory.InventoryEntryUpdateAction;
 import com.commercetools.api.models.inventory.InventoryPagedQueryResponse;
 import com.commercetools.api.predicates.query.inventory.InventoryEntryQueryBuilderDsl;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.commons.exceptions.SyncException;
@@ -26,6 +28,7 @@ import java.time.Clock;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,14 +53,39 @@ public final class InventoryEntrySyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
-      @Nonnull final Clock clock) {
-    super(inventorySync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(inventorySync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   public static InventoryEntrySyncer of(
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static InventoryEntrySyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static InventoryEntrySyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
 
     final QuadConsumer<
             SyncException,
@@ -88,10 +116,8 @@ public final class InventoryEntrySyncer
 
     final InventorySync inventorySync = new InventorySync(syncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
     return new InventoryEntrySyncer(
-        inventorySync, sourceClient, targetClient, customObjectService, clock);
+        inventorySync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -107,6 +133,19 @@ public final class InventoryEntrySyncer
     return getSourceClient().inventory().get();
   }
 
+  /**
+   * Identifies an inventory entry draft by its SKU and the key of its supply channel, which is how
+   * the inventory sync matches it with a target inventory entry.
+   */
+  @Nonnull
+  @Override
+  protected Function<InventoryEntryDraft, String> getDraftIdentifier() {
+    return draft ->
+        draft.getSupplyChannel() == null
+            ? draft.getSku()
+            : format("%s|%s", draft.getSku(), draft.getSupplyChannel().getKey());
+  }
+
   @Nonnull
   @Override
   protected Logger getLoggerInstance() {
@@ -0,0 +1,118 @@
+package com.commercetools.project.sync.metrics;
+
+import static java.lang.String.format;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports the meters of the global Micrometer registry, e.g. the {@link SyncMetrics} of all sync
+ * modules and the retries of the clients, in the Prometheus text format while a sync runs. The
+ * meters can be scraped from a local HTTP endpoint during the run, and they can be written to a
+ * file at the end of the run, e.g. for the textfile collector of the Prometheus node exporter when
+ * the sync runs as a cron job.
+ */
+public final class MetricsExporter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MetricsExporter.class);
+
+  /** The path of the scrape endpoint. */
+  public static final String SCRAPE_PATH = "/metrics";
+
+  private final PrometheusMeterRegistry registry;
+  private final HttpServer server;
+  private final Path metricsFile;
+
+  private MetricsExporter(
+      @Nonnull final PrometheusMeterRegistry registry,
+      @Nullable final HttpServer server,
+      @Nullable final Path metricsFile) {
+    this.registry = registry;
+    this.server = server;
+    this.metricsFile = metricsFile;
+  }
+
+  /**
+   * Adds a Prometheus registry to the global registry and starts the scrape endpoint, if a port is
+   * given.
+   *
+   * @param port the local port of the scrape endpoint, or {@code null} for no endpoint.
+   * @param metricsFile the file to write the meters to when the exporter is stopped, or {@code
+   *     null} for no file.
+   * @return the started exporter, which has to be stopped after the run.
+   * @throws IOException if the scrape endpoint cannot be started.
+   */
+  @Nonnull
+  public static MetricsExporter start(
+      @Nullable final Integer port, @Nullable final Path metricsFile) throws IOException {
+    final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    HttpServer server = null;
+    if (port != null) {
+      server = HttpServer.create(new InetSocketAddress(port), 0);
+      server.createContext(SCRAPE_PATH, exchange -> respond(exchange, registry.scrape()));
+      server.start();
+      if (LOGGER.isInfoEnabled()) {
+        LOGGER.info(format("Serving metrics on http://localhost:%d%s", port, SCRAPE_PATH));
+      }
+    }
+    Metrics.globalRegistry.add(registry);
+    return new MetricsExporter(registry, server, metricsFile);
+  }
+
+  private static void respond(@Nonnull final HttpExchange exchange, @Nonnull final String body)
+      throws IOException {
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", TextFormat.CONTENT_TYPE_004);
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      responseBody.write(bytes);
+    }
+  }
+
+  /** @return the current values of all meters in the Prometheus text format. */
+  @Nonnull
+  public String scrape() {
+    return registry.scrape();
+  }
+
+  /**
+   * Writes the meters to the metrics file, if one is configured, stops the scrape endpoint and
+   * removes the Prometheus registry from the global registry again. The file is written to a
+   * temporary file first, so a collector never reads a partially written file. A failure to write
+   * it is only logged, as it must not fail the sync.
+   */
+  public void stop() {
+    if (metricsFile != null) {
+      final Path temporaryFile = metricsFile.resolveSibling(metricsFile.getFileName() + ".tmp");
+      try {
+        Files.write(temporaryFile, scrape().getBytes(StandardCharsets.UTF_8));
+        Files.move(
+            temporaryFile,
+            metricsFile,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException exception) {
+        LOGGER.warn(format("Failed to write the metrics to %s.", metricsFile), exception);
+      }
+    }
+    if (server != null) {
+      server.stop(0);
+    }
+    Metrics.globalRegistry.remove(registry);
+    registry.close();
+  }
+}
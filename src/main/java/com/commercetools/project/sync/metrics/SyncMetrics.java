@@ -0,0 +1,301 @@
+package com.commercetools.project.sync.metrics;
+
+import com.commercetools.project.sync.client.AdaptiveConcurrencyLimiter;
+import com.commercetools.sync.commons.helpers.BaseSyncStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+/**
+ * Records the progress of one sync module while it runs: the fetched pages, the transformed
+ * resources, the created, updated and failed resources, and the time spent in fetching,
+ * transforming and syncing the pages. All meters are tagged with the name of the sync module (e.g.
+ * "ProductSync"), so the syncers of the partitions of one module add up to the same meters.
+ *
+ * <p>The meters are registered in the global Micrometer registry, which discards them unless a
+ * {@link MetricsExporter} is started, so recording costs next to nothing by default.
+ */
+public final class SyncMetrics {
+
+  public static final String PAGES_METER = "project.sync.pages";
+  public static final String RESOURCES_METER = "project.sync.resources";
+  public static final String STAGE_DURATION_METER = "project.sync.stage.duration";
+  public static final String RETRIES_METER = "project.sync.http.retries";
+  public static final String CONCURRENCY_LIMIT_METER = "project.sync.http.concurrency.limit";
+  public static final String IN_FLIGHT_REQUESTS_METER = "project.sync.http.requests.in.flight";
+  public static final String EXECUTOR_SATURATED_METER = "project.sync.executor.saturated";
+  public static final String PAGE_SIZE_METER = "project.sync.page.size";
+  public static final String TRANSFORM_CPU_TIME_METER = "project.sync.transform.cpu.time";
+  public static final String MODULE_TAG = "module";
+
+  private final MeterRegistry registry;
+  private final String syncModuleName;
+  private final Counter fetchedPages;
+  private final Counter fetchedResources;
+  private final Counter transformedResources;
+  private final Counter createdResources;
+  private final Counter updatedResources;
+  private final Counter failedResources;
+  private final Counter unchangedResources;
+  private final Timer fetchDuration;
+  private final Timer transformDuration;
+  private final Timer syncDuration;
+  private final Counter transformCpuTime;
+
+  SyncMetrics(@Nonnull final MeterRegistry registry, @Nonnull final String syncModuleName) {
+    this.registry = registry;
+    this.syncModuleName = syncModuleName;
+    this.fetchedPages =
+        Counter.builder(PAGES_METER)
+            .description("Pages of resources fetched from the source project.")
+            .tag(MODULE_TAG, syncModuleName)
+            .register(registry);
+    this.fetchedResources = resourcesCounter(registry, syncModuleName, "fetched");
+    this.transformedResources = resourcesCounter(registry, syncModuleName, "transformed");
+    this.createdResources = resourcesCounter(registry, syncModuleName, "created");
+    this.updatedResources = resourcesCounter(registry, syncModuleName, "updated");
+    this.failedResources = resourcesCounter(registry, syncModuleName, "failed");
+    this.unchangedResources = resourcesCounter(registry, syncModuleName, "unchanged");
+    this.fetchDuration = stageTimer(registry, syncModuleName, "fetch");
+    this.transformDuration = stageTimer(registry, syncModuleName, "transform");
+    this.syncDuration = stageTimer(registry, syncModuleName, "sync");
+    this.transformCpuTime =
+        Counter.builder(TRANSFORM_CPU_TIME_METER)
+            .description("CPU time spent in transforming the pages, on all threads.")
+            .baseUnit("seconds")
+            .tag(MODULE_TAG, syncModuleName)
+            .register(registry);
+  }
+
+  /**
+   * @param syncModuleName the name of the sync module, see {@link
+   *     com.commercetools.project.sync.util.SyncUtils#getSyncModuleName(Class)}.
+   * @return the meters of the given sync module in the global registry.
+   */
+  @Nonnull
+  public static SyncMetrics of(@Nonnull final String syncModuleName) {
+    return new SyncMetrics(Metrics.globalRegistry, syncModuleName);
+  }
+
+  /**
+   * @param clientName the name of the client, e.g. "source" or "target".
+   * @return the counter of the requests of the given client which are retried by its retry
+   *     middleware, in the global registry. The clients are shared by all sync modules, so the
+   *     retries are not counted per module.
+   */
+  @Nonnull
+  public static Counter retriesCounter(@Nonnull final String clientName) {
+    return Counter.builder(RETRIES_METER)
+        .description("Requests retried after a server error.")
+        .tag("client", clientName)
+        .register(Metrics.globalRegistry);
+  }
+
+  /**
+   * Registers the current limit and the executed requests of the adaptive concurrency limiter of
+   * the given client in the global registry.
+   *
+   * @param clientName the name of the client, e.g. "target".
+   * @param concurrencyLimiter the concurrency limiter of the client.
+   */
+  public static void registerConcurrencyLimiter(
+      @Nonnull final String clientName,
+      @Nonnull final AdaptiveConcurrencyLimiter concurrencyLimiter) {
+    Gauge.builder(CONCURRENCY_LIMIT_METER, concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+        .description("Requests the client executes at the same time at most.")
+        .tag("client", clientName)
+        .strongReference(true)
+        .register(Metrics.globalRegistry);
+    Gauge.builder(
+            IN_FLIGHT_REQUESTS_METER, concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+        .description("Requests the client executes right now.")
+        .tag("client", clientName)
+        .strongReference(true)
+        .register(Metrics.globalRegistry);
+  }
+
+  /**
+   * Registers the pool size, the active threads and the queued tasks of the executor of the given
+   * sync module in the given registry, as the executor meters of Micrometer tagged with the module.
+   *
+   * @param registry the registry to register the meters in.
+   * @param syncModuleName the name of the sync module, e.g. "ProductSync".
+   * @param executor the executor of the sync module.
+   * @return the counter of the tasks which found the executor saturated, i.e. all its threads busy
+   *     and its queue full.
+   */
+  @Nonnull
+  public static Counter registerModuleExecutor(
+      @Nonnull final MeterRegistry registry,
+      @Nonnull final String syncModuleName,
+      @Nonnull final ExecutorService executor) {
+    new ExecutorServiceMetrics(executor, syncModuleName, Tags.of(MODULE_TAG, syncModuleName))
+        .bindTo(registry);
+    return Counter.builder(EXECUTOR_SATURATED_METER)
+        .description("Tasks run by the submitting thread, as the executor of the module was full.")
+        .tag(MODULE_TAG, syncModuleName)
+        .register(registry);
+  }
+
+  @Nonnull
+  private static Counter resourcesCounter(
+      @Nonnull final MeterRegistry registry,
+      @Nonnull final String syncModuleName,
+      @Nonnull final String result) {
+    return Counter.builder(RESOURCES_METER)
+        .description("Resources of the sync module, by the step they passed.")
+        .tag(MODULE_TAG, syncModuleName)
+        .tag("result", result)
+        .register(registry);
+  }
+
+  @Nonnull
+  private static Timer stageTimer(
+      @Nonnull final MeterRegistry registry,
+      @Nonnull final String syncModuleName,
+      @Nonnull final String stage) {
+    return Timer.builder(STAGE_DURATION_METER)
+        .description("Time spent per page in fetching, transforming and syncing it.")
+        .tag(MODULE_TAG, syncModuleName)
+        .tag("stage", stage)
+        .register(registry);
+  }
+
+  /**
+   * Starts to measure the fetch time of the pages of one query. The pages of a query are fetched
+   * one after the other, each one after the previous page was consumed, so the fetch time of a page
+   * is the time from the consumption of the previous page, or from the start of the query, until
+   * the page arrives.
+   *
+   * @return the timer to notify about every fetched and consumed page of the query.
+   */
+  @Nonnull
+  public FetchTimer startFetchTimer() {
+    return new FetchTimer();
+  }
+
+  /**
+   * Measures the transformation of one page and counts the transformed resources.
+   *
+   * @param transformation starts the transformation of the page.
+   * @param <DraftT> the type of the drafts the page is transformed to.
+   * @return the stage of the transformation.
+   */
+  @Nonnull
+  public <DraftT> CompletionStage<List<DraftT>> recordTransform(
+      @Nonnull final Supplier<CompletionStage<List<DraftT>>> transformation) {
+    final Timer.Sample sample = Timer.start(registry);
+    return transformation
+        .get()
+        .whenComplete(
+            (drafts, throwable) -> {
+              sample.stop(transformDuration);
+              if (drafts != null) {
+                transformedResources.increment(drafts.size());
+              }
+            });
+  }
+
+  /**
+   * Measures the sync of one page and counts the created, updated and failed resources of it. The
+   * pages of one sync instance are synced one after the other, so the difference of its statistics
+   * before and after the page are the results of the page.
+   *
+   * @param statistics the statistics of the sync instance which syncs the page.
+   * @param pageSync starts the sync of the page.
+   * @param <ResultT> the result of the sync of the page.
+   * @return the stage of the sync.
+   */
+  @Nonnull
+  public <ResultT> CompletionStage<ResultT> recordSync(
+      @Nonnull final BaseSyncStatistics<?> statistics,
+      @Nonnull final Supplier<CompletionStage<ResultT>> pageSync) {
+    final int createdBefore = statistics.getCreated().get();
+    final int updatedBefore = statistics.getUpdated().get();
+    final int failedBefore = statistics.getFailed().get();
+    final Timer.Sample sample = Timer.start(registry);
+    return pageSync
+        .get()
+        .whenComplete(
+            (ignoredResult, throwable) -> {
+              sample.stop(syncDuration);
+              createdResources.increment(statistics.getCreated().get() - createdBefore);
+              updatedResources.increment(statistics.getUpdated().get() - updatedBefore);
+              failedResources.increment(statistics.getFailed().get() - failedBefore);
+            });
+  }
+
+  /**
+   * Registers the number of resources the sync module fetches with its next query, if its page size
+   * adapts to the observed pages. The syncers of the partitions of one module share the gauge of
+   * the first of them.
+   *
+   * @param pageSize supplies the current page size.
+   */
+  public void registerPageSize(@Nonnull final IntSupplier pageSize) {
+    Gauge.builder(PAGE_SIZE_METER, pageSize::getAsInt)
+        .description("Resources the sync module fetches with its next query.")
+        .tag(MODULE_TAG, syncModuleName)
+        .strongReference(true)
+        .register(registry);
+  }
+
+  /**
+   * Counts the resources whose drafts were skipped, as they did not change since their last sync.
+   *
+   * @param count the number of skipped drafts.
+   */
+  public void recordUnchanged(final int count) {
+    unchangedResources.increment(count);
+  }
+
+  /**
+   * Adds the CPU time spent by one thread in transforming (a part of) a page. Unlike the duration
+   * of the transform stage, it adds up the time of all threads a page is transformed on in parallel
+   * and leaves out the time the threads wait.
+   *
+   * @param cpuTimeInNanos the CPU time in nanoseconds.
+   */
+  public void recordTransformCpuTime(final long cpuTimeInNanos) {
+    transformCpuTime.increment(cpuTimeInNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  /** Measures the fetch time of the pages of one query, see {@link #startFetchTimer()}. */
+  public final class FetchTimer {
+    private final AtomicLong waitingSinceInNanos;
+
+    private FetchTimer() {
+      this.waitingSinceInNanos = new AtomicLong(registry.config().clock().monotonicTime());
+    }
+
+    /**
+     * Records the fetch time of the given page, which has just arrived.
+     *
+     * @param pageSize the number of resources of the page.
+     */
+    public void onPageFetched(final int pageSize) {
+      fetchDuration.record(
+          registry.config().clock().monotonicTime() - waitingSinceInNanos.get(),
+          TimeUnit.NANOSECONDS);
+      fetchedPages.increment();
+      fetchedResources.increment(pageSize);
+    }
+
+    /** Starts to wait for the next page, after the current page was consumed. */
+    public void onPageConsumed() {
+      waitingSinceInNanos.set(registry.config().clock().monotonicTime());
+    }
+  }
+}
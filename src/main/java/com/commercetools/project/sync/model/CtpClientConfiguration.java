@@ -0,0 +1,273 @@
+package com.commercetools.project.sync.model;
+
+import static java.lang.String.format;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Holds the HTTP settings of the client of one commercetools project, i.e. the source or the target
+ * project: the request concurrency, the connection pool, the protocol, the timeouts, the retry of
+ * failed requests and the adaptive concurrency limit. The settings which are not set keep the
+ * defaults of the commercetools HTTP client, so an empty configuration builds the same client as
+ * before the settings existed.
+ */
+public final class CtpClientConfiguration {
+
+  public static final int DEFAULT_MAX_REQUESTS = 200;
+  public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 200;
+  public static final int DEFAULT_MAX_RETRIES = 5;
+  public static final Duration DEFAULT_RETRY_INITIAL_DELAY = Duration.ofMillis(200);
+  public static final Duration DEFAULT_RETRY_MAX_DELAY = Duration.ofMinutes(1);
+
+  private final int maxRequests;
+  private final int maxRequestsPerHost;
+  private final Integer connectionPoolSize;
+  private final Duration keepAlive;
+  private final Boolean http2Enabled;
+  private final Duration connectTimeout;
+  private final Duration readTimeout;
+  private final int maxRetries;
+  private final Duration retryInitialDelay;
+  private final Duration retryMaxDelay;
+  private final double retryJitterFactor;
+  private final boolean adaptiveConcurrencyEnabled;
+
+  private CtpClientConfiguration(@Nonnull final Builder builder) {
+    this.maxRequests = builder.maxRequests;
+    this.maxRequestsPerHost = builder.maxRequestsPerHost;
+    this.connectionPoolSize = builder.connectionPoolSize;
+    this.keepAlive = builder.keepAlive;
+    this.http2Enabled = builder.http2Enabled;
+    this.connectTimeout = builder.connectTimeout;
+    this.readTimeout = builder.readTimeout;
+    this.maxRetries = builder.maxRetries;
+    this.retryInitialDelay = builder.retryInitialDelay;
+    this.retryMaxDelay = builder.retryMaxDelay;
+    this.retryJitterFactor = builder.retryJitterFactor;
+    this.adaptiveConcurrencyEnabled = builder.adaptiveConcurrencyEnabled;
+  }
+
+  @Nonnull
+  public static CtpClientConfiguration defaults() {
+    return builder().build();
+  }
+
+  @Nonnull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** The maximum number of requests which are executed at the same time. */
+  public int getMaxRequests() {
+    return maxRequests;
+  }
+
+  /** The maximum number of requests to the same host which are executed at the same time. */
+  public int getMaxRequestsPerHost() {
+    return maxRequestsPerHost;
+  }
+
+  /**
+   * The maximum number of idle connections kept in the connection pool, or {@code null} to keep the
+   * default of the HTTP client.
+   */
+  @Nullable
+  public Integer getConnectionPoolSize() {
+    return connectionPoolSize;
+  }
+
+  /**
+   * The time an idle connection is kept in the connection pool, or {@code null} to keep the default
+   * of the HTTP client.
+   */
+  @Nullable
+  public Duration getKeepAlive() {
+    return keepAlive;
+  }
+
+  /**
+   * Whether HTTP/2 is negotiated with the API, which multiplexes the requests over few connections,
+   * or only HTTP/1.1 is used. {@code null} keeps the default of the HTTP client.
+   */
+  @Nullable
+  public Boolean getHttp2Enabled() {
+    return http2Enabled;
+  }
+
+  /** The connect timeout, or {@code null} to keep the default of the HTTP client. */
+  @Nullable
+  public Duration getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  /** The read timeout, or {@code null} to keep the default of the HTTP client. */
+  @Nullable
+  public Duration getReadTimeout() {
+    return readTimeout;
+  }
+
+  /** How often a request which failed with a server error is retried. */
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /** The delay before the first retry, which doubles with every further retry. */
+  @Nonnull
+  public Duration getRetryInitialDelay() {
+    return retryInitialDelay;
+  }
+
+  /** The maximum delay between two retries. */
+  @Nonnull
+  public Duration getRetryMaxDelay() {
+    return retryMaxDelay;
+  }
+
+  /**
+   * The factor by which every retry delay is randomly increased or decreased, e.g. 0.25 for up to
+   * 25%, so the clients of parallel modules do not retry at the same time. 0 means no jitter.
+   */
+  public double getRetryJitterFactor() {
+    return retryJitterFactor;
+  }
+
+  /**
+   * Whether the number of concurrent requests is adapted to the latency and the 429 and 503
+   * responses of the API, between 1 and {@link #getMaxRequests()}, see {@link
+   * com.commercetools.project.sync.client.AdaptiveConcurrencyLimiter}.
+   */
+  public boolean isAdaptiveConcurrencyEnabled() {
+    return adaptiveConcurrencyEnabled;
+  }
+
+  public static final class Builder {
+    private int maxRequests = DEFAULT_MAX_REQUESTS;
+    private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+    private Integer connectionPoolSize;
+    private Duration keepAlive;
+    private Boolean http2Enabled;
+    private Duration connectTimeout;
+    private Duration readTimeout;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private Duration retryInitialDelay = DEFAULT_RETRY_INITIAL_DELAY;
+    private Duration retryMaxDelay = DEFAULT_RETRY_MAX_DELAY;
+    private double retryJitterFactor;
+    private boolean adaptiveConcurrencyEnabled;
+
+    private Builder() {}
+
+    @Nonnull
+    public Builder maxRequests(final int maxRequests) {
+      if (maxRequests < 1) {
+        throw new IllegalArgumentException(
+            format("max requests %s cannot be less than 1.", maxRequests));
+      }
+      this.maxRequests = maxRequests;
+      return this;
+    }
+
+    @Nonnull
+    public Builder maxRequestsPerHost(final int maxRequestsPerHost) {
+      if (maxRequestsPerHost < 1) {
+        throw new IllegalArgumentException(
+            format("max requests per host %s cannot be less than 1.", maxRequestsPerHost));
+      }
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      return this;
+    }
+
+    @Nonnull
+    public Builder connectionPoolSize(final int connectionPoolSize) {
+      if (connectionPoolSize < 0) {
+        throw new IllegalArgumentException(
+            format("connection pool size %s cannot be negative.", connectionPoolSize));
+      }
+      this.connectionPoolSize = connectionPoolSize;
+      return this;
+    }
+
+    @Nonnull
+    public Builder keepAlive(@Nonnull final Duration keepAlive) {
+      this.keepAlive = requirePositive("keep alive", keepAlive);
+      return this;
+    }
+
+    @Nonnull
+    public Builder http2Enabled(final boolean http2Enabled) {
+      this.http2Enabled = http2Enabled;
+      return this;
+    }
+
+    @Nonnull
+    public Builder connectTimeout(@Nonnull final Duration connectTimeout) {
+      this.connectTimeout = requirePositive("connect timeout", connectTimeout);
+      return this;
+    }
+
+    @Nonnull
+    public Builder readTimeout(@Nonnull final Duration readTimeout) {
+      this.readTimeout = requirePositive("read timeout", readTimeout);
+      return this;
+    }
+
+    @Nonnull
+    public Builder maxRetries(final int maxRetries) {
+      if (maxRetries < 0) {
+        throw new IllegalArgumentException(
+            format("max retries %s cannot be negative.", maxRetries));
+      }
+      this.maxRetries = maxRetries;
+      return this;
+    }
+
+    @Nonnull
+    public Builder retryInitialDelay(@Nonnull final Duration retryInitialDelay) {
+      this.retryInitialDelay = requirePositive("retry initial delay", retryInitialDelay);
+      return this;
+    }
+
+    @Nonnull
+    public Builder retryMaxDelay(@Nonnull final Duration retryMaxDelay) {
+      this.retryMaxDelay = requirePositive("retry max delay", retryMaxDelay);
+      return this;
+    }
+
+    @Nonnull
+    public Builder retryJitterFactor(final double retryJitterFactor) {
+      if (retryJitterFactor < 0 || retryJitterFactor > 1) {
+        throw new IllegalArgumentException(
+            format("retry jitter factor %s must be between 0 and 1.", retryJitterFactor));
+      }
+      this.retryJitterFactor = retryJitterFactor;
+      return this;
+    }
+
+    @Nonnull
+    public Builder adaptiveConcurrencyEnabled(final boolean adaptiveConcurrencyEnabled) {
+      this.adaptiveConcurrencyEnabled = adaptiveConcurrencyEnabled;
+      return this;
+    }
+
+    @Nonnull
+    public CtpClientConfiguration build() {
+      if (retryMaxDelay.compareTo(retryInitialDelay) < 0) {
+        throw new IllegalArgumentException(
+            format(
+                "retry max delay %s cannot be less than the retry initial delay %s.",
+                retryMaxDelay, retryInitialDelay));
+      }
+      return new CtpClientConfiguration(this);
+    }
+
+    @Nonnull
+    private static Duration requirePositive(
+        @Nonnull final String name, @Nonnull final Duration duration) {
+      if (duration.isZero() || duration.isNegative()) {
+        throw new IllegalArgumentException(format("%s %s must be positive.", name, duration));
+      }
+      return duration;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.commercetools.project.sync.model;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A range of resource ids, used to split a full sync of one resource type into disjoint parts which
+ * can be fetched in parallel. Resource ids on commercetools are UUIDs, so the ranges are built by
+ * splitting the space of their first 4 hexadecimal characters into equally sized parts.
+ *
+ * <p>The first range has no lower bound and the last range has no upper bound, so the ranges of one
+ * split always cover every possible id, even ids which are not UUIDs.
+ */
+public final class IdRangePartition {
+
+  private static final int ID_PREFIX_SPACE = 0x10000;
+  public static final int MAX_PARTITIONS = ID_PREFIX_SPACE;
+
+  private final String lowerBoundInclusive;
+  private final String upperBoundExclusive;
+
+  private IdRangePartition(
+      @Nullable final String lowerBoundInclusive, @Nullable final String upperBoundExclusive) {
+    this.lowerBoundInclusive = lowerBoundInclusive;
+    this.upperBoundExclusive = upperBoundExclusive;
+  }
+
+  /**
+   * Splits the id space into {@code numberOfPartitions} disjoint ranges, ordered by their bounds.
+   *
+   * @param numberOfPartitions the number of ranges to build, between 1 and {@link #MAX_PARTITIONS}.
+   * @return the list of the disjoint ranges which together cover every id.
+   */
+  @Nonnull
+  public static List<IdRangePartition> split(final int numberOfPartitions) {
+    if (numberOfPartitions < 1 || numberOfPartitions > MAX_PARTITIONS) {
+      throw new IllegalArgumentException(
+          format(
+              "number of partitions %s must be between 1 and %s.",
+              numberOfPartitions, MAX_PARTITIONS));
+    }
+
+    final List<IdRangePartition> partitions = new ArrayList<>(numberOfPartitions);
+    String lowerBound = null;
+    for (int index = 1; index < numberOfPartitions; index++) {
+      final long prefix = (long) index * ID_PREFIX_SPACE / numberOfPartitions;
+      final String upperBound = format("%04x", prefix);
+      partitions.add(new IdRangePartition(lowerBound, upperBound));
+      lowerBound = upperBound;
+    }
+    partitions.add(new IdRangePartition(lowerBound, null));
+    return partitions;
+  }
+
+  @Nullable
+  public String getLowerBoundInclusive() {
+    return lowerBoundInclusive;
+  }
+
+  @Nullable
+  public String getUpperBoundExclusive() {
+    return upperBoundExclusive;
+  }
+
+  /**
+   * @return the query predicate which restricts a query to the ids of this range, or {@code null}
+   *     if the range is not bounded at all.
+   */
+  @Nullable
+  public String toQueryPredicate() {
+    if (lowerBoundInclusive != null && upperBoundExclusive != null) {
+      return format("id >= \"%s\" and id < \"%s\"", lowerBoundInclusive, upperBoundExclusive);
+    }
+    if (lowerBoundInclusive != null) {
+      return format("id >= \"%s\"", lowerBoundInclusive);
+    }
+    if (upperBoundExclusive != null) {
+      return format("id < \"%s\"", upperBoundExclusive);
+    }
+    return null;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof IdRangePartition)) {
+      return false;
+    }
+    final IdRangePartition that = (IdRangePartition) o;
+    return Objects.equals(lowerBoundInclusive, that.lowerBoundInclusive)
+        && Objects.equals(upperBoundExclusive, that.upperBoundExclusive);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(lowerBoundInclusive, upperBoundExclusive);
+  }
+
+  @Override
+  public String toString() {
+    return format("[%s, %s)", lowerBoundInclusive, upperBoundExclusive);
+  }
+}
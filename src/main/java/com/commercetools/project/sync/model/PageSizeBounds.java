@@ -0,0 +1,75 @@
+package com.commercetools.project.sync.model;
+
+import static java.lang.String.format;
+
+import java.util.Objects;
+import javax.annotation.Nonnull;
+
+/**
+ * The smallest and the largest number of resources which are fetched with one query from the source
+ * project by a sync module whose page size adapts to the observed pages, see {@link
+ * SyncerConfiguration#getPageSizeBounds(String)}. The same bounds fix the page size.
+ */
+public final class PageSizeBounds {
+
+  /* The largest page size the commercetools API accepts as the limit of a query. */
+  public static final int MAX_PAGE_SIZE = 500;
+
+  private final int min;
+  private final int max;
+
+  private PageSizeBounds(final int min, final int max) {
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * @param min the smallest page size, at least 1.
+   * @param max the largest page size, at least {@code min} and at most {@link #MAX_PAGE_SIZE}.
+   * @return the bounds of the page size.
+   */
+  @Nonnull
+  public static PageSizeBounds of(final int min, final int max) {
+    if (min < 1 || max < min || max > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          format(
+              "page sizes %s to %s must be ascending and between 1 and %s.",
+              min, max, MAX_PAGE_SIZE));
+    }
+    return new PageSizeBounds(min, max);
+  }
+
+  public int getMin() {
+    return min;
+  }
+
+  public int getMax() {
+    return max;
+  }
+
+  public boolean isFixed() {
+    return min == max;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof PageSizeBounds)) {
+      return false;
+    }
+    final PageSizeBounds that = (PageSizeBounds) other;
+    return min == that.min && max == that.max;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(min, max);
+  }
+
+  @Override
+  public String toString() {
+    return min + "-" + max;
+  }
+}
@@ -0,0 +1,547 @@
+package com.commercetools.project.sync.model;
+
+import static java.lang.String.format;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.project.sync.cache.InstrumentedReferenceIdToKeyCache;
+import com.commercetools.project.sync.delta.ChangeMessageSource;
+import com.commercetools.project.sync.executor.ByteBudget;
+import com.commercetools.project.sync.executor.ModuleExecutors;
+import com.commercetools.project.sync.executor.TransformPool;
+import com.commercetools.project.sync.service.impl.CoalescedSyncStateService;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Holds the execution settings which are shared by all the syncers of one run, e.g. how many source
+ * pages may be processed at the same time. The settings are collected from the CLI options and
+ * passed by the {@link com.commercetools.project.sync.SyncerFactory} to every syncer it builds. It
+ * also holds the reference id to key cache built from these settings, so all the syncers of one run
+ * share the same cache.
+ */
+public final class SyncerConfiguration {
+
+  public static final int DEFAULT_MAX_PAGES_IN_FLIGHT = 1;
+  public static final int DEFAULT_PARTITIONS = 1;
+  public static final int DEFAULT_MAX_CONCURRENT_MODULES = Integer.MAX_VALUE;
+  public static final long DEFAULT_REFERENCE_CACHE_MAX_ENTRIES = 100_000;
+  public static final int DEFAULT_FULL_SYNC_CHECKPOINT_PAGES = 10;
+
+  private final int maxPagesInFlight;
+  private final int partitions;
+  private final int maxConcurrentModules;
+  private final long referenceCacheMaxEntries;
+  private final Duration referenceCacheExpiry;
+  private final boolean warmUpReferenceCache;
+  private final Path referenceCacheDirectory;
+  private final Function<ProjectApiRoot, ChangeMessageSource> changeMessageSourceFactory;
+  private final Duration deltaSliceDuration;
+  private final Integer fullSyncCheckpointPages;
+  private final boolean resumeFullSync;
+  private final Path fingerprintDirectory;
+  private final Executor executor;
+  private final InstrumentedReferenceIdToKeyCache referenceIdToKeyCache;
+  private final ModuleExecutors moduleExecutors;
+  private final Map<String, PageSizeBounds> pageSizeBounds;
+  private final ByteBudget productMemoryBudget;
+  private final Set<String> projectedQueryModules;
+  private final TransformPool transformPool;
+  private final boolean coalesceSyncState;
+
+  private SyncerConfiguration(@Nonnull final Builder builder) {
+    this.maxPagesInFlight = builder.maxPagesInFlight;
+    this.partitions = builder.partitions;
+    this.maxConcurrentModules = builder.maxConcurrentModules;
+    this.referenceCacheMaxEntries = builder.referenceCacheMaxEntries;
+    this.referenceCacheExpiry = builder.referenceCacheExpiry;
+    this.warmUpReferenceCache = builder.warmUpReferenceCache;
+    this.referenceCacheDirectory = builder.referenceCacheDirectory;
+    this.changeMessageSourceFactory = builder.changeMessageSourceFactory;
+    this.deltaSliceDuration = builder.deltaSliceDuration;
+    this.fullSyncCheckpointPages = builder.fullSyncCheckpointPages;
+    this.resumeFullSync = builder.resumeFullSync;
+    this.fingerprintDirectory = builder.fingerprintDirectory;
+    this.executor = builder.executor;
+    this.referenceIdToKeyCache =
+        new InstrumentedReferenceIdToKeyCache(referenceCacheMaxEntries, referenceCacheExpiry);
+    this.moduleExecutors =
+        builder.moduleThreads == null
+            ? null
+            : ModuleExecutors.of(builder.moduleThreads, builder.moduleQueueSize);
+    this.pageSizeBounds = Collections.unmodifiableMap(new HashMap<>(builder.pageSizeBounds));
+    this.productMemoryBudget =
+        builder.productMemoryBudgetBytes == null
+            ? null
+            : ByteBudget.of(builder.productMemoryBudgetBytes);
+    this.projectedQueryModules =
+        Collections.unmodifiableSet(new HashSet<>(builder.projectedQueryModules));
+    this.transformPool =
+        builder.transformThreads == null
+            ? null
+            : TransformPool.of(builder.transformThreads, builder.transformChunkSize);
+    this.coalesceSyncState = builder.coalesceSyncState;
+  }
+
+  /**
+   * Returns the configuration which keeps the original behaviour of the syncers, i.e. every page is
+   * fetched, transformed and synced before the next page is fetched.
+   *
+   * @return the default {@link SyncerConfiguration}.
+   */
+  @Nonnull
+  public static SyncerConfiguration defaults() {
+    return builder().build();
+  }
+
+  @Nonnull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * The maximum number of source pages which are fetched but not yet synced to the target project.
+   * A value of 1 means the pages are processed strictly one after the other. Higher values let the
+   * fetch of the next pages and the transformation of their references overlap with the sync of the
+   * current page.
+   */
+  public int getMaxPagesInFlight() {
+    return maxPagesInFlight;
+  }
+
+  public boolean isPipelined() {
+    return maxPagesInFlight > 1;
+  }
+
+  /**
+   * The number of disjoint id ranges a full sync of one module is split into. Each range is
+   * fetched, transformed and synced by its own syncer in parallel to the others. Delta syncs are
+   * not split.
+   */
+  public int getPartitions() {
+    return partitions;
+  }
+
+  public boolean isPartitioned() {
+    return partitions > 1;
+  }
+
+  /**
+   * The maximum number of sync modules (e.g. types and products) which run at the same time. A
+   * module still only starts after the modules it depends on have completed. By default the number
+   * of modules is not limited.
+   */
+  public int getMaxConcurrentModules() {
+    return maxConcurrentModules;
+  }
+
+  /**
+   * The maximum number of reference id to key mappings kept in the cache, the least recently used
+   * mappings are evicted first.
+   */
+  public long getReferenceCacheMaxEntries() {
+    return referenceCacheMaxEntries;
+  }
+
+  /**
+   * The time after which a cached reference id to key mapping expires, or {@code null} if the
+   * mappings do not expire.
+   */
+  @Nullable
+  public Duration getReferenceCacheExpiry() {
+    return referenceCacheExpiry;
+  }
+
+  /**
+   * Whether the reference cache is filled with the keys of all resources which can be referenced by
+   * products before the first product page is transformed.
+   */
+  public boolean isWarmUpReferenceCache() {
+    return warmUpReferenceCache;
+  }
+
+  /**
+   * The directory in which the reference cache of every source project is persisted between runs,
+   * or {@code null} if the cache starts empty in every run.
+   */
+  @Nullable
+  public Path getReferenceCacheDirectory() {
+    return referenceCacheDirectory;
+  }
+
+  /**
+   * Creates the source of the change messages of a source project, from which a delta sync takes
+   * the ids of the resources changed since the last sync, or {@code null} if a delta sync queries
+   * the resources by their last modification time.
+   */
+  @Nullable
+  public Function<ProjectApiRoot, ChangeMessageSource> getChangeMessageSourceFactory() {
+    return changeMessageSourceFactory;
+  }
+
+  /**
+   * The duration of the time slices the time window of a delta sync is split into, see {@link
+   * TimeSlice}, or {@code null} if the time window is synced at once.
+   */
+  @Nullable
+  public Duration getDeltaSliceDuration() {
+    return deltaSliceDuration;
+  }
+
+  /**
+   * The number of pages after which a full sync persists its progress as a checkpoint, or {@code
+   * null} if a full sync persists no progress.
+   */
+  @Nullable
+  public Integer getFullSyncCheckpointPages() {
+    return fullSyncCheckpointPages;
+  }
+
+  public boolean isFullSyncCheckpointed() {
+    return fullSyncCheckpointPages != null;
+  }
+
+  /**
+   * Whether a full sync continues after the resource of its last checkpoint instead of starting
+   * from the first resource. Without a checkpoint, the full sync starts from the first resource.
+   */
+  public boolean isResumeFullSync() {
+    return resumeFullSync;
+  }
+
+  /**
+   * The directory in which the fingerprints of the synced drafts are persisted between runs, see
+   * {@link com.commercetools.project.sync.cache.DraftFingerprintStore}, or {@code null} if no
+   * drafts are skipped as unchanged.
+   */
+  @Nullable
+  public Path getFingerprintDirectory() {
+    return fingerprintDirectory;
+  }
+
+  /**
+   * The executor on which the sync modules are started and the pages of every query are fetched and
+   * synced with blocking calls, one task per module and per query, or {@code null} if the pages are
+   * fetched asynchronously by the HTTP client. An executor with a virtual thread per task (see
+   * {@link com.commercetools.project.sync.util.VirtualThreads}) makes the blocking calls cheap. An
+   * {@link java.util.concurrent.ExecutorService} is shut down after the run, like the executors of
+   * the modules.
+   */
+  @Nullable
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * The executors on which the syncers of every module transform and sync their pages, one bounded
+   * executor per module, or {@code null} if the pages are transformed and synced on the threads
+   * which complete their requests. They are shared by all the syncers of one run.
+   */
+  @Nullable
+  public ModuleExecutors getModuleExecutors() {
+    return moduleExecutors;
+  }
+
+  /**
+   * The bounds within which the page size of the given sync module adapts to the time it takes to
+   * fetch and sync its pages and to the size of their responses, or {@code null} if the module
+   * fetches pages of the default size.
+   *
+   * @param syncModuleName the name of the sync module, e.g. "ProductSync".
+   */
+  @Nullable
+  public PageSizeBounds getPageSizeBounds(@Nonnull final String syncModuleName) {
+    return pageSizeBounds.get(syncModuleName);
+  }
+
+  /**
+   * The budget of the bytes of the product pages which are parsed, transformed and synced at the
+   * same time by all the product syncers of one run, or {@code null} if the product pages are
+   * deserialized at once and not limited. With a budget, the product pages are parsed one product
+   * after the other and passed on in small chunks.
+   */
+  @Nullable
+  public ByteBudget getProductMemoryBudget() {
+    return productMemoryBudget;
+  }
+
+  /**
+   * Whether the given sync module fetches its pages with a GraphQL query of only the fields needed
+   * for its drafts, if it has such a query. Otherwise it fetches the full resources.
+   *
+   * @param syncModuleName the name of the sync module, e.g. "ShoppingListSync".
+   */
+  public boolean isQueryProjected(@Nonnull final String syncModuleName) {
+    return projectedQueryModules.contains(syncModuleName);
+  }
+
+  /**
+   * The pool on which the syncers whose resources are transformed one by one split large pages into
+   * chunks transformed in parallel, or {@code null} if every page is transformed on one thread. It
+   * is shared by all the syncers of one run.
+   */
+  @Nullable
+  public TransformPool getTransformPool() {
+    return transformPool;
+  }
+
+  /**
+   * Whether the syncers of one run share a {@link CoalescedSyncStateService} per target project,
+   * which takes one CTP timestamp per run, fetches the last sync custom objects of all modules with
+   * one query and writes them with one request after all modules completed. It cannot be combined
+   * with a delta slice duration.
+   */
+  public boolean isCoalesceSyncState() {
+    return coalesceSyncState;
+  }
+
+  /** The reference id to key cache which is shared by all the syncers of one run. */
+  @Nonnull
+  public InstrumentedReferenceIdToKeyCache getReferenceIdToKeyCache() {
+    return referenceIdToKeyCache;
+  }
+
+  public static final class Builder {
+    private int maxPagesInFlight = DEFAULT_MAX_PAGES_IN_FLIGHT;
+    private int partitions = DEFAULT_PARTITIONS;
+    private int maxConcurrentModules = DEFAULT_MAX_CONCURRENT_MODULES;
+    private long referenceCacheMaxEntries = DEFAULT_REFERENCE_CACHE_MAX_ENTRIES;
+    private Duration referenceCacheExpiry;
+    private boolean warmUpReferenceCache;
+    private Path referenceCacheDirectory;
+    private Function<ProjectApiRoot, ChangeMessageSource> changeMessageSourceFactory;
+    private Duration deltaSliceDuration;
+    private Integer fullSyncCheckpointPages;
+    private boolean resumeFullSync;
+    private Path fingerprintDirectory;
+    private Executor executor;
+    private Integer moduleThreads;
+    private int moduleQueueSize = ModuleExecutors.DEFAULT_QUEUE_SIZE;
+    private final Map<String, PageSizeBounds> pageSizeBounds = new HashMap<>();
+    private Long productMemoryBudgetBytes;
+    private final Set<String> projectedQueryModules = new HashSet<>();
+    private Integer transformThreads;
+    private int transformChunkSize = TransformPool.DEFAULT_CHUNK_SIZE;
+    private boolean coalesceSyncState;
+
+    private Builder() {}
+
+    @Nonnull
+    public Builder maxPagesInFlight(final int maxPagesInFlight) {
+      if (maxPagesInFlight < 1) {
+        throw new IllegalArgumentException(
+            format("pages in flight %s cannot be less than 1.", maxPagesInFlight));
+      }
+      this.maxPagesInFlight = maxPagesInFlight;
+      return this;
+    }
+
+    @Nonnull
+    public Builder partitions(final int partitions) {
+      if (partitions < 1 || partitions > IdRangePartition.MAX_PARTITIONS) {
+        throw new IllegalArgumentException(
+            format(
+                "partitions %s must be between 1 and %s.",
+                partitions, IdRangePartition.MAX_PARTITIONS));
+      }
+      this.partitions = partitions;
+      return this;
+    }
+
+    @Nonnull
+    public Builder maxConcurrentModules(final int maxConcurrentModules) {
+      if (maxConcurrentModules < 1) {
+        throw new IllegalArgumentException(
+            format("concurrent modules %s cannot be less than 1.", maxConcurrentModules));
+      }
+      this.maxConcurrentModules = maxConcurrentModules;
+      return this;
+    }
+
+    @Nonnull
+    public Builder referenceCacheMaxEntries(final long referenceCacheMaxEntries) {
+      if (referenceCacheMaxEntries < 1) {
+        throw new IllegalArgumentException(
+            format("reference cache entries %s cannot be less than 1.", referenceCacheMaxEntries));
+      }
+      this.referenceCacheMaxEntries = referenceCacheMaxEntries;
+      return this;
+    }
+
+    @Nonnull
+    public Builder referenceCacheExpiry(@Nullable final Duration referenceCacheExpiry) {
+      if (referenceCacheExpiry != null
+          && (referenceCacheExpiry.isZero() || referenceCacheExpiry.isNegative())) {
+        throw new IllegalArgumentException(
+            format("reference cache expiry %s must be positive.", referenceCacheExpiry));
+      }
+      this.referenceCacheExpiry = referenceCacheExpiry;
+      return this;
+    }
+
+    @Nonnull
+    public Builder warmUpReferenceCache(final boolean warmUpReferenceCache) {
+      this.warmUpReferenceCache = warmUpReferenceCache;
+      return this;
+    }
+
+    @Nonnull
+    public Builder referenceCacheDirectory(@Nullable final Path referenceCacheDirectory) {
+      this.referenceCacheDirectory = referenceCacheDirectory;
+      return this;
+    }
+
+    @Nonnull
+    public Builder changeMessageSourceFactory(
+        @Nullable final Function<ProjectApiRoot, ChangeMessageSource> changeMessageSourceFactory) {
+      this.changeMessageSourceFactory = changeMessageSourceFactory;
+      return this;
+    }
+
+    @Nonnull
+    public Builder deltaSliceDuration(@Nullable final Duration deltaSliceDuration) {
+      if (deltaSliceDuration != null
+          && (deltaSliceDuration.isZero() || deltaSliceDuration.isNegative())) {
+        throw new IllegalArgumentException(
+            format("delta slice duration %s must be positive.", deltaSliceDuration));
+      }
+      this.deltaSliceDuration = deltaSliceDuration;
+      return this;
+    }
+
+    @Nonnull
+    public Builder fullSyncCheckpointPages(final int fullSyncCheckpointPages) {
+      if (fullSyncCheckpointPages < 1) {
+        throw new IllegalArgumentException(
+            format(
+                "full sync checkpoint pages %s cannot be less than 1.", fullSyncCheckpointPages));
+      }
+      this.fullSyncCheckpointPages = fullSyncCheckpointPages;
+      return this;
+    }
+
+    /**
+     * Resumes a full sync from its last checkpoint. A resumed sync keeps writing checkpoints, every
+     * {@link #DEFAULT_FULL_SYNC_CHECKPOINT_PAGES} pages unless configured otherwise.
+     */
+    @Nonnull
+    public Builder resumeFullSync(final boolean resumeFullSync) {
+      this.resumeFullSync = resumeFullSync;
+      return this;
+    }
+
+    @Nonnull
+    public Builder fingerprintDirectory(@Nullable final Path fingerprintDirectory) {
+      this.fingerprintDirectory = fingerprintDirectory;
+      return this;
+    }
+
+    @Nonnull
+    public Builder executor(@Nullable final Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /** Transforms and syncs the pages of every module on an executor with the given threads. */
+    @Nonnull
+    public Builder moduleThreads(final int moduleThreads) {
+      if (moduleThreads < 1) {
+        throw new IllegalArgumentException(
+            format("module threads %s cannot be less than 1.", moduleThreads));
+      }
+      this.moduleThreads = moduleThreads;
+      return this;
+    }
+
+    @Nonnull
+    public Builder moduleQueueSize(final int moduleQueueSize) {
+      if (moduleQueueSize < 1) {
+        throw new IllegalArgumentException(
+            format("module queue size %s cannot be less than 1.", moduleQueueSize));
+      }
+      this.moduleQueueSize = moduleQueueSize;
+      return this;
+    }
+
+    /** Adapts the page size of the given sync module, e.g. "ProductSync", within the bounds. */
+    @Nonnull
+    public Builder pageSizeBounds(
+        @Nonnull final String syncModuleName, @Nonnull final PageSizeBounds bounds) {
+      this.pageSizeBounds.put(syncModuleName, bounds);
+      return this;
+    }
+
+    /** Streams the product pages and limits the bytes of the product pages being processed. */
+    @Nonnull
+    public Builder productMemoryBudgetBytes(final long productMemoryBudgetBytes) {
+      if (productMemoryBudgetBytes < 1) {
+        throw new IllegalArgumentException(
+            format(
+                "product memory budget %s cannot be less than 1 byte.", productMemoryBudgetBytes));
+      }
+      this.productMemoryBudgetBytes = productMemoryBudgetBytes;
+      return this;
+    }
+
+    /** Fetches the pages of the given sync module, e.g. "ShoppingListSync", with its projection. */
+    @Nonnull
+    public Builder projectedQuery(@Nonnull final String syncModuleName) {
+      this.projectedQueryModules.add(syncModuleName);
+      return this;
+    }
+
+    /** Transforms large pages in parallel chunks on a pool with the given threads. */
+    @Nonnull
+    public Builder transformThreads(final int transformThreads) {
+      if (transformThreads < 1) {
+        throw new IllegalArgumentException(
+            format("transform threads %s cannot be less than 1.", transformThreads));
+      }
+      this.transformThreads = transformThreads;
+      return this;
+    }
+
+    @Nonnull
+    public Builder transformChunkSize(final int transformChunkSize) {
+      if (transformChunkSize < 1) {
+        throw new IllegalArgumentException(
+            format("transform chunk size %s cannot be less than 1.", transformChunkSize));
+      }
+      this.transformChunkSize = transformChunkSize;
+      return this;
+    }
+
+    @Nonnull
+    public Builder coalesceSyncState(final boolean coalesceSyncState) {
+      this.coalesceSyncState = coalesceSyncState;
+      return this;
+    }
+
+    @Nonnull
+    public SyncerConfiguration build() {
+      if (resumeFullSync && fullSyncCheckpointPages == null) {
+        fullSyncCheckpointPages = DEFAULT_FULL_SYNC_CHECKPOINT_PAGES;
+      }
+      if (fullSyncCheckpointPages != null && partitions > 1) {
+        throw new IllegalArgumentException(
+            format(
+                "a full sync split into %s partitions cannot be checkpointed or resumed.",
+                partitions));
+      }
+      if (coalesceSyncState && deltaSliceDuration != null) {
+        throw new IllegalArgumentException(
+            "the sync state of a delta sync split into time slices cannot be coalesced, as the last "
+                + "sync timestamp of every completed slice is saved right away.");
+      }
+      return new SyncerConfiguration(this);
+    }
+  }
+}
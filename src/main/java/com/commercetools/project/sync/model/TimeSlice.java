@@ -0,0 +1,94 @@
+package com.commercetools.project.sync.model;
+
+import static java.lang.String.format;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A part of the time window of a delta sync, i.e. the time between the last sync and the start of
+ * the current sync. A long time window, e.g. after an outage, is split into slices which are synced
+ * one after the other, so the last sync timestamp can be advanced after every slice and a sync
+ * which fails resumes from the last completed slice.
+ */
+public final class TimeSlice {
+
+  private final ZonedDateTime lowerBound;
+  private final ZonedDateTime upperBound;
+
+  private TimeSlice(
+      @Nonnull final ZonedDateTime lowerBound, @Nonnull final ZonedDateTime upperBound) {
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+  }
+
+  /**
+   * Splits the given time window into adjacent slices of the given duration, ordered by their
+   * bounds. The last slice ends at the end of the window, so it may be shorter.
+   *
+   * @param lowerBound the start of the time window.
+   * @param upperBound the end of the time window.
+   * @param sliceDuration the duration of a slice, or {@code null} to not split the window.
+   * @return the list of the adjacent slices which together cover the time window.
+   */
+  @Nonnull
+  public static List<TimeSlice> split(
+      @Nonnull final ZonedDateTime lowerBound,
+      @Nonnull final ZonedDateTime upperBound,
+      @Nullable final Duration sliceDuration) {
+    if (sliceDuration != null && (sliceDuration.isZero() || sliceDuration.isNegative())) {
+      throw new IllegalArgumentException(
+          format("slice duration %s must be positive.", sliceDuration));
+    }
+
+    final List<TimeSlice> slices = new ArrayList<>();
+    ZonedDateTime sliceStart = lowerBound;
+    if (sliceDuration != null) {
+      while (sliceStart.plus(sliceDuration).isBefore(upperBound)) {
+        final ZonedDateTime sliceEnd = sliceStart.plus(sliceDuration);
+        slices.add(new TimeSlice(sliceStart, sliceEnd));
+        sliceStart = sliceEnd;
+      }
+    }
+    slices.add(new TimeSlice(sliceStart, upperBound));
+    return slices;
+  }
+
+  @Nonnull
+  public ZonedDateTime getLowerBound() {
+    return lowerBound;
+  }
+
+  @Nonnull
+  public ZonedDateTime getUpperBound() {
+    return upperBound;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TimeSlice)) {
+      return false;
+    }
+    final TimeSlice that = (TimeSlice) o;
+    return Objects.equals(lowerBound, that.lowerBound)
+        && Objects.equals(upperBound, that.upperBound);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(lowerBound, upperBound);
+  }
+
+  @Override
+  public String toString() {
+    return format("[%s, %s]", lowerBound, upperBound);
+  }
+}
@@ -0,0 +1,126 @@
+package com.commercetools.project.sync.model.response;
+
+import com.commercetools.project.sync.util.SyncUtils;
+import com.commercetools.sync.commons.helpers.BaseSyncStatistics;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+
+/**
+ * The progress of a full sync which is persisted every few pages, so a full sync which failed can
+ * be resumed instead of started from scratch. The resources are fetched ordered by their ids, so
+ * all resources up to the id of the last synced resource are done. The counts of the statistics are
+ * kept to continue the statistics of the resumed sync.
+ */
+public final class FullSyncCheckpoint {
+
+  private String lastSyncedId;
+  private int processed;
+  private int created;
+  private int updated;
+  private int failed;
+  private String applicationVersion;
+
+  private FullSyncCheckpoint(
+      @Nonnull final String lastSyncedId, @Nonnull final BaseSyncStatistics<?> statistics) {
+    this.lastSyncedId = lastSyncedId;
+    this.processed = statistics.getProcessed().get();
+    this.created = statistics.getCreated().get();
+    this.updated = statistics.getUpdated().get();
+    this.failed = statistics.getFailed().get();
+    this.applicationVersion = SyncUtils.getApplicationVersion();
+  }
+
+  // Needed for the 'com.fasterxml.jackson' deserialization, for example, when fetching
+  // from CTP custom objects.
+  public FullSyncCheckpoint() {}
+
+  @Nonnull
+  public static FullSyncCheckpoint of(
+      @Nonnull final String lastSyncedId, @Nonnull final BaseSyncStatistics<?> statistics) {
+    return new FullSyncCheckpoint(lastSyncedId, statistics);
+  }
+
+  /**
+   * Adds the counts of this checkpoint to the given statistics of the resumed sync.
+   *
+   * @param statistics the statistics of the sync which resumes from this checkpoint.
+   */
+  public void addTo(@Nonnull final BaseSyncStatistics<?> statistics) {
+    statistics.incrementProcessed(processed);
+    statistics.incrementCreated(created);
+    statistics.incrementUpdated(updated);
+    statistics.incrementFailed(failed);
+  }
+
+  public String getLastSyncedId() {
+    return lastSyncedId;
+  }
+
+  public int getProcessed() {
+    return processed;
+  }
+
+  public int getCreated() {
+    return created;
+  }
+
+  public int getUpdated() {
+    return updated;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public String getApplicationVersion() {
+    return applicationVersion;
+  }
+
+  // Setters are needed for the 'com.fasterxml.jackson' deserialization, for example, when fetching
+  // from CTP custom objects.
+  public void setLastSyncedId(@Nonnull final String lastSyncedId) {
+    this.lastSyncedId = lastSyncedId;
+  }
+
+  public void setProcessed(final int processed) {
+    this.processed = processed;
+  }
+
+  public void setCreated(final int created) {
+    this.created = created;
+  }
+
+  public void setUpdated(final int updated) {
+    this.updated = updated;
+  }
+
+  public void setFailed(final int failed) {
+    this.failed = failed;
+  }
+
+  public void setApplicationVersion(@Nonnull final String applicationVersion) {
+    this.applicationVersion = applicationVersion;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof FullSyncCheckpoint)) {
+      return false;
+    }
+    final FullSyncCheckpoint that = (FullSyncCheckpoint) o;
+    return processed == that.processed
+        && created == that.created
+        && updated == that.updated
+        && failed == that.failed
+        && Objects.equals(lastSyncedId, that.lastSyncedId)
+        && Objects.equals(applicationVersion, that.applicationVersion);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(lastSyncedId, processed, created, updated, failed, applicationVersion);
+  }
+}
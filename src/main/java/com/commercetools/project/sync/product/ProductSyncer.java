@@ -1,5 +1,6 @@
 package com.commercetools.project.sync.product;
 
+import static com.commercetools.project.sync.GraphQlProjection.CUSTOM_FIELDS_SELECTION;
 import static com.commercetools.project.sync.util.SyncUtils.IDENTIFIER_NOT_PRESENT;
 import static com.commercetools.project.sync.util.SyncUtils.getCompletionExceptionCause;
 import static com.commercetools.project.sync.util.SyncUtils.logErrorCallback;
@@ -12,6 +13,7 @@ import com.commercetools.api.models.WithKey;
 import com.commercetools.api.models.common.DiscountedPriceDraft;
 import com.commercetools.api.models.common.PriceDraft;
 import com.commercetools.api.models.common.PriceDraftBuilder;
+import com.commercetools.api.models.common.ReferenceTypeId;
 import com.commercetools.api.models.product.ProductDraft;
 import com.commercetools.api.models.product.ProductDraftBuilder;
 import com.commercetools.api.models.product.ProductProjection;
@@ -20,8 +22,12 @@ import com.commercetools.api.models.product.ProductUpdateAction;
 import com.commercetools.api.models.product.ProductVariantDraft;
 import com.commercetools.api.models.product.ProductVariantDraftBuilder;
 import com.commercetools.api.predicates.query.product.ProductProjectionQueryBuilderDsl;
+import com.commercetools.project.sync.GraphQlProjection;
+import com.commercetools.project.sync.StreamedPages;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.executor.ByteBudget;
 import com.commercetools.project.sync.model.ProductSyncCustomRequest;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.commons.exceptions.SyncException;
@@ -32,11 +38,13 @@ import com.commercetools.sync.products.ProductSyncOptions;
 import com.commercetools.sync.products.ProductSyncOptionsBuilder;
 import com.commercetools.sync.products.helpers.ProductSyncStatistics;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -56,6 +64,47 @@ public final class ProductSyncer
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ProductSyncer.class);
 
+  private static final String MONEY_SELECTION =
+      "{ type currencyCode centAmount fractionDigits ... on HighPrecisionMoney { preciseAmount } }";
+  private static final String VARIANT_SELECTION =
+      "{ id key sku "
+          + "prices { id key value "
+          + MONEY_SELECTION
+          + " country customerGroupRef { typeId id } channelRef { typeId id } validFrom validUntil "
+          + "discounted { value "
+          + MONEY_SELECTION
+          + " discountRef { typeId id } } tiers { minimumQuantity value "
+          + MONEY_SELECTION
+          + " } "
+          + CUSTOM_FIELDS_SELECTION
+          + " } "
+          + "images { url label dimensions { w: width h: height } } "
+          + "assets { id key nameAllLocales descriptionAllLocales tags "
+          + "sources { uri key contentType dimensions { w: width h: height } } "
+          + CUSTOM_FIELDS_SELECTION
+          + " } "
+          + "attributesRaw { name value } }";
+  /* The fields of the staged projection of a product which are needed to build its draft, together
+   * with the keys of its product type, tax category, state and categories. These references are
+   * then resolved without the separate GraphQL requests of toProductDrafts.
+   */
+  private static final String PROJECTED_FIELDS =
+      "id key productTypeRef { typeId id } keysOfProductType: productType { id key } "
+          + "taxCategoryRef { typeId id } keysOfTaxCategory: taxCategory { id key } "
+          + "stateRef { typeId id } keysOfState: state { id key } priceMode "
+          + "inlinedMasterData: masterData { published hasStagedChanges inlinedStaged: staged { "
+          + "nameAllLocales descriptionAllLocales slugAllLocales metaTitleAllLocales "
+          + "metaDescriptionAllLocales metaKeywordsAllLocales "
+          + "categoriesRef { typeId id } keysOfCategories: categories { id key } "
+          + "categoryOrderHints { categoryId orderHint } "
+          + "searchKeywords { locale searchKeywords { text "
+          + "suggestTokenizer { type ... on CustomSuggestTokenizer { inputs } } } } "
+          + "masterVariant "
+          + VARIANT_SELECTION
+          + " variants "
+          + VARIANT_SELECTION
+          + " } }";
+
   private final ProductSyncCustomRequest productSyncCustomRequest;
 
   /** Instantiates a {@link Syncer} instance. */
@@ -65,8 +114,9 @@ public final class ProductSyncer
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
       @Nonnull final Clock clock,
-      @Nullable final ProductSyncCustomRequest productSyncCustomRequest) {
-    super(productSync, sourceClient, targetClient, customObjectService, clock);
+      @Nullable final ProductSyncCustomRequest productSyncCustomRequest,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(productSync, sourceClient, targetClient, customObjectService, clock, configuration);
     this.productSyncCustomRequest = productSyncCustomRequest;
   }
 
@@ -76,6 +126,38 @@ public final class ProductSyncer
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock,
       @Nullable final ProductSyncCustomRequest productSyncCustomRequest) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        productSyncCustomRequest,
+        SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static ProductSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nullable final ProductSyncCustomRequest productSyncCustomRequest,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        productSyncCustomRequest,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static ProductSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nullable final ProductSyncCustomRequest productSyncCustomRequest,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
 
     final QuadConsumer<
             SyncException,
@@ -101,15 +183,14 @@ public final class ProductSyncer
 
     final ProductSync productSync = new ProductSync(syncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
     return new ProductSyncer(
         productSync,
         sourceClient,
         targetClient,
         customObjectService,
         clock,
-        productSyncCustomRequest);
+        productSyncCustomRequest,
+        configuration);
   }
 
   @Nonnull
@@ -132,47 +213,83 @@ public final class ProductSyncer
    * Currently java-sync does not support discounted price sync. This workaround is to remove
    * discounted prices from syncing.
    *
+   * <p>Only the drafts which contain a discounted price are copied, together with the variants and
+   * prices on the way to it, all other drafts are returned as they are. So a page without
+   * discounted prices is returned without any allocation.
+   *
    * <p>Issue: https://github.com/commercetools/commercetools-project-sync/issues/363
    */
-  private List<ProductDraft> removeDiscountedFromPrices(
+  @Nonnull
+  static List<ProductDraft> removeDiscountedFromPrices(
       @Nonnull final List<ProductDraft> productDrafts) {
-    return productDrafts.stream()
-        .map(
-            productDraft -> {
-              final List<ProductVariantDraft> productVariants =
-                  productDraft.getVariants().stream()
-                      .map(this::createProductVariantDraftWithoutDiscounted)
-                      .collect(Collectors.toList());
-              final ProductVariantDraft masterVariant = productDraft.getMasterVariant();
-              ProductVariantDraft masterVariantDraft = null;
-              if (masterVariant != null) {
-                masterVariantDraft = createProductVariantDraftWithoutDiscounted(masterVariant);
-              }
-              return ProductDraftBuilder.of(productDraft)
-                  .masterVariant(masterVariantDraft)
-                  .variants(productVariants)
-                  .build();
-            })
-        .collect(Collectors.toList());
+    return replaceChanged(productDrafts, ProductSyncer::createProductDraftWithoutDiscounted);
+  }
+
+  @Nonnull
+  private static ProductDraft createProductDraftWithoutDiscounted(
+      @Nonnull final ProductDraft productDraft) {
+    final ProductVariantDraft masterVariant = productDraft.getMasterVariant();
+    final ProductVariantDraft masterVariantDraft =
+        masterVariant == null ? null : createProductVariantDraftWithoutDiscounted(masterVariant);
+    final List<ProductVariantDraft> variants = productDraft.getVariants();
+    final List<ProductVariantDraft> variantDrafts =
+        variants == null
+            ? null
+            : replaceChanged(variants, ProductSyncer::createProductVariantDraftWithoutDiscounted);
+    if (masterVariantDraft == masterVariant && variantDrafts == variants) {
+      return productDraft;
+    }
+    return ProductDraftBuilder.of(productDraft)
+        .masterVariant(masterVariantDraft)
+        .variants(variantDrafts)
+        .build();
   }
 
-  private ProductVariantDraft createProductVariantDraftWithoutDiscounted(
+  @Nonnull
+  private static ProductVariantDraft createProductVariantDraftWithoutDiscounted(
       @Nonnull final ProductVariantDraft productVariantDraft) {
     final List<PriceDraft> prices = productVariantDraft.getPrices();
-    List<PriceDraft> priceDrafts = null;
-    if (prices != null) {
-      priceDrafts =
-          prices.stream()
-              .map(
-                  priceDraft ->
-                      PriceDraftBuilder.of(priceDraft)
-                          .discounted((DiscountedPriceDraft) null)
-                          .build())
-              .collect(Collectors.toList());
+    if (prices == null) {
+      return productVariantDraft;
+    }
+    final List<PriceDraft> priceDrafts =
+        replaceChanged(
+            prices,
+            priceDraft ->
+                priceDraft.getDiscounted() == null
+                    ? priceDraft
+                    : PriceDraftBuilder.of(priceDraft)
+                        .discounted((DiscountedPriceDraft) null)
+                        .build());
+    if (priceDrafts == prices) {
+      return productVariantDraft;
     }
     return ProductVariantDraftBuilder.of(productVariantDraft).prices(priceDrafts).build();
   }
 
+  /**
+   * Applies the given function to all elements of the given list and copies the list only if the
+   * function returns another instance for at least one element.
+   *
+   * @return the given list if no element was replaced, otherwise a copy with the replaced elements.
+   */
+  @Nonnull
+  private static <T> List<T> replaceChanged(
+      @Nonnull final List<T> elements, @Nonnull final UnaryOperator<T> replacer) {
+    List<T> replacedElements = null;
+    for (int index = 0; index < elements.size(); index++) {
+      final T element = elements.get(index);
+      final T replacedElement = replacer.apply(element);
+      if (replacedElement != element) {
+        if (replacedElements == null) {
+          replacedElements = new ArrayList<>(elements);
+        }
+        replacedElements.set(index, replacedElement);
+      }
+    }
+    return replacedElements == null ? elements : replacedElements;
+  }
+
   @Nonnull
   @Override
   protected ByProjectKeyProductProjectionsGet getQuery() {
@@ -191,6 +308,52 @@ public final class ProductSyncer
     return productProjectionsGet;
   }
 
+  /**
+   * Fetches the staged projections of the products with the GraphQL query of products, unless the
+   * query has custom predicates, which are predicates on product projections and cannot be passed
+   * to the GraphQL query.
+   */
+  @Nullable
+  @Override
+  protected GraphQlProjection<ByProjectKeyProductProjectionsGet, ProductProjection>
+      getQueryProjection() {
+    if (productSyncCustomRequest != null && productSyncCustomRequest.getWhere() != null) {
+      return null;
+    }
+    return GraphQlProjection.of(
+        "products",
+        PROJECTED_FIELDS,
+        ProductProjection.class,
+        ByProjectKeyProductProjectionsGet::getQueryParams);
+  }
+
+  /**
+   * Streams the product pages if a product memory budget is configured, so a page of products with
+   * many variants is never held in memory as a whole, together with its drafts.
+   */
+  @Nullable
+  @Override
+  protected StreamedPages<ByProjectKeyProductProjectionsGet, ProductProjection> getStreamedPages() {
+    final ByteBudget productMemoryBudget = getConfiguration().getProductMemoryBudget();
+    if (productMemoryBudget == null) {
+      return null;
+    }
+    return StreamedPages.of(
+        ProductProjection.class, ByProjectKeyProductProjectionsGet::send, productMemoryBudget);
+  }
+
+  @Nonnull
+  @Override
+  protected String getMessageResourceTypeId() {
+    return ReferenceTypeId.PRODUCT.getJsonName();
+  }
+
+  @Nonnull
+  @Override
+  protected Function<ProductDraft, String> getDraftIdentifier() {
+    return ProductDraft::getKey;
+  }
+
   @Nonnull
   @Override
   protected Logger getLoggerInstance() {
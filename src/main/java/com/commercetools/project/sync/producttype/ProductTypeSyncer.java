@@ -11,6 +11,7 @@ import com.commercetools.api.models.product_type.ProductTypePagedQueryResponse;
 import com.commercetools.api.models.product_type.ProductTypeUpdateAction;
 import com.commercetools.api.predicates.query.product_type.ProductTypeQueryBuilderDsl;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.commons.exceptions.SyncException;
@@ -49,8 +50,9 @@ public final class ProductTypeSyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
-      @Nonnull final Clock clock) {
-    super(productTypeSync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(productTypeSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -58,6 +60,30 @@ public final class ProductTypeSyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static ProductTypeSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static ProductTypeSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
 
     final QuadConsumer<
             SyncException,
@@ -79,10 +105,8 @@ public final class ProductTypeSyncer
 
     final ProductTypeSync productTypeSync = new ProductTypeSync(syncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
     return new ProductTypeSyncer(
-        productTypeSync, sourceClient, targetClient, customObjectService, clock);
+        productTypeSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -1,6 +1,7 @@
 package com.commercetools.project.sync.service;
 
 import com.commercetools.api.models.custom_object.CustomObject;
+import com.commercetools.project.sync.model.response.FullSyncCheckpoint;
 import com.commercetools.project.sync.model.response.LastSyncCustomObject;
 import io.vrap.rmf.base.client.ApiHttpResponse;
 import java.time.ZonedDateTime;
@@ -65,4 +66,57 @@ public interface CustomObjectService {
       @Nonnull final String syncModuleName,
       @Nullable final String runnerName,
       @Nonnull final LastSyncCustomObject lastSyncCustomObject);
+
+  /**
+   * Gets the checkpoint of a full sync, which is a custom object with a container named
+   * 'commercetools-project-sync.{@param runnerName}.{@param syncModuleName}.fullSyncCheckpoint' and
+   * key equals {@param sourceProjectKey}.
+   *
+   * @param sourceProjectKey the source project from which the data is coming.
+   * @param syncModuleName the name of the resource being synced. E.g. productSync, categorySync,
+   *     etc..
+   * @param runnerName the name of this specific running sync instance defined by the user.
+   * @return the checkpoint wrapped in an {@link Optional}, which is empty if there is none, as a
+   *     result of a {@link CompletableFuture}.
+   */
+  @Nonnull
+  CompletableFuture<Optional<FullSyncCheckpoint>> getFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName);
+
+  /**
+   * Creates (or updates an already existing) checkpoint of a full sync, with the container named
+   * 'commercetools-project-sync.{@param runnerName}.{@param syncModuleName}.fullSyncCheckpoint' and
+   * key equals {@param sourceProjectKey}.
+   *
+   * @param sourceProjectKey the source project key from which the data is coming.
+   * @param syncModuleName the name of the resource being synced. E.g. productSync, categorySync,
+   *     etc..
+   * @param runnerName the name of this specific running sync instance defined by the user.
+   * @param checkpoint the progress of the full sync.
+   * @return a {@link CompletableFuture} of {@link ApiHttpResponse} with the created/updated custom
+   *     object resource.
+   */
+  @Nonnull
+  CompletableFuture<ApiHttpResponse<CustomObject>> createFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName,
+      @Nonnull final FullSyncCheckpoint checkpoint);
+
+  /**
+   * Deletes the checkpoint of a full sync after the full sync completed, if there is one.
+   *
+   * @param sourceProjectKey the source project key from which the data is coming.
+   * @param syncModuleName the name of the resource being synced. E.g. productSync, categorySync,
+   *     etc..
+   * @param runnerName the name of this specific running sync instance defined by the user.
+   * @return a {@link CompletableFuture} which completes after the checkpoint is deleted.
+   */
+  @Nonnull
+  CompletableFuture<Void> deleteFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName);
 }
@@ -0,0 +1,288 @@
+package com.commercetools.project.sync.service.impl;
+
+import static com.commercetools.project.sync.util.SyncUtils.buildLastSyncTimestampContainerName;
+import static io.vrap.rmf.base.client.utils.CompletableFutureUtils.exceptionallyCompletedFuture;
+import static java.lang.String.format;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.custom_object.CustomObject;
+import com.commercetools.api.models.graph_ql.GraphQLRequest;
+import com.commercetools.api.models.graph_ql.GraphQLRequestBuilder;
+import com.commercetools.api.models.graph_ql.GraphQLResponse;
+import com.commercetools.api.models.graph_ql.GraphQLVariablesMapBuilder;
+import com.commercetools.project.sync.SyncModuleOption;
+import com.commercetools.project.sync.model.response.FullSyncCheckpoint;
+import com.commercetools.project.sync.model.response.LastSyncCustomObject;
+import com.commercetools.project.sync.service.CustomObjectService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link CustomObjectService} shared by the syncers of all modules of one run which sync to the
+ * same target project, which coalesces the requests for the state of their delta syncs:
+ *
+ * <ul>
+ *   <li>the current CTP timestamp is taken once per run, by the timestamp generator of the first
+ *       module which asks for it, so all modules sync the resources changed up to the start of the
+ *       run.
+ *   <li>the last sync custom objects of all modules are fetched with one query, on the first call
+ *       of {@link #getLastSyncCustomObject(String, String, String)}.
+ *   <li>the last sync custom objects are not written at once, but kept until {@link #flush()}
+ *       writes them with one GraphQL mutation after all modules completed.
+ * </ul>
+ *
+ * <p>The checkpoints of full syncs are not coalesced, as they must be persisted while the full sync
+ * runs. For the same reason, the state of a delta sync split into time slices is not coalesced at
+ * all. If a run is aborted before the flush, the next run syncs again from the last sync timestamps
+ * of the run before, which only syncs some resources twice.
+ */
+public final class CoalescedSyncStateService implements CustomObjectService {
+
+  private static final String MUTATION_FIELD = "createOrUpdateCustomObject";
+
+  private final ProjectApiRoot ctpClient;
+  private final CustomObjectService delegate;
+  private final Map<String, CompletableFuture<ZonedDateTime>> currentCtpTimestamps =
+      new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Map<String, LastSyncCustomObject>>>
+      lastSyncCustomObjects = new ConcurrentHashMap<>();
+  private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+  CoalescedSyncStateService(
+      @Nonnull final ProjectApiRoot ctpClient, @Nonnull final CustomObjectService delegate) {
+    this.ctpClient = ctpClient;
+    this.delegate = delegate;
+  }
+
+  /**
+   * @param ctpClient the client of the target project.
+   * @return the service which reads and writes the state of the delta syncs of the target project.
+   */
+  @Nonnull
+  public static CoalescedSyncStateService of(@Nonnull final ProjectApiRoot ctpClient) {
+    return new CoalescedSyncStateService(ctpClient, new CustomObjectServiceImpl(ctpClient));
+  }
+
+  /**
+   * Returns the CTP timestamp taken for the first module of the given runner which asked for it, so
+   * only one timestamp generator is written per run.
+   */
+  @Nonnull
+  @Override
+  public CompletableFuture<ZonedDateTime> getCurrentCtpTimestamp(
+      @Nullable final String runnerName, @Nonnull final String syncModuleName) {
+    return currentCtpTimestamps.computeIfAbsent(
+        String.valueOf(runnerName),
+        ignoredRunnerName -> delegate.getCurrentCtpTimestamp(runnerName, syncModuleName));
+  }
+
+  /**
+   * Returns the last sync custom object of the given module, from the custom objects of all modules
+   * which are fetched with one query on the first call. A last sync custom object which is not
+   * flushed yet is returned as it will be written.
+   */
+  @Nonnull
+  @Override
+  public CompletableFuture<Optional<LastSyncCustomObject>> getLastSyncCustomObject(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName) {
+    final String container = buildLastSyncTimestampContainerName(syncModuleName, runnerName);
+    final PendingWrite pendingWrite = pendingWrites.get(toId(container, sourceProjectKey));
+    if (pendingWrite != null) {
+      return CompletableFuture.completedFuture(Optional.of(pendingWrite.lastSyncCustomObject));
+    }
+    return lastSyncCustomObjects
+        .computeIfAbsent(
+            toId(String.valueOf(runnerName), sourceProjectKey),
+            ignoredId -> fetchLastSyncCustomObjects(sourceProjectKey, runnerName))
+        .thenApply(
+            lastSyncCustomObjectsByContainer ->
+                Optional.ofNullable(lastSyncCustomObjectsByContainer.get(container)));
+  }
+
+  @Nonnull
+  private CompletableFuture<Map<String, LastSyncCustomObject>> fetchLastSyncCustomObjects(
+      @Nonnull final String sourceProjectKey, @Nullable final String runnerName) {
+    final List<String> containers =
+        Stream.of(SyncModuleOption.values())
+            .map(
+                syncModuleOption ->
+                    buildLastSyncTimestampContainerName(
+                        syncModuleOption.getSyncModuleName(), runnerName))
+            .collect(Collectors.toList());
+    return ctpClient
+        .customObjects()
+        .get()
+        .withWhere("container in :containers and key = :key")
+        .withPredicateVar("containers", containers)
+        .withPredicateVar("key", sourceProjectKey)
+        .withLimit(containers.size())
+        .execute()
+        .thenApply(
+            response -> {
+              final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+              final Map<String, LastSyncCustomObject> lastSyncCustomObjectsByContainer =
+                  new HashMap<>();
+              for (CustomObject customObject : response.getBody().getResults()) {
+                lastSyncCustomObjectsByContainer.put(
+                    customObject.getContainer(),
+                    objectMapper.convertValue(customObject.getValue(), LastSyncCustomObject.class));
+              }
+              return lastSyncCustomObjectsByContainer;
+            });
+  }
+
+  /**
+   * Keeps the given last sync custom object until the next {@link #flush()}, replacing the one of
+   * the same module which was not flushed yet.
+   *
+   * @return a {@link CompletableFuture} completed with {@code null} instead of the response, as the
+   *     custom object is written later.
+   */
+  @Nonnull
+  @Override
+  public CompletableFuture<ApiHttpResponse<CustomObject>> createLastSyncCustomObject(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName,
+      @Nonnull final LastSyncCustomObject lastSyncCustomObject) {
+    final String container = buildLastSyncTimestampContainerName(syncModuleName, runnerName);
+    pendingWrites.put(
+        toId(container, sourceProjectKey),
+        new PendingWrite(container, sourceProjectKey, lastSyncCustomObject));
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Writes the last sync custom objects kept since the previous flush with one GraphQL mutation.
+   *
+   * @return a {@link CompletableFuture} which completes after all of them are written, or
+   *     exceptionally with an {@link IllegalStateException} if the mutation reports errors.
+   */
+  @Nonnull
+  public CompletableFuture<Void> flush() {
+    final List<PendingWrite> writes = new ArrayList<>();
+    for (String id : new ArrayList<>(pendingWrites.keySet())) {
+      final PendingWrite write = pendingWrites.remove(id);
+      if (write != null) {
+        writes.add(write);
+      }
+    }
+    if (writes.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    final GraphQLRequest request;
+    try {
+      request = toGraphQlRequest(writes);
+    } catch (JsonProcessingException exception) {
+      return exceptionallyCompletedFuture(exception);
+    }
+    return ctpClient
+        .graphql()
+        .post(request)
+        .execute()
+        .thenAccept(response -> checkErrors(response.getBody(), writes.size()));
+  }
+
+  @Nonnull
+  private static GraphQLRequest toGraphQlRequest(@Nonnull final List<PendingWrite> writes)
+      throws JsonProcessingException {
+    final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+    final List<String> parameters = new ArrayList<>();
+    final List<String> fields = new ArrayList<>();
+    final Map<String, Object> variables = new LinkedHashMap<>();
+    for (int index = 0; index < writes.size(); index++) {
+      final PendingWrite write = writes.get(index);
+      final String alias = "draft" + index;
+      parameters.add(format("$%s: CustomObjectDraft!", alias));
+      fields.add(format("%s: %s(draft: $%s) { id }", alias, MUTATION_FIELD, alias));
+      final Map<String, Object> draft = new LinkedHashMap<>();
+      draft.put("container", write.container);
+      draft.put("key", write.key);
+      draft.put("value", objectMapper.writeValueAsString(write.lastSyncCustomObject));
+      variables.put(alias, draft);
+    }
+    return GraphQLRequestBuilder.of()
+        .query(
+            format(
+                "mutation SyncState(%s) { %s }",
+                String.join(", ", parameters), String.join(" ", fields)))
+        .variables(GraphQLVariablesMapBuilder.of().values(variables).build())
+        .build();
+  }
+
+  private static void checkErrors(
+      @Nullable final GraphQLResponse response, final int numberOfWrites) {
+    if (response != null && response.getErrors() != null && !response.getErrors().isEmpty()) {
+      throw new IllegalStateException(
+          format(
+              "Failed to write the state of %d sync modules with the errors: %s",
+              numberOfWrites, response.getErrors()));
+    }
+  }
+
+  @Nonnull
+  private static String toId(@Nonnull final String container, @Nonnull final String key) {
+    return container + "|" + key;
+  }
+
+  @Nonnull
+  @Override
+  public CompletableFuture<Optional<FullSyncCheckpoint>> getFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName) {
+    return delegate.getFullSyncCheckpoint(sourceProjectKey, syncModuleName, runnerName);
+  }
+
+  @Nonnull
+  @Override
+  public CompletableFuture<ApiHttpResponse<CustomObject>> createFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName,
+      @Nonnull final FullSyncCheckpoint checkpoint) {
+    return delegate.createFullSyncCheckpoint(
+        sourceProjectKey, syncModuleName, runnerName, checkpoint);
+  }
+
+  @Nonnull
+  @Override
+  public CompletableFuture<Void> deleteFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName) {
+    return delegate.deleteFullSyncCheckpoint(sourceProjectKey, syncModuleName, runnerName);
+  }
+
+  private static final class PendingWrite {
+    private final String container;
+    private final String key;
+    private final LastSyncCustomObject lastSyncCustomObject;
+
+    private PendingWrite(
+        @Nonnull final String container,
+        @Nonnull final String key,
+        @Nonnull final LastSyncCustomObject lastSyncCustomObject) {
+      this.container = container;
+      this.key = key;
+      this.lastSyncCustomObject = lastSyncCustomObject;
+    }
+  }
+}
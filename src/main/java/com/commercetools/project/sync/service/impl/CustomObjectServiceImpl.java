@@ -1,12 +1,14 @@
 package com.commercetools.project.sync.service.impl;
 
 import static com.commercetools.project.sync.util.SyncUtils.buildCurrentCtpTimestampContainerName;
+import static com.commercetools.project.sync.util.SyncUtils.buildFullSyncCheckpointContainerName;
 import static com.commercetools.project.sync.util.SyncUtils.buildLastSyncTimestampContainerName;
 
 import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.api.models.custom_object.CustomObject;
 import com.commercetools.api.models.custom_object.CustomObjectDraft;
 import com.commercetools.api.models.custom_object.CustomObjectDraftBuilder;
+import com.commercetools.project.sync.model.response.FullSyncCheckpoint;
 import com.commercetools.project.sync.model.response.LastSyncCustomObject;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,6 +25,7 @@ import javax.annotation.Nullable;
 public class CustomObjectServiceImpl implements CustomObjectService {
 
   public static final String TIMESTAMP_GENERATOR_KEY = "timestampGenerator";
+  public static final String FULL_SYNC_CHECKPOINT_KEY = "fullSyncCheckpoint";
   private final ProjectApiRoot ctpClient;
 
   public CustomObjectServiceImpl(@Nonnull final ProjectApiRoot ctpClient) {
@@ -79,8 +82,7 @@ public class CustomObjectServiceImpl implements CustomObjectService {
         .handle(
             (customObjectApiHttpResponse, throwable) -> {
               if (throwable != null) {
-                if (throwable.getCause() != null
-                    && throwable.getCause().getClass().equals(NotFoundException.class)) {
+                if (isNotFound(throwable)) {
                   return Optional.empty();
                 } else {
                   throw new RuntimeException(throwable);
@@ -115,4 +117,84 @@ public class CustomObjectServiceImpl implements CustomObjectService {
 
     return createCustomObject(lastSyncCustomObjectDraft);
   }
+
+  @Nonnull
+  @Override
+  public CompletableFuture<Optional<FullSyncCheckpoint>> getFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName) {
+
+    final String containerName = buildFullSyncCheckpointContainerName(syncModuleName, runnerName);
+
+    return this.ctpClient
+        .customObjects()
+        .withContainerAndKey(containerName, sourceProjectKey)
+        .get()
+        .execute()
+        .handle(
+            (customObjectApiHttpResponse, throwable) -> {
+              if (throwable != null) {
+                if (isNotFound(throwable)) {
+                  return Optional.empty();
+                } else {
+                  throw new RuntimeException(throwable);
+                }
+              } else {
+                final CustomObject responseBody = customObjectApiHttpResponse.getBody();
+                final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+                return Optional.ofNullable(responseBody)
+                    .map(
+                        customObject ->
+                            objectMapper.convertValue(
+                                customObject.getValue(), FullSyncCheckpoint.class));
+              }
+            });
+  }
+
+  @Nonnull
+  @Override
+  public CompletableFuture<ApiHttpResponse<CustomObject>> createFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName,
+      @Nonnull final FullSyncCheckpoint checkpoint) {
+
+    final CustomObjectDraft checkpointDraft =
+        CustomObjectDraftBuilder.of()
+            .container(buildFullSyncCheckpointContainerName(syncModuleName, runnerName))
+            .key(sourceProjectKey)
+            .value(checkpoint)
+            .build();
+
+    return createCustomObject(checkpointDraft);
+  }
+
+  @Nonnull
+  @Override
+  public CompletableFuture<Void> deleteFullSyncCheckpoint(
+      @Nonnull final String sourceProjectKey,
+      @Nonnull final String syncModuleName,
+      @Nullable final String runnerName) {
+
+    final String containerName = buildFullSyncCheckpointContainerName(syncModuleName, runnerName);
+
+    return this.ctpClient
+        .customObjects()
+        .withContainerAndKey(containerName, sourceProjectKey)
+        .delete()
+        .execute()
+        .handle(
+            (customObjectApiHttpResponse, throwable) -> {
+              if (throwable != null && !isNotFound(throwable)) {
+                throw new RuntimeException(throwable);
+              }
+              return null;
+            });
+  }
+
+  private static boolean isNotFound(@Nonnull final Throwable throwable) {
+    return throwable.getCause() != null
+        && throwable.getCause().getClass().equals(NotFoundException.class);
+  }
 }
@@ -1,5 +1,6 @@
 package com.commercetools.project.sync.shoppinglist;
 
+import static com.commercetools.project.sync.GraphQlProjection.CUSTOM_FIELDS_SELECTION;
 import static com.commercetools.project.sync.util.SyncUtils.IDENTIFIER_NOT_PRESENT;
 import static com.commercetools.project.sync.util.SyncUtils.logErrorCallback;
 import static com.commercetools.project.sync.util.SyncUtils.logWarningCallback;
@@ -12,7 +13,9 @@ import com.commercetools.api.models.shopping_list.ShoppingListDraft;
 import com.commercetools.api.models.shopping_list.ShoppingListPagedQueryResponse;
 import com.commercetools.api.models.shopping_list.ShoppingListUpdateAction;
 import com.commercetools.api.predicates.query.shopping_list.ShoppingListQueryBuilderDsl;
+import com.commercetools.project.sync.GraphQlProjection;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.commons.exceptions.SyncException;
@@ -27,6 +30,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,19 +48,58 @@ public final class ShoppingListSyncer
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ShoppingListSyncer.class);
 
+  /* The fields of a shopping list which are needed to build its draft. Of the variants of the line
+   * items, which the REST query expands in full, only the sku is selected.
+   */
+  private static final String PROJECTED_FIELDS =
+      "id key nameAllLocales descriptionAllLocales slugAllLocales customerRef { typeId id } "
+          + "anonymousId deleteDaysAfterLastModification storeRef { typeId key } "
+          + "lineItems { id productId variantId variant { sku } quantity addedAt "
+          + CUSTOM_FIELDS_SELECTION
+          + " } "
+          + "textLineItems { id nameAllLocales descriptionAllLocales quantity addedAt "
+          + CUSTOM_FIELDS_SELECTION
+          + " } "
+          + CUSTOM_FIELDS_SELECTION;
+
   private ShoppingListSyncer(
       @Nonnull final ShoppingListSync sync,
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
-      @Nonnull final Clock clock) {
-    super(sync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(sync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   public static ShoppingListSyncer of(
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static ShoppingListSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static ShoppingListSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
 
     final QuadConsumer<
             SyncException,
@@ -89,10 +132,8 @@ public final class ShoppingListSyncer
 
     final ShoppingListSync shoppingListSync = new ShoppingListSync(shoppingListSyncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
     return new ShoppingListSyncer(
-        shoppingListSync, sourceClient, targetClient, customObjectService, clock);
+        shoppingListSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -107,6 +148,16 @@ public final class ShoppingListSyncer
     return getSourceClient().shoppingLists().get().addExpand("lineItems[*].variant");
   }
 
+  @Nullable
+  @Override
+  protected GraphQlProjection<ByProjectKeyShoppingListsGet, ShoppingList> getQueryProjection() {
+    return GraphQlProjection.of(
+        "shoppingLists",
+        PROJECTED_FIELDS,
+        ShoppingList.class,
+        ByProjectKeyShoppingListsGet::getQueryParams);
+  }
+
   @Nonnull
   @Override
   protected Logger getLoggerInstance() {
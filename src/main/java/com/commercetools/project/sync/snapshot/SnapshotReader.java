@@ -0,0 +1,72 @@
+package com.commercetools.project.sync.snapshot;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import javax.annotation.Nonnull;
+
+/**
+ * Reads the drafts of one sync module from a gzip compressed NDJSON file written by a {@link
+ * SnapshotWriter}. The drafts are parsed lazily, one page at a time, so reading a file only needs
+ * the memory of the current page, no matter how big the file is.
+ *
+ * @param <DraftT> the type of the drafts in the file.
+ */
+public final class SnapshotReader<DraftT> implements Closeable {
+
+  private final MappingIterator<DraftT> draftIterator;
+
+  private SnapshotReader(@Nonnull final MappingIterator<DraftT> draftIterator) {
+    this.draftIterator = draftIterator;
+  }
+
+  /**
+   * Opens the given snapshot file for reading.
+   *
+   * @param file the snapshot file to read.
+   * @param draftClass the class of the drafts in the file.
+   * @param <DraftT> the type of the drafts in the file.
+   * @return a {@link SnapshotReader} which has to be closed after the last page is read.
+   * @throws IOException if the file cannot be opened or is not gzip compressed.
+   */
+  @Nonnull
+  public static <DraftT> SnapshotReader<DraftT> of(
+      @Nonnull final Path file, @Nonnull final Class<DraftT> draftClass) throws IOException {
+    final InputStream inputStream =
+        new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)));
+    final MappingIterator<DraftT> draftIterator =
+        JsonUtils.getConfiguredObjectMapper().readerFor(draftClass).readValues(inputStream);
+    return new SnapshotReader<>(draftIterator);
+  }
+
+  /**
+   * Reads the next drafts of the snapshot.
+   *
+   * @param pageSize the maximum number of drafts to read.
+   * @return the next page of at most {@code pageSize} drafts, or an empty list if all drafts have
+   *     been read.
+   * @throws com.fasterxml.jackson.databind.RuntimeJsonMappingException if a line of the file is no
+   *     valid draft.
+   */
+  @Nonnull
+  public synchronized List<DraftT> readPage(final int pageSize) {
+    final List<DraftT> page = new ArrayList<>(pageSize);
+    while (page.size() < pageSize && draftIterator.hasNext()) {
+      page.add(draftIterator.next());
+    }
+    return page;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    draftIterator.close();
+  }
+}
@@ -0,0 +1,79 @@
+package com.commercetools.project.sync.snapshot;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nonnull;
+
+/**
+ * Writes the drafts of one sync module to a gzip compressed NDJSON file, i.e. one JSON document per
+ * line. Every draft is serialized directly into the compressed stream, so writing a page only needs
+ * the memory of the page itself, no matter how big the file grows.
+ */
+public final class SnapshotWriter implements Closeable {
+
+  /** The extension of the snapshot files, the file of a module is named after its sync option. */
+  public static final String FILE_EXTENSION = ".ndjson.gz";
+
+  private final SequenceWriter sequenceWriter;
+  private long writtenDrafts;
+
+  private SnapshotWriter(@Nonnull final SequenceWriter sequenceWriter) {
+    this.sequenceWriter = sequenceWriter;
+  }
+
+  /**
+   * Creates the given file, or truncates it if it already exists, and opens it for writing.
+   *
+   * @param file the snapshot file to write.
+   * @return a {@link SnapshotWriter} which has to be closed after the last page is written.
+   * @throws IOException if the file cannot be opened.
+   */
+  @Nonnull
+  public static SnapshotWriter of(@Nonnull final Path file) throws IOException {
+    final OutputStream outputStream =
+        new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+    final SequenceWriter sequenceWriter =
+        JsonUtils.getConfiguredObjectMapper()
+            .writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .withRootValueSeparator("\n")
+            .writeValues(outputStream);
+    return new SnapshotWriter(sequenceWriter);
+  }
+
+  /**
+   * Appends the given drafts to the snapshot, one line per draft.
+   *
+   * @param drafts the page of drafts to write.
+   * @throws UncheckedIOException if the drafts cannot be written.
+   */
+  public synchronized void write(@Nonnull final List<?> drafts) {
+    try {
+      for (Object draft : drafts) {
+        sequenceWriter.write(draft);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    writtenDrafts += drafts.size();
+  }
+
+  public synchronized long getWrittenDrafts() {
+    return writtenDrafts;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    sequenceWriter.close();
+  }
+}
@@ -12,6 +12,7 @@ import com.commercetools.api.models.state.StatePagedQueryResponse;
 import com.commercetools.api.models.state.StateUpdateAction;
 import com.commercetools.api.predicates.query.state.StateQueryBuilderDsl;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.commons.exceptions.SyncException;
@@ -48,14 +49,39 @@ public final class StateSyncer
       @Nonnull ProjectApiRoot sourceClient,
       @Nonnull ProjectApiRoot targetClient,
       @Nonnull CustomObjectService customObjectService,
-      @Nonnull Clock clock) {
-    super(sync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull Clock clock,
+      @Nonnull SyncerConfiguration configuration) {
+    super(sync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   public static StateSyncer of(
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static StateSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static StateSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
     final QuadConsumer<
             SyncException, Optional<StateDraft>, Optional<State>, List<StateUpdateAction>>
         logErrorCallback =
@@ -70,8 +96,8 @@ public final class StateSyncer
             .warningCallback(logWarningCallback)
             .build();
     StateSync stateSync = new StateSync(syncOptions);
-    CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-    return new StateSyncer(stateSync, sourceClient, targetClient, customObjectService, clock);
+    return new StateSyncer(
+        stateSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
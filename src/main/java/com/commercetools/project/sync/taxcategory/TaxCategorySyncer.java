@@ -15,6 +15,7 @@ import com.commercetools.api.models.tax_category.TaxRateDraft;
 import com.commercetools.api.models.tax_category.TaxRateDraftBuilder;
 import com.commercetools.api.predicates.query.tax_category.TaxCategoryQueryBuilderDsl;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.commons.exceptions.SyncException;
@@ -27,7 +28,6 @@ import com.commercetools.sync.taxcategories.helpers.TaxCategorySyncStatistics;
 import java.time.Clock;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -54,8 +54,9 @@ public final class TaxCategorySyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
-      @Nonnull final Clock clock) {
-    super(taxCategorySync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(taxCategorySync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -63,6 +64,30 @@ public final class TaxCategorySyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static TaxCategorySyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static TaxCategorySyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
     final QuadConsumer<
             SyncException,
             Optional<TaxCategoryDraft>,
@@ -82,23 +107,19 @@ public final class TaxCategorySyncer
             .build();
 
     final TaxCategorySync taxCategorySync = new TaxCategorySync(syncOptions);
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
     return new TaxCategorySyncer(
-        taxCategorySync, sourceClient, targetClient, customObjectService, clock);
+        taxCategorySync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Override
   @Nonnull
   protected CompletionStage<List<TaxCategoryDraft>> transform(
       @Nonnull final List<TaxCategory> page) {
-    return CompletableFuture.completedFuture(
-        page.stream()
-            .map(TaxCategorySyncer::convertTaxCategoryToTaxCategoryDraft)
-            .collect(Collectors.toList()));
+    return transformEach(page, TaxCategorySyncer::convertTaxCategoryToTaxCategoryDraft);
   }
 
   @Nonnull
-  private static TaxCategoryDraft convertTaxCategoryToTaxCategoryDraft(
+  static TaxCategoryDraft convertTaxCategoryToTaxCategoryDraft(
       @Nonnull final TaxCategory taxCategory) {
     List<TaxRateDraft> taxRateDrafts = convertTaxRateToTaxRateDraft(taxCategory.getRates());
     return TaxCategoryDraftBuilder.of()
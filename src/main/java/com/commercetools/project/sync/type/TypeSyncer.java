@@ -12,6 +12,7 @@ import com.commercetools.api.models.type.TypePagedQueryResponse;
 import com.commercetools.api.models.type.TypeUpdateAction;
 import com.commercetools.api.predicates.query.type.TypeQueryBuilderDsl;
 import com.commercetools.project.sync.Syncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.service.impl.CustomObjectServiceImpl;
 import com.commercetools.sync.commons.exceptions.SyncException;
@@ -24,9 +25,7 @@ import com.commercetools.sync.types.helpers.TypeSyncStatistics;
 import java.time.Clock;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -52,8 +51,9 @@ public final class TypeSyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final CustomObjectService customObjectService,
-      @Nonnull final Clock clock) {
-    super(typeSync, sourceClient, targetClient, customObjectService, clock);
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    super(typeSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -61,6 +61,30 @@ public final class TypeSyncer
       @Nonnull final ProjectApiRoot sourceClient,
       @Nonnull final ProjectApiRoot targetClient,
       @Nonnull final Clock clock) {
+    return of(sourceClient, targetClient, clock, SyncerConfiguration.defaults());
+  }
+
+  @Nonnull
+  public static TypeSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration) {
+    return of(
+        sourceClient,
+        targetClient,
+        clock,
+        configuration,
+        new CustomObjectServiceImpl(targetClient));
+  }
+
+  @Nonnull
+  public static TypeSyncer of(
+      @Nonnull final ProjectApiRoot sourceClient,
+      @Nonnull final ProjectApiRoot targetClient,
+      @Nonnull final Clock clock,
+      @Nonnull final SyncerConfiguration configuration,
+      @Nonnull final CustomObjectService customObjectService) {
 
     final QuadConsumer<SyncException, Optional<TypeDraft>, Optional<Type>, List<TypeUpdateAction>>
         logErrorCallback =
@@ -77,9 +101,8 @@ public final class TypeSyncer
 
     final TypeSync typeSync = new TypeSync(syncOptions);
 
-    final CustomObjectService customObjectService = new CustomObjectServiceImpl(targetClient);
-
-    return new TypeSyncer(typeSync, sourceClient, targetClient, customObjectService, clock);
+    return new TypeSyncer(
+        typeSync, sourceClient, targetClient, customObjectService, clock, configuration);
   }
 
   @Nonnull
@@ -97,12 +120,11 @@ public final class TypeSyncer
   @Nonnull
   @Override
   protected CompletionStage<List<TypeDraft>> transform(@Nonnull final List<Type> page) {
-    return CompletableFuture.completedFuture(
-        page.stream().map(TypeSyncer::typeToDraft).collect(Collectors.toList()));
+    return transformEach(page, TypeSyncer::typeToDraft);
   }
 
   @Nullable
-  private static TypeDraft typeToDraft(@Nonnull final Type type) {
+  static TypeDraft typeToDraft(@Nonnull final Type type) {
     if (type.getKey() != null && type.getName() != null && type.getResourceTypeIds() != null) {
       return TypeDraftBuilder.of()
           .key(type.getKey())
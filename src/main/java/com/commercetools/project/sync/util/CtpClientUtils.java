@@ -6,12 +6,30 @@ import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.api.defaultconfig.ApiRootBuilder;
 import com.commercetools.api.defaultconfig.ServiceRegion;
 import com.commercetools.http.okhttp4.CtOkHttp4Client;
+import com.commercetools.project.sync.client.AdaptiveConcurrencyLimiter;
+import com.commercetools.project.sync.metrics.SyncMetrics;
+import com.commercetools.project.sync.model.CtpClientConfiguration;
+import dev.failsafe.RetryPolicyBuilder;
+import io.micrometer.core.instrument.Counter;
 import io.vrap.rmf.base.client.oauth2.ClientCredentials;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.InvalidPropertiesFormatException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.apache.commons.lang3.StringUtils;
 
 public final class CtpClientUtils {
   private static final String CTP_CREDENTIALS_PROPERTIES = "ctp.credentials.properties";
@@ -21,6 +39,47 @@ public final class CtpClientUtils {
   public static final String PROPERTIES_KEY_CLIENT_ID_SUFFIX = "clientId";
   public static final String PROPERTIES_KEY_CLIENT_SECRET_SUFFIX = "clientSecret";
   public static final String PROPERTIES_KEY_SCOPES_SUFFIX = "scopes";
+  public static final String PROPERTIES_KEY_MAX_REQUESTS_SUFFIX = "maxRequests";
+  public static final String PROPERTIES_KEY_MAX_REQUESTS_PER_HOST_SUFFIX = "maxRequestsPerHost";
+  public static final String PROPERTIES_KEY_CONNECTION_POOL_SIZE_SUFFIX = "connectionPoolSize";
+  public static final String PROPERTIES_KEY_KEEP_ALIVE_SECONDS_SUFFIX = "keepAliveSeconds";
+  public static final String PROPERTIES_KEY_HTTP2_SUFFIX = "http2";
+  public static final String PROPERTIES_KEY_CONNECT_TIMEOUT_SECONDS_SUFFIX =
+      "connectTimeoutSeconds";
+  public static final String PROPERTIES_KEY_READ_TIMEOUT_SECONDS_SUFFIX = "readTimeoutSeconds";
+  public static final String PROPERTIES_KEY_MAX_RETRIES_SUFFIX = "maxRetries";
+  public static final String PROPERTIES_KEY_RETRY_INITIAL_DELAY_MILLIS_SUFFIX =
+      "retryInitialDelayMillis";
+  public static final String PROPERTIES_KEY_RETRY_MAX_DELAY_MILLIS_SUFFIX = "retryMaxDelayMillis";
+  public static final String PROPERTIES_KEY_RETRY_JITTER_FACTOR_SUFFIX = "retryJitterFactor";
+  public static final String PROPERTIES_KEY_ADAPTIVE_CONCURRENCY_SUFFIX = "adaptiveConcurrency";
+
+  /* The optional HTTP settings of a client, which can also be set as environment variables in upper
+   * snake case, e.g. SOURCE_MAX_REQUESTS_PER_HOST for source.maxRequestsPerHost.
+   */
+  private static final List<String> CLIENT_SETTING_SUFFIXES =
+      Arrays.asList(
+          PROPERTIES_KEY_MAX_REQUESTS_SUFFIX,
+          PROPERTIES_KEY_MAX_REQUESTS_PER_HOST_SUFFIX,
+          PROPERTIES_KEY_CONNECTION_POOL_SIZE_SUFFIX,
+          PROPERTIES_KEY_KEEP_ALIVE_SECONDS_SUFFIX,
+          PROPERTIES_KEY_HTTP2_SUFFIX,
+          PROPERTIES_KEY_CONNECT_TIMEOUT_SECONDS_SUFFIX,
+          PROPERTIES_KEY_READ_TIMEOUT_SECONDS_SUFFIX,
+          PROPERTIES_KEY_MAX_RETRIES_SUFFIX,
+          PROPERTIES_KEY_RETRY_INITIAL_DELAY_MILLIS_SUFFIX,
+          PROPERTIES_KEY_RETRY_MAX_DELAY_MILLIS_SUFFIX,
+          PROPERTIES_KEY_RETRY_JITTER_FACTOR_SUFFIX,
+          PROPERTIES_KEY_ADAPTIVE_CONCURRENCY_SUFFIX);
+
+  /* The default size and keep alive of the connection pool of OkHttp, used for the setting which is
+   * not configured if only one of them is.
+   */
+  private static final int DEFAULT_CONNECTION_POOL_SIZE = 5;
+  private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+
+  /* The prefix of the further target projects of a fan-out sync, followed by their number. */
+  private static final String FAN_OUT_TARGET_PREFIX = "target";
 
   public static final ProjectApiRoot CTP_SOURCE_CLIENT = getCtpSourceClient();
   public static final ProjectApiRoot CTP_TARGET_CLIENT = getCtpTargetClient();
@@ -33,14 +92,54 @@ public final class CtpClientUtils {
     return getCtpClient("target.");
   }
 
+  /**
+   * Builds the clients of the further target projects of a fan-out sync. They are configured like
+   * the target project, but with the prefixes "target2.", "target3.", etc. in the credentials
+   * properties file, or with the environment variables TARGET2_PROJECT_KEY, TARGET3_PROJECT_KEY,
+   * etc. The first number without a project key ends the list.
+   *
+   * @return the clients of the further target projects, empty if none are configured.
+   */
+  @Nonnull
+  public static List<ProjectApiRoot> getCtpFanOutTargetClients() {
+    final List<ProjectApiRoot> fanOutTargetClients = new ArrayList<>();
+    for (int number = 2; isCtpClientConfigured(FAN_OUT_TARGET_PREFIX + number + "."); number++) {
+      fanOutTargetClients.add(getCtpClient(FAN_OUT_TARGET_PREFIX + number + "."));
+    }
+    return fanOutTargetClients;
+  }
+
+  private static boolean isCtpClientConfigured(@Nonnull final String propertiesPrefix) {
+    final Properties properties;
+    try {
+      properties = loadPropertiesFile();
+    } catch (IOException exception) {
+      throw new IllegalStateException(
+          format("IT properties file \"%s\" can't be read", CTP_CREDENTIALS_PROPERTIES), exception);
+    }
+    if (!properties.isEmpty()) {
+      return properties.containsKey(
+          buildPropKey(propertiesPrefix, PROPERTIES_KEY_PROJECT_KEY_SUFFIX));
+    }
+    final String projectKeyEnvName =
+        propertiesPrefix.toUpperCase().replace(".", "_") + "PROJECT_KEY";
+    return getPropertyFromEnv(projectKeyEnvName) != null;
+  }
+
+  @Nonnull
+  private static Properties loadPropertiesFile() throws IOException {
+    final InputStream propStream =
+        CtpClientUtils.class.getClassLoader().getResourceAsStream(CTP_CREDENTIALS_PROPERTIES);
+    final Properties properties = new Properties();
+    if (propStream != null) {
+      properties.load(propStream);
+    }
+    return properties;
+  }
+
   private static ProjectApiRoot getCtpClient(@Nonnull final String propertiesPrefix) {
     try {
-      InputStream propStream =
-          CtpClientUtils.class.getClassLoader().getResourceAsStream(CTP_CREDENTIALS_PROPERTIES);
-      Properties properties = new Properties();
-      if (propStream != null) {
-        properties.load(propStream);
-      }
+      Properties properties = loadPropertiesFile();
       if (properties.isEmpty()) {
         properties = loadFromEnvVars(propertiesPrefix);
       }
@@ -82,7 +181,13 @@ public final class CtpClientUtils {
               .withScopes(scopes)
               .build();
 
-      return createCtpClient(authUrl, apiUrl, credentials, projectKey);
+      return createCtpClient(
+          authUrl,
+          apiUrl,
+          credentials,
+          projectKey,
+          parseClientConfiguration(properties, propertiesPrefix),
+          StringUtils.removeEnd(propertiesPrefix, "."));
     } catch (Exception exception) {
       throw new IllegalStateException(
           format(
@@ -97,11 +202,138 @@ public final class CtpClientUtils {
       @Nonnull String authUrl,
       @Nonnull String apiUrl,
       @Nonnull ClientCredentials credentials,
-      @Nonnull String projectKey) {
-    return ApiRootBuilder.of(new CtOkHttp4Client(200, 200))
-        .defaultClient(credentials, authUrl, apiUrl)
-        .withRetryMiddleware(5, Arrays.asList(500, 502, 503, 504))
-        .build(projectKey);
+      @Nonnull String projectKey,
+      @Nonnull CtpClientConfiguration clientConfiguration,
+      @Nonnull String clientName) {
+    final Counter retries = SyncMetrics.retriesCounter(clientName);
+    final ApiRootBuilder apiRootBuilder =
+        ApiRootBuilder.of(
+                new CtOkHttp4Client(
+                    clientConfiguration.getMaxRequests(),
+                    clientConfiguration.getMaxRequestsPerHost(),
+                    httpClientBuilder ->
+                        configureHttpClient(httpClientBuilder, clientConfiguration)))
+            .defaultClient(credentials, authUrl, apiUrl)
+            .withRetryMiddleware(
+                clientConfiguration.getMaxRetries(),
+                clientConfiguration.getRetryInitialDelay().toMillis(),
+                clientConfiguration.getRetryMaxDelay().toMillis(),
+                Arrays.asList(500, 502, 503, 504),
+                Collections.emptyList(),
+                retryPolicy -> configureRetryPolicy(retryPolicy, clientConfiguration, retries));
+    if (clientConfiguration.isAdaptiveConcurrencyEnabled()) {
+      final AdaptiveConcurrencyLimiter concurrencyLimiter =
+          AdaptiveConcurrencyLimiter.of(clientConfiguration.getMaxRequests());
+      SyncMetrics.registerConcurrencyLimiter(clientName, concurrencyLimiter);
+      apiRootBuilder.addMiddleware(concurrencyLimiter);
+    }
+    return apiRootBuilder.build(projectKey);
+  }
+
+  @Nonnull
+  private static OkHttpClient.Builder configureHttpClient(
+      @Nonnull final OkHttpClient.Builder httpClientBuilder,
+      @Nonnull final CtpClientConfiguration clientConfiguration) {
+    final Integer connectionPoolSize = clientConfiguration.getConnectionPoolSize();
+    final Duration keepAlive = clientConfiguration.getKeepAlive();
+    if (connectionPoolSize != null || keepAlive != null) {
+      httpClientBuilder.connectionPool(
+          new ConnectionPool(
+              connectionPoolSize == null ? DEFAULT_CONNECTION_POOL_SIZE : connectionPoolSize,
+              (keepAlive == null ? DEFAULT_KEEP_ALIVE : keepAlive).toMillis(),
+              TimeUnit.MILLISECONDS));
+    }
+    final Boolean http2Enabled = clientConfiguration.getHttp2Enabled();
+    if (http2Enabled != null) {
+      httpClientBuilder.protocols(
+          http2Enabled
+              ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+              : Collections.singletonList(Protocol.HTTP_1_1));
+    }
+    if (clientConfiguration.getConnectTimeout() != null) {
+      httpClientBuilder.connectTimeout(clientConfiguration.getConnectTimeout());
+    }
+    if (clientConfiguration.getReadTimeout() != null) {
+      httpClientBuilder.readTimeout(clientConfiguration.getReadTimeout());
+    }
+    return httpClientBuilder;
+  }
+
+  @Nonnull
+  private static <ResultT> RetryPolicyBuilder<ResultT> configureRetryPolicy(
+      @Nonnull final RetryPolicyBuilder<ResultT> retryPolicy,
+      @Nonnull final CtpClientConfiguration clientConfiguration,
+      @Nonnull final Counter retries) {
+    if (clientConfiguration.getRetryJitterFactor() > 0) {
+      retryPolicy.withJitter(clientConfiguration.getRetryJitterFactor());
+    }
+    return retryPolicy.onRetry(event -> retries.increment());
+  }
+
+  /**
+   * Reads the optional HTTP settings of the client with the given prefix, e.g. "source.", from the
+   * given properties. A setting which is not set keeps its default.
+   *
+   * @param properties the properties of the clients.
+   * @param prefix the prefix of the properties of the client.
+   * @return the HTTP settings of the client.
+   * @throws IllegalArgumentException if a setting has an invalid value.
+   */
+  @Nonnull
+  static CtpClientConfiguration parseClientConfiguration(
+      @Nonnull final Properties properties, @Nonnull final String prefix) {
+    final CtpClientConfiguration.Builder builder = CtpClientConfiguration.builder();
+    final Map<String, Consumer<String>> settings = new LinkedHashMap<>();
+    settings.put(
+        PROPERTIES_KEY_MAX_REQUESTS_SUFFIX, value -> builder.maxRequests(Integer.parseInt(value)));
+    settings.put(
+        PROPERTIES_KEY_MAX_REQUESTS_PER_HOST_SUFFIX,
+        value -> builder.maxRequestsPerHost(Integer.parseInt(value)));
+    settings.put(
+        PROPERTIES_KEY_CONNECTION_POOL_SIZE_SUFFIX,
+        value -> builder.connectionPoolSize(Integer.parseInt(value)));
+    settings.put(
+        PROPERTIES_KEY_KEEP_ALIVE_SECONDS_SUFFIX,
+        value -> builder.keepAlive(Duration.ofSeconds(Long.parseLong(value))));
+    settings.put(
+        PROPERTIES_KEY_HTTP2_SUFFIX, value -> builder.http2Enabled(Boolean.parseBoolean(value)));
+    settings.put(
+        PROPERTIES_KEY_CONNECT_TIMEOUT_SECONDS_SUFFIX,
+        value -> builder.connectTimeout(Duration.ofSeconds(Long.parseLong(value))));
+    settings.put(
+        PROPERTIES_KEY_READ_TIMEOUT_SECONDS_SUFFIX,
+        value -> builder.readTimeout(Duration.ofSeconds(Long.parseLong(value))));
+    settings.put(
+        PROPERTIES_KEY_MAX_RETRIES_SUFFIX, value -> builder.maxRetries(Integer.parseInt(value)));
+    settings.put(
+        PROPERTIES_KEY_RETRY_INITIAL_DELAY_MILLIS_SUFFIX,
+        value -> builder.retryInitialDelay(Duration.ofMillis(Long.parseLong(value))));
+    settings.put(
+        PROPERTIES_KEY_RETRY_MAX_DELAY_MILLIS_SUFFIX,
+        value -> builder.retryMaxDelay(Duration.ofMillis(Long.parseLong(value))));
+    settings.put(
+        PROPERTIES_KEY_RETRY_JITTER_FACTOR_SUFFIX,
+        value -> builder.retryJitterFactor(Double.parseDouble(value)));
+    settings.put(
+        PROPERTIES_KEY_ADAPTIVE_CONCURRENCY_SUFFIX,
+        value -> builder.adaptiveConcurrencyEnabled(Boolean.parseBoolean(value)));
+
+    settings.forEach(
+        (suffix, setter) -> {
+          final String value = properties.getProperty(buildPropKey(prefix, suffix));
+          if (value != null) {
+            try {
+              setter.accept(value.trim());
+            } catch (IllegalArgumentException exception) {
+              throw new IllegalArgumentException(
+                  format(
+                      "Illegal value '%s' of property '%s': %s",
+                      value, buildPropKey(prefix, suffix), exception.getMessage()),
+                  exception);
+            }
+          }
+        });
+    return builder.build();
   }
 
   private static Properties loadFromEnvVars(final String propertiesPrefix) {
@@ -132,6 +364,15 @@ public final class CtpClientUtils {
       properties.put(propertiesPrefix + PROPERTIES_KEY_SCOPES_SUFFIX, scopes);
     }
 
+    for (String suffix : CLIENT_SETTING_SUFFIXES) {
+      final String envName =
+          capitalizeAndReplaceDot + suffix.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
+      final String value = getPropertyFromEnv(envName);
+      if (value != null) {
+        properties.put(propertiesPrefix + suffix, value);
+      }
+    }
+
     return properties;
   }
 
@@ -1,5 +1,6 @@
 package com.commercetools.project.sync.util;
 
+import static com.commercetools.project.sync.service.impl.CustomObjectServiceImpl.FULL_SYNC_CHECKPOINT_KEY;
 import static com.commercetools.project.sync.service.impl.CustomObjectServiceImpl.TIMESTAMP_GENERATOR_KEY;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -143,6 +144,17 @@ public final class SyncUtils {
         TIMESTAMP_GENERATOR_KEY);
   }
 
+  @Nonnull
+  public static String buildFullSyncCheckpointContainerName(
+      @Nonnull final String syncModuleName, @Nullable final String runnerName) {
+    return format(
+        "%s.%s.%s.%s",
+        getApplicationName(),
+        getRunnerNameValue(runnerName),
+        syncModuleName,
+        FULL_SYNC_CHECKPOINT_KEY);
+  }
+
   @Nonnull
   private static String getRunnerNameValue(@Nullable final String runnerName) {
     return ofNullable(runnerName).filter(StringUtils::isNotBlank).orElse(DEFAULT_RUNNER_NAME);
@@ -0,0 +1,55 @@
+package com.commercetools.project.sync.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Creates executors which run every task on a new virtual thread. The project is compiled for Java
+ * 11, so the virtual thread factory of Java 21 is looked up at runtime: the same jar runs on Java
+ * 11 without virtual threads, and on Java 21 or newer with them.
+ */
+public final class VirtualThreads {
+
+  private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findExecutorFactory();
+
+  @Nullable
+  private static Method findExecutorFactory() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException exception) {
+      return null;
+    }
+  }
+
+  /** @return whether the current Java runtime supports virtual threads, i.e. Java 21 or newer. */
+  public static boolean isSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * @return an executor which starts a new virtual thread for every task, see {@code
+   *     Executors#newVirtualThreadPerTaskExecutor()}.
+   * @throws UnsupportedOperationException if the current Java runtime does not support virtual
+   *     threads.
+   */
+  @Nonnull
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+      throw new UnsupportedOperationException(
+          "virtual threads require Java 21 or newer, the current Java runtime is "
+              + Runtime.version()
+              + ".");
+    }
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+    } catch (IllegalAccessException | InvocationTargetException exception) {
+      throw new IllegalStateException("failed to create a virtual thread executor.", exception);
+    }
+  }
+
+  private VirtualThreads() {}
+}
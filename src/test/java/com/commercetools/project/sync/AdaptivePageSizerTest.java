@@ -0,0 +1,83 @@
+package com.commercetools.project.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.commercetools.project.sync.model.PageSizeBounds;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptivePageSizerTest {
+
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final AdaptivePageSizer pageSizer =
+      new AdaptivePageSizer(PageSizeBounds.of(10, 500), Duration.ofSeconds(4), 1000);
+
+  @Test
+  void getPageSize_BeforeFirstPage_ShouldStartAtLowerBound() {
+    assertThat(pageSizer.getPageSize()).isEqualTo(10);
+  }
+
+  @Test
+  void onPage_WithFastPages_ShouldDoubleUpToUpperBound() {
+    // test
+    for (int page = 0; page < 10; page++) {
+      pageSizer.onPage(pageSizer.getPageSize(), -1, 1, 1);
+    }
+
+    // assertions
+    assertThat(pageSizer.getPageSize()).isEqualTo(500);
+  }
+
+  @Test
+  void onPage_WithSlowPage_ShouldFitPageIntoTargetDuration() {
+    // preparation
+    pageSizer.onPage(10, -1, 1, 1);
+    pageSizer.onPage(20, -1, 1, 1);
+    pageSizer.onPage(40, -1, 1, 1);
+
+    // test
+    pageSizer.onPage(80, -1, ONE_SECOND, 4 * ONE_SECOND);
+
+    // assertions
+    assertThat(pageSizer.getPageSize()).isEqualTo(64);
+  }
+
+  @Test
+  void onPage_WithVerySlowPage_ShouldAtMostHalvePageSize() {
+    // preparation
+    pageSizer.onPage(10, -1, 1, 1);
+    pageSizer.onPage(20, -1, 1, 1);
+
+    // test
+    pageSizer.onPage(40, -1, ONE_SECOND, 100 * ONE_SECOND);
+
+    // assertions
+    assertThat(pageSizer.getPageSize()).isEqualTo(20);
+  }
+
+  @Test
+  void onPage_WithLargeResponse_ShouldKeepPageBelowMaxPageBytes() {
+    // preparation
+    pageSizer.onPage(10, -1, 1, 1);
+
+    // test
+    pageSizer.onPage(20, 800, 1, 1);
+
+    // assertions
+    assertThat(pageSizer.getPageSize()).isEqualTo(25);
+  }
+
+  @Test
+  void onPage_WithFixedBounds_ShouldKeepPageSize() {
+    // preparation
+    final AdaptivePageSizer fixedPageSizer = AdaptivePageSizer.of(PageSizeBounds.of(200, 200));
+
+    // test
+    fixedPageSizer.onPage(200, -1, 100 * ONE_SECOND, 100 * ONE_SECOND);
+
+    // assertions
+    assertThat(fixedPageSizer.getPageSize()).isEqualTo(200);
+  }
+}
@@ -19,6 +19,8 @@ import static com.commercetools.project.sync.util.TestUtils.stubClientsCustomObj
 import static com.commercetools.project.sync.util.TestUtils.withTestClient;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -34,12 +36,19 @@ import static org.mockito.Mockito.when;
 import com.commercetools.api.client.ByProjectKeyProductProjectionsGet;
 import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.project.sync.exception.CliException;
+import com.commercetools.project.sync.executor.ModuleExecutors;
+import com.commercetools.project.sync.executor.TransformPool;
+import com.commercetools.project.sync.model.PageSizeBounds;
+import com.commercetools.project.sync.model.SyncerConfiguration;
+import com.commercetools.project.sync.util.VirtualThreads;
 import com.google.common.base.Optional;
 import io.vrap.rmf.base.client.ApiHttpResponse;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterAll;
@@ -47,6 +56,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import uk.org.lidalia.slf4jext.Level;
@@ -445,6 +455,575 @@ class CliRunnerTest {
             });
   }
 
+  @Test
+  void run_AsProductFullSyncWithPagesInFlight_ShouldConfigureSyncersAndExecuteSync() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "products", "-f", "--pagesInFlight", "4"}, syncerFactory);
+
+    // assertions
+    assertThat(syncerFactory.getSyncerConfiguration().getMaxPagesInFlight()).isEqualTo(4);
+    verify(syncerFactory, times(1)).sync(new String[] {"products"}, null, true, false, null);
+    verify(sourceClient, times(1)).productProjections();
+  }
+
+  @Test
+  void run_WithInvalidPagesInFlightArgument_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "products", "-f", "--pagesInFlight", "zero"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("Illegal argument \"zero\" supplied to \"--pagesInFlight\" option!");
+            });
+  }
+
+  @Test
+  void run_AsProductFullSyncWithReferenceCacheOptions_ShouldConfigureReferenceCache() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(
+            new String[] {
+              "-s",
+              "products",
+              "-f",
+              "--referenceCacheSize",
+              "500",
+              "--referenceCacheExpiryMinutes",
+              "30"
+            },
+            syncerFactory);
+
+    // assertions
+    final SyncerConfiguration syncerConfiguration = syncerFactory.getSyncerConfiguration();
+    assertThat(syncerConfiguration.getReferenceCacheMaxEntries()).isEqualTo(500);
+    assertThat(syncerConfiguration.getReferenceCacheExpiry()).isEqualTo(Duration.ofMinutes(30));
+    assertThat(syncerConfiguration.isWarmUpReferenceCache()).isFalse();
+    verify(syncerFactory, times(1)).sync(new String[] {"products"}, null, true, false, null);
+    verify(sourceClient, times(1)).productProjections();
+  }
+
+  @Test
+  void run_WithReferenceCacheDirectory_ShouldPersistReferenceCacheOfSourceProject(
+      @TempDir Path referenceCacheDir) {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(
+            new String[] {
+              "-s", "states", "-f", "--referenceCacheDirectory", referenceCacheDir.toString()
+            },
+            syncerFactory);
+
+    // assertions
+    assertThat(syncerFactory.getSyncerConfiguration().getReferenceCacheDirectory())
+        .isEqualTo(referenceCacheDir);
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, true, false, null);
+    assertThat(referenceCacheDir.resolve("testProjectKey.reference-cache.json.gz")).exists();
+  }
+
+  @Test
+  void run_WithInvalidReferenceCacheSizeArgument_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "products", "-f", "--referenceCacheSize", "-1"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("Illegal argument \"-1\" supplied to \"--referenceCacheSize\" option!");
+            });
+  }
+
+  @Test
+  void run_WithMessagesDeltaSource_ShouldConfigureChangeMessageSource() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "states", "-f", "--deltaSource", "messages"}, syncerFactory);
+
+    // assertions
+    assertThat(syncerFactory.getSyncerConfiguration().getChangeMessageSourceFactory()).isNotNull();
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, true, false, null);
+  }
+
+  @Test
+  void run_WithInvalidDeltaSourceArgument_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of().run(new String[] {"-s", "products", "--deltaSource", "events"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("Illegal argument \"events\" supplied to \"--deltaSource\" option!");
+            });
+  }
+
+  @Test
+  void run_WithDeltaSliceMinutes_ShouldConfigureDeltaSliceDuration() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of().run(new String[] {"-s", "states", "--deltaSliceMinutes", "60"}, syncerFactory);
+
+    // assertions
+    assertThat(syncerFactory.getSyncerConfiguration().getDeltaSliceDuration())
+        .isEqualTo(Duration.ofMinutes(60));
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, false, false, null);
+  }
+
+  @Test
+  void run_WithInvalidDeltaSliceMinutes_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of().run(new String[] {"-s", "products", "--deltaSliceMinutes", "0"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("Illegal argument \"0\" supplied to \"--deltaSliceMinutes\" option!");
+            });
+  }
+
+  @Test
+  void run_AsFullSyncWithCheckpointPages_ShouldConfigureFullSyncCheckpoints() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "states", "-f", "--checkpointPages", "5"}, syncerFactory);
+
+    // assertions
+    assertThat(syncerFactory.getSyncerConfiguration().getFullSyncCheckpointPages()).isEqualTo(5);
+    assertThat(syncerFactory.getSyncerConfiguration().isResumeFullSync()).isFalse();
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, true, false, null);
+  }
+
+  @Test
+  void run_WithResumeWithoutFullSync_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of().run(new String[] {"-s", "products", "--resume"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("The \"--resume\" option can only be used with a full sync");
+            });
+  }
+
+  @Test
+  void run_WithResumeAndPartitions_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "products", "-f", "--resume", "--partitions", "4"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("a full sync split into 4 partitions cannot be checkpointed");
+            });
+  }
+
+  @Test
+  void run_WithVirtualThreadsOnJava21_ShouldConfigureVirtualThreadExecutor() {
+    assumeTrue(VirtualThreads.isSupported());
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of().run(new String[] {"-s", "states", "-f", "--virtualThreads"}, syncerFactory);
+
+    // assertions
+    assertThat(syncerFactory.getSyncerConfiguration().getExecutor()).isNotNull();
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, true, false, null);
+  }
+
+  @Test
+  void run_WithVirtualThreadsBeforeJava21_ShouldThrowCLIException() {
+    assumeFalse(VirtualThreads.isSupported());
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of().run(new String[] {"-s", "products", "--virtualThreads"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("The \"--virtualThreads\" option requires a Java 21 or newer runtime");
+            });
+  }
+
+  @Test
+  void run_WithModuleThreads_ShouldConfigureModuleExecutors() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(
+            new String[] {"-s", "states", "--moduleThreads", "4", "--moduleQueueSize", "50"},
+            syncerFactory);
+
+    // assertions
+    final ModuleExecutors moduleExecutors =
+        syncerFactory.getSyncerConfiguration().getModuleExecutors();
+    assertThat(moduleExecutors).isNotNull();
+    assertThat(moduleExecutors.getThreads()).isEqualTo(4);
+    assertThat(moduleExecutors.getQueueSize()).isEqualTo(50);
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, false, false, null);
+  }
+
+  @Test
+  void run_WithTransformThreads_ShouldConfigureTransformPool() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(
+            new String[] {"-s", "states", "--transformThreads", "8", "--transformChunkSize", "25"},
+            syncerFactory);
+
+    // assertions
+    final TransformPool transformPool = syncerFactory.getSyncerConfiguration().getTransformPool();
+    assertThat(transformPool).isNotNull();
+    assertThat(transformPool.getThreads()).isEqualTo(8);
+    assertThat(transformPool.getChunkSize()).isEqualTo(25);
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, false, false, null);
+  }
+
+  @Test
+  void run_WithCoalesceSyncState_ShouldConfigureCoalescedSyncState() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of().run(new String[] {"-s", "states", "--coalesceSyncState"}, syncerFactory);
+
+    // assertions
+    assertThat(syncerFactory.getSyncerConfiguration().isCoalesceSyncState()).isTrue();
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, false, false, null);
+  }
+
+  @Test
+  void run_WithCoalesceSyncStateAndDeltaSliceMinutes_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(
+            new String[] {"-s", "products", "--coalesceSyncState", "--deltaSliceMinutes", "60"},
+            syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("a delta sync split into time slices cannot be coalesced");
+            });
+  }
+
+  @Test
+  void run_WithAdaptivePageSize_ShouldConfigurePageSizeBoundsOfModules() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(
+            new String[] {
+              "-s", "states", "--adaptivePageSize", "products=20-90,all=50-500,inventoryEntries=500"
+            },
+            syncerFactory);
+
+    // assertions
+    final SyncerConfiguration configuration = syncerFactory.getSyncerConfiguration();
+    assertThat(configuration.getPageSizeBounds("ProductSync")).isEqualTo(PageSizeBounds.of(20, 90));
+    assertThat(configuration.getPageSizeBounds("InventorySync"))
+        .isEqualTo(PageSizeBounds.of(500, 500));
+    assertThat(configuration.getPageSizeBounds("StateSync")).isEqualTo(PageSizeBounds.of(50, 500));
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, false, false, null);
+  }
+
+  @Test
+  void run_WithUnknownModuleInAdaptivePageSize_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "products", "--adaptivePageSize", "orders=1-50"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("Unknown module \"orders\" supplied to \"--adaptivePageSize\" option!");
+            });
+  }
+
+  @Test
+  void run_WithProductMemoryBudget_ShouldConfigureByteBudgetOfProductPages() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "products", "--productMemoryBudgetMb", "64"}, syncerFactory);
+
+    // assertions
+    final SyncerConfiguration configuration = syncerFactory.getSyncerConfiguration();
+    assertThat(configuration.getProductMemoryBudget()).isNotNull();
+    assertThat(configuration.getProductMemoryBudget().getMaxBytes()).isEqualTo(64L * 1024 * 1024);
+    verify(syncerFactory, times(1)).sync(new String[] {"products"}, null, false, false, null);
+  }
+
+  @Test
+  void run_WithProjectedQueries_ShouldConfigureProjectedQueriesOfModules() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "states", "--projectedQueries", "shoppingLists"}, syncerFactory);
+
+    // assertions
+    final SyncerConfiguration configuration = syncerFactory.getSyncerConfiguration();
+    assertThat(configuration.isQueryProjected("ShoppingListSync")).isTrue();
+    assertThat(configuration.isQueryProjected("ProductSync")).isFalse();
+    verify(syncerFactory, times(1)).sync(new String[] {"states"}, null, false, false, null);
+  }
+
+  @Test
+  void run_AsProductFullSyncWithPartitions_ShouldConfigureSyncersAndExecuteSync() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of().run(new String[] {"-s", "products", "-f", "--partitions", "3"}, syncerFactory);
+
+    // assertions
+    assertThat(syncerFactory.getSyncerConfiguration().getPartitions()).isEqualTo(3);
+    verify(syncerFactory, times(1)).sync(new String[] {"products"}, null, true, false, null);
+    verify(sourceClient, times(3)).productProjections();
+  }
+
+  @Test
+  void run_WithTooManyPartitions_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(new String[] {"-s", "products", "-f", "--partitions", "65537"}, syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("partitions 65537 must be between 1 and 65536.");
+            });
+  }
+
+  @Test
+  void run_WithExportSnapshot_ShouldWriteSnapshotFileInsteadOfSyncing(@TempDir Path snapshotDir) {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(
+            new String[] {"-s", "states", "--exportSnapshot", snapshotDir.toString()},
+            syncerFactory);
+
+    // assertions
+    verify(syncerFactory, times(1))
+        .exportSnapshot(new String[] {"states"}, snapshotDir, false, null);
+    verify(syncerFactory, never()).sync(any(), any(), anyBoolean(), anyBoolean(), any());
+    verify(sourceClient, times(1)).states();
+    assertThat(snapshotDir.resolve("states.ndjson.gz")).exists();
+  }
+
+  @Test
+  void run_WithExportAndImportSnapshot_ShouldThrowCLIException() {
+    // preparation
+    final SyncerFactory syncerFactory =
+        spy(SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock()));
+
+    // test
+    CliRunner.of()
+        .run(
+            new String[] {"-s", "states", "--exportSnapshot", "foo", "--importSnapshot", "foo"},
+            syncerFactory);
+
+    // assertion
+    verify(syncerFactory, never()).exportSnapshot(any(), any(), anyBoolean(), any());
+    verify(syncerFactory, never()).importSnapshot(any(), any());
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+              final Throwable actualThrowable = loggingEvent.getThrowable().get();
+              assertThat(actualThrowable).isExactlyInstanceOf(CliException.class);
+              assertThat(actualThrowable.getMessage())
+                  .contains("Please pass only one of the \"--exportSnapshot\"");
+            });
+  }
+
   @Test
   void run_AsTaxCategoryDeltaSync_ShouldBuildSyncerAndExecuteSync() {
     // preparation
@@ -0,0 +1,151 @@
+package com.commercetools.project.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.commercetools.api.models.state.State;
+import com.commercetools.project.sync.model.response.FullSyncCheckpoint;
+import com.commercetools.project.sync.service.CustomObjectService;
+import com.commercetools.project.sync.util.TestUtils;
+import com.commercetools.sync.states.helpers.StateSyncStatistics;
+import io.vrap.rmf.base.client.utils.CompletableFutureUtils;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.org.lidalia.slf4jext.Level;
+import uk.org.lidalia.slf4jtest.TestLogger;
+import uk.org.lidalia.slf4jtest.TestLoggerFactory;
+
+class FullSyncCheckpointerTest {
+
+  private final TestLogger testLogger = TestLoggerFactory.getTestLogger(FullSyncCheckpointer.class);
+
+  private CustomObjectService customObjectService;
+  private StateSyncStatistics statistics;
+
+  @BeforeEach
+  void setup() {
+    testLogger.clearAll();
+    customObjectService = mock(CustomObjectService.class);
+    when(customObjectService.createFullSyncCheckpoint(any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    statistics = new StateSyncStatistics();
+  }
+
+  @Test
+  void onPageSynced_AfterCheckpointPages_ShouldSaveLastIdOfSyncedPage() {
+    // preparation
+    final FullSyncCheckpointer checkpointer =
+        new FullSyncCheckpointer(
+            customObjectService, "source", "StateSync", "runner", 2, statistics, testLogger);
+
+    // test
+    checkpointer.onPageFetched(List.of(mockState("a"), mockState("b")));
+    checkpointer.onPageFetched(List.of(mockState("c"), mockState("d")));
+    checkpointer.onPageFetched(List.of(mockState("e")));
+    statistics.incrementProcessed(2);
+    checkpointer.onPageSynced();
+    statistics.incrementProcessed(2);
+    statistics.incrementCreated(4);
+    final CompletionStage<Void> checkpointStage = checkpointer.onPageSynced();
+
+    // assertions
+    assertThat(checkpointStage).isCompleted();
+    final ArgumentCaptor<FullSyncCheckpoint> checkpoint =
+        ArgumentCaptor.forClass(FullSyncCheckpoint.class);
+    verify(customObjectService, times(1))
+        .createFullSyncCheckpoint(
+            eq("source"), eq("StateSync"), eq("runner"), checkpoint.capture());
+    assertThat(checkpoint.getValue().getLastSyncedId()).isEqualTo("d");
+    assertThat(checkpoint.getValue().getProcessed()).isEqualTo(4);
+    assertThat(checkpoint.getValue().getCreated()).isEqualTo(4);
+  }
+
+  @Test
+  void onPageSynced_BeforeCheckpointPages_ShouldNotSaveCheckpoint() {
+    // preparation
+    final FullSyncCheckpointer checkpointer =
+        new FullSyncCheckpointer(
+            customObjectService, "source", "StateSync", null, 3, statistics, testLogger);
+
+    // test
+    checkpointer.onPageFetched(List.of(mockState("a")));
+    checkpointer.onPageFetched(List.of(mockState("b")));
+    checkpointer.onPageSynced();
+    checkpointer.onPageSynced();
+
+    // assertions
+    verify(customObjectService, never()).createFullSyncCheckpoint(any(), any(), any(), any());
+  }
+
+  @Test
+  void onPageSynced_WithChunksOfPages_ShouldCountOnlyTheLastChunkOfAPage() {
+    // preparation
+    final FullSyncCheckpointer checkpointer =
+        new FullSyncCheckpointer(
+            customObjectService, "source", "StateSync", null, 2, statistics, testLogger);
+
+    // test
+    checkpointer.onPageFetched(List.of(mockState("a")), false);
+    checkpointer.onPageFetched(List.of(mockState("b")), false);
+    checkpointer.onPageFetched(List.of(mockState("c")), true);
+    checkpointer.onPageFetched(List.of(mockState("d")), false);
+    checkpointer.onPageFetched(List.of(mockState("e")), true);
+    checkpointer.onPageSynced();
+    checkpointer.onPageSynced();
+    checkpointer.onPageSynced();
+    checkpointer.onPageSynced();
+    verify(customObjectService, never()).createFullSyncCheckpoint(any(), any(), any(), any());
+    checkpointer.onPageSynced();
+
+    // assertions
+    final ArgumentCaptor<FullSyncCheckpoint> checkpoint =
+        ArgumentCaptor.forClass(FullSyncCheckpoint.class);
+    verify(customObjectService, times(1))
+        .createFullSyncCheckpoint(eq("source"), eq("StateSync"), any(), checkpoint.capture());
+    assertThat(checkpoint.getValue().getLastSyncedId()).isEqualTo("e");
+  }
+
+  @Test
+  void onPageSynced_WithFailingCheckpoint_ShouldLogWarningAndComplete() {
+    // preparation
+    when(customObjectService.createFullSyncCheckpoint(any(), any(), any(), any()))
+        .thenReturn(
+            CompletableFutureUtils.exceptionallyCompletedFuture(
+                TestUtils.createBadGatewayException()));
+    final FullSyncCheckpointer checkpointer =
+        new FullSyncCheckpointer(
+            customObjectService, "source", "StateSync", null, 1, statistics, testLogger);
+
+    // test
+    checkpointer.onPageFetched(List.of(mockState("a")));
+    final CompletionStage<Void> checkpointStage = checkpointer.onPageSynced();
+
+    // assertions
+    assertThat(checkpointStage).isCompleted();
+    assertThat(testLogger.getAllLoggingEvents())
+        .singleElement()
+        .satisfies(
+            loggingEvent -> {
+              assertThat(loggingEvent.getLevel()).isEqualTo(Level.WARN);
+              assertThat(loggingEvent.getMessage())
+                  .isEqualTo(
+                      "Failed to save the checkpoint of StateSync after the resource with id 'a'.");
+            });
+  }
+
+  private static State mockState(final String id) {
+    final State state = mock(State.class);
+    when(state.getId()).thenReturn(id);
+    return state;
+  }
+}
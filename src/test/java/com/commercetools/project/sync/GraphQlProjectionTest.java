@@ -0,0 +1,97 @@
+package com.commercetools.project.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.commercetools.api.client.ByProjectKeyShoppingListsGet;
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.defaultconfig.ApiRootBuilder;
+import com.commercetools.api.models.graph_ql.GraphQLRequest;
+import com.commercetools.api.models.shopping_list.ShoppingList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GraphQlProjectionTest {
+
+  private final ProjectApiRoot apiRoot =
+      ApiRootBuilder.of().withApiBaseUrl("baseUrl").build("testProjectKey");
+  private final GraphQlProjection<ByProjectKeyShoppingListsGet, ShoppingList> projection =
+      GraphQlProjection.of(
+          "shoppingLists",
+          "id " + GraphQlProjection.CUSTOM_FIELDS_SELECTION,
+          ShoppingList.class,
+          ByProjectKeyShoppingListsGet::getQueryParams);
+
+  @Test
+  void toGraphQlRequest_WithQueryParameters_ShouldPassThemAsVariables() {
+    // preparation
+    final ByProjectKeyShoppingListsGet pageQuery =
+        apiRoot
+            .shoppingLists()
+            .get()
+            .withWhere("lastModifiedAt >= :lower")
+            .withPredicateVar("lower", "2024-01-01T00:00:00.000Z")
+            .addWhere("id > \"abc\"")
+            .withSort("id asc")
+            .withLimit(20);
+
+    // test
+    final GraphQLRequest request = projection.toGraphQlRequest(pageQuery);
+
+    // assertions
+    assertThat(request.getQuery())
+        .contains("shoppingLists(where: $where, sort: $sort, limit: $limit)")
+        .contains("results { id custom { typeRef { typeId id } customFieldsRaw { name value } } }");
+    assertThat(request.getVariables().values())
+        .containsEntry(
+            "where", "(lastModifiedAt >= \"2024-01-01T00:00:00.000Z\") and (id > \"abc\")")
+        .containsEntry("sort", List.of("id asc"))
+        .containsEntry("limit", 20);
+  }
+
+  @Test
+  void parsePage_WithGraphQlResults_ShouldRewriteThemToRestRepresentation() throws IOException {
+    // preparation
+    final String responseBody =
+        "{\"data\":{\"shoppingLists\":{\"results\":[{"
+            + "\"id\":\"list-1\",\"key\":\"shoppingListKey\","
+            + "\"nameAllLocales\":[{\"locale\":\"en\",\"value\":\"name-1\"}],"
+            + "\"descriptionAllLocales\":null,"
+            + "\"customerRef\":{\"typeId\":\"customer\",\"id\":\"customer-1\"},"
+            + "\"lineItems\":[{\"id\":\"line-item-1\",\"productId\":\"product-1\",\"variantId\":1,"
+            + "\"variant\":{\"sku\":\"sku-1\"},\"quantity\":7,\"custom\":null}],"
+            + "\"custom\":{\"typeRef\":{\"typeId\":\"type\",\"id\":\"type-1\"},"
+            + "\"customFieldsRaw\":[{\"name\":\"textField\",\"value\":\"demo\"}]}}]}}}";
+
+    // test
+    final List<ShoppingList> page =
+        projection.parsePage(responseBody.getBytes(StandardCharsets.UTF_8));
+
+    // assertions
+    assertThat(page).hasSize(1);
+    final ShoppingList shoppingList = page.get(0);
+    assertThat(shoppingList.getId()).isEqualTo("list-1");
+    assertThat(shoppingList.getName().get("en")).isEqualTo("name-1");
+    assertThat(shoppingList.getDescription()).isNull();
+    assertThat(shoppingList.getCustomer().getId()).isEqualTo("customer-1");
+    assertThat(shoppingList.getLineItems().get(0).getVariant().getSku()).isEqualTo("sku-1");
+    assertThat(shoppingList.getLineItems().get(0).getQuantity()).isEqualTo(7L);
+    assertThat(shoppingList.getCustom().getType().getId()).isEqualTo("type-1");
+    assertThat(shoppingList.getCustom().getFields().values()).containsEntry("textField", "demo");
+  }
+
+  @Test
+  void parsePage_WithGraphQlErrors_ShouldThrowIllegalStateException() {
+    // preparation
+    final byte[] responseBody =
+        "{\"errors\":[{\"message\":\"Query too complex\"}]}".getBytes(StandardCharsets.UTF_8);
+
+    // test and assertions
+    assertThatThrownBy(() -> projection.parsePage(responseBody))
+        .isExactlyInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("The GraphQL query of shoppingLists failed")
+        .hasMessageContaining("Query too complex");
+  }
+}
@@ -0,0 +1,163 @@
+package com.commercetools.project.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class PipelinedPageProcessorTest {
+
+  @Test
+  void submit_WithSeveralPages_ShouldSyncPagesInSubmissionOrder() {
+    // preparation
+    final List<Integer> syncedPages = Collections.synchronizedList(new ArrayList<>());
+    final CompletableFuture<List<Integer>> slowFirstTransform = new CompletableFuture<>();
+    final PipelinedPageProcessor<Integer, Integer, Integer> pageProcessor =
+        new PipelinedPageProcessor<>(
+            3,
+            page -> page.get(0) == 1 ? slowFirstTransform : CompletableFuture.completedFuture(page),
+            drafts -> {
+              syncedPages.addAll(drafts);
+              return CompletableFuture.completedFuture(drafts.size());
+            });
+
+    // test
+    pageProcessor.submit(List.of(1));
+    pageProcessor.submit(List.of(2));
+    pageProcessor.submit(List.of(3));
+    final CompletableFuture<Void> completion = pageProcessor.awaitCompletion();
+
+    // assertions
+    assertThat(syncedPages).isEmpty();
+    assertThat(completion).isNotDone();
+    slowFirstTransform.complete(List.of(1));
+    assertThat(completion).isCompleted();
+    assertThat(syncedPages).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void submit_WhenMaxPagesInFlightReached_ShouldBlockUntilAPageIsSynced() throws Exception {
+    // preparation
+    final CompletableFuture<Integer> firstPageSync = new CompletableFuture<>();
+    final PipelinedPageProcessor<Integer, Integer, Integer> pageProcessor =
+        new PipelinedPageProcessor<>(
+            1,
+            CompletableFuture::completedFuture,
+            drafts ->
+                drafts.get(0) == 1
+                    ? firstPageSync
+                    : CompletableFuture.completedFuture(drafts.size()));
+    pageProcessor.submit(List.of(1));
+
+    // test
+    final AtomicBoolean secondPageSubmitted = new AtomicBoolean(false);
+    final CountDownLatch submitterStarted = new CountDownLatch(1);
+    final Thread submitter =
+        new Thread(
+            () -> {
+              submitterStarted.countDown();
+              pageProcessor.submit(List.of(2));
+              secondPageSubmitted.set(true);
+            });
+    submitter.start();
+    submitterStarted.await();
+    submitter.join(200);
+
+    // assertions
+    assertThat(secondPageSubmitted).isFalse();
+    firstPageSync.complete(1);
+    submitter.join(TimeUnit.SECONDS.toMillis(5));
+    assertThat(secondPageSubmitted).isTrue();
+    assertThat(pageProcessor.awaitCompletion()).isCompleted();
+  }
+
+  @Test
+  void submit_WithChunksOfOnePage_ShouldCountThemAsOnePageInFlight() throws Exception {
+    // preparation
+    final CompletableFuture<Integer> firstChunkSync = new CompletableFuture<>();
+    final PipelinedPageProcessor<Integer, Integer, Integer> pageProcessor =
+        new PipelinedPageProcessor<>(
+            1,
+            CompletableFuture::completedFuture,
+            drafts ->
+                drafts.get(0) == 1
+                    ? firstChunkSync
+                    : CompletableFuture.completedFuture(drafts.size()));
+    pageProcessor.submit(List.of(1), false);
+
+    // test
+    final AtomicBoolean lastChunkSubmitted = new AtomicBoolean(false);
+    final AtomicBoolean nextPageSubmitted = new AtomicBoolean(false);
+    final Thread submitter =
+        new Thread(
+            () -> {
+              pageProcessor.submit(List.of(2), true);
+              lastChunkSubmitted.set(true);
+              pageProcessor.submit(List.of(3));
+              nextPageSubmitted.set(true);
+            });
+    submitter.start();
+    submitter.join(200);
+
+    // assertions
+    assertThat(lastChunkSubmitted).isTrue();
+    assertThat(nextPageSubmitted).isFalse();
+    firstChunkSync.complete(1);
+    submitter.join(TimeUnit.SECONDS.toMillis(5));
+    assertThat(nextPageSubmitted).isTrue();
+    assertThat(pageProcessor.awaitCompletion()).isCompleted();
+  }
+
+  @Test
+  void submit_WithChunksOfOnePage_ShouldCompleteWhenTheChunkAndThePreviousChunksAreSynced() {
+    // preparation
+    final CompletableFuture<Integer> firstChunkSync = new CompletableFuture<>();
+    final PipelinedPageProcessor<Integer, Integer, Integer> pageProcessor =
+        new PipelinedPageProcessor<>(
+            1,
+            CompletableFuture::completedFuture,
+            drafts ->
+                drafts.get(0) == 1
+                    ? firstChunkSync
+                    : CompletableFuture.completedFuture(drafts.size()));
+    pageProcessor.submit(List.of(1), false);
+
+    // test
+    final CompletableFuture<Void> lastChunkSynced =
+        pageProcessor.submit(List.of(2), true).toCompletableFuture();
+
+    // assertions
+    assertThat(lastChunkSynced).isNotDone();
+    firstChunkSync.complete(1);
+    assertThat(lastChunkSynced).isCompleted();
+  }
+
+  @Test
+  void submit_AfterAFailedPageSync_ShouldThrowAndStopAcceptingPages() {
+    // preparation
+    final PipelinedPageProcessor<Integer, Integer, Integer> pageProcessor =
+        new PipelinedPageProcessor<>(
+            2,
+            CompletableFuture::completedFuture,
+            drafts -> {
+              final CompletableFuture<Integer> failedSync = new CompletableFuture<>();
+              failedSync.completeExceptionally(new IllegalStateException("sync failed"));
+              return failedSync;
+            });
+    pageProcessor.submit(List.of(1));
+
+    // test and assertions
+    assertThatThrownBy(() -> pageProcessor.submit(List.of(2)))
+        .isInstanceOf(CompletionException.class)
+        .hasCauseExactlyInstanceOf(IllegalStateException.class);
+    assertThat(pageProcessor.awaitCompletion()).isCompletedExceptionally();
+  }
+}
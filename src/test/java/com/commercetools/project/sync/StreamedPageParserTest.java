@@ -0,0 +1,75 @@
+package com.commercetools.project.sync;
+
+import static com.commercetools.project.sync.util.TestUtils.readObjectFromResource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.commercetools.api.models.product.Product;
+import com.commercetools.api.models.product.ProductMixin;
+import com.commercetools.api.models.product.ProductProjection;
+import com.commercetools.api.models.product.ProductProjectionPagedQueryResponseBuilder;
+import com.commercetools.api.models.product.ProductProjectionType;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class StreamedPageParserTest {
+
+  @Test
+  void next_WithPageOfTwoProducts_ShouldParseProductsOneAfterTheOther() throws IOException {
+    // preparation
+    final ProductProjection product1 = readProductProjection("product-key-1.json");
+    final ProductProjection product2 = readProductProjection("product-key-2.json");
+    final byte[] responseBody =
+        JsonUtils.toJsonByteArray(
+            ProductProjectionPagedQueryResponseBuilder.of()
+                .results(product1, product2)
+                .limit(20L)
+                .count(2L)
+                .offset(0L)
+                .total(2L)
+                .build());
+
+    // test
+    try (StreamedPageParser<ProductProjection> pageParser =
+        StreamedPageParser.of(responseBody, ProductProjection.class)) {
+
+      // assertions
+      assertThat(pageParser.next().getId()).isEqualTo(product1.getId());
+      assertThat(pageParser.next().getId()).isEqualTo(product2.getId());
+      assertThat(pageParser.next()).isNull();
+      assertThat(pageParser.next()).isNull();
+    }
+  }
+
+  @Test
+  void next_WithEmptyPage_ShouldReturnNull() throws IOException {
+    // preparation
+    final byte[] responseBody =
+        "{\"limit\":20,\"count\":0,\"results\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    // test
+    try (StreamedPageParser<ProductProjection> pageParser =
+        StreamedPageParser.of(responseBody, ProductProjection.class)) {
+
+      // assertions
+      assertThat(pageParser.next()).isNull();
+    }
+  }
+
+  @Test
+  void of_WithNoJsonObject_ShouldThrowIOException() {
+    // preparation
+    final byte[] responseBody = "[]".getBytes(StandardCharsets.UTF_8);
+
+    // test and assertions
+    assertThatThrownBy(() -> StreamedPageParser.of(responseBody, ProductProjection.class))
+        .isInstanceOf(IOException.class);
+  }
+
+  private static ProductProjection readProductProjection(final String resourcePath) {
+    return ProductMixin.toProjection(
+        readObjectFromResource(resourcePath, Product.class), ProductProjectionType.STAGED);
+  }
+}
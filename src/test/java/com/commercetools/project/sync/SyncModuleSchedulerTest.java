@@ -0,0 +1,124 @@
+package com.commercetools.project.sync;
+
+import static com.commercetools.project.sync.SyncModuleOption.CATEGORY_SYNC;
+import static com.commercetools.project.sync.SyncModuleOption.INVENTORY_ENTRY_SYNC;
+import static com.commercetools.project.sync.SyncModuleOption.PRODUCT_SYNC;
+import static com.commercetools.project.sync.SyncModuleOption.STATE_SYNC;
+import static com.commercetools.project.sync.SyncModuleOption.TAX_CATEGORY_SYNC;
+import static com.commercetools.project.sync.SyncModuleOption.TYPE_SYNC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SyncModuleSchedulerTest {
+
+  private final List<SyncModuleOption> startedModules =
+      Collections.synchronizedList(new ArrayList<>());
+  private final Map<SyncModuleOption, CompletableFuture<Void>> moduleStages =
+      Collections.synchronizedMap(new EnumMap<>(SyncModuleOption.class));
+
+  private CompletionStage<Void> startModule(final SyncModuleOption syncModuleOption) {
+    startedModules.add(syncModuleOption);
+    final CompletableFuture<Void> moduleStage = new CompletableFuture<>();
+    moduleStages.put(syncModuleOption, moduleStage);
+    return moduleStage;
+  }
+
+  @Test
+  void run_WithIndependentModule_ShouldStartItWithoutWaitingForUnrelatedModules() {
+    // preparation
+    final SyncModuleScheduler scheduler =
+        new SyncModuleScheduler(
+            List.of(TYPE_SYNC, CATEGORY_SYNC, INVENTORY_ENTRY_SYNC, PRODUCT_SYNC),
+            Integer.MAX_VALUE,
+            this::startModule);
+
+    // test
+    final CompletableFuture<Void> result = scheduler.run();
+    moduleStages.get(TYPE_SYNC).complete(null);
+
+    // assertions
+    assertThat(startedModules).containsExactly(TYPE_SYNC, CATEGORY_SYNC, INVENTORY_ENTRY_SYNC);
+    moduleStages.get(INVENTORY_ENTRY_SYNC).complete(null);
+    assertThat(startedModules).doesNotContain(PRODUCT_SYNC);
+    moduleStages.get(CATEGORY_SYNC).complete(null);
+    assertThat(startedModules).endsWith(PRODUCT_SYNC);
+    assertThat(result).isNotDone();
+    moduleStages.get(PRODUCT_SYNC).complete(null);
+    assertThat(result).isCompleted();
+  }
+
+  @Test
+  void run_WithMaxConcurrentModules_ShouldNotRunMoreModulesAtTheSameTime() {
+    // preparation
+    final SyncModuleScheduler scheduler =
+        new SyncModuleScheduler(
+            List.of(TYPE_SYNC, STATE_SYNC, TAX_CATEGORY_SYNC), 2, this::startModule);
+
+    // test
+    final CompletableFuture<Void> result = scheduler.run();
+
+    // assertions
+    assertThat(startedModules).containsExactly(TYPE_SYNC, STATE_SYNC);
+    moduleStages.get(STATE_SYNC).complete(null);
+    assertThat(startedModules).containsExactly(TYPE_SYNC, STATE_SYNC, TAX_CATEGORY_SYNC);
+    moduleStages.get(TYPE_SYNC).complete(null);
+    moduleStages.get(TAX_CATEGORY_SYNC).complete(null);
+    assertThat(result).isCompleted();
+  }
+
+  @Test
+  void run_WithFailingModule_ShouldSkipDependentModulesAndRunIndependentModules() {
+    // preparation
+    final IllegalStateException failure = new IllegalStateException("type sync failed");
+    final SyncModuleScheduler scheduler =
+        new SyncModuleScheduler(
+            List.of(TYPE_SYNC, STATE_SYNC, CATEGORY_SYNC, PRODUCT_SYNC),
+            Integer.MAX_VALUE,
+            this::startModule);
+
+    // test
+    final CompletableFuture<Void> result = scheduler.run();
+    moduleStages.get(TYPE_SYNC).completeExceptionally(failure);
+    moduleStages.get(STATE_SYNC).complete(null);
+
+    // assertions
+    assertThat(startedModules).containsExactly(TYPE_SYNC, STATE_SYNC);
+    assertThat(result)
+        .failsWithin(1, TimeUnit.SECONDS)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseExactlyInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void getCriticalPath_AfterRun_ShouldReturnLongestChainOfDependentModules() throws Exception {
+    // preparation
+    final SyncModuleScheduler scheduler =
+        new SyncModuleScheduler(
+            List.of(TYPE_SYNC, STATE_SYNC, CATEGORY_SYNC, PRODUCT_SYNC),
+            Integer.MAX_VALUE,
+            this::startModule);
+    final CompletableFuture<Void> result = scheduler.run();
+
+    // test
+    moduleStages.get(STATE_SYNC).complete(null);
+    Thread.sleep(20);
+    moduleStages.get(TYPE_SYNC).complete(null);
+    Thread.sleep(20);
+    moduleStages.get(CATEGORY_SYNC).complete(null);
+    moduleStages.get(PRODUCT_SYNC).complete(null);
+
+    // assertions
+    assertThat(result).isCompleted();
+    assertThat(scheduler.getCriticalPath()).containsExactly(TYPE_SYNC, CATEGORY_SYNC, PRODUCT_SYNC);
+  }
+}
@@ -25,6 +25,7 @@ import static com.commercetools.project.sync.util.TestUtils.withTestClient;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
@@ -39,6 +40,7 @@ import com.commercetools.api.client.ByProjectKeyProductsPost;
 import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.api.defaultconfig.ApiRootBuilder;
 import com.commercetools.api.models.ResourcePagedQueryResponse;
+import com.commercetools.api.models.category.CategoryDraft;
 import com.commercetools.api.models.custom_object.CustomObject;
 import com.commercetools.api.models.custom_object.CustomObjectDraft;
 import com.commercetools.api.models.graph_ql.GraphQLRequest;
@@ -56,12 +58,15 @@ import com.commercetools.project.sync.customer.CustomerSyncer;
 import com.commercetools.project.sync.customobject.CustomObjectSyncer;
 import com.commercetools.project.sync.exception.CliException;
 import com.commercetools.project.sync.inventoryentry.InventoryEntrySyncer;
+import com.commercetools.project.sync.model.SyncerConfiguration;
 import com.commercetools.project.sync.product.ProductSyncer;
 import com.commercetools.project.sync.producttype.ProductTypeSyncer;
 import com.commercetools.project.sync.shoppinglist.ShoppingListSyncer;
 import com.commercetools.project.sync.state.StateSyncer;
 import com.commercetools.project.sync.taxcategory.TaxCategorySyncer;
 import com.commercetools.project.sync.type.TypeSyncer;
+import com.commercetools.sync.categories.CategorySync;
+import com.commercetools.sync.categories.helpers.CategorySyncStatistics;
 import com.commercetools.sync.commons.exceptions.ReferenceTransformException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -70,13 +75,19 @@ import io.vrap.rmf.base.client.ApiHttpResponse;
 import io.vrap.rmf.base.client.error.BadGatewayException;
 import io.vrap.rmf.base.client.utils.CompletableFutureUtils;
 import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -88,6 +99,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
+import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import uk.org.lidalia.slf4jext.Level;
 import uk.org.lidalia.slf4jtest.LoggingEvent;
@@ -746,6 +758,75 @@ class SyncerFactoryTest {
         .haveExactly(1, statisticsLog);
   }
 
+  @Test
+  void sync_AsPartitionedCategoriesFullSync_ShouldSyncParentAndChildOfOtherRangeInOneSync() {
+    // preparation
+    final List<String> sourceQueries = Collections.synchronizedList(new ArrayList<>());
+    sourceClient =
+        withTestClient(
+            "testProjectKey",
+            (uri, method, encodedRequestBody) -> {
+              final String responseString;
+              if (uri.contains("graphql") && ApiHttpMethod.POST.equals(method)) {
+                responseString =
+                    format(
+                        "{\"data\":{\"categories\":{\"results\":%s}}}",
+                        readStringFromFile("category-parent-key.json"));
+              } else if (uri.contains("categories") && ApiHttpMethod.GET.equals(method)) {
+                sourceQueries.add(URLDecoder.decode(uri, StandardCharsets.UTF_8));
+                responseString =
+                    format(
+                        "{\"results\":%s,\"limit\":500,\"offset\":0,\"count\":2}",
+                        readStringFromFile("categories-parent-and-child.json"));
+              } else {
+                return null;
+              }
+              return CompletableFuture.completedFuture(
+                  new ApiHttpResponse<>(
+                      200, null, responseString.getBytes(StandardCharsets.UTF_8)));
+            });
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+
+    final List<CategoryDraft> syncedDrafts = Collections.synchronizedList(new ArrayList<>());
+    try (MockedConstruction<CategorySync> categorySyncs =
+        Mockito.mockConstruction(
+            CategorySync.class,
+            (categorySync, context) -> {
+              final CategorySyncStatistics statistics = new CategorySyncStatistics();
+              when(categorySync.getStatistics()).thenReturn(statistics);
+              when(categorySync.sync(anyList()))
+                  .thenAnswer(
+                      invocation -> {
+                        final List<CategoryDraft> drafts = invocation.getArgument(0);
+                        syncedDrafts.addAll(drafts);
+                        statistics.incrementProcessed(drafts.size());
+                        return CompletableFuture.completedFuture(statistics);
+                      });
+            })) {
+      final SyncerFactory syncerFactory =
+          SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock());
+      syncerFactory.setSyncerConfiguration(SyncerConfiguration.builder().partitions(2).build());
+
+      // test
+      syncerFactory.sync(new String[] {"categories"}, null, true, false, null).join();
+
+      // assertions
+      assertThat(categorySyncs.constructed()).hasSize(1);
+    }
+    assertThat(sourceQueries)
+        .isNotEmpty()
+        .noneSatisfy(query -> assertThat(query).contains("id < \"8000\""))
+        .noneSatisfy(query -> assertThat(query).contains("id >= \"8000\""));
+    assertThat(syncedDrafts)
+        .extracting(CategoryDraft::getKey)
+        .containsExactlyInAnyOrder("parentKey", "childKey");
+    assertThat(syncedDrafts)
+        .filteredOn(categoryDraft -> "childKey".equals(categoryDraft.getKey()))
+        .singleElement()
+        .satisfies(
+            categoryDraft -> assertThat(categoryDraft.getParent().getKey()).isEqualTo("parentKey"));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void sync_AsProductTypesDeltaSync_ShouldBuildSyncerAndExecuteSync() {
@@ -853,6 +934,47 @@ class SyncerFactoryTest {
         .haveExactly(1, statisticsLog);
   }
 
+  @Test
+  void sync_AsTypesDeltaSyncWithTwoTargets_ShouldFetchOnceAndSyncToBothTargets() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+    final ProjectApiRoot secondTargetClient = mock(ProjectApiRoot.class);
+    when(secondTargetClient.getProjectKey()).thenReturn("secondTargetProjectKey");
+    stubClientsCustomObjectService(secondTargetClient, ZonedDateTime.now());
+
+    final SyncerFactory syncerFactory =
+        SyncerFactory.of(
+            () -> sourceClient,
+            Arrays.asList(() -> targetClient, () -> secondTargetClient),
+            getMockedClock());
+
+    // test
+    syncerFactory
+        .sync(new String[] {"types"}, "foo", false, false, null)
+        .toCompletableFuture()
+        .join();
+
+    // assertions
+    verify(sourceClient, times(1)).types();
+    verifyTimestampGeneratorCustomObjectUpsertIsCalled(targetClient, "TypeSync", "foo");
+    verifyLastSyncCustomObjectQuery(targetClient, "typeSync", "foo", "testProjectKey", 1);
+    verifyLastSyncCustomObjectQuery(secondTargetClient, "typeSync", "foo", "testProjectKey", 1);
+    // the current ctp timestamp is only generated in the first target project.
+    verify(targetClient.customObjects(), times(2)).post(any(CustomObjectDraft.class));
+    verify(secondTargetClient.customObjects(), times(1)).post(any(CustomObjectDraft.class));
+    verify(targetClient, times(1)).close();
+    verify(secondTargetClient, times(1)).close();
+
+    final Condition<LoggingEvent> startLog =
+        new Condition<>(
+            loggingEvent ->
+                Level.INFO.equals(loggingEvent.getLevel())
+                    && loggingEvent.getMessage().contains("Starting TypeSync"),
+            "start log");
+
+    assertThat(typeSyncerTestLogger.getAllLoggingEvents()).haveExactly(2, startLog);
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void sync_AsInventoryEntriesDeltaSync_ShouldBuildSyncerAndExecuteSync() {
@@ -907,6 +1029,23 @@ class SyncerFactoryTest {
         .haveExactly(1, statisticsLog);
   }
 
+  @Test
+  void sync_WithExecutorService_ShouldShutDownExecutorAfterSync() {
+    // preparation
+    stubClientsCustomObjectService(targetClient, ZonedDateTime.now());
+    final ExecutorService executor = Executors.newCachedThreadPool();
+
+    final SyncerFactory syncerFactory =
+        SyncerFactory.of(() -> sourceClient, () -> targetClient, getMockedClock());
+    syncerFactory.setSyncerConfiguration(SyncerConfiguration.builder().executor(executor).build());
+
+    // test
+    syncerFactory.sync(new String[] {"inventoryEntries"}, null, false, false, null).join();
+
+    // assertions
+    assertThat(executor.isShutdown()).isTrue();
+  }
+
   @Test
   void sync_WithErrorOnFetch_ShouldCloseClientAndCompleteExceptionally() {
     // preparation
@@ -1158,11 +1297,8 @@ class SyncerFactoryTest {
 
     final InOrder inOrder = Mockito.inOrder(sourceClient);
 
-    // According to sync algorithm, ProductType and Customer will run sync in parallel, Product and
-    // ShoppingList sequentially.
-    // Example: Given: ['productTypes', 'customers', 'products', 'shoppingLists']
-    // From the given arguments, algorithm will group the resources as below,
-    // [productTypes, customers] [products] [shoppingLists]
+    // ProductType and Customer have no essential sync options in this run, so they start right
+    // away. Product starts after ProductType and ShoppingList after both Product and Customer.
     inOrder.verify(sourceClient, times(1)).productTypes();
     verify(sourceClient, times(1)).customers();
     inOrder.verify(sourceClient, times(1)).productProjections();
@@ -0,0 +1,421 @@
+package com.commercetools.project.sync;
+
+import static com.commercetools.project.sync.util.TestUtils.createBadGatewayException;
+import static com.commercetools.project.sync.util.TestUtils.getMockedClock;
+import static com.commercetools.project.sync.util.TestUtils.withTestClient;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.commercetools.api.client.ByProjectKeyInventoryGet;
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.common.ReferenceTypeId;
+import com.commercetools.api.models.inventory.InventoryEntry;
+import com.commercetools.api.models.inventory.InventoryEntryBuilder;
+import com.commercetools.api.models.inventory.InventoryEntryDraft;
+import com.commercetools.api.models.inventory.InventoryEntryDraftBuilder;
+import com.commercetools.api.models.inventory.InventoryEntryUpdateAction;
+import com.commercetools.api.models.inventory.InventoryPagedQueryResponse;
+import com.commercetools.api.models.inventory.InventoryPagedQueryResponseBuilder;
+import com.commercetools.api.predicates.query.inventory.InventoryEntryQueryBuilderDsl;
+import com.commercetools.project.sync.delta.RecordedChangeMessageSource;
+import com.commercetools.project.sync.model.SyncerConfiguration;
+import com.commercetools.project.sync.model.response.LastSyncCustomObject;
+import com.commercetools.project.sync.service.CustomObjectService;
+import com.commercetools.sync.inventories.InventorySync;
+import com.commercetools.sync.inventories.InventorySyncOptions;
+import com.commercetools.sync.inventories.helpers.InventorySyncStatistics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vrap.rmf.base.client.ApiHttpMethod;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import io.vrap.rmf.base.client.error.BadGatewayException;
+import io.vrap.rmf.base.client.utils.CompletableFutureUtils;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class SyncerTest {
+
+  private static final String ENTRY_ID_1 = "2a3b4c5d-0000-4000-8000-000000000001";
+  private static final String ENTRY_ID_2 = "2a3b4c5d-0000-4000-8000-000000000002";
+  private static final ZonedDateTime LAST_SYNC = ZonedDateTime.parse("2026-10-18T10:00:00.000Z");
+  private static final ZonedDateTime NOW = ZonedDateTime.parse("2026-10-18T11:00:00.000Z");
+
+  private final List<String> sourceQueries = Collections.synchronizedList(new ArrayList<>());
+  private volatile List<InventoryEntry> sourceEntries =
+      asList(inventoryEntry(ENTRY_ID_1, "sku-1", 2L), inventoryEntry(ENTRY_ID_2, "sku-2", 3L));
+  // the number of the first source query which fails, all later source queries fail as well.
+  private volatile int firstFailingSourceQuery = Integer.MAX_VALUE;
+
+  @Test
+  void syncPartitioned_WithPartitionSyncer_ShouldSyncEveryIdRangeAndMergeStatistics() {
+    // preparation
+    sourceEntries = singletonList(inventoryEntry(ENTRY_ID_1, "sku-1", 2L));
+    final List<InventoryEntryDraft> syncedDrafts = new ArrayList<>();
+    final List<InventoryEntryDraft> partitionSyncedDrafts = new ArrayList<>();
+    final TestInventoryEntrySyncer syncer =
+        new TestInventoryEntrySyncer(
+            mockSync(syncedDrafts), createSourceClient(), SyncerConfiguration.defaults());
+    final TestInventoryEntrySyncer partitionSyncer =
+        new TestInventoryEntrySyncer(
+            mockSync(partitionSyncedDrafts), createSourceClient(), SyncerConfiguration.defaults());
+
+    // test
+    syncer.syncPartitioned(singletonList(partitionSyncer)).toCompletableFuture().join();
+
+    // assertions
+    assertThat(sourceQueries)
+        .hasSize(2)
+        .anySatisfy(query -> assertThat(query).contains("id < \"8000\""))
+        .anySatisfy(query -> assertThat(query).contains("id >= \"8000\""));
+    assertThat(syncedDrafts).extracting(InventoryEntryDraft::getSku).containsExactly("sku-1");
+    assertThat(partitionSyncedDrafts)
+        .extracting(InventoryEntryDraft::getSku)
+        .containsExactly("sku-1");
+    assertThat(syncer.getSync().getStatistics().getProcessed()).hasValue(2);
+  }
+
+  @Test
+  void sync_AsDeltaSyncWithChangeMessages_ShouldFetchOnlyChangedResourcesByTheirIds() {
+    // preparation
+    final RecordedChangeMessageSource changeMessageSource =
+        RecordedChangeMessageSource.of("inventory-change-messages.json");
+    final List<InventoryEntryDraft> syncedDrafts = new ArrayList<>();
+    final TestInventoryEntrySyncer syncer =
+        new TestInventoryEntrySyncer(
+            mockSync(syncedDrafts),
+            createSourceClient(),
+            SyncerConfiguration.builder()
+                .changeMessageSourceFactory(sourceClient -> changeMessageSource)
+                .build());
+
+    // test
+    syncer.sync(null, false).toCompletableFuture().join();
+
+    // assertions
+    assertThat(sourceQueries)
+        .singleElement()
+        .satisfies(
+            query ->
+                assertThat(query)
+                    .contains(String.format("id in (\"%s\", \"%s\")", ENTRY_ID_1, ENTRY_ID_2))
+                    .doesNotContain("lastModifiedAt"));
+    assertThat(syncedDrafts)
+        .extracting(InventoryEntryDraft::getSku)
+        .containsExactly("sku-1", "sku-2");
+  }
+
+  @Test
+  void sync_AsDeltaSyncWithFailingSecondTimeSlice_ShouldPersistUpperBoundOfFirstTimeSlice() {
+    // preparation
+    firstFailingSourceQuery = 2;
+    final CustomObjectService customObjectService = mockCustomObjectService(LAST_SYNC);
+    final TestInventoryEntrySyncer syncer =
+        new TestInventoryEntrySyncer(
+            mockSync(new ArrayList<>()),
+            createSourceClient(),
+            customObjectService,
+            SyncerConfiguration.builder().deltaSliceDuration(Duration.ofMinutes(30)).build());
+
+    // test
+    final CompletionStage<Void> result = syncer.sync(null, false);
+
+    // assertions
+    assertThat(result)
+        .failsWithin(1, TimeUnit.SECONDS)
+        .withThrowableOfType(ExecutionException.class)
+        .havingRootCause()
+        .isInstanceOf(BadGatewayException.class);
+    assertThat(sourceQueries).hasSize(2);
+    final ArgumentCaptor<LastSyncCustomObject> lastSyncCustomObjectCaptor =
+        ArgumentCaptor.forClass(LastSyncCustomObject.class);
+    verify(customObjectService, times(1))
+        .createLastSyncCustomObject(
+            anyString(), anyString(), any(), lastSyncCustomObjectCaptor.capture());
+    // the upper bound of the first slice minus the buffer of 2 minutes
+    assertThat(lastSyncCustomObjectCaptor.getValue().getLastSyncTimestamp())
+        .isEqualTo(LAST_SYNC.plusMinutes(30).minusMinutes(2));
+  }
+
+  @Test
+  void sync_AsSecondDeltaSyncWithFingerprints_ShouldSkipUnchangedDrafts(
+      @TempDir final Path fingerprintDirectory) {
+    // preparation
+    final List<InventoryEntryDraft> firstSyncedDrafts = new ArrayList<>();
+    createFingerprintingSyncer(mockSync(firstSyncedDrafts), fingerprintDirectory)
+        .sync(null, false)
+        .toCompletableFuture()
+        .join();
+    sourceEntries =
+        asList(inventoryEntry(ENTRY_ID_1, "sku-1", 2L), inventoryEntry(ENTRY_ID_2, "sku-2", 4L));
+    final List<InventoryEntryDraft> secondSyncedDrafts = new ArrayList<>();
+
+    // test
+    createFingerprintingSyncer(mockSync(secondSyncedDrafts), fingerprintDirectory)
+        .sync(null, false)
+        .toCompletableFuture()
+        .join();
+
+    // assertions
+    assertThat(firstSyncedDrafts)
+        .extracting(InventoryEntryDraft::getSku)
+        .containsExactly("sku-1", "sku-2");
+    assertThat(secondSyncedDrafts).extracting(InventoryEntryDraft::getSku).containsExactly("sku-2");
+  }
+
+  @Test
+  void sync_AsDeltaSyncAfterPageWithFailures_ShouldSyncAllDraftsOfThePageAgain(
+      @TempDir final Path fingerprintDirectory) {
+    // preparation
+    createFingerprintingSyncer(mockSync(new ArrayList<>(), 1), fingerprintDirectory)
+        .sync(null, false)
+        .toCompletableFuture()
+        .join();
+    final List<InventoryEntryDraft> syncedDrafts = new ArrayList<>();
+
+    // test
+    createFingerprintingSyncer(mockSync(syncedDrafts), fingerprintDirectory)
+        .sync(null, false)
+        .toCompletableFuture()
+        .join();
+
+    // assertions
+    assertThat(syncedDrafts)
+        .extracting(InventoryEntryDraft::getSku)
+        .containsExactly("sku-1", "sku-2");
+  }
+
+  @Test
+  void sync_AsFullSyncWithFingerprints_ShouldSyncUnchangedDrafts(
+      @TempDir final Path fingerprintDirectory) {
+    // preparation
+    createFingerprintingSyncer(mockSync(new ArrayList<>()), fingerprintDirectory)
+        .sync(null, false)
+        .toCompletableFuture()
+        .join();
+    final List<InventoryEntryDraft> syncedDrafts = new ArrayList<>();
+
+    // test
+    createFingerprintingSyncer(mockSync(syncedDrafts), fingerprintDirectory)
+        .sync(null, true)
+        .toCompletableFuture()
+        .join();
+
+    // assertions
+    assertThat(syncedDrafts)
+        .extracting(InventoryEntryDraft::getSku)
+        .containsExactly("sku-1", "sku-2");
+  }
+
+  @Nonnull
+  private static InventoryEntry inventoryEntry(
+      @Nonnull final String id, @Nonnull final String sku, final long quantityOnStock) {
+    return InventoryEntryBuilder.of()
+        .id(id)
+        .version(1L)
+        .createdAt(LAST_SYNC)
+        .lastModifiedAt(LAST_SYNC)
+        .sku(sku)
+        .quantityOnStock(quantityOnStock)
+        .availableQuantity(quantityOnStock)
+        .build();
+  }
+
+  /*
+   * Answers every inventory query with the current source entries, or with a bad gateway from the
+   * first failing query on, and records the decoded uri of every query.
+   */
+  @Nonnull
+  private ProjectApiRoot createSourceClient() {
+    return withTestClient(
+        "sourceProjectKey",
+        (uri, method, requestBody) -> {
+          if (!uri.contains("inventory") || !ApiHttpMethod.GET.equals(method)) {
+            return null;
+          }
+          sourceQueries.add(URLDecoder.decode(uri, StandardCharsets.UTF_8));
+          if (sourceQueries.size() >= firstFailingSourceQuery) {
+            return CompletableFutureUtils.exceptionallyCompletedFuture(createBadGatewayException());
+          }
+          final InventoryPagedQueryResponse response =
+              InventoryPagedQueryResponseBuilder.of()
+                  .results(sourceEntries)
+                  .limit(500L)
+                  .offset(0L)
+                  .count((long) sourceEntries.size())
+                  .build();
+          try {
+            return CompletableFuture.completedFuture(
+                new ApiHttpResponse<>(
+                    200, null, JsonUtils.getConfiguredObjectMapper().writeValueAsBytes(response)));
+          } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+          }
+        });
+  }
+
+  @Nonnull
+  private TestInventoryEntrySyncer createFingerprintingSyncer(
+      @Nonnull final InventorySync sync, @Nonnull final Path fingerprintDirectory) {
+    return new TestInventoryEntrySyncer(
+        sync,
+        createSourceClient(),
+        SyncerConfiguration.builder().fingerprintDirectory(fingerprintDirectory).build());
+  }
+
+  @Nonnull
+  private static InventorySync mockSync(@Nonnull final List<InventoryEntryDraft> syncedDrafts) {
+    return mockSync(syncedDrafts, 0);
+  }
+
+  /*
+   * A sync which records the drafts of every page instead of syncing them to a target project and
+   * counts the given number of drafts of every page as failed.
+   */
+  @Nonnull
+  private static InventorySync mockSync(
+      @Nonnull final List<InventoryEntryDraft> syncedDrafts, final int failedDraftsPerPage) {
+    final InventorySync sync = mock(InventorySync.class);
+    final InventorySyncStatistics statistics = new InventorySyncStatistics();
+    when(sync.getStatistics()).thenReturn(statistics);
+    when(sync.sync(anyList()))
+        .thenAnswer(
+            invocation -> {
+              final List<InventoryEntryDraft> drafts = invocation.getArgument(0);
+              syncedDrafts.addAll(drafts);
+              statistics.incrementProcessed(drafts.size());
+              statistics.incrementFailed(failedDraftsPerPage);
+              return CompletableFuture.completedFuture(statistics);
+            });
+    return sync;
+  }
+
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static CustomObjectService mockCustomObjectService(
+      @Nullable final ZonedDateTime lastSyncTimestamp) {
+    final CustomObjectService customObjectService = mock(CustomObjectService.class);
+    when(customObjectService.getCurrentCtpTimestamp(any(), anyString()))
+        .thenReturn(CompletableFuture.completedFuture(NOW));
+    final Optional<LastSyncCustomObject> lastSyncCustomObject =
+        lastSyncTimestamp == null
+            ? Optional.empty()
+            : Optional.of(
+                LastSyncCustomObject.of(lastSyncTimestamp, new InventorySyncStatistics(), 0));
+    when(customObjectService.getLastSyncCustomObject(anyString(), anyString(), any()))
+        .thenReturn(CompletableFuture.completedFuture(lastSyncCustomObject));
+    when(customObjectService.createLastSyncCustomObject(anyString(), anyString(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    return customObjectService;
+  }
+
+  /* An inventory entry syncer whose drafts only carry the SKU and quantity of their entries. */
+  private static final class TestInventoryEntrySyncer
+      extends Syncer<
+          InventoryEntry,
+          InventoryEntryUpdateAction,
+          InventoryEntryDraft,
+          InventoryEntryQueryBuilderDsl,
+          InventorySyncStatistics,
+          InventorySyncOptions,
+          ByProjectKeyInventoryGet,
+          InventoryPagedQueryResponse,
+          InventorySync> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestInventoryEntrySyncer.class);
+
+    private TestInventoryEntrySyncer(
+        @Nonnull final InventorySync sync,
+        @Nonnull final ProjectApiRoot sourceClient,
+        @Nonnull final SyncerConfiguration configuration) {
+      this(sync, sourceClient, mockCustomObjectService(LAST_SYNC), configuration);
+    }
+
+    private TestInventoryEntrySyncer(
+        @Nonnull final InventorySync sync,
+        @Nonnull final ProjectApiRoot sourceClient,
+        @Nonnull final CustomObjectService customObjectService,
+        @Nonnull final SyncerConfiguration configuration) {
+      super(
+          sync,
+          sourceClient,
+          createTargetClient(),
+          customObjectService,
+          getMockedClock(),
+          configuration);
+    }
+
+    @Nonnull
+    private static ProjectApiRoot createTargetClient() {
+      final ProjectApiRoot targetClient = mock(ProjectApiRoot.class);
+      when(targetClient.getProjectKey()).thenReturn("targetProjectKey");
+      return targetClient;
+    }
+
+    @Nonnull
+    @Override
+    protected CompletionStage<List<InventoryEntryDraft>> transform(
+        @Nonnull final List<InventoryEntry> page) {
+      return CompletableFuture.completedFuture(
+          page.stream()
+              .map(
+                  inventoryEntry ->
+                      InventoryEntryDraftBuilder.of()
+                          .sku(inventoryEntry.getSku())
+                          .quantityOnStock(inventoryEntry.getQuantityOnStock())
+                          .build())
+              .collect(Collectors.toList()));
+    }
+
+    @Nonnull
+    @Override
+    protected ByProjectKeyInventoryGet getQuery() {
+      return getSourceClient().inventory().get();
+    }
+
+    @Nonnull
+    @Override
+    protected String getMessageResourceTypeId() {
+      return ReferenceTypeId.INVENTORY_ENTRY.getJsonName();
+    }
+
+    @Nonnull
+    @Override
+    protected Function<InventoryEntryDraft, String> getDraftIdentifier() {
+      return InventoryEntryDraft::getSku;
+    }
+
+    @Nonnull
+    @Override
+    protected Logger getLoggerInstance() {
+      return LOGGER;
+    }
+  }
+}
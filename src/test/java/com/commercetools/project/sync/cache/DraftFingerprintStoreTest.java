@@ -0,0 +1,72 @@
+package com.commercetools.project.sync.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.commercetools.api.models.inventory.InventoryEntryDraft;
+import com.commercetools.api.models.inventory.InventoryEntryDraftBuilder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DraftFingerprintStoreTest {
+
+  @TempDir Path fingerprintDirectory;
+
+  @Test
+  void fingerprint_WithEqualDrafts_ShouldReturnSameFingerprint() {
+    // preparation
+    final InventoryEntryDraft draft =
+        InventoryEntryDraftBuilder.of().sku("sku-1").quantityOnStock(10L).build();
+    final InventoryEntryDraft equalDraft =
+        InventoryEntryDraftBuilder.of().quantityOnStock(10L).sku("sku-1").build();
+    final InventoryEntryDraft changedDraft =
+        InventoryEntryDraftBuilder.of().sku("sku-1").quantityOnStock(11L).build();
+
+    // test
+    final String fingerprint = DraftFingerprintStore.fingerprint(draft);
+
+    // assertions
+    assertThat(fingerprint).isNotBlank();
+    assertThat(DraftFingerprintStore.fingerprint(equalDraft)).isEqualTo(fingerprint);
+    assertThat(DraftFingerprintStore.fingerprint(changedDraft)).isNotEqualTo(fingerprint);
+  }
+
+  @Test
+  void load_WithSavedFingerprints_ShouldDetectUnchangedDrafts() throws Exception {
+    // preparation
+    final DraftFingerprintStore fingerprintStore =
+        DraftFingerprintStore.of(fingerprintDirectory, "source", "target", "InventorySync");
+    fingerprintStore.put("sku-1", "fingerprint-1");
+    fingerprintStore.save();
+
+    // test
+    final DraftFingerprintStore loadedStore =
+        DraftFingerprintStore.of(fingerprintDirectory, "source", "target", "InventorySync");
+    loadedStore.load();
+
+    // assertions
+    assertThat(fingerprintStore.getFile())
+        .isEqualTo(
+            fingerprintDirectory.resolve("source.target.InventorySync.fingerprints.json.gz"));
+    assertThat(loadedStore.isUnchanged("sku-1", "fingerprint-1")).isTrue();
+    assertThat(loadedStore.isUnchanged("sku-1", "fingerprint-2")).isFalse();
+    assertThat(loadedStore.isUnchanged("sku-2", "fingerprint-1")).isFalse();
+    assertThat(fingerprintDirectory).isDirectoryNotContaining("glob:**.tmp");
+  }
+
+  @Test
+  void load_WithCorruptFile_ShouldLoadNoFingerprints() throws Exception {
+    // preparation
+    final DraftFingerprintStore fingerprintStore =
+        DraftFingerprintStore.of(fingerprintDirectory, "source", "target", "InventorySync");
+    Files.write(fingerprintStore.getFile(), "not gzip".getBytes(StandardCharsets.UTF_8));
+
+    // test
+    fingerprintStore.load();
+
+    // assertion
+    assertThat(fingerprintStore.size()).isZero();
+  }
+}
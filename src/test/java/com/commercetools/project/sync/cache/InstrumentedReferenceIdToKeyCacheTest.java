@@ -0,0 +1,116 @@
+package com.commercetools.project.sync.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedReferenceIdToKeyCacheTest {
+
+  @Test
+  void containsKey_WithCachedAndUncachedIds_ShouldCountHitsAndMisses() {
+    // preparation
+    final InstrumentedReferenceIdToKeyCache cache = new InstrumentedReferenceIdToKeyCache(10, null);
+    cache.add("id-1", "key-1");
+
+    // test
+    final boolean containsCachedId = cache.containsKey("id-1");
+    final boolean containsUncachedId = cache.containsKey("id-2");
+    final String key = cache.get("id-1");
+
+    // assertions
+    assertThat(containsCachedId).isTrue();
+    assertThat(containsUncachedId).isFalse();
+    assertThat(key).isEqualTo("key-1");
+    assertThat(cache.getStatistics())
+        .containsExactly(
+            Map.entry("hits", 1L),
+            Map.entry("misses", 1L),
+            Map.entry("evictions", 0L),
+            Map.entry("entries", 1L));
+  }
+
+  @Test
+  void add_WithMoreMappingsThanMaxEntries_ShouldEvictMappings() {
+    // preparation
+    final InstrumentedReferenceIdToKeyCache cache = new InstrumentedReferenceIdToKeyCache(1, null);
+
+    // test
+    cache.add("id-1", "key-1");
+    cache.add("id-2", "key-2");
+    cache.add("id-3", "key-3");
+
+    // assertions
+    assertThat(cache.getStatistics()).containsEntry("evictions", 2L).containsEntry("entries", 1L);
+  }
+
+  @Test
+  void clearCache_WithCachedMappings_ShouldRemoveAllMappings() {
+    // preparation
+    final InstrumentedReferenceIdToKeyCache cache = new InstrumentedReferenceIdToKeyCache(10, null);
+    cache.addAll(Map.of("id-1", "key-1", "id-2", "key-2"));
+
+    // test
+    cache.clearCache();
+
+    // assertions
+    assertThat(cache.containsKey("id-1")).isFalse();
+    assertThat(cache.getStatistics()).containsEntry("entries", 0L);
+  }
+
+  @Test
+  void loadLazily_WithMappingsOfPreviousRun_ShouldOnlyLoadThemOnFirstRead() {
+    // preparation
+    final InstrumentedReferenceIdToKeyCache cache = new InstrumentedReferenceIdToKeyCache(10, null);
+    final AtomicInteger loads = new AtomicInteger();
+    cache.loadLazily(
+        () -> {
+          loads.incrementAndGet();
+          return Map.of(
+              "id-1", CachedReferenceKey.of("old-key-1", 0L),
+              "id-2", CachedReferenceKey.of("key-2", 0L),
+              "id-3", CachedReferenceKey.of("key-3", 0L));
+        });
+
+    // test
+    cache.add("id-1", "key-1");
+    cache.remove("id-3");
+    final int loadsBeforeFirstRead = loads.get();
+
+    // assertions
+    assertThat(loadsBeforeFirstRead).isZero();
+    assertThat(cache.get("id-1")).isEqualTo("key-1");
+    assertThat(loads).hasValue(1);
+    assertThat(cache.getMappings()).containsOnlyKeys("id-1", "id-2");
+    assertThat(cache.getMappings().get("id-2")).isEqualTo(CachedReferenceKey.of("key-2", 0L));
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void loadLazily_WithMappingsCachedBeforeExpiry_ShouldDropExpiredMappingsAndKeepCachedAtTimes() {
+    // preparation
+    final Instant now = Instant.parse("2026-10-18T10:00:00Z");
+    final InstrumentedReferenceIdToKeyCache cache =
+        new InstrumentedReferenceIdToKeyCache(
+            10, Duration.ofMinutes(60), Clock.fixed(now, ZoneOffset.UTC));
+    final CachedReferenceKey expiredKey =
+        CachedReferenceKey.of("key-1", now.minus(Duration.ofMinutes(61)).toEpochMilli());
+    final CachedReferenceKey validKey =
+        CachedReferenceKey.of("key-2", now.minus(Duration.ofMinutes(59)).toEpochMilli());
+    cache.loadLazily(() -> Map.of("id-1", expiredKey, "id-2", validKey));
+
+    // test
+    final boolean containsExpiredId = cache.containsKey("id-1");
+    final boolean containsValidId = cache.containsKey("id-2");
+
+    // assertions
+    assertThat(containsExpiredId).isFalse();
+    assertThat(containsValidId).isTrue();
+    assertThat(cache.getMappings()).containsExactly(Map.entry("id-2", validKey));
+  }
+}
@@ -0,0 +1,83 @@
+package com.commercetools.project.sync.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReferenceIdToKeyCacheFileTest {
+
+  @TempDir Path cacheDirectory;
+
+  @Test
+  void read_WithWrittenMappings_ShouldReadSameMappings() throws Exception {
+    // preparation
+    final ReferenceIdToKeyCacheFile cacheFile =
+        ReferenceIdToKeyCacheFile.of(cacheDirectory, "source-project");
+    cacheFile.write(
+        Map.of(
+            "id-1", CachedReferenceKey.of("key-1", 1000L),
+            "id-2", CachedReferenceKey.of("key-2", 2000L)));
+
+    // test
+    final Map<String, CachedReferenceKey> mappings =
+        ReferenceIdToKeyCacheFile.of(cacheDirectory, "source-project").read();
+
+    // assertions
+    assertThat(cacheFile.getFile())
+        .isEqualTo(cacheDirectory.resolve("source-project.reference-cache.json.gz"));
+    assertThat(mappings)
+        .containsExactlyInAnyOrderEntriesOf(
+            Map.of(
+                "id-1", CachedReferenceKey.of("key-1", 1000L),
+                "id-2", CachedReferenceKey.of("key-2", 2000L)));
+    assertThat(ReferenceIdToKeyCacheFile.of(cacheDirectory, "other-project").read()).isEmpty();
+  }
+
+  @Test
+  void read_WithCorruptFile_ShouldReturnNoMappings() throws Exception {
+    // preparation
+    final ReferenceIdToKeyCacheFile cacheFile =
+        ReferenceIdToKeyCacheFile.of(cacheDirectory, "source-project");
+    Files.write(cacheFile.getFile(), "not gzip".getBytes(StandardCharsets.UTF_8));
+
+    // test and assertion
+    assertThat(cacheFile.read()).isEmpty();
+  }
+
+  @Test
+  void read_WithFileWithoutCachedAtTimes_ShouldReturnNoMappings() throws Exception {
+    // preparation
+    final ReferenceIdToKeyCacheFile cacheFile =
+        ReferenceIdToKeyCacheFile.of(cacheDirectory, "source-project");
+    try (OutputStream outputStream =
+        new GZIPOutputStream(Files.newOutputStream(cacheFile.getFile()))) {
+      outputStream.write("{\"id-1\":\"key-1\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    // test and assertion
+    assertThat(cacheFile.read()).isEmpty();
+  }
+
+  @Test
+  void write_WithExistingFile_ShouldReplaceMappings() throws Exception {
+    // preparation
+    final ReferenceIdToKeyCacheFile cacheFile =
+        ReferenceIdToKeyCacheFile.of(cacheDirectory, "source-project");
+    cacheFile.write(Map.of("id-1", CachedReferenceKey.of("key-1", 1000L)));
+
+    // test
+    cacheFile.write(Map.of("id-2", CachedReferenceKey.of("key-2", 2000L)));
+
+    // assertions
+    assertThat(cacheFile.read())
+        .containsExactly(Map.entry("id-2", CachedReferenceKey.of("key-2", 2000L)));
+    assertThat(cacheDirectory).isDirectoryNotContaining("glob:**.tmp");
+  }
+}
@@ -0,0 +1,190 @@
+package com.commercetools.project.sync.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.vrap.rmf.base.client.ApiHttpRequest;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import io.vrap.rmf.base.client.error.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final List<CompletableFuture<ApiHttpResponse<byte[]>>> sentRequests = new ArrayList<>();
+
+  @Test
+  void invoke_WithMoreRequestsThanLimit_ShouldSendWaitingRequestsWhenResponsesArrive() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(2, 1, 10, nanoTime::get);
+
+    // test
+    final CompletableFuture<ApiHttpResponse<byte[]>> firstResult = invoke(limiter);
+    invoke(limiter);
+    invoke(limiter);
+
+    // assertions
+    assertThat(sentRequests).hasSize(2);
+    assertThat(limiter.getInFlight()).isEqualTo(2);
+    assertThat(limiter.getWaiting()).isEqualTo(1);
+
+    respond(0, 200, 10);
+    assertThat(firstResult)
+        .isCompletedWithValueMatching(response -> response.getStatusCode() == 200);
+    assertThat(sentRequests).hasSize(3);
+    assertThat(limiter.getInFlight()).isEqualTo(2);
+    assertThat(limiter.getWaiting()).isZero();
+  }
+
+  @Test
+  void invoke_WithFastResponsesAtLimit_ShouldIncreaseLimit() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(1, 1, 10, nanoTime::get);
+
+    // test
+    invoke(limiter);
+    respond(0, 200, 10);
+
+    // assertions
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void invoke_WithFastResponsesBelowLimit_ShouldNotIncreaseLimit() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(4, 1, 10, nanoTime::get);
+
+    // test
+    invoke(limiter);
+    respond(0, 200, 10);
+
+    // assertions
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void invoke_WithServiceUnavailableResponses_ShouldDecreaseLimitOncePerBurst() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(20, 1, 20, nanoTime::get);
+    invoke(limiter);
+    invoke(limiter);
+
+    // test
+    respond(0, 503, 10);
+    respond(1, 503, 10);
+
+    // assertions
+    assertThat(limiter.getLimit()).isEqualTo(15);
+  }
+
+  @Test
+  void invoke_WithTooManyRequestsResponsesOfSubsequentRequests_ShouldDecreaseLimitAgain() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(20, 1, 20, nanoTime::get);
+
+    // test
+    invoke(limiter);
+    respond(0, 429, 10);
+    invoke(limiter);
+    respond(1, 429, 10);
+
+    // assertions
+    assertThat(limiter.getLimit()).isEqualTo(11);
+  }
+
+  @Test
+  void invoke_WithServiceUnavailableException_ShouldDecreaseLimitAndPropagateException() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(20, 1, 20, nanoTime::get);
+    final CompletableFuture<ApiHttpResponse<byte[]>> result = invoke(limiter);
+    final ServiceUnavailableException exception =
+        new ServiceUnavailableException(503, "", null, "", new ApiHttpResponse<>(503, null, null));
+
+    // test
+    sentRequests.get(0).completeExceptionally(exception);
+
+    // assertions
+    assertThat(result).isCompletedExceptionally();
+    assertThat(limiter.getLimit()).isEqualTo(15);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void invoke_WithRisingLatency_ShouldDecreaseLimit() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(20, 1, 20, nanoTime::get);
+    for (int request = 0; request < 100; request++) {
+      invoke(limiter);
+      respond(request, 200, 10);
+    }
+
+    // test
+    invoke(limiter);
+    respond(100, 200, 100);
+    final int limitAfterFirstSlowResponse = limiter.getLimit();
+    invoke(limiter);
+    respond(101, 200, 100);
+
+    // assertions
+    assertThat(limitAfterFirstSlowResponse).isEqualTo(20);
+    assertThat(limiter.getLimit()).isEqualTo(17);
+  }
+
+  @Test
+  void invoke_WithMixOfFastAndSlowRequests_ShouldNotDecreaseLimit() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(20, 1, 20, nanoTime::get);
+
+    // test
+    for (int request = 0; request < 1000; request++) {
+      invoke(limiter);
+      respond(request, 200, request % 2 == 0 ? 10 : 100);
+    }
+
+    // assertions
+    assertThat(limiter.getLimit()).isEqualTo(20);
+  }
+
+  @Test
+  void invoke_WithOverloadedApiAtMinLimit_ShouldKeepMinLimit() {
+    // preparation
+    final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(1, 1, 10, nanoTime::get);
+
+    // test
+    invoke(limiter);
+    respond(0, 503, 10);
+
+    // assertions
+    assertThat(limiter.getLimit()).isEqualTo(1);
+  }
+
+  private CompletableFuture<ApiHttpResponse<byte[]>> invoke(
+      final AdaptiveConcurrencyLimiter limiter) {
+    return limiter.invoke(
+        mock(ApiHttpRequest.class),
+        request -> {
+          final CompletableFuture<ApiHttpResponse<byte[]>> response = new CompletableFuture<>();
+          sentRequests.add(response);
+          return response;
+        });
+  }
+
+  private void respond(final int request, final int statusCode, final long latencyInMillis) {
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyInMillis));
+    sentRequests.get(request).complete(new ApiHttpResponse<>(statusCode, null, new byte[0]));
+  }
+}
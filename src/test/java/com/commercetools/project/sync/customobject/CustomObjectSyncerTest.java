@@ -133,10 +133,20 @@ public class CustomObjectSyncerTest {
                   return SyncUtils.buildCurrentCtpTimestampContainerName(moduleName, runnerName);
                 })
             .collect(toList());
+    final List<String> fullSyncCheckpointContainerNames =
+        Stream.of(SyncModuleOption.values())
+            .map(
+                syncModuleOption -> {
+                  final String moduleName = syncModuleOption.getSyncModuleName();
+                  return SyncUtils.buildFullSyncCheckpointContainerName(moduleName, runnerName);
+                })
+            .collect(toList());
     final List<String> excludedContainerNames =
-        Stream.concat(
-                lastSyncTimestampContainerNames.stream(),
-                currentCtpTimestampContainerNames.stream())
+        Stream.of(
+                lastSyncTimestampContainerNames,
+                currentCtpTimestampContainerNames,
+                fullSyncCheckpointContainerNames)
+            .flatMap(List::stream)
             .collect(toList());
     return excludedContainerNames;
   }
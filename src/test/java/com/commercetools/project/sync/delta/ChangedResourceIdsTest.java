@@ -0,0 +1,99 @@
+package com.commercetools.project.sync.delta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ChangedResourceIdsTest {
+
+  private static final String PRODUCT_ID_1 = "1b7e6f0a-3c2d-4e5f-8a9b-0c1d2e3f4a51";
+  private static final String PRODUCT_ID_2 = "1b7e6f0a-3c2d-4e5f-8a9b-0c1d2e3f4a52";
+  private static final String PRODUCT_ID_3 = "1b7e6f0a-3c2d-4e5f-8a9b-0c1d2e3f4a53";
+
+  private final RecordedChangeMessageSource changeMessageSource =
+      RecordedChangeMessageSource.of("change-messages.json");
+
+  @Test
+  void fetchChangedResourceIds_WithRecordedMessages_ShouldReturnChangedAndDeletedIdsOfTimeWindow() {
+    // test
+    final Optional<ChangedResourceIds> changedResourceIds =
+        changeMessageSource
+            .fetchChangedResourceIds(
+                "product",
+                ZonedDateTime.parse("2026-10-18T10:00:00.000Z"),
+                ZonedDateTime.parse("2026-10-18T11:00:00.000Z"))
+            .toCompletableFuture()
+            .join();
+
+    // assertions
+    assertThat(changedResourceIds)
+        .hasValueSatisfying(
+            resourceIds -> {
+              assertThat(resourceIds.getChangedIds()).containsExactly(PRODUCT_ID_1, PRODUCT_ID_2);
+              assertThat(resourceIds.getDeletedIds()).containsExactly(PRODUCT_ID_3);
+            });
+  }
+
+  @Test
+  void fetchChangedResourceIds_WithOtherResourceType_ShouldReturnNoIds() {
+    // test
+    final Optional<ChangedResourceIds> changedResourceIds =
+        changeMessageSource
+            .fetchChangedResourceIds(
+                "category",
+                ZonedDateTime.parse("2026-10-18T00:00:00.000Z"),
+                ZonedDateTime.parse("2026-10-19T00:00:00.000Z"))
+            .toCompletableFuture()
+            .join();
+
+    // assertions
+    assertThat(changedResourceIds)
+        .hasValueSatisfying(
+            resourceIds -> {
+              assertThat(resourceIds.getChangedIds()).isEmpty();
+              assertThat(resourceIds.getDeletedIds()).isEmpty();
+            });
+  }
+
+  @Test
+  void build_WithDeletionBeforeChangeMessage_ShouldKeepResourceDeleted() {
+    // preparation
+    final ChangedResourceIds.Builder builder = ChangedResourceIds.builder();
+
+    // test
+    changeMessageSource.getMessages().stream()
+        .filter(message -> PRODUCT_ID_3.equals(message.getResource().getId()))
+        .sorted((first, second) -> second.getCreatedAt().compareTo(first.getCreatedAt()))
+        .forEach(builder::add);
+
+    // assertions
+    final ChangedResourceIds changedResourceIds = builder.build();
+    assertThat(changedResourceIds.getChangedIds()).isEmpty();
+    assertThat(changedResourceIds.getDeletedIds()).containsExactly(PRODUCT_ID_3);
+  }
+
+  @Test
+  void toIdPredicates_WithMoreIdsThanBatchSize_ShouldSplitIdsIntoBatches() {
+    // preparation
+    final ChangedResourceIds changedResourceIds =
+        ChangedResourceIds.builder().addAll(changeMessageSource.getMessages()).build();
+
+    // test
+    final List<String> idPredicates = changedResourceIds.toIdPredicates(2);
+
+    // assertions
+    assertThat(idPredicates)
+        .containsExactly(
+            "id in (\"1b7e6f0a-3c2d-4e5f-8a9b-0c1d2e3f4a54\", \"" + PRODUCT_ID_1 + "\")",
+            "id in (\"" + PRODUCT_ID_2 + "\")");
+  }
+
+  @Test
+  void toIdPredicates_WithoutChangedIds_ShouldReturnNoPredicates() {
+    // test and assertions
+    assertThat(ChangedResourceIds.builder().build().toIdPredicates(50)).isEmpty();
+  }
+}
@@ -0,0 +1,116 @@
+package com.commercetools.project.sync.delta;
+
+import static com.commercetools.project.sync.util.TestUtils.readStringFromFile;
+import static com.commercetools.project.sync.util.TestUtils.withTestClient;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+
+class CtpChangeMessageSourceTest {
+
+  private static final ZonedDateTime LOWER_BOUND = ZonedDateTime.parse("2026-10-18T10:00:00Z");
+  private static final ZonedDateTime UPPER_BOUND = ZonedDateTime.parse("2026-10-18T11:00:00Z");
+
+  private final List<String> messageQueries = new ArrayList<>();
+
+  @Test
+  void fetchChangedResourceIds_WithMessagesEnabled_ShouldCollectIdsFromMessages() {
+    // preparation
+    final ProjectApiRoot sourceClient =
+        mockSourceClient("{\"key\":\"testProjectKey\",\"messages\":{\"enabled\":true}}");
+
+    // test
+    final Optional<ChangedResourceIds> changedResourceIds =
+        CtpChangeMessageSource.of(sourceClient)
+            .fetchChangedResourceIds("product", LOWER_BOUND, UPPER_BOUND)
+            .toCompletableFuture()
+            .join();
+
+    // assertions
+    assertThat(messageQueries)
+        .singleElement()
+        .satisfies(
+            query ->
+                assertThat(query)
+                    .contains(
+                        "where=resource(typeId = :typeId) and createdAt >= :lower"
+                            + " and createdAt <= :upper")
+                    .contains("var.typeId=product"));
+    assertThat(changedResourceIds)
+        .hasValueSatisfying(
+            resourceIds -> {
+              assertThat(resourceIds.getChangedIds()).hasSize(3);
+              assertThat(resourceIds.getDeletedIds())
+                  .containsExactly("1b7e6f0a-3c2d-4e5f-8a9b-0c1d2e3f4a53");
+            });
+  }
+
+  @Test
+  void fetchChangedResourceIds_WithMessagesDisabled_ShouldReturnEmptyOptional() {
+    // preparation
+    final ProjectApiRoot sourceClient =
+        mockSourceClient("{\"key\":\"testProjectKey\",\"messages\":{\"enabled\":false}}");
+
+    // test
+    final Optional<ChangedResourceIds> changedResourceIds =
+        CtpChangeMessageSource.of(sourceClient)
+            .fetchChangedResourceIds("product", LOWER_BOUND, UPPER_BOUND)
+            .toCompletableFuture()
+            .join();
+
+    // assertions
+    assertThat(changedResourceIds).isEmpty();
+    assertThat(messageQueries).isEmpty();
+  }
+
+  @Test
+  void fetchChangedResourceIds_WithLastSyncOlderThanMessages_ShouldReturnEmptyOptional() {
+    // preparation
+    final ProjectApiRoot sourceClient =
+        mockSourceClient(
+            "{\"key\":\"testProjectKey\",\"messages\":"
+                + "{\"enabled\":true,\"deleteDaysAfterCreation\":1}}");
+
+    // test
+    final Optional<ChangedResourceIds> changedResourceIds =
+        CtpChangeMessageSource.of(sourceClient)
+            .fetchChangedResourceIds("product", LOWER_BOUND.minusDays(2), UPPER_BOUND)
+            .toCompletableFuture()
+            .join();
+
+    // assertions
+    assertThat(changedResourceIds).isEmpty();
+    assertThat(messageQueries).isEmpty();
+  }
+
+  @Nonnull
+  private ProjectApiRoot mockSourceClient(@Nonnull final String projectJson) {
+    final String messagesJson =
+        "{\"limit\":500,\"offset\":0,\"count\":6,\"results\":"
+            + readStringFromFile("change-messages.json")
+            + "}";
+    return withTestClient(
+        "testProjectKey",
+        (uri, method, requestBody) -> {
+          final String body;
+          if (uri.contains("/messages")) {
+            messageQueries.add(URLDecoder.decode(uri, StandardCharsets.UTF_8));
+            body = messagesJson;
+          } else {
+            body = projectJson;
+          }
+          return CompletableFuture.completedFuture(
+              new ApiHttpResponse<>(200, null, body.getBytes(StandardCharsets.UTF_8)));
+        });
+  }
+}
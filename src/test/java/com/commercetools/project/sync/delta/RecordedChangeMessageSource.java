@@ -0,0 +1,62 @@
+package com.commercetools.project.sync.delta;
+
+import com.commercetools.api.models.message.Message;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * Replays change messages recorded as a JSON array in a test resource, filtered by resource type
+ * and time window like the Messages endpoint of a project does.
+ */
+public final class RecordedChangeMessageSource implements ChangeMessageSource {
+
+  private final List<Message> messages;
+
+  private RecordedChangeMessageSource(@Nonnull final List<Message> messages) {
+    this.messages = messages;
+  }
+
+  @Nonnull
+  public static RecordedChangeMessageSource of(@Nonnull final String resourcePath) {
+    try (InputStream inputStream =
+        Thread.currentThread().getContextClassLoader().getResourceAsStream(resourcePath)) {
+      return new RecordedChangeMessageSource(
+          JsonUtils.getConfiguredObjectMapper()
+              .readValue(inputStream, new TypeReference<List<Message>>() {}));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  @Nonnull
+  public List<Message> getMessages() {
+    return messages;
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<Optional<ChangedResourceIds>> fetchChangedResourceIds(
+      @Nonnull final String resourceTypeId,
+      @Nonnull final ZonedDateTime lowerBound,
+      @Nonnull final ZonedDateTime upperBound) {
+    final List<Message> messagesInTimeWindow =
+        messages.stream()
+            .filter(
+                message -> resourceTypeId.equals(message.getResource().getTypeId().getJsonName()))
+            .filter(message -> !message.getCreatedAt().isBefore(lowerBound))
+            .filter(message -> !message.getCreatedAt().isAfter(upperBound))
+            .collect(Collectors.toList());
+    return CompletableFuture.completedFuture(
+        Optional.of(ChangedResourceIds.builder().addAll(messagesInTimeWindow).build()));
+  }
+}
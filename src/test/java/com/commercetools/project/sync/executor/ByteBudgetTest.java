@@ -0,0 +1,112 @@
+package com.commercetools.project.sync.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class ByteBudgetTest {
+
+  private final ByteBudget budget = ByteBudget.of(100);
+
+  @Test
+  void of_WithZeroBytes_ShouldThrowIllegalArgumentException() {
+    assertThatThrownBy(() -> ByteBudget.of(0))
+        .isExactlyInstanceOf(IllegalArgumentException.class)
+        .hasMessage("byte budget 0 cannot be less than 1.");
+  }
+
+  @Test
+  void acquire_WithinBudget_ShouldCompleteAtOnce() {
+    // test
+    final CompletableFuture<Long> acquired =
+        budget.acquire(60, Runnable::run).toCompletableFuture();
+
+    // assertions
+    assertThat(acquired).isCompletedWithValue(60L);
+    assertThat(budget.getAvailableBytes()).isEqualTo(40);
+  }
+
+  @Test
+  void acquire_BeyondAvailableBytes_ShouldWaitForRelease() {
+    // preparation
+    budget.acquire(60, Runnable::run);
+
+    // test
+    final CompletableFuture<Long> acquired =
+        budget.acquire(60, Runnable::run).toCompletableFuture();
+
+    // assertions
+    assertThat(acquired).isNotDone();
+    budget.release(60);
+    assertThat(acquired).isCompletedWithValue(60L);
+    assertThat(budget.getAvailableBytes()).isEqualTo(40);
+  }
+
+  @Test
+  void acquire_WithWaitingRequest_ShouldServeRequestsInOrder() {
+    // preparation
+    budget.acquire(60, Runnable::run);
+    final CompletableFuture<Long> first = budget.acquire(60, Runnable::run).toCompletableFuture();
+
+    // test
+    final CompletableFuture<Long> second = budget.acquire(10, Runnable::run).toCompletableFuture();
+
+    // assertions
+    assertThat(second).isNotDone();
+    budget.release(60);
+    assertThat(first).isCompletedWithValue(60L);
+    assertThat(second).isCompletedWithValue(10L);
+    assertThat(budget.getAvailableBytes()).isEqualTo(30);
+  }
+
+  @Test
+  void release_WithWaitingRequest_ShouldGrantRequestOnItsExecutor() {
+    // preparation
+    final List<Runnable> grantTasks = new ArrayList<>();
+    budget.acquire(60, Runnable::run);
+    final CompletableFuture<Long> acquired =
+        budget.acquire(60, grantTasks::add).toCompletableFuture();
+
+    // test
+    budget.release(60);
+
+    // assertions
+    assertThat(acquired).isNotDone();
+    assertThat(grantTasks).hasSize(1);
+    grantTasks.get(0).run();
+    assertThat(acquired).isCompletedWithValue(60L);
+    assertThat(budget.getAvailableBytes()).isEqualTo(40);
+  }
+
+  @Test
+  void adjust_BeyondAvailableBytes_ShouldOverdrawBudgetUntilRelease() {
+    // preparation
+    budget.acquire(10, Runnable::run);
+
+    // test
+    budget.adjust(10, 150);
+
+    // assertions
+    assertThat(budget.getAvailableBytes()).isEqualTo(-50);
+    final CompletableFuture<Long> next = budget.acquire(0, Runnable::run).toCompletableFuture();
+    assertThat(next).isNotDone();
+    budget.release(150);
+    assertThat(next).isCompletedWithValue(0L);
+    assertThat(budget.getAvailableBytes()).isEqualTo(100);
+  }
+
+  @Test
+  void acquire_MoreThanWholeBudget_ShouldAcquireWholeBudget() {
+    // test
+    final CompletableFuture<Long> acquired =
+        budget.acquire(500, Runnable::run).toCompletableFuture();
+
+    // assertions
+    assertThat(acquired).isCompletedWithValue(100L);
+    assertThat(budget.getAvailableBytes()).isZero();
+  }
+}
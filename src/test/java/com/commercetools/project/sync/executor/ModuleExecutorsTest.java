@@ -0,0 +1,84 @@
+package com.commercetools.project.sync.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.commercetools.project.sync.metrics.SyncMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ModuleExecutorsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ModuleExecutors moduleExecutors = new ModuleExecutors(1, 1, registry);
+
+  @AfterEach
+  void tearDownTest() {
+    moduleExecutors.shutdown();
+  }
+
+  @Test
+  void get_WithSameAndOtherModule_ShouldReturnOneExecutorPerModule() {
+    // test
+    final Executor productExecutor = moduleExecutors.get("ProductSync");
+
+    // assertions
+    assertThat(moduleExecutors.get("ProductSync")).isSameAs(productExecutor);
+    assertThat(moduleExecutors.get("CategorySync")).isNotSameAs(productExecutor);
+  }
+
+  @Test
+  void get_ShouldRunTasksOnThreadsNamedAfterModule() throws Exception {
+    // test
+    final String threadName =
+        CompletableFuture.supplyAsync(
+                () -> Thread.currentThread().getName(), moduleExecutors.get("ProductSync"))
+            .get(1, TimeUnit.SECONDS);
+
+    // assertions
+    assertThat(threadName).isEqualTo("ProductSync-worker-1");
+  }
+
+  @Test
+  void get_WithSaturatedExecutor_ShouldRunTaskOnCallerAndCountSaturation() throws Exception {
+    // preparation
+    final Executor executor = moduleExecutors.get("ProductSync");
+    final CountDownLatch release = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          try {
+            release.await();
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    // waits in the queue of size 1 while the only thread is blocked.
+    executor.execute(() -> {});
+
+    // test
+    final String[] threadName = new String[1];
+    executor.execute(() -> threadName[0] = Thread.currentThread().getName());
+    release.countDown();
+
+    // assertions
+    assertThat(threadName[0]).isEqualTo(Thread.currentThread().getName());
+    assertThat(
+            registry
+                .get(SyncMetrics.EXECUTOR_SATURATED_METER)
+                .tags(SyncMetrics.MODULE_TAG, "ProductSync")
+                .counter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .get("executor.pool.max")
+                .tags(SyncMetrics.MODULE_TAG, "ProductSync")
+                .gauge()
+                .value())
+        .isEqualTo(1);
+  }
+}
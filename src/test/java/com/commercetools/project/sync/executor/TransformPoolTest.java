@@ -0,0 +1,117 @@
+package com.commercetools.project.sync.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TransformPoolTest {
+
+  private final TransformPool transformPool = TransformPool.of(4, 10);
+
+  @AfterEach
+  void tearDownTest() {
+    transformPool.shutdown();
+  }
+
+  @Test
+  void transform_WithPageLargerThanChunkSize_ShouldTransformChunksOnPoolInOrder() {
+    // preparation
+    final List<Integer> page = IntStream.range(0, 95).boxed().collect(Collectors.toList());
+    final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    final AtomicInteger recordedChunks = new AtomicInteger();
+
+    // test
+    final List<String> drafts =
+        transformPool
+            .transform(
+                page,
+                resource -> {
+                  threadNames.add(Thread.currentThread().getName());
+                  return "draft-" + resource;
+                },
+                cpuTimeInNanos -> recordedChunks.incrementAndGet())
+            .join();
+
+    // assertions
+    assertThat(drafts)
+        .containsExactlyElementsOf(
+            page.stream().map(resource -> "draft-" + resource).collect(Collectors.toList()));
+    assertThat(threadNames).allSatisfy(name -> assertThat(name).startsWith("transform-worker-"));
+    // 95 resources are split in halves until every chunk has at most 10 resources.
+    assertThat(recordedChunks).hasValue(16);
+  }
+
+  @Test
+  void transform_WithPageUpToChunkSize_ShouldTransformPageOnCallingThread() {
+    // preparation
+    final List<Integer> page = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+    final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    final LongAdder cpuTime = new LongAdder();
+
+    // test
+    final List<Integer> drafts =
+        transformPool
+            .transform(
+                page,
+                resource -> {
+                  threadNames.add(Thread.currentThread().getName());
+                  return resource * 2;
+                },
+                cpuTime::add)
+            .join();
+
+    // assertions
+    assertThat(drafts).containsExactly(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
+    assertThat(threadNames).containsExactly(Thread.currentThread().getName());
+    assertThat(cpuTime.sum()).isNotNegative();
+  }
+
+  @Test
+  void transform_WithFailingResource_ShouldCompleteExceptionally() {
+    // preparation
+    final List<Integer> page = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+
+    // test and assertions
+    assertThatThrownBy(
+            () ->
+                transformPool
+                    .transform(
+                        page,
+                        resource -> {
+                          if (resource == 42) {
+                            throw new IllegalStateException("resource 42 is invalid");
+                          }
+                          return resource;
+                        },
+                        cpuTimeInNanos -> {})
+                    .join())
+        .isExactlyInstanceOf(CompletionException.class)
+        .hasRootCauseInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("resource 42 is invalid");
+  }
+
+  @Test
+  void transform_AfterShutdown_ShouldTransformOnNewPool() {
+    // preparation
+    final List<Integer> page = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+    transformPool.transform(page, resource -> resource, cpuTimeInNanos -> {}).join();
+    transformPool.shutdown();
+
+    // test
+    final List<Integer> drafts =
+        transformPool.transform(page, resource -> resource, cpuTimeInNanos -> {}).join();
+
+    // assertions
+    assertThat(drafts).containsExactlyElementsOf(page);
+  }
+}
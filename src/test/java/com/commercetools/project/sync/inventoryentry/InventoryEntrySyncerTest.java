@@ -18,6 +18,7 @@ import com.commercetools.api.models.graph_ql.GraphQLRequest;
 import com.commercetools.api.models.graph_ql.GraphQLResponse;
 import com.commercetools.api.models.inventory.InventoryEntry;
 import com.commercetools.api.models.inventory.InventoryEntryDraft;
+import com.commercetools.api.models.inventory.InventoryEntryDraftBuilder;
 import com.commercetools.api.models.inventory.InventoryPagedQueryResponse;
 import com.commercetools.api.models.inventory.InventoryPagedQueryResponseBuilder;
 import com.commercetools.sync.commons.utils.CaffeineReferenceIdToKeyCacheImpl;
@@ -62,6 +63,27 @@ class InventoryEntrySyncerTest {
     assertThat(inventorySyncer.getSync()).isInstanceOf(InventorySync.class);
   }
 
+  @Test
+  void getDraftIdentifier_ShouldIdentifyDraftsBySkuAndSupplyChannel() {
+    // preparation
+    final InventoryEntrySyncer inventorySyncer =
+        InventoryEntrySyncer.of(
+            mock(ProjectApiRoot.class), mock(ProjectApiRoot.class), getMockedClock());
+    final InventoryEntryDraft draft =
+        InventoryEntryDraftBuilder.of().sku("sku-1").quantityOnStock(1L).build();
+    final InventoryEntryDraft draftWithChannel =
+        InventoryEntryDraftBuilder.of()
+            .sku("sku-1")
+            .quantityOnStock(1L)
+            .supplyChannel(channel -> channel.key("channel-1"))
+            .build();
+
+    // test and assertions
+    assertThat(inventorySyncer.getDraftIdentifier().apply(draft)).isEqualTo("sku-1");
+    assertThat(inventorySyncer.getDraftIdentifier().apply(draftWithChannel))
+        .isEqualTo("sku-1|channel-1");
+  }
+
   @Test
   void transform_ShouldReplaceInventoryEntryReferenceIdsWithKeys() throws JsonProcessingException {
     // preparation
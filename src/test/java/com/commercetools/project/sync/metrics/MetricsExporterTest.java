@@ -0,0 +1,30 @@
+package com.commercetools.project.sync.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Metrics;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MetricsExporterTest {
+
+  @Test
+  void stop_WithMetricsFile_ShouldWriteMetersOfGlobalRegistry(@TempDir Path metricsDirectory)
+      throws Exception {
+    // preparation
+    final Path metricsFile = metricsDirectory.resolve("project-sync.prom");
+    final MetricsExporter metricsExporter = MetricsExporter.start(null, metricsFile);
+
+    // test
+    SyncMetrics.retriesCounter("exporter-test").increment(2);
+    metricsExporter.stop();
+
+    // assertions
+    assertThat(new String(Files.readAllBytes(metricsFile), StandardCharsets.UTF_8))
+        .contains("project_sync_http_retries_total{client=\"exporter-test\",} 2.0");
+    assertThat(Metrics.globalRegistry.getRegistries()).isEmpty();
+  }
+}
@@ -0,0 +1,99 @@
+package com.commercetools.project.sync.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.commercetools.sync.states.helpers.StateSyncStatistics;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SyncMetricsTest {
+
+  private final MockClock clock = new MockClock();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+  private final SyncMetrics syncMetrics = new SyncMetrics(registry, "StateSync");
+
+  private double resources(final String result) {
+    return registry
+        .get(SyncMetrics.RESOURCES_METER)
+        .tags(SyncMetrics.MODULE_TAG, "StateSync", "result", result)
+        .counter()
+        .count();
+  }
+
+  private double stageTotalTimeInMillis(final String stage) {
+    return registry
+        .get(SyncMetrics.STAGE_DURATION_METER)
+        .tags(SyncMetrics.MODULE_TAG, "StateSync", "stage", stage)
+        .timer()
+        .totalTime(TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  void startFetchTimer_WithTwoPages_ShouldOnlyRecordTimeWaitingForPages() {
+    // preparation
+    final SyncMetrics.FetchTimer fetchTimer = syncMetrics.startFetchTimer();
+
+    // test
+    clock.add(Duration.ofMillis(100));
+    fetchTimer.onPageFetched(500);
+    clock.add(Duration.ofMillis(1000));
+    fetchTimer.onPageConsumed();
+    clock.add(Duration.ofMillis(50));
+    fetchTimer.onPageFetched(20);
+
+    // assertions
+    assertThat(registry.get(SyncMetrics.PAGES_METER).counter().count()).isEqualTo(2);
+    assertThat(resources("fetched")).isEqualTo(520);
+    assertThat(stageTotalTimeInMillis("fetch")).isEqualTo(150);
+  }
+
+  @Test
+  void recordTransform_WithTransformedPage_ShouldCountDrafts() {
+    // test
+    syncMetrics
+        .recordTransform(
+            () -> {
+              clock.add(Duration.ofMillis(20));
+              return CompletableFuture.completedFuture(List.of("draft-1", "draft-2"));
+            })
+        .toCompletableFuture()
+        .join();
+
+    // assertions
+    assertThat(resources("transformed")).isEqualTo(2);
+    assertThat(stageTotalTimeInMillis("transform")).isEqualTo(20);
+  }
+
+  @Test
+  void recordSync_WithStatisticsOfPreviousPages_ShouldOnlyCountResultsOfPage() {
+    // preparation
+    final StateSyncStatistics statistics = new StateSyncStatistics();
+    statistics.incrementCreated(10);
+
+    // test
+    syncMetrics
+        .recordSync(
+            statistics,
+            () -> {
+              statistics.incrementCreated(3);
+              statistics.incrementUpdated(2);
+              statistics.incrementFailed();
+              return CompletableFuture.completedFuture(statistics);
+            })
+        .toCompletableFuture()
+        .join();
+
+    // assertions
+    assertThat(resources("created")).isEqualTo(3);
+    assertThat(resources("updated")).isEqualTo(2);
+    assertThat(resources("failed")).isEqualTo(1);
+    assertThat(registry.get(SyncMetrics.STAGE_DURATION_METER).tags("stage", "sync").timer().count())
+        .isEqualTo(1);
+  }
+}
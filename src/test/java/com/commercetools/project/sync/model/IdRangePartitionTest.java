@@ -0,0 +1,65 @@
+package com.commercetools.project.sync.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IdRangePartitionTest {
+
+  @Test
+  void split_WithOnePartition_ShouldReturnUnboundedRange() {
+    // test
+    final List<IdRangePartition> partitions = IdRangePartition.split(1);
+
+    // assertions
+    assertThat(partitions)
+        .singleElement()
+        .satisfies(
+            partition -> {
+              assertThat(partition.getLowerBoundInclusive()).isNull();
+              assertThat(partition.getUpperBoundExclusive()).isNull();
+              assertThat(partition.toQueryPredicate()).isNull();
+            });
+  }
+
+  @Test
+  void split_WithFourPartitions_ShouldReturnAdjacentRangesCoveringAllIds() {
+    // test
+    final List<IdRangePartition> partitions = IdRangePartition.split(4);
+
+    // assertions
+    assertThat(partitions)
+        .extracting(IdRangePartition::toQueryPredicate)
+        .containsExactly(
+            "id < \"4000\"",
+            "id >= \"4000\" and id < \"8000\"",
+            "id >= \"8000\" and id < \"c000\"",
+            "id >= \"c000\"");
+  }
+
+  @Test
+  void split_WithUnevenNumberOfPartitions_ShouldNotLeaveGapsBetweenRanges() {
+    // test
+    final List<IdRangePartition> partitions = IdRangePartition.split(7);
+
+    // assertions
+    assertThat(partitions).hasSize(7);
+    assertThat(partitions.get(0).getLowerBoundInclusive()).isNull();
+    assertThat(partitions.get(6).getUpperBoundExclusive()).isNull();
+    for (int index = 1; index < partitions.size(); index++) {
+      assertThat(partitions.get(index).getLowerBoundInclusive())
+          .isEqualTo(partitions.get(index - 1).getUpperBoundExclusive());
+    }
+  }
+
+  @Test
+  void split_WithInvalidNumberOfPartitions_ShouldThrowIllegalArgumentException() {
+    // test and assertions
+    assertThatThrownBy(() -> IdRangePartition.split(0))
+        .isExactlyInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> IdRangePartition.split(IdRangePartition.MAX_PARTITIONS + 1))
+        .isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,65 @@
+package com.commercetools.project.sync.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TimeSliceTest {
+
+  private static final ZonedDateTime LOWER_BOUND = ZonedDateTime.parse("2026-10-18T00:00:00Z");
+
+  @Test
+  void split_WithoutSliceDuration_ShouldReturnWholeTimeWindow() {
+    // test
+    final List<TimeSlice> slices = TimeSlice.split(LOWER_BOUND, LOWER_BOUND.plusHours(10), null);
+
+    // assertions
+    assertThat(slices)
+        .singleElement()
+        .satisfies(
+            slice -> {
+              assertThat(slice.getLowerBound()).isEqualTo(LOWER_BOUND);
+              assertThat(slice.getUpperBound()).isEqualTo(LOWER_BOUND.plusHours(10));
+            });
+  }
+
+  @Test
+  void split_WithSliceDuration_ShouldReturnAdjacentSlicesEndingAtUpperBound() {
+    // test
+    final List<TimeSlice> slices =
+        TimeSlice.split(LOWER_BOUND, LOWER_BOUND.plusHours(10), Duration.ofHours(4));
+
+    // assertions
+    assertThat(slices)
+        .extracting(TimeSlice::getLowerBound, TimeSlice::getUpperBound)
+        .containsExactly(
+            tuple(LOWER_BOUND, LOWER_BOUND.plusHours(4)),
+            tuple(LOWER_BOUND.plusHours(4), LOWER_BOUND.plusHours(8)),
+            tuple(LOWER_BOUND.plusHours(8), LOWER_BOUND.plusHours(10)));
+  }
+
+  @Test
+  void split_WithSliceDurationLongerThanTimeWindow_ShouldReturnWholeTimeWindow() {
+    // test
+    final List<TimeSlice> slices =
+        TimeSlice.split(LOWER_BOUND, LOWER_BOUND.plusMinutes(30), Duration.ofHours(1));
+
+    // assertions
+    assertThat(slices)
+        .containsExactly(TimeSlice.split(LOWER_BOUND, LOWER_BOUND.plusMinutes(30), null).get(0));
+  }
+
+  @Test
+  void split_WithNegativeSliceDuration_ShouldThrowIllegalArgumentException() {
+    // test and assertions
+    assertThatThrownBy(
+            () -> TimeSlice.split(LOWER_BOUND, LOWER_BOUND.plusHours(1), Duration.ofMinutes(-5)))
+        .isExactlyInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("must be positive");
+  }
+}
@@ -16,13 +16,21 @@ import com.commercetools.api.client.ByProjectKeyGraphqlPost;
 import com.commercetools.api.client.ByProjectKeyProductProjectionsGet;
 import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.api.defaultconfig.ApiRootBuilder;
+import com.commercetools.api.models.common.DiscountedPriceDraftBuilder;
+import com.commercetools.api.models.common.MoneyBuilder;
+import com.commercetools.api.models.common.PriceDraftBuilder;
 import com.commercetools.api.models.graph_ql.GraphQLRequest;
 import com.commercetools.api.models.product.Product;
 import com.commercetools.api.models.product.ProductDraft;
+import com.commercetools.api.models.product.ProductDraftBuilder;
 import com.commercetools.api.models.product.ProductMixin;
 import com.commercetools.api.models.product.ProductProjection;
 import com.commercetools.api.models.product.ProductProjectionType;
+import com.commercetools.api.models.product.ProductVariantDraftBuilder;
+import com.commercetools.api.models.product_discount.ProductDiscountReferenceBuilder;
 import com.commercetools.project.sync.model.ProductSyncCustomRequest;
+import com.commercetools.project.sync.model.SyncerConfiguration;
+import com.commercetools.project.sync.util.GraphQlStub;
 import com.commercetools.sync.commons.exceptions.ReferenceTransformException;
 import com.commercetools.sync.products.ProductSync;
 import com.commercetools.sync.products.utils.AttributeUtils;
@@ -225,6 +233,65 @@ class ProductSyncerTest {
     assertThat(testLogger.getAllLoggingEvents()).isEmpty();
   }
 
+  @Test
+  void removeDiscountedFromPrices_WithAndWithoutDiscountedPrices_ShouldOnlyCopyDiscountedDrafts() {
+    // preparation
+    final ProjectApiRoot sourceClient = mock(ProjectApiRoot.class);
+    final ProductSyncer productSyncer =
+        ProductSyncer.of(sourceClient, mock(ProjectApiRoot.class), getMockedClock(), null);
+    final ProductProjection productProjection =
+        ProductMixin.toProjection(
+            readObjectFromResource("product-key-10.json", Product.class),
+            ProductProjectionType.STAGED);
+    mockResourceIdsGraphQlRequest(
+        sourceClient, "productTypes", "53c4a8b4-754f-4b95-b6f2-3e1e70e3d0d3", "prodType1");
+    final ProductDraft productDraftWithoutDiscounted =
+        productSyncer
+            .transform(singletonList(productProjection))
+            .toCompletableFuture()
+            .join()
+            .get(0);
+    final ProductDraft productDraftWithDiscounted =
+        ProductDraftBuilder.of(productDraftWithoutDiscounted)
+            .masterVariant(
+                ProductVariantDraftBuilder.of(productDraftWithoutDiscounted.getMasterVariant())
+                    .prices(
+                        PriceDraftBuilder.of(
+                                productDraftWithoutDiscounted.getMasterVariant().getPrices().get(0))
+                            .discounted(
+                                DiscountedPriceDraftBuilder.of()
+                                    .value(
+                                        MoneyBuilder.of()
+                                            .centAmount(1L)
+                                            .currencyCode("EUR")
+                                            .build())
+                                    .discount(
+                                        ProductDiscountReferenceBuilder.of()
+                                            .id("discount-id")
+                                            .build())
+                                    .build())
+                            .build())
+                    .build())
+            .build();
+    final List<ProductDraft> pageWithoutDiscounted = List.of(productDraftWithoutDiscounted);
+
+    // test
+    final List<ProductDraft> resultWithoutDiscounted =
+        ProductSyncer.removeDiscountedFromPrices(pageWithoutDiscounted);
+    final List<ProductDraft> resultWithDiscounted =
+        ProductSyncer.removeDiscountedFromPrices(
+            List.of(productDraftWithoutDiscounted, productDraftWithDiscounted));
+
+    // assertions
+    assertThat(resultWithoutDiscounted).isSameAs(pageWithoutDiscounted);
+    assertThat(resultWithDiscounted.get(0)).isSameAs(productDraftWithoutDiscounted);
+    assertThat(resultWithDiscounted.get(1)).isNotSameAs(productDraftWithDiscounted);
+    assertThat(resultWithDiscounted.get(1).getMasterVariant().getPrices())
+        .allSatisfy(priceDraft -> assertThat(priceDraft.getDiscounted()).isNull());
+    assertThat(resultWithDiscounted.get(1).getVariants())
+        .isSameAs(productDraftWithDiscounted.getVariants());
+  }
+
   @Test
   void transform_WithErrorOnGraphQlRequest_ShouldContinueAndLogError() {
     // preparation
@@ -309,4 +376,63 @@ class ProductSyncerTest {
     assertThat(query.getLimit().get(0)).isEqualTo("100");
     assertThat(query.getWhere()).contains(customQuery);
   }
+
+  @Test
+  void transform_WithPageOfProjectedQuery_ShouldResolveReferencesWithoutFurtherRequests() {
+    // preparation
+    final GraphQlStub graphQlStub =
+        GraphQlStub.of().withResults("products", "product-graphql-results.json");
+    final ProjectApiRoot sourceClient = graphQlStub.createClient("testProjectKey");
+    final SyncerConfiguration configuration =
+        SyncerConfiguration.builder().projectedQuery("ProductSync").build();
+    final ProductSyncer productSyncer =
+        ProductSyncer.of(
+            sourceClient, mock(ProjectApiRoot.class), getMockedClock(), null, configuration);
+
+    // test
+    final List<ProductProjection> page =
+        productSyncer
+            .getQueryProjection()
+            .fetchPage(
+                sourceClient,
+                productSyncer.getQuery().withLimit(20),
+                configuration.getReferenceIdToKeyCache())
+            .toCompletableFuture()
+            .join()
+            .getBody();
+    final List<ProductDraft> productDrafts =
+        productSyncer.transform(page).toCompletableFuture().join();
+
+    // assertions
+    assertThat(graphQlStub.getQueriedFields()).containsExactly("products");
+    assertThat(productDrafts)
+        .singleElement()
+        .satisfies(
+            productDraft -> {
+              assertThat(productDraft.getKey()).isEqualTo("productKey1");
+              assertThat(productDraft.getName().get("en")).isEqualTo("english name");
+              assertThat(productDraft.getProductType().getKey()).isEqualTo("productTypeKey");
+              assertThat(productDraft.getTaxCategory().getKey()).isEqualTo("taxCategoryKey");
+              assertThat(productDraft.getState().getKey()).isEqualTo("stateKey");
+              assertThat(productDraft.getCategories().get(0).getKey()).isEqualTo("categoryKey1");
+              assertThat(productDraft.getMasterVariant().getSku()).isEqualTo("3065833");
+              assertThat(productDraft.getMasterVariant().getPrices()).hasSize(1);
+            });
+  }
+
+  @Test
+  void getQueryProjection_WithCustomQuery_ShouldNotProjectQuery() {
+    // preparation
+    final ProjectApiRoot apiRoot =
+        ApiRootBuilder.of().withApiBaseUrl("apiBaseUrl").build("projectKey");
+    final ProductSyncCustomRequest productSyncCustomRequest = new ProductSyncCustomRequest();
+    productSyncCustomRequest.setWhere("published=true");
+
+    // test
+    final ProductSyncer productSyncer =
+        ProductSyncer.of(apiRoot, apiRoot, getMockedClock(), productSyncCustomRequest);
+
+    // assertion
+    assertThat(productSyncer.getQueryProjection()).isNull();
+  }
 }
@@ -0,0 +1,191 @@
+package com.commercetools.project.sync.service.impl;
+
+import static com.commercetools.project.sync.util.SyncUtils.buildLastSyncTimestampContainerName;
+import static com.commercetools.project.sync.util.TestUtils.withTestClient;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.commercetools.api.models.custom_object.CustomObjectBuilder;
+import com.commercetools.api.models.custom_object.CustomObjectPagedQueryResponseBuilder;
+import com.commercetools.project.sync.model.response.LastSyncCustomObject;
+import com.commercetools.project.sync.service.CustomObjectService;
+import com.commercetools.sync.categories.helpers.CategorySyncStatistics;
+import com.commercetools.sync.products.helpers.ProductSyncStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+
+class CoalescedSyncStateServiceTest {
+
+  private static final String SOURCE_PROJECT_KEY = "sourceProjectKey";
+  private static final ZonedDateTime NOW = ZonedDateTime.parse("2024-01-01T00:00:00.000Z");
+
+  private final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+  private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  void getCurrentCtpTimestamp_ForSeveralModules_ShouldTakeOneTimestampPerRun() {
+    // preparation
+    final CustomObjectService delegate = mock(CustomObjectService.class);
+    when(delegate.getCurrentCtpTimestamp("runner", "ProductSync"))
+        .thenReturn(CompletableFuture.completedFuture(NOW));
+    final CoalescedSyncStateService service =
+        new CoalescedSyncStateService(mock(ProjectApiRoot.class), delegate);
+
+    // test
+    final ZonedDateTime productTimestamp =
+        service.getCurrentCtpTimestamp("runner", "ProductSync").join();
+    final ZonedDateTime categoryTimestamp =
+        service.getCurrentCtpTimestamp("runner", "CategorySync").join();
+
+    // assertions
+    assertThat(productTimestamp).isEqualTo(NOW);
+    assertThat(categoryTimestamp).isEqualTo(NOW);
+    verify(delegate, times(1)).getCurrentCtpTimestamp("runner", "ProductSync");
+  }
+
+  @Test
+  void getLastSyncCustomObject_ForSeveralModules_ShouldFetchAllModulesWithOneQuery()
+      throws Exception {
+    // preparation
+    final byte[] queryResponse =
+        objectMapper.writeValueAsBytes(
+            CustomObjectPagedQueryResponseBuilder.of()
+                .limit(11L)
+                .offset(0L)
+                .count(1L)
+                .results(
+                    CustomObjectBuilder.of()
+                        .id("id")
+                        .version(1L)
+                        .createdAt(NOW)
+                        .lastModifiedAt(NOW)
+                        .container(buildLastSyncTimestampContainerName("ProductSync", "runner"))
+                        .key(SOURCE_PROJECT_KEY)
+                        .value(LastSyncCustomObject.of(NOW, new ProductSyncStatistics(), 100))
+                        .build())
+                .build());
+    final CoalescedSyncStateService service =
+        CoalescedSyncStateService.of(createClient(queryResponse));
+
+    // test
+    final Optional<LastSyncCustomObject> productSyncState =
+        service.getLastSyncCustomObject(SOURCE_PROJECT_KEY, "ProductSync", "runner").join();
+    final Optional<LastSyncCustomObject> categorySyncState =
+        service.getLastSyncCustomObject(SOURCE_PROJECT_KEY, "CategorySync", "runner").join();
+
+    // assertions
+    assertThat(productSyncState)
+        .hasValueSatisfying(
+            lastSyncCustomObject ->
+                assertThat(lastSyncCustomObject.getLastSyncTimestamp()).isEqualTo(NOW));
+    assertThat(categorySyncState).isEmpty();
+    assertThat(requests).hasSize(1);
+    assertThat(requests.get(0)).startsWith("GET ").contains("custom-objects");
+  }
+
+  @Test
+  void flush_WithStateWrittenSeveralTimes_ShouldWriteLatestStateOfAllModulesInOneMutation() {
+    // preparation
+    final byte[] mutationResponse =
+        "{\"data\":{\"draft0\":{\"id\":\"1\"},\"draft1\":{\"id\":\"2\"}}}"
+            .getBytes(StandardCharsets.UTF_8);
+    final CoalescedSyncStateService service =
+        CoalescedSyncStateService.of(createClient(mutationResponse));
+    final ZonedDateTime sliceEnd = NOW.plusHours(1);
+    service.createLastSyncCustomObject(
+        SOURCE_PROJECT_KEY,
+        "ProductSync",
+        "runner",
+        LastSyncCustomObject.of(NOW, new ProductSyncStatistics(), 100));
+    service.createLastSyncCustomObject(
+        SOURCE_PROJECT_KEY,
+        "ProductSync",
+        "runner",
+        LastSyncCustomObject.of(sliceEnd, new ProductSyncStatistics(), 200));
+    service.createLastSyncCustomObject(
+        SOURCE_PROJECT_KEY,
+        "CategorySync",
+        "runner",
+        LastSyncCustomObject.of(NOW, new CategorySyncStatistics(), 50));
+
+    // test
+    final Optional<LastSyncCustomObject> pendingProductSyncState =
+        service.getLastSyncCustomObject(SOURCE_PROJECT_KEY, "ProductSync", "runner").join();
+    final List<String> requestsBeforeFlush = new ArrayList<>(requests);
+    service.flush().join();
+
+    // assertions
+    assertThat(pendingProductSyncState)
+        .hasValueSatisfying(
+            lastSyncCustomObject ->
+                assertThat(lastSyncCustomObject.getLastSyncTimestamp()).isEqualTo(sliceEnd));
+    assertThat(requestsBeforeFlush).isEmpty();
+    assertThat(requests).hasSize(1);
+    assertThat(requests.get(0))
+        .startsWith("POST ")
+        .contains("draft0: createOrUpdateCustomObject(draft: $draft0)")
+        .contains("draft1: createOrUpdateCustomObject(draft: $draft1)")
+        .contains(buildLastSyncTimestampContainerName("ProductSync", "runner"))
+        .contains(buildLastSyncTimestampContainerName("CategorySync", "runner"))
+        .contains("\\\"lastSyncDurationInMillis\\\":200")
+        .doesNotContain("\\\"lastSyncDurationInMillis\\\":100");
+  }
+
+  @Test
+  void flush_WithErrorsOfMutation_ShouldCompleteExceptionally() {
+    // preparation
+    final byte[] mutationResponse =
+        "{\"errors\":[{\"message\":\"Version mismatch\"}]}".getBytes(StandardCharsets.UTF_8);
+    final CoalescedSyncStateService service =
+        CoalescedSyncStateService.of(createClient(mutationResponse));
+    service.createLastSyncCustomObject(
+        SOURCE_PROJECT_KEY,
+        "ProductSync",
+        "runner",
+        LastSyncCustomObject.of(NOW, new ProductSyncStatistics(), 100));
+
+    // test and assertions
+    assertThatThrownBy(() -> service.flush().join())
+        .isExactlyInstanceOf(CompletionException.class)
+        .hasCauseExactlyInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Failed to write the state of 1 sync modules");
+  }
+
+  @Test
+  void flush_WithoutWrittenState_ShouldSendNoRequest() {
+    // preparation
+    final CoalescedSyncStateService service =
+        CoalescedSyncStateService.of(createClient(new byte[0]));
+
+    // test
+    service.flush().join();
+
+    // assertions
+    assertThat(requests).isEmpty();
+  }
+
+  /* Answers every request with the given body and records the method, uri and GraphQL body. */
+  private ProjectApiRoot createClient(final byte[] responseBody) {
+    return withTestClient(
+        "targetProjectKey",
+        (uri, method, requestBody) -> {
+          requests.add(method + " " + uri + " " + requestBody);
+          return CompletableFuture.completedFuture(new ApiHttpResponse<>(200, null, responseBody));
+        });
+  }
+}
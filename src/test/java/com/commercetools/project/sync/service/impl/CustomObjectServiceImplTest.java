@@ -16,6 +16,7 @@ import com.commercetools.api.client.ByProjectKeyCustomObjectsRequestBuilder;
 import com.commercetools.api.client.ProjectApiRoot;
 import com.commercetools.api.models.custom_object.CustomObject;
 import com.commercetools.api.models.custom_object.CustomObjectDraft;
+import com.commercetools.project.sync.model.response.FullSyncCheckpoint;
 import com.commercetools.project.sync.model.response.LastSyncCustomObject;
 import com.commercetools.project.sync.service.CustomObjectService;
 import com.commercetools.project.sync.util.TestUtils;
@@ -353,4 +354,46 @@ class CustomObjectServiceImplTest {
     assertThat(createdDraft.getValue()).isInstanceOf(LastSyncCustomObject.class);
     assertThat((LastSyncCustomObject) createdDraft.getValue()).isEqualTo(lastSyncCustomObject);
   }
+
+  @Test
+  void getFullSyncCheckpoint_OnSuccessfulQueryWithNoResults_ShouldCompleteWithEmptyOptional() {
+    // preparation
+    when(apiHttpResponse.getBody()).thenReturn(null);
+
+    when(byProjectKeyCustomObjectsByContainerByKeyGet.execute())
+        .thenReturn(CompletableFuture.completedFuture(apiHttpResponse));
+
+    final CustomObjectService customObjectService = new CustomObjectServiceImpl(ctpClient);
+
+    // test
+    final CompletionStage<Optional<FullSyncCheckpoint>> checkpoint =
+        customObjectService.getFullSyncCheckpoint("foo", "bar", DEFAULT_RUNNER_NAME);
+
+    // assertions
+    assertThat(checkpoint).isCompletedWithValue(empty());
+  }
+
+  @Test
+  void createFullSyncCheckpoint_WithValidTestRunnerName_ShouldCreateCorrectCustomObjectDraft() {
+    // preparation
+    final ArgumentCaptor<CustomObjectDraft> arg = ArgumentCaptor.forClass(CustomObjectDraft.class);
+    when(byProjectKeyCustomObjectsRequestBuilder.post(arg.capture()))
+        .thenReturn(byProjectKeyCustomObjectsPost);
+    when(byProjectKeyCustomObjectsPost.execute()).thenReturn(null);
+
+    final CustomObjectService customObjectService = new CustomObjectServiceImpl(ctpClient);
+
+    final FullSyncCheckpoint checkpoint =
+        FullSyncCheckpoint.of("last-id", new ProductSyncStatistics());
+
+    // test
+    customObjectService.createFullSyncCheckpoint("foo", "bar", "testRunnerName", checkpoint);
+
+    // assertions
+    final CustomObjectDraft createdDraft = arg.getValue();
+    assertThat(createdDraft.getContainer())
+        .isEqualTo("commercetools-project-sync.testRunnerName.bar.fullSyncCheckpoint");
+    assertThat(createdDraft.getKey()).isEqualTo("foo");
+    assertThat(createdDraft.getValue()).isEqualTo(checkpoint);
+  }
 }
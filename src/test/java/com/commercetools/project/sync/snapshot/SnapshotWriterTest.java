@@ -0,0 +1,89 @@
+package com.commercetools.project.sync.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.commercetools.api.models.common.LocalizedString;
+import com.commercetools.api.models.state.StateDraft;
+import com.commercetools.api.models.state.StateDraftBuilder;
+import com.commercetools.api.models.state.StateResourceIdentifierBuilder;
+import com.commercetools.api.models.state.StateTypeEnum;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotWriterTest {
+
+  @TempDir Path snapshotDirectory;
+
+  private static StateDraft stateDraft(final String key) {
+    return StateDraftBuilder.of()
+        .key(key)
+        .type(StateTypeEnum.LINE_ITEM_STATE)
+        .name(LocalizedString.ofEnglish(key))
+        .transitions(StateResourceIdentifierBuilder.of().key("Initial").build())
+        .build();
+  }
+
+  @Test
+  void write_WithSeveralPages_ShouldWriteOneCompressedJsonLinePerDraft() throws Exception {
+    // preparation
+    final Path snapshotFile = snapshotDirectory.resolve("states" + SnapshotWriter.FILE_EXTENSION);
+
+    // test
+    try (SnapshotWriter snapshotWriter = SnapshotWriter.of(snapshotFile)) {
+      snapshotWriter.write(List.of(stateDraft("state-1"), stateDraft("state-2")));
+      snapshotWriter.write(List.of(stateDraft("state-3")));
+      assertThat(snapshotWriter.getWrittenDrafts()).isEqualTo(3);
+    }
+
+    // assertions
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(snapshotFile)), StandardCharsets.UTF_8))) {
+      final List<String> lines = reader.lines().collect(Collectors.toList());
+      assertThat(lines).hasSize(3);
+      assertThat(lines.get(0)).startsWith("{").endsWith("}").contains("\"key\":\"state-1\"");
+      assertThat(lines.get(2)).contains("\"key\":\"state-3\"");
+    }
+  }
+
+  @Test
+  void readPage_WithWrittenSnapshot_ShouldReadSameDraftsPageByPage() throws Exception {
+    // preparation
+    final Path snapshotFile = snapshotDirectory.resolve("states" + SnapshotWriter.FILE_EXTENSION);
+    final List<StateDraft> drafts =
+        List.of(stateDraft("state-1"), stateDraft("state-2"), stateDraft("state-3"));
+    try (SnapshotWriter snapshotWriter = SnapshotWriter.of(snapshotFile)) {
+      snapshotWriter.write(drafts);
+    }
+
+    // test and assertions
+    try (SnapshotReader<StateDraft> snapshotReader =
+        SnapshotReader.of(snapshotFile, StateDraft.class)) {
+      assertThat(snapshotReader.readPage(2)).containsExactly(drafts.get(0), drafts.get(1));
+      assertThat(snapshotReader.readPage(2)).containsExactly(drafts.get(2));
+      assertThat(snapshotReader.readPage(2)).isEmpty();
+    }
+  }
+
+  @Test
+  void readPage_WithEmptySnapshot_ShouldReturnEmptyPage() throws Exception {
+    // preparation
+    final Path snapshotFile = snapshotDirectory.resolve("states" + SnapshotWriter.FILE_EXTENSION);
+    SnapshotWriter.of(snapshotFile).close();
+
+    // test and assertions
+    try (SnapshotReader<StateDraft> snapshotReader =
+        SnapshotReader.of(snapshotFile, StateDraft.class)) {
+      assertThat(snapshotReader.readPage(500)).isEmpty();
+    }
+  }
+}
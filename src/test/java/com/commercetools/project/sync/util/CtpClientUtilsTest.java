@@ -0,0 +1,114 @@
+package com.commercetools.project.sync.util;
+
+import static com.commercetools.project.sync.util.CtpClientUtils.parseClientConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.commercetools.project.sync.model.CtpClientConfiguration;
+import java.time.Duration;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class CtpClientUtilsTest {
+
+  @Test
+  void parseClientConfiguration_WithoutSettings_ShouldReturnDefaults() {
+    // preparation
+    final Properties properties = new Properties();
+    properties.setProperty("source.projectKey", "source-project");
+
+    // test
+    final CtpClientConfiguration configuration = parseClientConfiguration(properties, "source.");
+
+    // assertions
+    assertThat(configuration.getMaxRequests())
+        .isEqualTo(CtpClientConfiguration.DEFAULT_MAX_REQUESTS);
+    assertThat(configuration.getMaxRequestsPerHost())
+        .isEqualTo(CtpClientConfiguration.DEFAULT_MAX_REQUESTS_PER_HOST);
+    assertThat(configuration.getConnectionPoolSize()).isNull();
+    assertThat(configuration.getKeepAlive()).isNull();
+    assertThat(configuration.getHttp2Enabled()).isNull();
+    assertThat(configuration.getConnectTimeout()).isNull();
+    assertThat(configuration.getReadTimeout()).isNull();
+    assertThat(configuration.getMaxRetries()).isEqualTo(CtpClientConfiguration.DEFAULT_MAX_RETRIES);
+    assertThat(configuration.getRetryInitialDelay())
+        .isEqualTo(CtpClientConfiguration.DEFAULT_RETRY_INITIAL_DELAY);
+    assertThat(configuration.getRetryMaxDelay())
+        .isEqualTo(CtpClientConfiguration.DEFAULT_RETRY_MAX_DELAY);
+    assertThat(configuration.getRetryJitterFactor()).isZero();
+    assertThat(configuration.isAdaptiveConcurrencyEnabled()).isFalse();
+  }
+
+  @Test
+  void parseClientConfiguration_WithSettingsOfBothClients_ShouldOnlyReadSettingsOfPrefix() {
+    // preparation
+    final Properties properties = new Properties();
+    properties.setProperty("source.maxRequests", "16");
+    properties.setProperty("target.maxRequests", "64");
+    properties.setProperty("target.maxRequestsPerHost", " 32 ");
+    properties.setProperty("target.connectionPoolSize", "20");
+    properties.setProperty("target.keepAliveSeconds", "30");
+    properties.setProperty("target.http2", "false");
+    properties.setProperty("target.connectTimeoutSeconds", "5");
+    properties.setProperty("target.readTimeoutSeconds", "60");
+    properties.setProperty("target.maxRetries", "8");
+    properties.setProperty("target.retryInitialDelayMillis", "500");
+    properties.setProperty("target.retryMaxDelayMillis", "120000");
+    properties.setProperty("target.retryJitterFactor", "0.25");
+    properties.setProperty("target.adaptiveConcurrency", "true");
+
+    // test
+    final CtpClientConfiguration configuration = parseClientConfiguration(properties, "target.");
+
+    // assertions
+    assertThat(configuration.getMaxRequests()).isEqualTo(64);
+    assertThat(configuration.getMaxRequestsPerHost()).isEqualTo(32);
+    assertThat(configuration.getConnectionPoolSize()).isEqualTo(20);
+    assertThat(configuration.getKeepAlive()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(configuration.getHttp2Enabled()).isFalse();
+    assertThat(configuration.getConnectTimeout()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(configuration.getReadTimeout()).isEqualTo(Duration.ofSeconds(60));
+    assertThat(configuration.getMaxRetries()).isEqualTo(8);
+    assertThat(configuration.getRetryInitialDelay()).isEqualTo(Duration.ofMillis(500));
+    assertThat(configuration.getRetryMaxDelay()).isEqualTo(Duration.ofMinutes(2));
+    assertThat(configuration.getRetryJitterFactor()).isEqualTo(0.25);
+    assertThat(configuration.isAdaptiveConcurrencyEnabled()).isTrue();
+  }
+
+  @Test
+  void parseClientConfiguration_WithNonNumericSetting_ShouldThrowIllegalArgumentException() {
+    // preparation
+    final Properties properties = new Properties();
+    properties.setProperty("source.maxRequestsPerHost", "many");
+
+    // test and assertions
+    assertThatThrownBy(() -> parseClientConfiguration(properties, "source."))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Illegal value 'many' of property 'source.maxRequestsPerHost'");
+  }
+
+  @Test
+  void parseClientConfiguration_WithInvalidSetting_ShouldThrowIllegalArgumentException() {
+    // preparation
+    final Properties properties = new Properties();
+    properties.setProperty("source.retryJitterFactor", "1.5");
+
+    // test and assertions
+    assertThatThrownBy(() -> parseClientConfiguration(properties, "source."))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("retry jitter factor 1.5 must be between 0 and 1.");
+  }
+
+  @Test
+  void parseClientConfiguration_WithMaxDelayBelowInitialDelay_ShouldThrowException() {
+    // preparation
+    final Properties properties = new Properties();
+    properties.setProperty("source.retryInitialDelayMillis", "2000");
+    properties.setProperty("source.retryMaxDelayMillis", "1000");
+
+    // test and assertions
+    assertThatThrownBy(() -> parseClientConfiguration(properties, "source."))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("retry max delay PT1S cannot be less than the retry initial delay PT2S.");
+  }
+}
@@ -0,0 +1,104 @@
+package com.commercetools.project.sync.util;
+
+import static com.commercetools.project.sync.util.TestUtils.withTestClient;
+
+import com.commercetools.api.client.ProjectApiRoot;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vrap.rmf.base.client.ApiHttpMethod;
+import io.vrap.rmf.base.client.ApiHttpResponse;
+import io.vrap.rmf.base.client.utils.json.JsonUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+
+/**
+ * A local stub of the GraphQL API of a project, which answers the queries of a field, e.g.
+ * "products", with the results given for the field and the queries of all other fields, e.g. the
+ * key resolution of the references of a page, with no results. It records the fields of all queries
+ * it received, so a test can check which requests were sent to the project.
+ */
+public final class GraphQlStub {
+
+  private static final Pattern QUERY_FIELD = Pattern.compile("\\{\\s*(\\w+)\\s*\\(");
+
+  private final ObjectMapper objectMapper = JsonUtils.getConfiguredObjectMapper();
+  private final Map<String, JsonNode> resultsByQueryField = new ConcurrentHashMap<>();
+  private final List<String> queriedFields = Collections.synchronizedList(new ArrayList<>());
+
+  private GraphQlStub() {}
+
+  @Nonnull
+  public static GraphQlStub of() {
+    return new GraphQlStub();
+  }
+
+  /**
+   * @param queryField the field of the query, e.g. "products".
+   * @param resourcePath the path of a test resource with the JSON array of the results.
+   * @return this stub.
+   */
+  @Nonnull
+  public GraphQlStub withResults(
+      @Nonnull final String queryField, @Nonnull final String resourcePath) {
+    try {
+      resultsByQueryField.put(
+          queryField, objectMapper.readTree(TestUtils.readStringFromFile(resourcePath)));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return this;
+  }
+
+  /** @return a client of the given project whose GraphQL queries are answered by this stub. */
+  @Nonnull
+  public ProjectApiRoot createClient(@Nonnull final String projectKey) {
+    return withTestClient(
+        projectKey,
+        (uri, method, requestBody) ->
+            uri.contains("graphql") && ApiHttpMethod.POST.equals(method)
+                ? respond(requestBody)
+                : null);
+  }
+
+  /** @return the fields of the received queries, in the order they were received. */
+  @Nonnull
+  public List<String> getQueriedFields() {
+    synchronized (queriedFields) {
+      return new ArrayList<>(queriedFields);
+    }
+  }
+
+  @Nonnull
+  private CompletableFuture<ApiHttpResponse<byte[]>> respond(@Nonnull final String requestBody) {
+    try {
+      final String query = objectMapper.readTree(requestBody).path("query").asText();
+      final Matcher matcher = QUERY_FIELD.matcher(query);
+      final ObjectNode response = objectMapper.createObjectNode();
+      final ObjectNode data = response.putObject("data");
+      if (matcher.find()) {
+        final String queryField = matcher.group(1);
+        queriedFields.add(queryField);
+        final ArrayNode results = data.putObject(queryField).putArray("results");
+        final JsonNode stubbedResults = resultsByQueryField.get(queryField);
+        if (stubbedResults != null) {
+          results.addAll((ArrayNode) stubbedResults);
+        }
+      }
+      return CompletableFuture.completedFuture(
+          new ApiHttpResponse<>(200, null, objectMapper.writeValueAsBytes(response)));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+}
@@ -247,6 +247,10 @@ public final class TestUtils {
         .thenReturn(mock());
     when(client.customObjects().withContainerAndKey(anyString(), anyString()).get().execute())
         .thenReturn(CompletableFuture.completedFuture(apiHttpResponse));
+    when(client.customObjects().withContainerAndKey(anyString(), anyString()).delete())
+        .thenReturn(mock());
+    when(client.customObjects().withContainerAndKey(anyString(), anyString()).delete().execute())
+        .thenReturn(CompletableFuture.completedFuture(apiHttpResponse));
   }
 
   public static ProjectApiRoot withTestClient(
@@ -0,0 +1,42 @@
+package com.commercetools.project.sync.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsTest {
+
+  @Test
+  void isSupported_ShouldDependOnJavaVersion() {
+    assertThat(VirtualThreads.isSupported()).isEqualTo(Runtime.version().feature() >= 21);
+  }
+
+  @Test
+  void newVirtualThreadPerTaskExecutor_OnJava21_ShouldRunTasksOnVirtualThreads() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+    // preparation
+    final ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+    // test
+    final String threadDescription =
+        CompletableFuture.supplyAsync(() -> Thread.currentThread().toString(), executor).get();
+    executor.shutdown();
+
+    // assertions
+    assertThat(threadDescription).startsWith("VirtualThread");
+  }
+
+  @Test
+  void newVirtualThreadPerTaskExecutor_BeforeJava21_ShouldThrowUnsupportedOperationException() {
+    assumeFalse(VirtualThreads.isSupported());
+
+    assertThatThrownBy(VirtualThreads::newVirtualThreadPerTaskExecutor)
+        .isExactlyInstanceOf(UnsupportedOperationException.class)
+        .hasMessageStartingWith("virtual threads require Java 21 or newer");
+  }
+}